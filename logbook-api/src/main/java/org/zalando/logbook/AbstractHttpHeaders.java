@@ -0,0 +1,71 @@
+package org.zalando.logbook;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@SuppressWarnings("deprecation") // needed because of @Deprecated
+abstract class AbstractHttpHeaders
+        // gives us a meaningful equals, hashCode and toString
+        extends AbstractMap<String, List<String>>
+        implements UpdateHttpHeaders, ApplyHttpHeaders, DeleteHttpHeaders {
+
+    // deprecated stuff only, AbstractMap throws for put, remove, putAll and clear already
+
+    @Override
+    public void replaceAll(
+            final BiFunction<? super String, ? super List<String>, ? extends List<String>> function) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> putIfAbsent(final String key, final List<String> value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean replace(final String key, final List<String> oldValue, final List<String> newValue) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> replace(final String key, final List<String> value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> computeIfAbsent(
+            final String key,
+            final Function<? super String, ? extends List<String>> mappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> computeIfPresent(
+            final String key,
+            final BiFunction<? super String, ? super List<String>, ? extends List<String>> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> compute(
+            final String key,
+            final BiFunction<? super String, ? super List<String>, ? extends List<String>> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> merge(
+            final String key,
+            final List<String> value,
+            final BiFunction<? super List<String>, ? super List<String>, ? extends List<String>> remappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+}
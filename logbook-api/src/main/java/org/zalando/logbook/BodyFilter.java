@@ -25,6 +25,9 @@ public interface BodyFilter {
         @Nullable final BodyFilter merged = left.tryMerge(right);
 
         if (merged == null) {
+            if (left instanceof ByteBodyFilter || right instanceof ByteBodyFilter) {
+                return new NonMergeableByteBodyFilterPair(left, right);
+            }
             return new NonMergeableBodyFilterPair(left, right);
         } else {
             return merged;
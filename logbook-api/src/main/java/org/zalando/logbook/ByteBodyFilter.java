@@ -0,0 +1,61 @@
+package org.zalando.logbook;
+
+import org.apiguardian.api.API;
+
+import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A body filter that operates on the encoded body, i.e. without decoding it into a {@link String} first.
+ * <p>
+ * Implementations are expected to also implement {@link BodyFilter}, so that they can be registered and merged like
+ * any other body filter. Whenever the whole chain of body filters supports it, bodies are filtered as bytes.
+ *
+ * @see #of(BodyFilter)
+ * @see #toBodyFilter(ByteBodyFilter)
+ */
+@API(status = EXPERIMENTAL)
+@FunctionalInterface
+public interface ByteBodyFilter {
+
+    /**
+     * Filters the given body.
+     *
+     * @param contentType the content type of the body, if any
+     * @param charset     the charset the body is encoded with
+     * @param body        the encoded body
+     * @return the filtered body, encoded with the given charset, or the given body itself if nothing was filtered
+     */
+    byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body);
+
+    /**
+     * Adapts the given {@link BodyFilter} by decoding the body before and encoding it after filtering, unless it
+     * already is a {@link ByteBodyFilter}.
+     *
+     * @param filter the filter to adapt
+     * @return a filter that operates on encoded bodies
+     */
+    static ByteBodyFilter of(final BodyFilter filter) {
+        if (filter instanceof ByteBodyFilter) {
+            return (ByteBodyFilter) filter;
+        }
+        return new DecodingByteBodyFilter(filter);
+    }
+
+    /**
+     * Adapts the given {@link ByteBodyFilter} by encoding the body as UTF-8 before and decoding it after filtering,
+     * unless it already is a {@link BodyFilter}. The returned filter is a {@link ByteBodyFilter} as well.
+     *
+     * @param filter the filter to adapt
+     * @return a filter that operates on decoded and encoded bodies
+     */
+    static BodyFilter toBodyFilter(final ByteBodyFilter filter) {
+        if (filter instanceof BodyFilter) {
+            return (BodyFilter) filter;
+        }
+        return new EncodingBodyFilter(filter);
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.zalando.logbook;
+
+import org.apiguardian.api.API;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.zalando.logbook.SegmentPool.SEGMENT_SIZE;
+
+/**
+ * An {@link OutputStream} that stops copying once it holds a given number of bytes, but keeps counting the bytes
+ * written to it. Used to capture bodies up to their {@link HttpRequest#withBodyLimit(int) limit}.
+ * <p>
+ * Bytes are held in fixed-size segments that are borrowed from a shared pool, i.e. the buffer neither grows by
+ * copying nor allocates once the pool is warm. Segments are given back by {@link #release()}, which adapters call as
+ * soon as the captured body was written.
+ */
+@API(status = INTERNAL)
+public class CappedByteArrayOutputStream extends OutputStream {
+
+    private final SegmentPool pool;
+    private final int limit;
+    private final List<byte[]> segments = new ArrayList<>();
+
+    private int count;
+    private long length;
+    private boolean released;
+
+    public CappedByteArrayOutputStream(final int limit) {
+        this(SegmentPool.INSTANCE, limit);
+    }
+
+    CappedByteArrayOutputStream(final SegmentPool pool, final int limit) {
+        this.pool = pool;
+        this.limit = limit;
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+        length++;
+
+        if (!released && count < limit) {
+            final int offset = count % SEGMENT_SIZE;
+            segment(offset)[offset] = (byte) b;
+            count++;
+        }
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+        int pending = Math.min(len, remaining());
+        int position = off;
+        length += len;
+
+        while (pending > 0) {
+            final int offset = count % SEGMENT_SIZE;
+            final int chunk = Math.min(pending, SEGMENT_SIZE - offset);
+            System.arraycopy(b, position, segment(offset), offset, chunk);
+            position += chunk;
+            pending -= chunk;
+            count += chunk;
+        }
+    }
+
+    private byte[] segment(final int offset) {
+        if (offset == 0) {
+            final byte[] segment = pool.acquire();
+            segments.add(segment);
+            return segment;
+        }
+        return segments.get(segments.size() - 1);
+    }
+
+    /**
+     * Counts bytes that were transferred without being written to this stream, e.g. because they would have
+     * exceeded the limit anyway.
+     *
+     * @param length the number of bytes skipped
+     */
+    public synchronized void skip(final long length) {
+        this.length += length;
+    }
+
+    /**
+     * @return a copy of the bytes this stream holds
+     */
+    public synchronized byte[] toByteArray() {
+        final byte[] bytes = new byte[count];
+
+        for (int i = 0, position = 0; position < count; i++, position += SEGMENT_SIZE) {
+            System.arraycopy(segments.get(i), 0, bytes, position, Math.min(SEGMENT_SIZE, count - position));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * @return the number of bytes this stream holds
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * @return the number of bytes that can still be written before the limit is reached
+     */
+    public synchronized int remaining() {
+        return released ? 0 : Math.max(0, limit - count);
+    }
+
+    /**
+     * @return the number of bytes written or {@link #skip(long) skipped}, including those beyond the limit
+     */
+    public synchronized long getLength() {
+        return length;
+    }
+
+    /**
+     * @return whether more bytes were written than this stream holds
+     */
+    public synchronized boolean isTruncated() {
+        return length > count;
+    }
+
+    /**
+     * @return whether this stream was {@link #release() released}
+     */
+    public synchronized boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Discards the bytes this stream holds and gives its segments back to the pool. The length is retained, i.e.
+     * bytes written afterwards are still counted, but not held anymore.
+     */
+    public synchronized void release() {
+        released = true;
+        segments.forEach(pool::release);
+        segments.clear();
+        count = 0;
+    }
+
+}
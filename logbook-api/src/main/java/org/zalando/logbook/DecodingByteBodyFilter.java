@@ -0,0 +1,21 @@
+package org.zalando.logbook;
+
+import lombok.AllArgsConstructor;
+
+import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
+
+@AllArgsConstructor
+final class DecodingByteBodyFilter implements ByteBodyFilter {
+
+    private final BodyFilter filter;
+
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        final String decoded = new String(body, charset);
+        final String filtered = filter.filter(contentType, decoded);
+        // filters return the very same body if there was nothing to filter
+        return filtered == decoded ? body : filtered.getBytes(charset);
+    }
+
+}
@@ -1,40 +1,89 @@
 package org.zalando.logbook;
 
-import lombok.AllArgsConstructor;
-import lombok.With;
-import lombok.experimental.Delegate;
-
-import java.util.AbstractMap;
+import jakarta.annotation.Nullable;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.TreeMap;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+
+/**
+ * Headers as two parallel arrays of names and values, sorted by name (case-insensitive). Lookups are binary searches,
+ * iteration doesn't allocate beyond the entries themselves, and updates copy the arrays (but never the values) instead
+ * of rebuilding a tree. Bulk operations, like {@link #update(Map)}, {@link #apply(BiFunction)},
+ * {@link #delete(Collection)} and the {@link Builder}, produce their result in a single pass.
+ */
+final class DefaultHttpHeaders extends AbstractHttpHeaders {
+
+    static final HttpHeaders EMPTY = new DefaultHttpHeaders(new String[0], newArray(0));
 
-import static lombok.AccessLevel.PRIVATE;
+    private final String[] names;
+    private final List<String>[] values;
 
-@SuppressWarnings("deprecation") // needed because of @Delegate and @Deprecated
-@AllArgsConstructor(access = PRIVATE)
-final class DefaultHttpHeaders
-        // gives us a meaningful equals, hashCode and toString
-        extends AbstractMap<String, List<String>>
-        implements UpdateHttpHeaders, ApplyHttpHeaders, DeleteHttpHeaders {
+    private DefaultHttpHeaders(final String[] names, final List<String>[] values) {
+        this.names = names;
+        this.values = values;
+    }
 
-    static final HttpHeaders EMPTY = new DefaultHttpHeaders();
+    @Override
+    public int size() {
+        return names.length;
+    }
 
-    @With
-    private final TreeMap<String, List<String>> headers;
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
 
-    private DefaultHttpHeaders() {
-        this(new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+    @Nullable
+    @Override
+    public List<String> get(final Object key) {
+        final int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
     }
 
-    @Delegate
-    @SuppressWarnings("unused")
-    private Map<String, List<String>> delegate() {
-        return headers;
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, List<String>>> iterator() {
+                return new Iterator<>() {
+
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < names.length;
+                    }
+
+                    @Override
+                    public Entry<String, List<String>> next() {
+                        if (index == names.length) {
+                            throw new NoSuchElementException();
+                        }
+                        final int current = index++;
+                        return new SimpleImmutableEntry<>(names[current], values[current]);
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return names.length;
+            }
+
+        };
     }
 
     @Override
@@ -42,43 +91,223 @@ final class DefaultHttpHeaders
             final String name,
             final Collection<String> values) {
 
-        TreeMap<String, List<String>> updatedHeaders = associate(headers, name, values);
-        return withHeaders(updatedHeaders);
+        final int index = indexOf(name);
+
+        if (index >= 0) {
+            if (Objects.equals(this.values[index], values)) {
+                return this;
+            }
+
+            // keeps the original spelling of the name
+            final List<String>[] updated = this.values.clone();
+            updated[index] = immutableCopy(values);
+            return new DefaultHttpHeaders(names, updated);
+        }
+
+        final int insertion = -(index + 1);
+        final String[] names = new String[this.names.length + 1];
+        final List<String>[] updated = newArray(this.names.length + 1);
+
+        System.arraycopy(this.names, 0, names, 0, insertion);
+        System.arraycopy(this.values, 0, updated, 0, insertion);
+        names[insertion] = name;
+        updated[insertion] = immutableCopy(values);
+        System.arraycopy(this.names, insertion, names, insertion + 1, this.names.length - insertion);
+        System.arraycopy(this.values, insertion, updated, insertion + 1, this.names.length - insertion);
+
+        return new DefaultHttpHeaders(names, updated);
+    }
+
+    @Override
+    public HttpHeaders update(final Map<String, List<String>> headers) {
+        if (headers.entrySet().stream().allMatch(entry -> Objects.equals(get(entry.getKey()), entry.getValue()))) {
+            return this;
+        }
+
+        final Builder builder = new Builder(this);
+        headers.forEach(builder::put);
+        return builder.build();
+    }
+
+    @Override
+    public HttpHeaders apply(
+            final BiFunction<String, List<String>, Collection<String>> operator) {
+
+        @Nullable String[] names = null;
+        @Nullable List<String>[] values = null;
+        int size = 0;
+
+        for (int index = 0; index < this.names.length; index++) {
+            final String name = this.names[index];
+            final List<String> previous = this.values[index];
+            @Nullable final Collection<String> next = operator.apply(name, previous);
+            final boolean unchanged = Objects.equals(previous, next);
+
+            if (names == null) {
+                if (unchanged) {
+                    continue;
+                }
+
+                // first change, copy everything up to here
+                names = new String[this.names.length];
+                values = newArray(this.names.length);
+                System.arraycopy(this.names, 0, names, 0, index);
+                System.arraycopy(this.values, 0, values, 0, index);
+                size = index;
+            }
+
+            if (next != null) {
+                names[size] = name;
+                values[size] = unchanged ? previous : immutableCopy(next);
+                size++;
+            }
+        }
+
+        return names == null ? this : new DefaultHttpHeaders(trim(names, size), trim(values, size));
     }
 
     @Override
     public HttpHeaders delete(final Collection<String> names) {
-        return withHeaders(delete(headers, names));
+        return apply((name, previous) -> contains(names, name) ? null : previous);
+    }
+
+    private static boolean contains(final Collection<String> names, final String name) {
+        for (final String candidate : names) {
+            if (candidate.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(@Nullable final Object key) {
+        if (key instanceof String name) {
+            return Arrays.binarySearch(names, name, CASE_INSENSITIVE_ORDER);
+        }
+        return -1;
     }
 
     private static List<String> immutableCopy(final Collection<String> values) {
         return Collections.unmodifiableList(new ArrayList<>(values));
     }
 
-    private static TreeMap<String, List<String>> associate(
-            final TreeMap<String, List<String>> original,
-            final String key,
-            final Collection<String> value) {
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newArray(final int length) {
+        return new List[length];
+    }
+
+    private static <T> T[] trim(final T[] array, final int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Collects headers in the order they arrive and sorts them once, when built. Repeated names are merged, keeping
+     * the spelling of their first occurrence and the order of their values.
+     */
+    static final class Builder implements HttpHeaders.Builder {
+
+        private final List<Pending> pending;
+
+        Builder() {
+            this.pending = new ArrayList<>();
+        }
+
+        private Builder(final DefaultHttpHeaders headers) {
+            this.pending = new ArrayList<>(headers.names.length + 8);
+
+            for (int index = 0; index < headers.names.length; index++) {
+                pending.add(new Pending(headers.names[index], headers.values[index], false));
+            }
+        }
 
-        if (Objects.equals(original.get(key), value))
-            return original;
+        @Override
+        public Builder add(final String name, final String value) {
+            pending.add(new Pending(name, value, false));
+            return this;
+        }
+
+        @Override
+        public Builder add(final String name, final Collection<String> values) {
+            pending.add(new Pending(name, values, false));
+            return this;
+        }
+
+        @Override
+        public Builder put(final String name, final Collection<String> values) {
+            pending.add(new Pending(name, values, true));
+            return this;
+        }
+
+        @Override
+        public HttpHeaders build() {
+            if (pending.isEmpty()) {
+                return EMPTY;
+            }
+
+            // stable, i.e. keeps the order of values for the same name
+            pending.sort((left, right) -> CASE_INSENSITIVE_ORDER.compare(left.name, right.name));
+
+            final String[] names = new String[pending.size()];
+            final List<String>[] values = newArray(pending.size());
+            int size = 0;
+
+            for (int start = 0, end; start < pending.size(); start = end) {
+                final String name = pending.get(start).name;
+                final List<String> merged = new ArrayList<>();
+
+                for (end = start; end < pending.size(); end++) {
+                    final Pending current = pending.get(end);
+
+                    if (!current.name.equalsIgnoreCase(name)) {
+                        break;
+                    }
+
+                    current.addTo(merged);
+                }
+
+                names[size] = name;
+                values[size] = Collections.unmodifiableList(merged);
+                size++;
+            }
+
+            return new DefaultHttpHeaders(trim(names, size), trim(values, size));
+        }
 
-        TreeMap<String, List<String>> tmpMap = new TreeMap<>(original);
-        tmpMap.put(key, immutableCopy(value));
-        return tmpMap;
     }
 
-    private static TreeMap<String, List<String>> delete(
-            final TreeMap<String, List<String>> original,
-            final Collection<String> keys) {
+    private static final class Pending {
+
+        private final String name;
+
+        /**
+         * Either a single {@link String} or a {@link Collection} of them.
+         */
+        private final Object value;
+
+        /**
+         * Whether this replaces all values that were added for the same name before.
+         */
+        private final boolean replace;
+
+        private Pending(final String name, final Object value, final boolean replace) {
+            this.name = name;
+            this.value = value;
+            this.replace = replace;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void addTo(final List<String> values) {
+            if (replace) {
+                values.clear();
+            }
 
-        // This internally uses the comparator of the map
-        if (Collections.disjoint(original.keySet(), keys))
-            return original;
+            if (value instanceof String) {
+                values.add((String) value);
+            } else {
+                values.addAll((Collection<String>) value);
+            }
+        }
 
-        TreeMap<String, List<String>> modifiedMap = new TreeMap<>(original);
-        keys.forEach(modifiedMap::remove);
-        return modifiedMap;
     }
 
 }
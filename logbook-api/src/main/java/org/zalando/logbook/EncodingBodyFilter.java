@@ -0,0 +1,28 @@
+package org.zalando.logbook;
+
+import lombok.AllArgsConstructor;
+
+import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@AllArgsConstructor
+final class EncodingBodyFilter implements BodyFilter, ByteBodyFilter {
+
+    private final ByteBodyFilter filter;
+
+    @Override
+    public String filter(@Nullable final String contentType, final String body) {
+        final byte[] encoded = body.getBytes(UTF_8);
+        final byte[] filtered = filter.filter(contentType, UTF_8, encoded);
+        // filters return the very same body if there was nothing to filter
+        return filtered == encoded ? body : new String(filtered, UTF_8);
+    }
+
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        return filter.filter(contentType, charset, body);
+    }
+
+}
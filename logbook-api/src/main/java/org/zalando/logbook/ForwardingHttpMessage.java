@@ -47,4 +47,14 @@ public interface ForwardingHttpMessage extends HttpMessage {
         return delegate().getBodyAsString();
     }
 
+    @Override
+    default boolean isBodyTruncated() {
+        return delegate().isBodyTruncated();
+    }
+
+    @Override
+    default long getOriginalBodyLength() throws IOException {
+        return delegate().getOriginalBodyLength();
+    }
+
 }
@@ -64,6 +64,11 @@ public interface ForwardingHttpRequest extends ForwardingHttpMessage, HttpReques
         return delegate().withoutBody();
     }
 
+    @Override
+    default HttpRequest withBodyLimit(final int limit) {
+        return delegate().withBodyLimit(limit);
+    }
+
     @Override
     default HttpAttributes getAttributes() {
         return delegate().getAttributes();
@@ -4,6 +4,7 @@ import org.apiguardian.api.API;
 import org.zalando.logbook.attributes.HttpAttributes;
 
 import java.io.IOException;
+import java.util.function.Predicate;
 
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -28,6 +29,16 @@ public interface ForwardingHttpResponse extends ForwardingHttpMessage, HttpRespo
         return delegate().withoutBody();
     }
 
+    @Override
+    default HttpResponse withBodyLimit(final int limit) {
+        return delegate().withBodyLimit(limit);
+    }
+
+    @Override
+    default HttpResponse withBodyIf(final Predicate<HttpResponse> condition, final int limit) throws IOException {
+        return delegate().withBodyIf(condition, limit);
+    }
+
     @Override
     default String getReasonPhrase() {
         return delegate().getReasonPhrase();
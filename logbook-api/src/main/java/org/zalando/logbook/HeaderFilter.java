@@ -2,6 +2,9 @@ package org.zalando.logbook;
 
 import org.apiguardian.api.API;
 
+import jakarta.annotation.Nullable;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 @API(status = STABLE)
@@ -10,13 +13,27 @@ public interface HeaderFilter {
 
     HttpHeaders filter(final HttpHeaders headers);
 
+    /**
+     * Merges this filter with the given one into a single filter, if possible, that is equivalent to
+     * {@link #merge(HeaderFilter, HeaderFilter) merge(this, previous)}, i.e. to applying the given filter first and
+     * then this one.
+     *
+     * @param previous the filter to apply before this one
+     * @return the merged filter, or {@code null} if both can't be merged
+     */
+    @API(status = EXPERIMENTAL)
+    @Nullable
+    default HeaderFilter tryMerge(final HeaderFilter previous) {
+        return null;
+    }
+
     static HeaderFilter none() {
         return headers -> headers;
     }
 
     static HeaderFilter merge(final HeaderFilter left, final HeaderFilter right) {
-        return headers ->
-                left.filter(right.filter(headers));
+        @Nullable final HeaderFilter merged = left.tryMerge(right);
+        return merged == null ? new NonMergeableHeaderFilterPair(left, right) : merged;
     }
 
 }
@@ -1,6 +1,7 @@
 package org.zalando.logbook;
 
 import jakarta.annotation.Nullable;
+import org.apiguardian.api.API;
 
 import java.util.Collection;
 import java.util.List;
@@ -10,8 +11,10 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.zalando.logbook.DefaultHttpHeaders.EMPTY;
 
 /**
@@ -72,13 +75,74 @@ public interface HttpHeaders extends Map<String, List<String>> {
     }
 
     static HttpHeaders of(final Map<String, List<String>> headers) {
+        if (headers instanceof DefaultHttpHeaders) {
+            return (HttpHeaders) headers;
+        } else if (headers instanceof HttpHeadersView) {
+            return ((HttpHeadersView) headers).materialize();
+        }
         return empty().update(headers);
     }
 
+    /**
+     * Creates a read-only view of native headers, e.g. those of a Netty or servlet request, that doesn't copy them
+     * unless it has to. Single headers are looked up directly, while iterating over or changing them works on a copy
+     * that is made once and only if needed, e.g. if a {@link HeaderFilter} actually changes something. Use
+     * {@link #of(Map)} to get a copy that is independent of the native headers, e.g. before they are reused.
+     *
+     * @param lookup returns the values of the given header, case-insensitively, or {@code null} or an empty list if
+     *               there are none
+     * @param copy   copies all native headers, e.g. using a {@link #builder() builder}
+     * @return a view of the given native headers
+     */
+    @API(status = EXPERIMENTAL)
+    static HttpHeaders view(
+            final Function<String, List<String>> lookup,
+            final Supplier<HttpHeaders> copy) {
+        return new HttpHeadersView(lookup, copy);
+    }
+
+    /**
+     * Creates a {@link Builder builder} that collects headers, e.g. while iterating over the headers of a native
+     * request or response, and sorts and merges them only once, when built. This is considerably cheaper than calling
+     * {@link #update(String, Collection)} for every single header.
+     *
+     * @return a new builder
+     */
+    @API(status = EXPERIMENTAL)
+    static Builder builder() {
+        return new DefaultHttpHeaders.Builder();
+    }
+
     static <T, U> BiPredicate<T, U> predicate(final Predicate<T> predicate) {
         return (t, u) -> predicate.test(t);
     }
 
+    /**
+     * Collects headers in the order they are given. Names are case-insensitive: values of repeated names are merged,
+     * in order, under the spelling of their first occurrence.
+     */
+    @API(status = EXPERIMENTAL)
+    interface Builder {
+
+        /**
+         * Appends a value to the given header.
+         */
+        Builder add(String name, String value);
+
+        /**
+         * Appends values to the given header.
+         */
+        Builder add(String name, Collection<String> values);
+
+        /**
+         * Replaces all values that were added to the given header so far.
+         */
+        Builder put(String name, Collection<String> values);
+
+        HttpHeaders build();
+
+    }
+
     // deprecated stuff from here on till the end
 
     @Deprecated
@@ -0,0 +1,98 @@
+package org.zalando.logbook;
+
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A read-only view of native headers, e.g. those of a Netty or servlet request. Single headers are looked up in the
+ * native headers directly. Everything that needs all of them, i.e. iterating or changing them, works on a copy, which
+ * is made once and only if needed. Changes that don't change anything return the view itself.
+ */
+final class HttpHeadersView extends AbstractHttpHeaders {
+
+    private final Function<String, List<String>> lookup;
+    private final Supplier<HttpHeaders> copy;
+
+    @Nullable
+    private volatile HttpHeaders headers;
+
+    HttpHeadersView(final Function<String, List<String>> lookup, final Supplier<HttpHeaders> copy) {
+        this.lookup = lookup;
+        this.copy = copy;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Nullable
+    @Override
+    public List<String> get(final Object key) {
+        @Nullable final HttpHeaders headers = this.headers;
+
+        if (headers != null) {
+            return headers.get(key);
+        }
+
+        if (key instanceof String name) {
+            @Nullable final List<String> values = lookup.apply(name);
+            return values == null || values.isEmpty() ? null : unmodifiableList(values);
+        }
+
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return materialize().size();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    @Override
+    public HttpHeaders update(final String name, final Collection<String> values) {
+        return Objects.equals(get(name), values) ? this : materialize().update(name, values);
+    }
+
+    @Override
+    public HttpHeaders apply(final BiFunction<String, List<String>, Collection<String>> operator) {
+        final HttpHeaders headers = materialize();
+        final HttpHeaders result = headers.apply(operator);
+        return result == headers ? this : result;
+    }
+
+    @Override
+    public HttpHeaders delete(final Collection<String> names) {
+        for (final String name : names) {
+            if (containsKey(name)) {
+                return materialize().delete(names);
+            }
+        }
+        return this;
+    }
+
+    HttpHeaders materialize() {
+        @Nullable HttpHeaders headers = this.headers;
+
+        if (headers == null) {
+            // racy, but copies are equal
+            headers = copy.get();
+            this.headers = headers;
+        }
+
+        return headers;
+    }
+
+}
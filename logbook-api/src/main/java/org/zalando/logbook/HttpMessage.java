@@ -8,6 +8,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 @API(status = STABLE)
@@ -44,4 +45,25 @@ public interface HttpMessage {
         return new String(getBody(), getCharset());
     }
 
+    /**
+     * @return whether the body was truncated while it was captured, in which case {@link #getBody()} returns the
+     * beginning of it only
+     * @see HttpRequest#withBodyLimit(int)
+     * @see HttpResponse#withBodyLimit(int)
+     */
+    @API(status = EXPERIMENTAL)
+    default boolean isBodyTruncated() {
+        return false;
+    }
+
+    /**
+     * @return the length of the body in bytes as it was transferred, i.e. before it was truncated, or {@code -1} if
+     * it's unknown
+     * @throws IOException see {@link #getBody()}
+     */
+    @API(status = EXPERIMENTAL)
+    default long getOriginalBodyLength() throws IOException {
+        return getBody().length;
+    }
+
 }
@@ -6,6 +6,7 @@ import org.zalando.logbook.attributes.HttpAttributes;
 import java.io.IOException;
 import java.util.Optional;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 @API(status = STABLE)
@@ -47,4 +48,19 @@ public interface HttpRequest extends HttpMessage {
     // TODO require all implementations to be without-body by default
     HttpRequest withoutBody();
 
+    /**
+     * Caps the body that is captured, if any, to the given number of bytes. Implementations that support it stop
+     * copying the body once the limit is reached, but keep track of its {@link #getOriginalBodyLength() length} and
+     * whether it was {@link #isBodyTruncated() truncated}.
+     * <p>
+     * Defaults to a no-op, i.e. implementations that don't support it capture the whole body.
+     *
+     * @param limit the number of bytes to capture at most
+     * @return the given request
+     */
+    @API(status = EXPERIMENTAL)
+    default HttpRequest withBodyLimit(final int limit) {
+        return this;
+    }
+
 }
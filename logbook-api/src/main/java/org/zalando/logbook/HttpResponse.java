@@ -4,7 +4,9 @@ import org.apiguardian.api.API;
 import org.zalando.logbook.attributes.HttpAttributes;
 
 import java.io.IOException;
+import java.util.function.Predicate;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 @API(status = STABLE)
@@ -17,6 +19,39 @@ public interface HttpResponse extends HttpMessage {
 
     HttpResponse withoutBody();
 
+    /**
+     * Records the body only if the given condition holds once the status and headers of this response are final,
+     * e.g. to record bodies of errors only. Until then, the body is buffered speculatively, but at most up to the given
+     * limit, beyond which it's discarded. As soon as the condition is known not to hold, the buffered body is
+     * released and the rest of it isn't buffered at all.
+     * <p>
+     * Defaults to {@link #withBody()}, i.e. implementations that don't support it record the body unconditionally.
+     *
+     * @param condition the condition, evaluated once, as soon as status and headers are final
+     * @param limit     the number of bytes to buffer at most, as long as the condition can't be evaluated yet
+     * @return the given response
+     * @throws IOException see {@link #withBody()}
+     */
+    @API(status = EXPERIMENTAL)
+    default HttpResponse withBodyIf(final Predicate<HttpResponse> condition, final int limit) throws IOException {
+        return withBody();
+    }
+
+    /**
+     * Caps the body that is captured, if any, to the given number of bytes. Implementations that support it stop
+     * copying the body once the limit is reached, but keep track of its {@link #getOriginalBodyLength() length} and
+     * whether it was {@link #isBodyTruncated() truncated}.
+     * <p>
+     * Defaults to a no-op, i.e. implementations that don't support it capture the whole body.
+     *
+     * @param limit the number of bytes to capture at most
+     * @return the given response
+     */
+    @API(status = EXPERIMENTAL)
+    default HttpResponse withBodyLimit(final int limit) {
+        return this;
+    }
+
     default HttpAttributes getAttributes() {
         return HttpAttributes.EMPTY;
     }
@@ -8,9 +8,9 @@ import jakarta.annotation.Nullable;
 import static lombok.AccessLevel.PACKAGE;
 import static org.zalando.logbook.BodyFilter.merge;
 
-@AllArgsConstructor
+@AllArgsConstructor(access = PACKAGE)
 @Getter(PACKAGE)
-final class NonMergeableBodyFilterPair implements BodyFilter {
+class NonMergeableBodyFilterPair implements BodyFilter {
 
     private final BodyFilter left;
     private final BodyFilter right;
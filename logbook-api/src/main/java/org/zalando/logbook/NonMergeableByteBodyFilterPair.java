@@ -0,0 +1,22 @@
+package org.zalando.logbook;
+
+import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
+
+final class NonMergeableByteBodyFilterPair extends NonMergeableBodyFilterPair implements ByteBodyFilter {
+
+    private final ByteBodyFilter byteLeft;
+    private final ByteBodyFilter byteRight;
+
+    NonMergeableByteBodyFilterPair(final BodyFilter left, final BodyFilter right) {
+        super(left, right);
+        this.byteLeft = ByteBodyFilter.of(left);
+        this.byteRight = ByteBodyFilter.of(right);
+    }
+
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        return byteRight.filter(contentType, charset, byteLeft.filter(contentType, charset, body));
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.zalando.logbook;
+
+import lombok.AllArgsConstructor;
+
+import jakarta.annotation.Nullable;
+
+import static lombok.AccessLevel.PACKAGE;
+import static org.zalando.logbook.HeaderFilter.merge;
+
+@AllArgsConstructor(access = PACKAGE)
+final class NonMergeableHeaderFilterPair implements HeaderFilter {
+
+    private final HeaderFilter left;
+    private final HeaderFilter right;
+
+    @Override
+    public HttpHeaders filter(final HttpHeaders headers) {
+        return left.filter(right.filter(headers));
+    }
+
+    @Nullable
+    @Override
+    public HeaderFilter tryMerge(final HeaderFilter previous) {
+        @Nullable final HeaderFilter filter = right.tryMerge(previous);
+
+        if (filter == null) {
+            return null;
+        }
+
+        return merge(left, filter);
+    }
+
+}
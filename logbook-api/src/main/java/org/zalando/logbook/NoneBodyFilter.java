@@ -1,8 +1,9 @@
 package org.zalando.logbook;
 
 import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
 
-enum NoneBodyFilter implements BodyFilter {
+enum NoneBodyFilter implements BodyFilter, ByteBodyFilter {
 
     NONE;
 
@@ -12,6 +13,12 @@ enum NoneBodyFilter implements BodyFilter {
         return body;
     }
 
+    @Override
+    public byte[] filter(
+            @Nullable final String contentType, final Charset charset, final byte[] body) {
+        return body;
+    }
+
     @Override
     public BodyFilter tryMerge(final BodyFilter next) {
         return next;
@@ -0,0 +1,51 @@
+package org.zalando.logbook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A pool of fixed-size segments that {@link CappedByteArrayOutputStream buffers} borrow and give back. The pool is
+ * striped by thread, to keep contention low, and bounded, i.e. segments given back to a full stripe are left to the
+ * garbage collector.
+ */
+final class SegmentPool {
+
+    static final int SEGMENT_SIZE = 4096;
+
+    private static final int CAPACITY = 64;
+
+    static final SegmentPool INSTANCE = new SegmentPool(
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2, CAPACITY);
+
+    private final List<Queue<byte[]>> stripes;
+    private final int mask;
+
+    /**
+     * @param stripes  number of stripes, must be a power of two
+     * @param capacity number of segments each stripe retains at most
+     */
+    SegmentPool(final int stripes, final int capacity) {
+        this.stripes = new ArrayList<>(stripes);
+        this.mask = stripes - 1;
+
+        for (int i = 0; i < stripes; i++) {
+            this.stripes.add(new ArrayBlockingQueue<>(capacity));
+        }
+    }
+
+    byte[] acquire() {
+        final byte[] segment = stripe().poll();
+        return segment == null ? new byte[SEGMENT_SIZE] : segment;
+    }
+
+    void release(final byte[] segment) {
+        stripe().offer(segment);
+    }
+
+    private Queue<byte[]> stripe() {
+        return stripes.get(System.identityHashCode(Thread.currentThread()) & mask);
+    }
+
+}
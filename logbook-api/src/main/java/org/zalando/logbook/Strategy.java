@@ -73,7 +73,10 @@ public interface Strategy {
      * This method is being called right before the response body is being buffered. The primary goal of this method is
      * to decide whether the body should be recorded or not. <strong>Beware</strong> that the response may or may not
      * be a reliable source of information since it was fully processed yet. Any decision whether to buffer the body
-     * or not should be made exclusively based on the provided {@link HttpRequest request}.
+     * or not should be made exclusively based on the provided {@link HttpRequest request}. Decisions that depend on
+     * the status or headers of the response can be deferred using
+     * {@link HttpResponse#withBodyIf(java.util.function.Predicate, int)}, which avoids buffering bodies that are not
+     * needed, where supported.
      * <p>
      * Defaults to {@link HttpResponse#withBody()}.
      *
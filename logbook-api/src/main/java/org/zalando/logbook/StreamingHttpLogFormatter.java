@@ -0,0 +1,52 @@
+package org.zalando.logbook;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * An {@link HttpLogFormatter} that is able to append its output to an {@link Appendable} directly, instead of
+ * producing an intermediate {@link String}.
+ *
+ * @see StreamingHttpLogWriter
+ */
+@API(status = EXPERIMENTAL)
+public interface StreamingHttpLogFormatter extends HttpLogFormatter {
+
+    @Override
+    default String format(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
+        final StringBuilder output = new StringBuilder(2048);
+        format(precorrelation, request, output);
+        return output.toString();
+    }
+
+    @Override
+    default String format(final Correlation correlation, final HttpResponse response) throws IOException {
+        final StringBuilder output = new StringBuilder(2048);
+        format(correlation, response, output);
+        return output.toString();
+    }
+
+    /**
+     * Appends the formatted request to the given output.
+     *
+     * @param precorrelation the request correlation
+     * @param request        the HTTP request
+     * @param output         the output to append to
+     * @throws IOException if reading body or appending to the output fails
+     */
+    void format(Precorrelation precorrelation, HttpRequest request, Appendable output) throws IOException;
+
+    /**
+     * Appends the formatted response to the given output.
+     *
+     * @param correlation the response correlation
+     * @param response    the HTTP response
+     * @param output      the output to append to
+     * @throws IOException if reading body or appending to the output fails
+     */
+    void format(Correlation correlation, HttpResponse response, Appendable output) throws IOException;
+
+}
@@ -0,0 +1,38 @@
+package org.zalando.logbook;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * An {@link HttpLogWriter} that lets a {@link StreamingHttpLogFormatter formatter} append messages directly to its
+ * destination, instead of receiving them as an intermediate {@link String}.
+ */
+@API(status = EXPERIMENTAL)
+public interface StreamingHttpLogWriter extends HttpLogWriter {
+
+    /**
+     * A message that is yet to be written, e.g. by a {@link StreamingHttpLogFormatter}.
+     */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(Appendable output) throws IOException;
+    }
+
+    @Override
+    default void write(final Precorrelation precorrelation, final String request) throws IOException {
+        write(precorrelation, output -> output.append(request));
+    }
+
+    @Override
+    default void write(final Correlation correlation, final String response) throws IOException {
+        write(correlation, output -> output.append(response));
+    }
+
+    void write(Precorrelation precorrelation, Content request) throws IOException;
+
+    void write(Correlation correlation, Content response) throws IOException;
+
+}
@@ -0,0 +1,55 @@
+package org.zalando.logbook;
+
+import org.apiguardian.api.API;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * An {@link HttpLogFormatter} that is able to write its output as UTF-8 encoded bytes to an {@link OutputStream}
+ * directly, instead of producing an intermediate {@link String}.
+ *
+ * @see Utf8HttpLogWriter
+ */
+@API(status = EXPERIMENTAL)
+public interface Utf8HttpLogFormatter extends HttpLogFormatter {
+
+    @Override
+    default String format(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(2048);
+        format(precorrelation, request, output);
+        return output.toString(UTF_8);
+    }
+
+    @Override
+    default String format(final Correlation correlation, final HttpResponse response) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(2048);
+        format(correlation, response, output);
+        return output.toString(UTF_8);
+    }
+
+    /**
+     * Writes the formatted request, encoded as UTF-8, to the given output. The output is neither flushed nor closed.
+     *
+     * @param precorrelation the request correlation
+     * @param request        the HTTP request
+     * @param output         the output to write to
+     * @throws IOException if reading body or writing to the output fails
+     */
+    void format(Precorrelation precorrelation, HttpRequest request, OutputStream output) throws IOException;
+
+    /**
+     * Writes the formatted response, encoded as UTF-8, to the given output. The output is neither flushed nor closed.
+     *
+     * @param correlation the response correlation
+     * @param response    the HTTP response
+     * @param output      the output to write to
+     * @throws IOException if reading body or writing to the output fails
+     */
+    void format(Correlation correlation, HttpResponse response, OutputStream output) throws IOException;
+
+}
@@ -0,0 +1,40 @@
+package org.zalando.logbook;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * An {@link HttpLogWriter} that lets a {@link Utf8HttpLogFormatter formatter} write UTF-8 encoded messages directly
+ * to its destination, instead of receiving them as an intermediate {@link String} that needs to be encoded again.
+ */
+@API(status = EXPERIMENTAL)
+public interface Utf8HttpLogWriter extends HttpLogWriter {
+
+    /**
+     * A UTF-8 encoded message that is yet to be written, e.g. by a {@link Utf8HttpLogFormatter}.
+     */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+    @Override
+    default void write(final Precorrelation precorrelation, final String request) throws IOException {
+        write(precorrelation, output -> output.write(request.getBytes(UTF_8)));
+    }
+
+    @Override
+    default void write(final Correlation correlation, final String response) throws IOException {
+        write(correlation, output -> output.write(response.getBytes(UTF_8)));
+    }
+
+    void write(Precorrelation precorrelation, Content request) throws IOException;
+
+    void write(Correlation correlation, Content response) throws IOException;
+
+}
@@ -0,0 +1,108 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ByteBodyFilterTest {
+
+    private final BodyFilter uppercase = (contentType, body) ->
+            "text/plain".equals(contentType) ? body.toUpperCase() : body;
+
+    private final ByteBodyFilter strip = (contentType, charset, body) ->
+            body.length > 0 && body[0] == ' ' ? new String(body, charset).strip().getBytes(charset) : body;
+
+    @Test
+    void noneShouldDefaultToNoOp() {
+        final byte[] body = "Hello, world!".getBytes(UTF_8);
+
+        assertThat(ByteBodyFilter.of(BodyFilter.none()).filter("text/plain", UTF_8, body)).isSameAs(body);
+    }
+
+    @Test
+    void shouldAdaptBodyFilterByDecoding() {
+        final ByteBodyFilter unit = ByteBodyFilter.of(uppercase);
+
+        assertThat(unit.filter("text/plain", ISO_8859_1, "äöü".getBytes(ISO_8859_1)))
+                .isEqualTo("ÄÖÜ".getBytes(ISO_8859_1));
+    }
+
+    @Test
+    void shouldReturnSameBytesIfNothingWasFiltered() {
+        final ByteBodyFilter unit = ByteBodyFilter.of(uppercase);
+        final byte[] body = "äöü".getBytes(UTF_8);
+
+        assertThat(unit.filter("application/json", UTF_8, body)).isSameAs(body);
+    }
+
+    @Test
+    void shouldNotAdaptByteBodyFilter() {
+        final BodyFilter filter = ByteBodyFilter.toBodyFilter(strip);
+
+        assertThat(ByteBodyFilter.of(filter)).isSameAs(filter);
+    }
+
+    @Test
+    void shouldAdaptByteBodyFilterByEncoding() {
+        final BodyFilter unit = ByteBodyFilter.toBodyFilter(strip);
+
+        assertThat(unit.filter("text/plain", " äöü ")).isEqualTo("äöü");
+    }
+
+    @Test
+    void shouldReturnSameStringIfNothingWasFiltered() {
+        final BodyFilter unit = ByteBodyFilter.toBodyFilter(strip);
+        final String body = "äöü";
+
+        assertThat(unit.filter("text/plain", body)).isSameAs(body);
+    }
+
+    @Test
+    void shouldKeepFilteringBytesAfterAdapting() {
+        final ByteBodyFilter unit = ByteBodyFilter.of(ByteBodyFilter.toBodyFilter(strip));
+
+        assertThat(unit.filter("text/plain", ISO_8859_1, " äöü ".getBytes(ISO_8859_1)))
+                .isEqualTo("äöü".getBytes(ISO_8859_1));
+    }
+
+    @Test
+    void shouldNotAdaptBodyFilterThatFiltersBytes() {
+        final BodyFilter filter = BodyFilter.none();
+
+        assertThat(ByteBodyFilter.toBodyFilter((ByteBodyFilter) filter)).isSameAs(filter);
+    }
+
+    @Test
+    void shouldMergeIntoPairThatFiltersBytes() {
+        final BodyFilter unit = BodyFilter.merge(ByteBodyFilter.toBodyFilter(strip), uppercase);
+
+        assertThat(unit).isInstanceOf(ByteBodyFilter.class);
+        assertThat(unit.filter("text/plain", " äöü ")).isEqualTo("ÄÖÜ");
+        assertThat(filter(unit, " äöü ")).isEqualTo("ÄÖÜ");
+    }
+
+    @Test
+    void shouldMergeIntoPairThatFiltersBytesIfOnlyRightSideDoes() {
+        final BodyFilter unit = BodyFilter.merge(uppercase, ByteBodyFilter.toBodyFilter(strip));
+
+        assertThat(unit).isInstanceOf(ByteBodyFilter.class);
+        assertThat(filter(unit, " äöü ")).isEqualTo("ÄÖÜ");
+    }
+
+    @Test
+    void shouldMergeIntoPairThatDoesNotFilterBytes() {
+        final BodyFilter unit = BodyFilter.merge(uppercase, uppercase);
+
+        assertThat(unit).isNotInstanceOf(ByteBodyFilter.class);
+    }
+
+    private static String filter(final BodyFilter filter, final String body) {
+        final Charset charset = UTF_8;
+        return new String(((ByteBodyFilter) filter).filter("text/plain", charset, body.getBytes(charset)), charset);
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.zalando.logbook.SegmentPool.SEGMENT_SIZE;
+
+final class CappedByteArrayOutputStreamTest {
+
+    @Test
+    void shouldCaptureEverythingBelowLimit() {
+        final CappedByteArrayOutputStream unit = new CappedByteArrayOutputStream(8);
+
+        unit.write('a');
+        unit.write("bcd".getBytes(UTF_8), 0, 3);
+
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcd");
+        assertThat(unit.size()).isEqualTo(4);
+        assertThat(unit.getLength()).isEqualTo(4);
+        assertThat(unit.remaining()).isEqualTo(4);
+        assertThat(unit.isTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldStopCopyingAtLimit() {
+        final CappedByteArrayOutputStream unit = new CappedByteArrayOutputStream(4);
+
+        unit.write("abc".getBytes(UTF_8), 0, 3);
+        unit.write("def".getBytes(UTF_8), 0, 3);
+        unit.write('g');
+        unit.skip(10);
+
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcd");
+        assertThat(unit.getLength()).isEqualTo(17);
+        assertThat(unit.remaining()).isZero();
+        assertThat(unit.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldSpanSegments() {
+        final byte[] bytes = new byte[SEGMENT_SIZE * 2 + 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        final CappedByteArrayOutputStream unit = new CappedByteArrayOutputStream(Integer.MAX_VALUE);
+
+        unit.write(bytes, 0, SEGMENT_SIZE - 1);
+        unit.write(bytes[SEGMENT_SIZE - 1]);
+        unit.write(bytes, SEGMENT_SIZE, SEGMENT_SIZE + 3);
+
+        assertThat(Arrays.equals(unit.toByteArray(), bytes)).isTrue();
+    }
+
+    @Test
+    void shouldGiveSegmentsBackOnRelease() {
+        final SegmentPool pool = spy(new SegmentPool(1, 1));
+        final CappedByteArrayOutputStream unit = new CappedByteArrayOutputStream(pool, Integer.MAX_VALUE);
+
+        unit.write(new byte[SEGMENT_SIZE + 1], 0, SEGMENT_SIZE + 1);
+        unit.release();
+
+        verify(pool, times(2)).release(any());
+        assertThat(unit.size()).isZero();
+        assertThat(unit.toByteArray()).isEmpty();
+        assertThat(unit.getLength()).isEqualTo(SEGMENT_SIZE + 1);
+        assertThat(unit.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldOnlyCountBytesWrittenAfterRelease() {
+        final SegmentPool pool = spy(new SegmentPool(1, 1));
+        final CappedByteArrayOutputStream unit = new CappedByteArrayOutputStream(pool, Integer.MAX_VALUE);
+
+        unit.write('a');
+        unit.release();
+        unit.write('b');
+        unit.write("cd".getBytes(UTF_8), 0, 2);
+
+        verify(pool, times(1)).acquire();
+        assertThat(unit.isReleased()).isTrue();
+        assertThat(unit.size()).isZero();
+        assertThat(unit.remaining()).isZero();
+        assertThat(unit.toByteArray()).isEmpty();
+        assertThat(unit.getLength()).isEqualTo(4);
+    }
+
+}
@@ -4,11 +4,14 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.zalando.logbook.DefaultHttpHeaders.EMPTY;
 
 class DefaultHttpHeadersTest {
@@ -82,4 +85,118 @@ class DefaultHttpHeadersTest {
         assertThat(newHeaders).isSameAs(headers);
     }
 
+    @Test
+    void checkUpdateHeadersKeepsOriginalSpelling() {
+        final HttpHeaders newHeaders = headers.update("mixedcase", lst1);
+
+        assertThat(newHeaders.keySet()).containsExactly("lowercase", "MixedCase", "UPPERCASE");
+        assertThat(newHeaders.get("MIXEDCASE")).isEqualTo(lst1);
+        assertThat(headers.get("mixedCase")).isEqualTo(lst3);
+    }
+
+    @Test
+    void checkUpdateHeadersInsertsInOrder() {
+        final HttpHeaders newHeaders = headers
+                .update("a", lst1)
+                .update("N", lst1)
+                .update("z", lst1);
+
+        assertThat(newHeaders.keySet()).containsExactly("a", "lowercase", "MixedCase", "N", "UPPERCASE", "z");
+    }
+
+    @Test
+    void checkUpdateMapHeadersWorksAndIsCaseInsensitive() {
+        final Map<String, List<String>> update = new LinkedHashMap<>();
+        update.put("uppercase", lst2);
+        update.put("Snake-Case", lst1);
+        update.put("SNAKE-CASE", lst3);
+
+        final HttpHeaders newHeaders = headers.update(update);
+
+        final Map<String, List<String>> expectedMap = new LinkedHashMap<>();
+        expectedMap.put("lowercase", lst2);
+        expectedMap.put("MixedCase", lst3);
+        expectedMap.put("Snake-Case", lst3);
+        expectedMap.put("UPPERCASE", lst2);
+
+        assertThat(newHeaders).containsExactlyEntriesOf(expectedMap);
+    }
+
+    @Test
+    void checkApplyHeadersDeletesAndUpdatesInOnePass() {
+        final HttpHeaders newHeaders = headers.apply((name, previous) ->
+                name.equals("MixedCase") ? null : name.equals("UPPERCASE") ? lst2 : new ArrayList<>(previous));
+
+        final Map<String, List<String>> expectedMap = new LinkedHashMap<>();
+        expectedMap.put("lowercase", lst2);
+        expectedMap.put("UPPERCASE", lst2);
+
+        assertThat(newHeaders).containsExactlyEntriesOf(expectedMap);
+        assertThat(newHeaders.get("lowercase")).isSameAs(headers.get("lowercase"));
+    }
+
+    @Test
+    void checkApplyHeadersKeepsSizeIfNothingIsDeleted() {
+        final HttpHeaders newHeaders = headers.apply((name, previous) -> lst1);
+
+        assertThat(newHeaders).hasSize(3).allSatisfy((name, values) -> assertThat(values).isEqualTo(lst1));
+    }
+
+    @Test
+    void checkLookupsAreCaseInsensitive() {
+        assertThat(headers.containsKey("mixedcase")).isTrue();
+        assertThat(headers.containsKey("other")).isFalse();
+        assertThat(headers.containsKey(1)).isFalse();
+        assertThat(headers.get("LOWERCASE")).isEqualTo(lst2);
+        assertThat(headers.get("other")).isNull();
+        assertThat(headers.get(null)).isNull();
+    }
+
+    @Test
+    void checkIteratorIsExhausted() {
+        final Iterator<Map.Entry<String, List<String>>> iterator = EMPTY.entrySet().iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation") // calls the deprecated Map mutators on purpose
+    void checkHeadersCanNotBeModifiedAsMap() {
+        assertThatThrownBy(() -> headers.put("other", lst1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.remove("lowercase")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.putAll(headers)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(headers::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.replaceAll((name, previous) -> previous))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.putIfAbsent("other", lst1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.remove("lowercase", lst2))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.replace("lowercase", lst2, lst1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.replace("lowercase", lst1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.computeIfAbsent("other", name -> lst1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.computeIfPresent("lowercase", (name, previous) -> lst1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.compute("lowercase", (name, previous) -> lst1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.merge("lowercase", lst1, (previous, value) -> value))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.entrySet().iterator().remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void uselessBulkOperationsPreserveOriginalInstance() {
+        HttpHeaders newHeaders = headers
+                .update(Map.of("uppercase", lst1, "MIXEDCASE", lst3))
+                .apply((name, previous) -> new ArrayList<>(previous))
+                .delete(Arrays.asList("other", "Non-Existent-Key"));
+
+        assertThat(newHeaders).isSameAs(headers);
+    }
+
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.function.UnaryOperator;
 
 import static org.mockito.Mockito.verify;
@@ -27,9 +28,16 @@ final class ForwardingTest {
         final T forwarded = forwarder.apply(delegate);
 
         for (final Method method : type.getMethods()) {
-            method.invoke(forwarded);
-            method.invoke(verify(delegate));
+            final Object[] arguments = argumentsOf(method);
+            method.invoke(forwarded, arguments);
+            method.invoke(verify(delegate), arguments);
         }
     }
 
+    private static Object[] argumentsOf(final Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(parameter -> parameter == int.class ? 0 : null)
+                .toArray();
+    }
+
 }
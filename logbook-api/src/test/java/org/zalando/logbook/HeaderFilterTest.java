@@ -2,6 +2,8 @@ package org.zalando.logbook;
 
 import org.junit.jupiter.api.Test;
 
+import jakarta.annotation.Nullable;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 final class HeaderFilterTest {
@@ -16,4 +18,62 @@ final class HeaderFilterTest {
         assertThat(unit.filter(headers)).isSameAs(headers);
     }
 
+    @Test
+    void shouldApplyRightBeforeLeft() {
+        final HeaderFilter unit = HeaderFilter.merge(
+                headers -> headers.update("X-Order", headers.getFirst("X-Order") + ",left"),
+                headers -> headers.update("X-Order", "right"));
+
+        assertThat(unit.filter(HttpHeaders.empty()).getFirst("X-Order")).isEqualTo("right,left");
+    }
+
+    @Test
+    void shouldMergeMergeableFilters() {
+        final HeaderFilter unit = HeaderFilter.merge(new Rename("a", "b"), new Rename("b", "c"));
+
+        assertThat(unit).isInstanceOf(Rename.class);
+        assertThat(unit.filter(HttpHeaders.of("C", "1"))).containsOnlyKeys("a");
+    }
+
+    @Test
+    void shouldMergeIntoRightOfNonMergeablePair() {
+        final HeaderFilter pair = HeaderFilter.merge(HeaderFilter.none(), new Rename("b", "c"));
+        final HeaderFilter unit = HeaderFilter.merge(pair, new Rename("c", "d"));
+
+        assertThat(unit).isInstanceOf(NonMergeableHeaderFilterPair.class);
+        assertThat(unit.tryMerge(HeaderFilter.none())).isNull();
+        assertThat(unit.filter(HttpHeaders.of("D", "1"))).containsOnlyKeys("b");
+    }
+
+    /**
+     * Renames a header, merging with renames of the header it renames.
+     */
+    private static final class Rename implements HeaderFilter {
+
+        private final String to;
+        private final String from;
+
+        private Rename(final String to, final String from) {
+            this.to = to;
+            this.from = from;
+        }
+
+        @Override
+        public HttpHeaders filter(final HttpHeaders headers) {
+            return headers.containsKey(from) ?
+                    headers.delete(from).update(to, headers.get(from)) :
+                    headers;
+        }
+
+        @Nullable
+        @Override
+        public HeaderFilter tryMerge(final HeaderFilter previous) {
+            if (previous instanceof Rename rename && rename.to.equals(from)) {
+                return new Rename(to, rename.from);
+            }
+            return null;
+        }
+
+    }
+
 }
@@ -0,0 +1,73 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpHeadersBuilderTest {
+
+    @Test
+    void buildsEmptyHeaders() {
+        assertThat(HttpHeaders.builder().build()).isSameAs(HttpHeaders.empty());
+    }
+
+    @Test
+    void buildsSortedAndMergedHeaders() {
+        final HttpHeaders unit = HttpHeaders.builder()
+                .add("X-Trace", "1")
+                .add("Accept", "text/plain")
+                .add("x-trace", "2")
+                .add("ACCEPT", Arrays.asList("application/json", "*/*"))
+                .build();
+
+        final Map<String, List<String>> expected = new LinkedHashMap<>();
+        expected.put("Accept", Arrays.asList("text/plain", "application/json", "*/*"));
+        expected.put("X-Trace", Arrays.asList("1", "2"));
+
+        assertThat(unit).containsExactlyEntriesOf(expected);
+        assertThat(unit.getFirst("x-TRACE")).isEqualTo("1");
+    }
+
+    @Test
+    void replacesPreviousValues() {
+        final HttpHeaders unit = HttpHeaders.builder()
+                .add("Accept", "text/plain")
+                .put("accept", singletonList("application/json"))
+                .add("Accept", "*/*")
+                .build();
+
+        assertThat(unit).containsExactly(Map.entry("Accept", Arrays.asList("application/json", "*/*")));
+    }
+
+    @Test
+    void buildsSameHeadersAsUpdates() {
+        final HttpHeaders unit = HttpHeaders.builder()
+                .add("Content-Type", "application/json")
+                .add("Cookie", singletonList("user=me"))
+                .build();
+
+        assertThat(unit).isEqualTo(HttpHeaders.empty()
+                .update("Cookie", "user=me")
+                .update("Content-Type", "application/json"));
+    }
+
+    @Test
+    void buildsImmutableCopies() {
+        final List<String> values = new ArrayList<>(singletonList("application/json"));
+        final HttpHeaders unit = HttpHeaders.builder().add("Accept", values).build();
+
+        values.add("text/plain");
+
+        assertThat(unit.get("Accept")).containsExactly("application/json");
+        assertThatThrownBy(() -> unit.get("Accept").clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+}
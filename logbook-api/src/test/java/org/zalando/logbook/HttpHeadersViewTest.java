@@ -0,0 +1,115 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.zalando.logbook.HttpHeaders.predicate;
+
+class HttpHeadersViewTest {
+
+    private final Map<String, List<String>> original = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    private final AtomicInteger copies = new AtomicInteger();
+
+    private final HttpHeaders unit = HttpHeaders.view(original::get, () -> {
+        copies.incrementAndGet();
+        return HttpHeaders.builder()
+                .add("Content-Type", "application/json")
+                .add("Set-Cookie", Arrays.asList("a=1", "b=2"))
+                .build();
+    });
+
+    HttpHeadersViewTest() {
+        original.put("Content-Type", singletonList("application/json"));
+        original.put("Set-Cookie", new ArrayList<>(Arrays.asList("a=1", "b=2")));
+        original.put("Empty", emptyList());
+    }
+
+    @Test
+    void shouldLookUpHeadersWithoutCopying() {
+        assertThat(unit.getFirst("content-type")).isEqualTo("application/json");
+        assertThat(unit.get("SET-COOKIE")).containsExactly("a=1", "b=2");
+        assertThat(unit.containsKey("Set-Cookie")).isTrue();
+        assertThat(unit.containsKey("Empty")).isFalse();
+        assertThat(unit.containsKey("Missing")).isFalse();
+        assertThat(unit.containsKey(1)).isFalse();
+        assertThat(copies).hasValue(0);
+    }
+
+    @Test
+    void shouldNotExposeNativeValues() {
+        assertThatThrownBy(() -> unit.get("Set-Cookie").clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldIterateOverCopy() {
+        assertThat(unit).hasSize(2)
+                .containsEntry("Content-Type", singletonList("application/json"))
+                .containsEntry("Set-Cookie", Arrays.asList("a=1", "b=2"));
+        assertThat(unit.get("content-type")).containsExactly("application/json");
+        assertThat(unit).isEqualTo(HttpHeaders.of(unit));
+        assertThat(copies).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCopyForChangesThatDontChangeAnything() {
+        final HttpHeaders result = unit
+                .update("Content-Type", "application/json")
+                .delete("Authorization", "Empty")
+                .apply("Authorization", previous -> null)
+                .apply(singletonList("Authorization"), (name, previous) -> previous);
+
+        assertThat(result).isSameAs(unit);
+        assertThat(copies).hasValue(0);
+    }
+
+    @Test
+    void shouldCopyOnUpdate() {
+        final HttpHeaders result = unit.update("Content-Type", "text/plain");
+
+        assertThat(result).isNotSameAs(unit)
+                .containsEntry("Content-Type", singletonList("text/plain"))
+                .containsEntry("Set-Cookie", Arrays.asList("a=1", "b=2"));
+        assertThat(unit.getFirst("Content-Type")).isEqualTo("application/json");
+    }
+
+    @Test
+    void shouldCopyOnDelete() {
+        final HttpHeaders result = unit.delete("Set-Cookie");
+
+        assertThat(result).containsOnlyKeys("Content-Type");
+        assertThat(unit).containsKey("Set-Cookie");
+    }
+
+    @Test
+    void shouldReturnViewIfApplyDoesntChangeAnything() {
+        assertThat(unit.apply((name, previous) -> previous)).isSameAs(unit);
+        assertThat(unit.delete(predicate("Set-Cookie"::equals))).containsOnlyKeys("Content-Type");
+        assertThat(copies).hasValue(1);
+    }
+
+    @Test
+    void shouldCopyOnce() {
+        assertThat(HttpHeaders.of(unit)).isSameAs(HttpHeaders.of(unit));
+        assertThat(copies).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCopyHeadersTwice() {
+        final HttpHeaders headers = HttpHeaders.of("Content-Type", "application/json");
+
+        assertThat(HttpHeaders.of(headers)).isSameAs(headers);
+    }
+
+}
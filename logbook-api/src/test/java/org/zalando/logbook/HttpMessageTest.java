@@ -45,6 +45,17 @@ final class HttpMessageTest {
         assertThat(message.getCharset()).isEqualTo(UTF_8);
     }
 
+    @Test
+    void shouldNotBeTruncatedByDefault() throws IOException {
+        final HttpMessage message = Mockito.mock(HttpMessage.class);
+        when(message.getBody()).thenReturn("foo".getBytes(UTF_8));
+        when(message.isBodyTruncated()).thenCallRealMethod();
+        when(message.getOriginalBodyLength()).thenCallRealMethod();
+
+        assertThat(message.isBodyTruncated()).isFalse();
+        assertThat(message.getOriginalBodyLength()).isEqualTo(3);
+    }
+
     @Test
     void shouldReturnDefaultProtocolVersion() {
         final HttpMessage message = Mockito.mock(HttpMessage.class);
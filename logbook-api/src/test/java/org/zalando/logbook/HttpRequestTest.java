@@ -15,4 +15,10 @@ final class HttpRequestTest {
         assertThat(httpRequest.getAttributes()).isEqualTo(HttpAttributes.EMPTY);
     }
 
+    @Test
+    void shouldIgnoreBodyLimitByDefault() {
+        final HttpRequest httpRequest = mock(HttpRequest.class, CALLS_REAL_METHODS);
+        assertThat(httpRequest.withBodyLimit(1024)).isSameAs(httpRequest);
+    }
+
 }
@@ -3,6 +3,7 @@ package org.zalando.logbook;
 import org.junit.jupiter.api.Test;
 import org.zalando.logbook.attributes.HttpAttributes;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -13,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HttpResponseTest {
@@ -62,6 +64,20 @@ public class HttpResponseTest {
         assertThat(list).isEmpty();
     }
 
+    @Test
+    void shouldRecordBodyUnconditionallyByDefault() throws IOException {
+        when(response.withBody()).thenReturn(response);
+
+        assertThat(response.withBodyIf(candidate -> false, 0)).isSameAs(response);
+
+        verify(response).withBody();
+    }
+
+    @Test
+    void shouldIgnoreBodyLimitByDefault() {
+        assertThat(response.withBodyLimit(1024)).isSameAs(response);
+    }
+
     @Test
     void httpResponseShouldReturnEmptyAttributesByDefault() {
         assertThat(response.getAttributes()).isEqualTo(HttpAttributes.EMPTY);
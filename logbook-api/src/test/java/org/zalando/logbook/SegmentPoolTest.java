@@ -0,0 +1,38 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.zalando.logbook.SegmentPool.SEGMENT_SIZE;
+
+final class SegmentPoolTest {
+
+    private final SegmentPool unit = new SegmentPool(1, 1);
+
+    @Test
+    void shouldAllocateIfEmpty() {
+        assertThat(unit.acquire()).hasSize(SEGMENT_SIZE);
+    }
+
+    @Test
+    void shouldReuseReleasedSegments() {
+        final byte[] segment = unit.acquire();
+
+        unit.release(segment);
+
+        assertThat(unit.acquire()).isSameAs(segment);
+    }
+
+    @Test
+    void shouldRetainSegmentsUpToCapacity() {
+        final byte[] first = unit.acquire();
+        final byte[] second = unit.acquire();
+
+        unit.release(first);
+        unit.release(second);
+
+        assertThat(unit.acquire()).isSameAs(first);
+        assertThat(unit.acquire()).isNotSameAs(second);
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+final class StreamingHttpLogFormatterTest {
+
+    private final Precorrelation precorrelation = mock(Precorrelation.class);
+    private final HttpRequest request = mock(HttpRequest.class);
+    private final Correlation correlation = mock(Correlation.class);
+    private final HttpResponse response = mock(HttpResponse.class);
+
+    private final StreamingHttpLogFormatter unit = mock(StreamingHttpLogFormatter.class, CALLS_REAL_METHODS);
+
+    @Test
+    void shouldFormatRequestAsString() throws IOException {
+        doAnswer(invocation -> invocation.<Appendable>getArgument(2).append("request"))
+                .when(unit).format(eq(precorrelation), eq(request), any(Appendable.class));
+
+        assertThat(unit.format(precorrelation, request)).isEqualTo("request");
+    }
+
+    @Test
+    void shouldFormatResponseAsString() throws IOException {
+        doAnswer(invocation -> invocation.<Appendable>getArgument(2).append("response"))
+                .when(unit).format(eq(correlation), eq(response), any(Appendable.class));
+
+        assertThat(unit.format(correlation, response)).isEqualTo("response");
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.zalando.logbook.StreamingHttpLogWriter.Content;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+final class StreamingHttpLogWriterTest {
+
+    private final Precorrelation precorrelation = mock(Precorrelation.class);
+    private final Correlation correlation = mock(Correlation.class);
+
+    private final StreamingHttpLogWriter unit = mock(StreamingHttpLogWriter.class, CALLS_REAL_METHODS);
+
+    @Test
+    void shouldWriteRequestStringAsContent() throws IOException {
+        unit.write(precorrelation, "request");
+
+        final ArgumentCaptor<Content> captor = ArgumentCaptor.forClass(Content.class);
+        verify(unit).write(eq(precorrelation), captor.capture());
+
+        assertThat(render(captor.getValue())).isEqualTo("request");
+    }
+
+    @Test
+    void shouldWriteResponseStringAsContent() throws IOException {
+        unit.write(correlation, "response");
+
+        final ArgumentCaptor<Content> captor = ArgumentCaptor.forClass(Content.class);
+        verify(unit).write(eq(correlation), captor.capture());
+
+        assertThat(render(captor.getValue())).isEqualTo("response");
+    }
+
+    private static String render(final Content content) throws IOException {
+        final StringBuilder output = new StringBuilder();
+        content.writeTo(output);
+        return output.toString();
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+final class Utf8HttpLogFormatterTest {
+
+    private final Precorrelation precorrelation = mock(Precorrelation.class);
+    private final HttpRequest request = mock(HttpRequest.class);
+    private final Correlation correlation = mock(Correlation.class);
+    private final HttpResponse response = mock(HttpResponse.class);
+
+    private final Utf8HttpLogFormatter unit = mock(Utf8HttpLogFormatter.class, CALLS_REAL_METHODS);
+
+    @Test
+    void shouldFormatRequestAsString() throws IOException {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write("Grüße".getBytes(UTF_8));
+            return null;
+        }).when(unit).format(eq(precorrelation), eq(request), any(OutputStream.class));
+
+        assertThat(unit.format(precorrelation, request)).isEqualTo("Grüße");
+    }
+
+    @Test
+    void shouldFormatResponseAsString() throws IOException {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write("response".getBytes(UTF_8));
+            return null;
+        }).when(unit).format(eq(correlation), eq(response), any(OutputStream.class));
+
+        assertThat(unit.format(correlation, response)).isEqualTo("response");
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.zalando.logbook;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.zalando.logbook.Utf8HttpLogWriter.Content;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+final class Utf8HttpLogWriterTest {
+
+    private final Precorrelation precorrelation = mock(Precorrelation.class);
+    private final Correlation correlation = mock(Correlation.class);
+
+    private final Utf8HttpLogWriter unit = mock(Utf8HttpLogWriter.class, CALLS_REAL_METHODS);
+
+    @Test
+    void shouldWriteRequestStringAsContent() throws IOException {
+        unit.write(precorrelation, "Grüße");
+
+        final ArgumentCaptor<Content> captor = ArgumentCaptor.forClass(Content.class);
+        verify(unit).write(eq(precorrelation), captor.capture());
+
+        assertThat(render(captor.getValue())).isEqualTo("Grüße".getBytes(UTF_8));
+    }
+
+    @Test
+    void shouldWriteResponseStringAsContent() throws IOException {
+        unit.write(correlation, "response");
+
+        final ArgumentCaptor<Content> captor = ArgumentCaptor.forClass(Content.class);
+        verify(unit).write(eq(correlation), captor.capture());
+
+        assertThat(render(captor.getValue())).isEqualTo("response".getBytes(UTF_8));
+    }
+
+    private static byte[] render(final Content content) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        content.writeTo(output);
+        return output.toByteArray();
+    }
+
+}
@@ -1,31 +1,169 @@
 package org.zalando.logbook.common;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
+/**
+ * Ant-style path patterns: {@code ?} matches any single character, {@code *} any number of characters except
+ * {@code /}, {@code **} any number of characters and a trailing {@code /**} the path itself or anything below it.
+ * <p>
+ * Patterns are compiled into a sequence of literal segments, separated by wildcards, which are matched against the
+ * path in place, i.e. without allocating. Exact matches, prefixes ({@code /api/**}) and suffixes ({@code **.json}),
+ * which make up most patterns in practice, are plain string comparisons.
+ */
 public final class Glob {
 
-    private static final Pattern GLOB = Pattern.compile("\\?|(/\\*{2}$)|\\*{2}|(/\\*$)|\\*");
-
-    private static final Map<String, String> REPLACEMENTS = Map.of(
-        "?", ".",
-        "/**", "(/.*)?$",
-        "**", ".*?",
-        "/*", "/[^/]*$"
-    );
+    private static final String TAIL = "/**";
 
     private Glob() {
 
     }
 
     public static Predicate<String> compile(final String glob) {
-        return PatternLike.compile(GLOB, glob, Glob::translate);
+        final boolean tail = glob.endsWith(TAIL);
+        final String body = tail ? glob.substring(0, glob.length() - TAIL.length()) : glob;
+
+        if (isLiteral(body)) {
+            return tail ? prefix(body) : glob::equals;
+        }
+
+        if (!tail && body.startsWith("**")) {
+            final String suffix = body.substring(2);
+
+            if (suffix.isEmpty()) {
+                return path -> true;
+            } else if (isLiteral(suffix)) {
+                return path -> path.endsWith(suffix);
+            }
+        }
+
+        return new Matcher(body, tail);
+    }
+
+    private static boolean isLiteral(final String glob) {
+        return glob.indexOf('*') == -1 && glob.indexOf('?') == -1;
     }
 
-    private static String translate(final String match) {
-        return REPLACEMENTS.getOrDefault(match, "[^/]*?");
+    /**
+     * @param prefix the path
+     * @return a predicate that matches the path itself or anything below it
+     */
+    private static Predicate<String> prefix(final String prefix) {
+        return path -> path.startsWith(prefix) &&
+                (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
     }
 
+    private static final class Matcher implements Predicate<String> {
+
+        /**
+         * Literal segments, in which {@code ?} matches any character, one more than there are wildcards.
+         */
+        private final String[] segments;
+
+        /**
+         * Whether the wildcard before the segment of the same index plus one is {@code **}, rather than {@code *}.
+         */
+        private final boolean[] deep;
+
+        /**
+         * Whether the pattern ends with {@code /**}.
+         */
+        private final boolean tail;
+
+        private Matcher(final String glob, final boolean tail) {
+            final List<String> segments = new ArrayList<>();
+            final List<Boolean> deep = new ArrayList<>();
+            int start = 0;
+
+            for (int index = glob.indexOf('*'); index != -1; index = glob.indexOf('*', start)) {
+                segments.add(glob.substring(start, index));
+                start = index;
+
+                while (start < glob.length() && glob.charAt(start) == '*') {
+                    start++;
+                }
+
+                deep.add(start - index > 1);
+            }
+
+            segments.add(glob.substring(start));
+
+            this.segments = segments.toArray(new String[0]);
+            this.deep = new boolean[deep.size()];
+            this.tail = tail;
+
+            for (int index = 0; index < this.deep.length; index++) {
+                this.deep[index] = deep.get(index);
+            }
+        }
+
+        @Override
+        public boolean test(final String path) {
+            return matches(segments[0], path, 0) && test(path, 1, segments[0].length());
+        }
+
+        /**
+         * @param path     the path
+         * @param segment  the index of the next segment, preceded by a wildcard
+         * @param position the position in the path up to which it was matched
+         * @return whether the rest of the path matches the rest of the pattern
+         */
+        private boolean test(final String path, final int segment, final int position) {
+            if (segment == segments.length) {
+                return isEnd(path, position);
+            }
+
+            final String literal = segments[segment];
+            final boolean deep = this.deep[segment - 1];
+
+            if (segment == segments.length - 1 && !tail) {
+                // the last segment is a suffix, no need to search for it
+                final int start = path.length() - literal.length();
+                return start >= position
+                        && (deep || isSegment(path, position, start))
+                        && matches(literal, path, start);
+            }
+
+            for (int start = position; start + literal.length() <= path.length(); start++) {
+                if (matches(literal, path, start) && test(path, segment + 1, start + literal.length())) {
+                    return true;
+                }
+
+                if (!deep && path.charAt(start) == '/') {
+                    // a single * never spans multiple segments of a path
+                    break;
+                }
+            }
+
+            return false;
+        }
+
+        private boolean isEnd(final String path, final int position) {
+            return position == path.length() || (tail && path.charAt(position) == '/');
+        }
+
+        private static boolean isSegment(final String path, final int start, final int end) {
+            final int slash = path.indexOf('/', start);
+            return slash == -1 || slash >= end;
+        }
+
+        private static boolean matches(final String literal, final String path, final int offset) {
+            if (offset + literal.length() > path.length()) {
+                return false;
+            }
+
+            for (int index = 0; index < literal.length(); index++) {
+                final char expected = literal.charAt(index);
+
+                if (expected != '?' && expected != path.charAt(offset + index)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
 
 }
@@ -2,12 +2,14 @@ package org.zalando.logbook.common;
 
 import java.util.Arrays;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
+/**
+ * Media type queries, e.g. {@code application/json}, {@code text/*} or {@code application/*+json}. Both type and
+ * subtype of a query may contain {@code *}, which matches any number of characters. They are compared to the type and
+ * subtype of a media type in place, case-insensitively, ignoring its parameters.
+ */
 public final class MediaTypeQuery {
 
-    private static final Pattern WILDCARD = Pattern.compile("\\*");
-
     private MediaTypeQuery() {
 
     }
@@ -23,17 +25,92 @@ public final class MediaTypeQuery {
         final int semicolon = query.indexOf(';');
         final int end = semicolon == -1 ? query.length() : semicolon;
 
-        final String type = query.substring(0, slash).trim();
-        final String subType = query.substring(slash + 1, end).trim();
-
-        final String first = PatternLike.toPattern(WILDCARD, type, ".*?");
-        final String second = PatternLike.toPattern(WILDCARD, subType, ".*?");
+        final Part type = Part.of(query.substring(0, slash).trim());
+        final Part subtype = Part.of(query.substring(slash + 1, end).trim());
 
         // TODO support real matching on parameters
-        final Pattern pattern = Pattern.compile(first + '/' + second + "(;.*)?");
+        return mediaType -> {
+            if (mediaType == null) {
+                return false;
+            }
+
+            final int separator = mediaType.indexOf('/');
+
+            if (separator == -1) {
+                return false;
+            }
+
+            return type.matches(mediaType, 0, separator) &&
+                    subtype.matches(mediaType, separator + 1, endOf(mediaType, separator));
+        };
+    }
+
+    /**
+     * @return the end of the subtype, i.e. the start of the parameters, if any, without trailing whitespace
+     */
+    private static int endOf(final String mediaType, final int separator) {
+        final int semicolon = mediaType.indexOf(';', separator);
+        int end = semicolon == -1 ? mediaType.length() : semicolon;
+
+        while (end > separator + 1 && mediaType.charAt(end - 1) == ' ') {
+            end--;
+        }
 
-        return input -> input != null && pattern.matcher(input).matches();
+        return end;
     }
 
+    private interface Part {
+
+        boolean matches(String input, int start, int end);
+
+        static Part of(final String pattern) {
+            if (pattern.equals("*")) {
+                return (input, start, end) -> true;
+            } else if (pattern.indexOf('*') == -1) {
+                return (input, start, end) -> end - start == pattern.length() &&
+                        pattern.regionMatches(true, 0, input, start, pattern.length());
+            } else {
+                return (input, start, end) -> MediaTypeQuery.matches(pattern, input, start, end);
+            }
+        }
+
+    }
+
+    /**
+     * Matches the given region against a pattern, in which {@code *} matches any number of characters, by matching
+     * every literal part at its first occurrence. If that fails, it backtracks to the last {@code *} and retries one
+     * character later.
+     */
+    private static boolean matches(final String pattern, final String input, final int start, final int end) {
+        int p = 0;
+        int i = start;
+        int star = -1;
+        int resume = start;
+
+        while (i < end) {
+            if (p < pattern.length() && pattern.charAt(p) == '*') {
+                star = p++;
+                resume = i;
+            } else if (p < pattern.length() && equalsIgnoreCase(pattern.charAt(p), input.charAt(i))) {
+                p++;
+                i++;
+            } else if (star != -1) {
+                p = star + 1;
+                i = ++resume;
+            } else {
+                return false;
+            }
+        }
+
+        while (p < pattern.length() && pattern.charAt(p) == '*') {
+            p++;
+        }
+
+        return p == pattern.length();
+    }
+
+    private static boolean equalsIgnoreCase(final char left, final char right) {
+        return left == right || Character.toLowerCase(left) == Character.toLowerCase(right);
+    }
 
 }
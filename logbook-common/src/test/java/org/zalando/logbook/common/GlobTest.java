@@ -81,6 +81,17 @@ final class GlobTest {
 
                 Arguments.of("/foo/bar/**", "/foo/bar"),
 
+                // test prefixes and suffixes
+                Arguments.of("**.json", "/a/b.json"),
+                Arguments.of("**.js?n", "/a/b.json"),
+                Arguments.of("/?/**", "/a"),
+                Arguments.of("/?/**", "/a/b/c"),
+                Arguments.of("/*/**", "/a"),
+                Arguments.of("*/**", "a/b"),
+                Arguments.of("/**/*.json", "/a/b.json"),
+                Arguments.of("/a/*b/c", "/a/bbb/c"),
+                Arguments.of("/a/*b*/c", "/a/bbb/c"),
+
                 Arguments.of("", "")
         );
     }
@@ -123,7 +134,17 @@ final class GlobTest {
                 Arguments.of("/**/*bla", "/bla/bla/bla/bbb"),
                 Arguments.of("*bla*/**/bla/*", "XXXblaXXXX/testing/testing/bla/testing/testing"),
 
-                Arguments.of("/x/x/**/bla", "/x/x/x/")
+                Arguments.of("/x/x/**/bla", "/x/x/x/"),
+
+                // test prefixes and suffixes
+                Arguments.of("**.json", "/a/b.xml"),
+                Arguments.of("**.js?n", "/a/b.xml"),
+                Arguments.of("/?/**", "/ab"),
+                Arguments.of("/?/**", "/"),
+                Arguments.of("/*/**", "a"),
+                Arguments.of("/a/*b/c", "/a/b/b/c"),
+                Arguments.of("/a/*b*/c", "/a/b/b/c"),
+                Arguments.of("/a/*b/c", "/a/c/d")
         );
     }
 
@@ -23,6 +23,37 @@ final class MediaTypeQueryTest {
         allow("text/plain;charset=UTF-8", "text/plain"); // TODO should deny
     }
 
+    @Test
+    void shouldMatchWildcards() {
+        deny("*/*", "text");
+        deny("application/*+json", "application/json");
+        deny("application/*+json", "application/json+xml");
+        deny("application/vnd.*+json", "application/vnd+json");
+        deny("application/*.*", "application/json");
+        allow("application/*+json", "application/problem+json");
+        allow("application/*+json", "application/a+b+json");
+        allow("application/vnd.*", "application/vnd.api+json");
+        allow("application/vnd.*", "application/vnd.");
+        allow("application/vnd.*+json", "application/vnd.api+json;charset=UTF-8");
+        allow("application/**", "application/json");
+        allow("*/xml", "text/xml");
+    }
+
+    @Test
+    void shouldMatchCaseInsensitively() {
+        allow("text/plain", "Text/Plain");
+        allow("application/*+json", "application/Problem+JSON");
+        deny("text/plain", "text/html");
+        deny("text/plain", "text/plaid");
+    }
+
+    @Test
+    void shouldIgnoreWhitespaceBeforeParameters() {
+        allow("text/plain", "text/plain ; charset=UTF-8");
+        deny("text/plain", "text/ ;charset=UTF-8");
+        allow("text/*", "text/");
+    }
+
     private void allow(final String pattern, @Nullable final String mediaType) {
         assertThat(compile(pattern).test(mediaType))
                 .as("Media type query %s match media type %s", pattern, mediaType)
@@ -0,0 +1,262 @@
+package org.zalando.logbook.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+import org.zalando.fauxpas.ThrowingConsumer;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A {@link Sink} that moves formatting and writing off the calling thread. Requests and responses are copied into
+ * immutable snapshots and handed over to a bounded queue which is drained by a fixed number of worker threads.
+ * <p>
+ * Messages are distributed across workers by their correlation id, i.e. a request is always written before its
+ * response, but there is no ordering guarantee across different correlations. If a queue is full, the configured
+ * {@link OverflowPolicy} applies and {@link #getDropped() dropped} messages are counted.
+ * <p>
+ * Pending messages are written when this sink is {@link #close() closed}. Messages that arrive afterwards are written
+ * synchronously, but only once the pending messages of their worker were written, i.e. the order per correlation is
+ * kept while closing. Unless configured otherwise, {@link OverflowPolicy#BLOCK} waits up to 100 milliseconds for free
+ * capacity, the same as the default of the Spring Boot property {@code logbook.write.async.block-timeout}.
+ */
+@API(status = EXPERIMENTAL)
+@Slf4j
+public final class AsyncSink implements Sink, AutoCloseable {
+
+    public enum OverflowPolicy {
+
+        /**
+         * Discards the message that could not be queued.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Discards the oldest queued message to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Blocks the calling thread up to the configured timeout and discards the message afterwards.
+         */
+        BLOCK
+
+    }
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    // the same as the default of logbook.write.async.block-timeout
+    private static final Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofMillis(100);
+
+    private final Sink delegate;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+    private final List<BlockingQueue<ThrowingConsumer<Sink, IOException>>> queues;
+    private final List<Thread> workers;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean closed;
+
+    public AsyncSink(final Sink delegate) {
+        this(delegate, 1, 1024, OverflowPolicy.DROP_NEWEST, DEFAULT_BLOCK_TIMEOUT);
+    }
+
+    public AsyncSink(final Sink delegate, final int workers, final int queueCapacity,
+            final OverflowPolicy overflowPolicy, final Duration blockTimeout) {
+
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers is expected to be greater than zero");
+        }
+
+        if (queueCapacity < workers) {
+            throw new IllegalArgumentException("queueCapacity is expected to be at least the number of workers");
+        }
+
+        this.delegate = delegate;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.queues = new ArrayList<>(workers);
+        this.workers = new ArrayList<>(workers);
+
+        for (int index = 0; index < workers; index++) {
+            final BlockingQueue<ThrowingConsumer<Sink, IOException>> queue =
+                    new ArrayBlockingQueue<>(queueCapacity / workers);
+            final Thread worker = new Thread(() -> drain(queue), "logbook-async-sink-" + index);
+            worker.setDaemon(true);
+            queues.add(queue);
+            this.workers.add(worker);
+        }
+
+        this.workers.forEach(Thread::start);
+    }
+
+    @API(status = EXPERIMENTAL)
+    public static final class Builder {
+
+    }
+
+    @SuppressWarnings("unused")
+    @lombok.Builder(builderClassName = "Builder")
+    private static AsyncSink create(
+            final Sink delegate,
+            @Nullable final Integer workers,
+            @Nullable final Integer queueCapacity,
+            @Nullable final OverflowPolicy overflowPolicy,
+            @Nullable final Duration blockTimeout) {
+
+        return new AsyncSink(
+                delegate,
+                Optional.ofNullable(workers).orElse(1),
+                Optional.ofNullable(queueCapacity).orElse(1024),
+                Optional.ofNullable(overflowPolicy).orElse(OverflowPolicy.DROP_NEWEST),
+                Optional.ofNullable(blockTimeout).orElse(DEFAULT_BLOCK_TIMEOUT));
+    }
+
+    /**
+     * @return the number of messages that were discarded due to a full queue
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public boolean isActive() {
+        return delegate.isActive();
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
+        final HttpRequest snapshot = SnapshotHttpRequest.of(request);
+        submit(precorrelation.getId(), sink -> sink.write(precorrelation, snapshot));
+    }
+
+    @Override
+    public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response)
+            throws IOException {
+        final HttpRequest requestSnapshot = SnapshotHttpRequest.of(request);
+        final HttpResponse responseSnapshot = SnapshotHttpResponse.of(response);
+        submit(correlation.getId(), sink -> sink.write(correlation, requestSnapshot, responseSnapshot));
+    }
+
+    @Override
+    public void writeBoth(final Correlation correlation, final HttpRequest request, final HttpResponse response)
+            throws IOException {
+        final HttpRequest requestSnapshot = SnapshotHttpRequest.of(request);
+        final HttpResponse responseSnapshot = SnapshotHttpResponse.of(response);
+        submit(correlation.getId(), sink -> sink.writeBoth(correlation, requestSnapshot, responseSnapshot));
+    }
+
+    private void submit(final String id, final ThrowingConsumer<Sink, IOException> task) throws IOException {
+        final int index = Math.floorMod(id.hashCode(), queues.size());
+
+        if (closed) {
+            writeAfterClose(index, task);
+            return;
+        }
+
+        final BlockingQueue<ThrowingConsumer<Sink, IOException>> queue = queues.get(index);
+
+        if (!offer(queue, task)) {
+            dropped.increment();
+        } else if (closed && queue.remove(task)) {
+            // closed concurrently and the workers might be gone already, nobody else is going to pick it up
+            writeAfterClose(index, task);
+        }
+    }
+
+    private void writeAfterClose(final int index, final ThrowingConsumer<Sink, IOException> task)
+            throws IOException {
+
+        // the worker might still be writing earlier messages of the same correlation
+        final Thread worker = workers.get(index);
+
+        if (worker != Thread.currentThread()) {
+            try {
+                worker.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        task.tryAccept(delegate);
+    }
+
+    private boolean offer(final BlockingQueue<ThrowingConsumer<Sink, IOException>> queue,
+            final ThrowingConsumer<Sink, IOException> task) {
+
+        return switch (overflowPolicy) {
+            case DROP_NEWEST -> queue.offer(task);
+            case DROP_OLDEST -> offerDroppingOldest(queue, task);
+            case BLOCK -> offerBlocking(queue, task);
+        };
+    }
+
+    private boolean offerDroppingOldest(final BlockingQueue<ThrowingConsumer<Sink, IOException>> queue,
+            final ThrowingConsumer<Sink, IOException> task) {
+
+        while (!queue.offer(task)) {
+            // a worker might have taken the head in the meantime, so only count what was actually removed
+            dropped.add(queue.drainTo(new ArrayList<>(1), 1));
+        }
+        return true;
+    }
+
+    private boolean offerBlocking(final BlockingQueue<ThrowingConsumer<Sink, IOException>> queue,
+            final ThrowingConsumer<Sink, IOException> task) {
+
+        try {
+            return queue.offer(task, blockTimeout.toMillis(), MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain(final BlockingQueue<ThrowingConsumer<Sink, IOException>> queue) {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                @Nullable final ThrowingConsumer<Sink, IOException> task =
+                        queue.poll(POLL_INTERVAL_MILLIS, MILLISECONDS);
+
+                if (task != null) {
+                    task.tryAccept(delegate);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Exception e) {
+                log.warn("Unable to write asynchronously. Will skip the message.", e);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting new messages into the queues and blocks until all pending messages have been written.
+     *
+     * @throws InterruptedException if interrupted while waiting for workers to finish
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+}
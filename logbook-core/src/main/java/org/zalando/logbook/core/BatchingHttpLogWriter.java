@@ -0,0 +1,211 @@
+package org.zalando.logbook.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.StreamingHttpLogWriter;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * An {@link HttpLogWriter} that collects formatted messages and passes them on to another writer in batches,
+ * separated by line breaks. A batch is written as soon as it reaches {@code maxRecords} messages or
+ * {@code maxSize} characters, whichever comes first. If {@code maxDelay} is positive, pending messages are also
+ * written periodically, so that low traffic doesn't hold them back indefinitely.
+ * <p>
+ * The batch is passed to {@link HttpLogWriter#write(Precorrelation, String)} as a single message, together with the
+ * precorrelation of its first message. The delegate is therefore expected to be stream-like, e.g. a
+ * {@link StreamHttpLogWriter} or a {@link FileChannelHttpLogWriter}. Writers that turn every message into a log event,
+ * like the {@link DefaultHttpLogWriter}, would log a whole batch as one event.
+ * <p>
+ * Pending messages are written when this writer is {@link #close() closed}, messages that arrive afterwards are
+ * written right away. Messages of a
+ * {@link org.zalando.logbook.StreamingHttpLogFormatter} are formatted into a buffer that is reused by the same thread,
+ * and only appended to the batch once they are complete.
+ */
+@API(status = EXPERIMENTAL)
+@Slf4j
+public final class BatchingHttpLogWriter implements StreamingHttpLogWriter, AutoCloseable {
+
+    private static final String SEPARATOR = System.lineSeparator();
+
+    private final HttpLogWriter delegate;
+    private final int maxRecords;
+    private final int maxSize;
+
+    @Nullable
+    private final ScheduledExecutorService scheduler;
+
+    private final MessageBuffers messages = new MessageBuffers();
+    private final Object flushLock = new Object();
+    private final StringBuilder buffer;
+    private int records;
+    private boolean closed;
+
+    @Nullable
+    private Precorrelation first;
+
+    public BatchingHttpLogWriter(final HttpLogWriter delegate, final int maxRecords, final int maxSize,
+            final Duration maxDelay) {
+
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("maxRecords is expected to be greater than zero");
+        }
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize is expected to be greater than zero");
+        }
+
+        this.delegate = delegate;
+        this.maxRecords = maxRecords;
+        this.maxSize = maxSize;
+        this.buffer = new StringBuilder(maxSize);
+
+        if (maxDelay.isZero() || maxDelay.isNegative()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "logbook-batching-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long delay = maxDelay.toMillis();
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, delay, delay, MILLISECONDS);
+        }
+    }
+
+    @API(status = EXPERIMENTAL)
+    public static final class Builder {
+
+    }
+
+    @SuppressWarnings("unused")
+    @lombok.Builder(builderClassName = "Builder")
+    private static BatchingHttpLogWriter create(
+            final HttpLogWriter delegate,
+            @Nullable final Integer maxRecords,
+            @Nullable final Integer maxSize,
+            @Nullable final Duration maxDelay) {
+
+        return new BatchingHttpLogWriter(
+                delegate,
+                Optional.ofNullable(maxRecords).orElse(64),
+                Optional.ofNullable(maxSize).orElse(64 * 1024),
+                Optional.ofNullable(maxDelay).orElse(Duration.ofMillis(100)));
+    }
+
+    @Override
+    public boolean isActive() {
+        return delegate.isActive();
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final Content request) throws IOException {
+        append(precorrelation, request);
+    }
+
+    @Override
+    public void write(final Correlation correlation, final Content response) throws IOException {
+        append(correlation, response);
+    }
+
+    private void append(final Precorrelation precorrelation, final Content content) throws IOException {
+        final StringBuilder message = messages.get();
+        final boolean full;
+
+        try {
+            content.writeTo(message);
+
+            synchronized (buffer) {
+                if (records > 0) {
+                    buffer.append(SEPARATOR);
+                }
+
+                buffer.append(message);
+
+                if (records == 0) {
+                    first = precorrelation;
+                }
+
+                records++;
+                full = closed || records >= maxRecords || buffer.length() >= maxSize;
+            }
+        } finally {
+            messages.recycle(message);
+        }
+
+        if (full) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all pending messages as one batch, if there are any.
+     *
+     * @throws IOException if the underlying writer fails
+     */
+    public void flush() throws IOException {
+        // serializes flushes, so that batches are written in the order they were collected
+        synchronized (flushLock) {
+            final String batch;
+            final Precorrelation precorrelation;
+
+            synchronized (buffer) {
+                if (records == 0) {
+                    return;
+                }
+
+                batch = buffer.toString();
+                precorrelation = first;
+
+                buffer.setLength(0);
+                records = 0;
+                first = null;
+
+                if (buffer.capacity() - maxSize > maxSize) {
+                    // batches that grew far beyond maxSize, e.g. due to a single large message, are not kept around
+                    buffer.trimToSize();
+                    buffer.ensureCapacity(maxSize);
+                }
+            }
+
+            delegate.write(precorrelation, batch);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (final Exception e) {
+            log.warn("Unable to write batch of messages.", e);
+        }
+    }
+
+    /**
+     * Stops the periodic flushing and writes all pending messages. Messages that are written afterwards are passed on
+     * to the delegate right away.
+     *
+     * @throws IOException if the underlying writer fails
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (buffer) {
+            closed = true;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+}
@@ -3,11 +3,9 @@ package org.zalando.logbook.core;
 import org.apiguardian.api.API;
 import org.zalando.logbook.BodyFilter;
 import org.zalando.logbook.QueryFilter;
-import org.zalando.logbook.common.MediaTypeQuery;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
@@ -46,17 +44,15 @@ public final class BodyFilters {
      */
     @API(status = EXPERIMENTAL)
     public static BodyFilter replaceFormUrlEncodedProperty(final Set<String> properties, final String replacement) {
-        final Predicate<String> formUrlEncoded = MediaTypeQuery.compile("application/x-www-form-urlencoded");
-
         final QueryFilter delegate =
                 replaceQuery(properties::contains, replacement);
 
-        return (contentType, body) -> formUrlEncoded.test(contentType) ? delegate.filter(body) : body;
+        return new FormUrlEncodedBodyFilter(delegate);
     }
 
     @API(status = EXPERIMENTAL)
     public static BodyFilter truncate(final int maxSize) {
-        return (contentType, body) -> body.length() <= maxSize ? body : body.substring(0, maxSize) + "...";
+        return new TruncatingBodyFilter(maxSize);
     }
 
     @API(status = EXPERIMENTAL)
@@ -13,26 +13,46 @@ import java.io.IOException;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
+/**
+ * Logs all requests and responses, but with bodies only if the status of the response is at least the given one.
+ * Response bodies are {@link HttpResponse#withBodyIf(java.util.function.Predicate, int) only recorded} if that's the
+ * case, i.e. bodies of other responses are at most buffered speculatively, up to the given limit, until their status
+ * is known.
+ */
 @API(status = EXPERIMENTAL)
 @AllArgsConstructor
 public final class BodyOnlyIfStatusAtLeastStrategy implements Strategy {
 
     private final int status;
+    private final int limit;
+
+    public BodyOnlyIfStatusAtLeastStrategy(final int status) {
+        this(status, StatusAtLeastStrategy.DEFAULT_LIMIT);
+    }
 
     @Override
     public void write(final Precorrelation precorrelation, final HttpRequest request, final Sink sink) {
         // defer decision until response is available
     }
 
+    @Override
+    public HttpResponse process(final HttpRequest request, final HttpResponse response) throws IOException {
+        return response.withBodyIf(this::hasBody, limit);
+    }
+
     @Override
     public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response,
                       final Sink sink) throws IOException {
 
-        if (response.getStatus() >= status) {
+        if (hasBody(response)) {
             sink.writeBoth(correlation, request, response);
         } else {
             sink.writeBoth(correlation, request.withoutBody(), response.withoutBody());
         }
     }
 
+    private boolean hasBody(final HttpResponse response) {
+        return response.getStatus() >= status;
+    }
+
 }
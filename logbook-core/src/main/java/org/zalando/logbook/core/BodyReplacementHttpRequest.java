@@ -22,6 +22,11 @@ final class BodyReplacementHttpRequest implements ForwardingHttpRequest {
         return withoutBody();
     }
 
+    @Override
+    public HttpRequest withBodyLimit(final int limit) {
+        return this;
+    }
+
     @Override
     public HttpRequest withoutBody() {
         return new BodyReplacementHttpRequest(request.withoutBody(), replacement);
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import org.zalando.logbook.ForwardingHttpResponse;
 import org.zalando.logbook.HttpResponse;
 
+import java.util.function.Predicate;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 @AllArgsConstructor
@@ -22,6 +24,16 @@ final class BodyReplacementHttpResponse implements ForwardingHttpResponse, HttpR
         return withoutBody();
     }
 
+    @Override
+    public HttpResponse withBodyIf(final Predicate<HttpResponse> condition, final int limit) {
+        return withoutBody();
+    }
+
+    @Override
+    public HttpResponse withBodyLimit(final int limit) {
+        return this;
+    }
+
     @Override
     public HttpResponse withoutBody() {
         return new BodyReplacementHttpResponse(response.withoutBody(), replacement);
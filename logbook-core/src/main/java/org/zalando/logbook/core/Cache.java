@@ -16,4 +16,8 @@ final class Cache<T> {
                 cached == null ? supplier.get() : cached);
     }
 
+    public void invalidate() {
+        cache.set(null);
+    }
+
 }
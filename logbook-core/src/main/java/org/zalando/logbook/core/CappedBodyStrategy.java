@@ -0,0 +1,50 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import org.apiguardian.api.API;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.Strategy;
+
+import java.io.IOException;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Caps the bodies that are captured to the given number of bytes, by {@link HttpRequest#withBodyLimit(int) limiting}
+ * requests and responses before the given {@link Strategy strategy} decides whether to record them. Unlike
+ * {@link BodyFilters#truncate(int)}, bodies aren't copied beyond the limit in the first place.
+ */
+@API(status = EXPERIMENTAL)
+@AllArgsConstructor
+public final class CappedBodyStrategy implements Strategy {
+
+    private final Strategy strategy;
+    private final int limit;
+
+    @Override
+    public HttpRequest process(final HttpRequest request) throws IOException {
+        return strategy.process(request.withBodyLimit(limit));
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final HttpRequest request, final Sink sink)
+            throws IOException {
+        strategy.write(precorrelation, request, sink);
+    }
+
+    @Override
+    public HttpResponse process(final HttpRequest request, final HttpResponse response) throws IOException {
+        return strategy.process(request, response.withBodyLimit(limit));
+    }
+
+    @Override
+    public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response,
+            final Sink sink) throws IOException {
+        strategy.write(correlation, request, response, sink);
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.zalando.logbook.core;
+
+import org.zalando.logbook.HeaderFilter;
+import org.zalando.logbook.HttpHeaders;
+
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Collections.nCopies;
+
+/**
+ * Replaces or removes headers by name. Instead of one filter per rule, each of which walks and potentially copies all
+ * headers, filters of this kind {@link #tryMerge(HeaderFilter) merge} their rules into a single case-insensitive
+ * lookup table, which is applied in a single pass, and only if any of its headers is present at all.
+ */
+final class CompiledHeaderFilter implements HeaderFilter {
+
+    private final Map<String, Rule> rules;
+
+    private CompiledHeaderFilter(final Map<String, Rule> rules) {
+        this.rules = rules;
+    }
+
+    static HeaderFilter replace(final Collection<String> names, final String replacement) {
+        return of(names, new Rule(replacement));
+    }
+
+    static HeaderFilter remove(final Collection<String> names) {
+        return of(names, Rule.REMOVE);
+    }
+
+    private static HeaderFilter of(final Collection<String> names, final Rule rule) {
+        final Map<String, Rule> rules = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+        names.forEach(name -> rules.put(name, rule));
+        return new CompiledHeaderFilter(rules);
+    }
+
+    @Override
+    public HttpHeaders filter(final HttpHeaders headers) {
+        if (!matchesAny(headers)) {
+            return headers;
+        }
+
+        return headers.apply((name, values) -> {
+            @Nullable final Rule rule = rules.get(name);
+            return rule == null ? values : rule.apply(values);
+        });
+    }
+
+    /**
+     * Looks up every name, rather than iterating over all headers, which would copy lazy views of native headers.
+     */
+    private boolean matchesAny(final HttpHeaders headers) {
+        for (final String name : rules.keySet()) {
+            if (headers.containsKey(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public HeaderFilter tryMerge(final HeaderFilter previous) {
+        if (previous instanceof CompiledHeaderFilter) {
+            final Map<String, Rule> rules = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+            rules.putAll(((CompiledHeaderFilter) previous).rules);
+            this.rules.forEach((name, rule) -> rules.merge(name, rule, Rule::then));
+            return new CompiledHeaderFilter(rules);
+        }
+
+        return null;
+    }
+
+    private static final class Rule {
+
+        static final Rule REMOVE = new Rule(null);
+
+        /**
+         * The value that replaces every value of a header, or {@code null} if the header is removed.
+         */
+        @Nullable
+        private final String replacement;
+
+        private Rule(@Nullable final String replacement) {
+            this.replacement = replacement;
+        }
+
+        @Nullable
+        List<String> apply(final List<String> values) {
+            return replacement == null ? null : nCopies(values.size(), replacement);
+        }
+
+        /**
+         * Removed headers stay removed, since replacing ignores missing headers. Otherwise, the latter rule wins.
+         */
+        Rule then(final Rule next) {
+            return replacement == null ? this : next;
+        }
+
+    }
+
+}
@@ -6,10 +6,11 @@ import org.zalando.logbook.HttpLogFormatter;
 import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.StreamingHttpLogFormatter;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
@@ -17,7 +18,7 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
  * Formats requests as cURL commands.
  */
 @API(status = EXPERIMENTAL)
-public final class CurlHttpLogFormatter implements HttpLogFormatter {
+public final class CurlHttpLogFormatter implements StreamingHttpLogFormatter {
 
     private final HttpLogFormatter fallback;
 
@@ -30,47 +31,64 @@ public final class CurlHttpLogFormatter implements HttpLogFormatter {
     }
 
     @Override
-    public String format(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
-        final List<String> command = new ArrayList<>();
+    public void format(final Precorrelation precorrelation, final HttpRequest request, final Appendable output)
+            throws IOException {
 
-        command.add(precorrelation.getId());
-        command.add("curl");
-        command.add("-v"); // TODO optional?
+        output.append(precorrelation.getId());
+        output.append(" curl -v"); // TODO optional?
 
-        command.add("-X");
-        command.add(request.getMethod());
+        output.append(" -X ");
+        output.append(request.getMethod());
 
-        command.add(quote(request.getRequestUri()));
+        output.append(' ');
+        quote(request.getRequestUri(), output);
 
-        request.getHeaders().forEach((header, values) -> {
-            values.forEach(value -> {
-                command.add("-H");
-                command.add(quote(header + ": " + value));
-            });
-        });
+        for (final Map.Entry<String, List<String>> entry : request.getHeaders().entrySet()) {
+            for (final String value : entry.getValue()) {
+                output.append(" -H ");
+                quote(entry.getKey() + ": " + value, output);
+            }
+        }
 
         final String body = request.getBodyAsString();
 
         if (!body.isEmpty()) {
-            command.add("--data-binary");
-            command.add(quote(body));
+            output.append(" --data-binary ");
+            quote(body, output);
         }
+    }
 
-        return String.join(" ", command);
+    private static void quote(final String s, final Appendable output) throws IOException {
+        output.append('\'');
+        escape(s, output);
+        output.append('\'');
     }
 
-    private static String quote(final String s) {
-        return "'" + escape(s) + "'";
+    private static void escape(final String s, final Appendable output) throws IOException {
+        int start = 0;
+        int end;
+        while ((end = s.indexOf('\'', start)) != -1) {
+            output.append(s, start, end);
+            output.append("\\'");
+            start = end + 1;
+        }
+        output.append(s, start, s.length());
     }
 
-    private static String escape(final String s) {
-        return s.replace("'", "\\'");
+    @Override
+    public String format(final Correlation correlation, final HttpResponse response) throws IOException {
+        return fallback.format(correlation, response);
     }
 
     @Override
-    public String format(final Correlation correlation, final HttpResponse response)
+    public void format(final Correlation correlation, final HttpResponse response, final Appendable output)
             throws IOException {
-        return fallback.format(correlation, response);
+
+        if (fallback instanceof StreamingHttpLogFormatter) {
+            ((StreamingHttpLogFormatter) fallback).format(correlation, response, output);
+        } else {
+            output.append(fallback.format(correlation, response));
+        }
     }
 
 }
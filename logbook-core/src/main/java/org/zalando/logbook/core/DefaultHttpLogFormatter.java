@@ -2,14 +2,13 @@ package org.zalando.logbook.core;
 
 import org.apiguardian.api.API;
 import org.zalando.logbook.Correlation;
-import org.zalando.logbook.HttpLogFormatter;
 import org.zalando.logbook.HttpMessage;
 import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Origin;
 import org.zalando.logbook.Precorrelation;
 import org.zalando.logbook.RequestURI;
-import org.zalando.logbook.StructuredHttpLogFormatter;
+import org.zalando.logbook.StreamingHttpLogFormatter;
 
 import java.io.IOException;
 import java.util.List;
@@ -19,132 +18,111 @@ import java.util.Map.Entry;
 import static org.apiguardian.api.API.Status.STABLE;
 
 @API(status = STABLE)
-public final class DefaultHttpLogFormatter implements HttpLogFormatter {
+public final class DefaultHttpLogFormatter implements StreamingHttpLogFormatter {
 
     /**
      * Produces an HTTP-like request in individual lines.
      *
      * @param precorrelation the request correlation
      * @param request        the HTTP request
-     * @return a line-separated HTTP request
-     * @throws IOException if reading body fails
+     * @param output         the output to append the line-separated HTTP request to
+     * @throws IOException if reading body or appending to the output fails
      */
     @Override
-    public String format(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
-        final String correlationId = precorrelation.getId();
-        final String body = request.getBodyAsString();
-
-        final StringBuilder result = new StringBuilder(body.length() + 2048);
-
-        result.append(direction(request));
-        result.append(" Request: ");
-        result.append(correlationId);
-        result.append('\n');
-
-        result.append("Remote: ");
-        result.append(request.getRemote());
-        result.append('\n');
-
-        result.append(request.getMethod());
-        result.append(' ');
-        RequestURI.reconstruct(request, result);
-        result.append(' ');
-        result.append(request.getProtocolVersion());
-        result.append('\n');
-
-        writeHeaders(request.getHeaders(), result);
-
-        request.getAttributes().forEach((key, value) -> {
-            result.append("Request Attribute `");
-            result.append(key);
-            result.append("`: ");
-            result.append(value);
-            result.append('\n');
-        });
-
-        writeBody(body, result);
+    public void format(final Precorrelation precorrelation, final HttpRequest request, final Appendable output)
+            throws IOException {
+
+        output.append(direction(request));
+        output.append(" Request: ");
+        output.append(precorrelation.getId());
+
+        output.append("\nRemote: ");
+        output.append(request.getRemote());
+
+        output.append('\n');
+        output.append(request.getMethod());
+        output.append(' ');
+        output.append(RequestURI.reconstruct(request));
+        output.append(' ');
+        output.append(request.getProtocolVersion());
+
+        writeHeaders(request.getHeaders(), output);
+
+        for (final Entry<String, Object> attribute : request.getAttributes().entrySet()) {
+            output.append("\nRequest Attribute `");
+            output.append(attribute.getKey());
+            output.append("`: ");
+            output.append(String.valueOf(attribute.getValue()));
+        }
 
-        return result.toString();
+        writeBody(request.getBodyAsString(), output);
     }
 
     /**
-     * Produces an HTTP-like request in individual lines.
+     * Produces an HTTP-like response in individual lines.
      *
-     * @param correlation the request correlation
-     * @return a line-separated HTTP request
-     * @throws IOException if reading body fails
-     * @see StructuredHttpLogFormatter#prepare(Precorrelation, HttpRequest)
+     * @param correlation the response correlation
+     * @param response    the HTTP response
+     * @param output      the output to append the line-separated HTTP response to
+     * @throws IOException if reading body or appending to the output fails
      */
     @Override
-    public String format(final Correlation correlation, final HttpResponse response) throws IOException {
-        final String correlationId = correlation.getId();
-        final String body = response.getBodyAsString();
-
-        final StringBuilder result = new StringBuilder(body.length() + 2048);
-
-        result.append(direction(response));
-        result.append(" Response: ");
-        result.append(correlationId);
-        result.append("\nDuration: ");
-        result.append(correlation.getDuration().toMillis());
-        result.append(" ms\n");
-
-        result.append(response.getProtocolVersion());
-        result.append(' ');
-        result.append(response.getStatus());
+    public void format(final Correlation correlation, final HttpResponse response, final Appendable output)
+            throws IOException {
+
+        output.append(direction(response));
+        output.append(" Response: ");
+        output.append(correlation.getId());
+        output.append("\nDuration: ");
+        output.append(String.valueOf(correlation.getDuration().toMillis()));
+        output.append(" ms\n");
+
+        output.append(response.getProtocolVersion());
+        output.append(' ');
+        output.append(String.valueOf(response.getStatus()));
         final String reasonPhrase = response.getReasonPhrase();
         if (reasonPhrase != null) {
-            result.append(' ');
-            result.append(reasonPhrase);
+            output.append(' ');
+            output.append(reasonPhrase);
         }
 
-        result.append('\n');
+        writeHeaders(response.getHeaders(), output);
 
-        writeHeaders(response.getHeaders(), result);
-
-        response.getAttributes().forEach((key, value) -> {
-            result.append("Response Attribute `");
-            result.append(key);
-            result.append("`: ");
-            result.append(value);
-            result.append('\n');
-        });
-
-        writeBody(body, result);
+        for (final Entry<String, Object> attribute : response.getAttributes().entrySet()) {
+            output.append("\nResponse Attribute `");
+            output.append(attribute.getKey());
+            output.append("`: ");
+            output.append(String.valueOf(attribute.getValue()));
+        }
 
-        return result.toString();
+        writeBody(response.getBodyAsString(), output);
     }
 
     private String direction(final HttpMessage request) {
         return request.getOrigin() == Origin.REMOTE ? "Incoming" : "Outgoing";
     }
 
-    private void writeHeaders(final Map<String, List<String>> headers, final StringBuilder output) {
-        if (headers.isEmpty()) {
-            return;
-        }
-
+    private void writeHeaders(final Map<String, List<String>> headers, final Appendable output) throws IOException {
         for (final Entry<String, List<String>> entry : headers.entrySet()) {
+            output.append('\n');
             output.append(entry.getKey());
             output.append(": ");
-            final List<String> headerValues = entry.getValue();
-            if (!headerValues.isEmpty()) {
-                for (final String value : entry.getValue()) {
-                    output.append(value);
+
+            boolean first = true;
+            for (final String value : entry.getValue()) {
+                if (!first) {
                     output.append(", ");
                 }
-                output.setLength(output.length() - 2); // discard last comma
+                output.append(value);
+                first = false;
             }
-            output.append('\n');
         }
     }
 
-    private void writeBody(final String body, final StringBuilder output) {
+    private void writeBody(final String body, final Appendable output) throws IOException {
         if (!body.isEmpty()) {
-            output.append('\n');
+            output.append("\n\n");
             output.append(body);
-        } else {
-            output.setLength(output.length() - 1); // discard last newline
         }
     }
 
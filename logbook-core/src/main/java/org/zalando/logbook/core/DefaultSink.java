@@ -1,6 +1,5 @@
 package org.zalando.logbook.core;
 
-import lombok.AllArgsConstructor;
 import org.zalando.logbook.Correlation;
 import org.zalando.logbook.HttpLogFormatter;
 import org.zalando.logbook.HttpLogWriter;
@@ -8,15 +7,55 @@ import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Precorrelation;
 import org.zalando.logbook.Sink;
+import org.zalando.logbook.StreamingHttpLogFormatter;
+import org.zalando.logbook.StreamingHttpLogWriter;
+import org.zalando.logbook.Utf8HttpLogFormatter;
+import org.zalando.logbook.Utf8HttpLogWriter;
 
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 
-@AllArgsConstructor
+/**
+ * Formats messages with the given {@link HttpLogFormatter} and writes them with the given {@link HttpLogWriter}. If
+ * the formatter is a {@link StreamingHttpLogFormatter} and the writer a {@link StreamingHttpLogWriter}, messages are
+ * formatted directly into the writer's output without producing an intermediate {@link String}. If the formatter is a
+ * {@link Utf8HttpLogFormatter} and the writer a {@link Utf8HttpLogWriter}, messages are encoded directly into the
+ * writer's output instead, which takes precedence.
+ */
 public final class DefaultSink implements Sink {
 
     private final HttpLogFormatter formatter;
     private final HttpLogWriter writer;
 
+    @Nullable
+    private final StreamingHttpLogFormatter streamingFormatter;
+
+    @Nullable
+    private final StreamingHttpLogWriter streamingWriter;
+
+    @Nullable
+    private final Utf8HttpLogFormatter utf8Formatter;
+
+    @Nullable
+    private final Utf8HttpLogWriter utf8Writer;
+
+    public DefaultSink(final HttpLogFormatter formatter, final HttpLogWriter writer) {
+        this.formatter = formatter;
+        this.writer = writer;
+
+        final boolean utf8 = formatter instanceof Utf8HttpLogFormatter
+                && writer instanceof Utf8HttpLogWriter;
+
+        final boolean streaming = !utf8
+                && formatter instanceof StreamingHttpLogFormatter
+                && writer instanceof StreamingHttpLogWriter;
+
+        this.streamingFormatter = streaming ? (StreamingHttpLogFormatter) formatter : null;
+        this.streamingWriter = streaming ? (StreamingHttpLogWriter) writer : null;
+        this.utf8Formatter = utf8 ? (Utf8HttpLogFormatter) formatter : null;
+        this.utf8Writer = utf8 ? (Utf8HttpLogWriter) writer : null;
+    }
+
     @Override
     public boolean isActive() {
         return writer.isActive();
@@ -24,13 +63,29 @@ public final class DefaultSink implements Sink {
 
     @Override
     public void write(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
-        writer.write(precorrelation, formatter.format(precorrelation, request));
+        if (utf8Writer != null) {
+            utf8Writer.write(precorrelation, output ->
+                    utf8Formatter.format(precorrelation, request, output));
+        } else if (streamingWriter != null) {
+            streamingWriter.write(precorrelation, output ->
+                    streamingFormatter.format(precorrelation, request, output));
+        } else {
+            writer.write(precorrelation, formatter.format(precorrelation, request));
+        }
     }
 
     @Override
     public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response)
             throws IOException {
-        writer.write(correlation, formatter.format(correlation, response));
+        if (utf8Writer != null) {
+            utf8Writer.write(correlation, output ->
+                    utf8Formatter.format(correlation, response, output));
+        } else if (streamingWriter != null) {
+            streamingWriter.write(correlation, output ->
+                    streamingFormatter.format(correlation, response, output));
+        } else {
+            writer.write(correlation, formatter.format(correlation, response));
+        }
     }
 
 }
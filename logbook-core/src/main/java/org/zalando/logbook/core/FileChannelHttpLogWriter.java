@@ -0,0 +1,253 @@
+package org.zalando.logbook.core;
+
+import org.apiguardian.api.API;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Utf8HttpLogWriter;
+
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * An {@link HttpLogWriter} that appends UTF-8 encoded, line-separated messages directly to memory-mapped files,
+ * bypassing any logging framework. Files are named {@code <prefix>-<index>.log}, pre-allocated to
+ * {@code segmentSize} bytes and rolled over once full. Existing files are never overwritten.
+ * <p>
+ * Concurrent writers reserve their range within the current segment using an atomic offset and copy their message
+ * without any locking. Only rolling over to the next segment is synchronized. A segment is truncated to its actual
+ * length as soon as all writers that reserved space in it are done. Messages that exceed {@code segmentSize} are
+ * written to a dedicated, larger segment. Segments that end up empty are deleted.
+ * <p>
+ * As a {@link Utf8HttpLogWriter}, it accepts messages that are already UTF-8 encoded, e.g. by a
+ * {@link org.zalando.logbook.Utf8HttpLogFormatter}, which spares encoding an intermediate {@link String}. Those are
+ * encoded into a buffer that is reused by the same thread, before being copied into the segment.
+ */
+@API(status = EXPERIMENTAL)
+public final class FileChannelHttpLogWriter implements Utf8HttpLogWriter, AutoCloseable {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    private final Path directory;
+    private final String prefix;
+    private final int segmentSize;
+
+    private int nextIndex;
+    private volatile Segment current;
+    private boolean closed;
+
+    public FileChannelHttpLogWriter(final Path directory, final String prefix, final int segmentSize)
+            throws IOException {
+
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize is expected to be greater than zero");
+        }
+
+        this.directory = directory;
+        this.prefix = prefix;
+        this.segmentSize = segmentSize;
+        this.current = open(segmentSize);
+    }
+
+    @API(status = EXPERIMENTAL)
+    public static final class Builder {
+
+    }
+
+    @SuppressWarnings("unused")
+    @lombok.Builder(builderClassName = "Builder")
+    private static FileChannelHttpLogWriter create(
+            final Path directory,
+            @Nullable final String prefix,
+            @Nullable final Integer segmentSize) throws IOException {
+
+        return new FileChannelHttpLogWriter(
+                directory,
+                Optional.ofNullable(prefix).orElse("logbook"),
+                Optional.ofNullable(segmentSize).orElse(64 * 1024 * 1024));
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final String request) throws IOException {
+        append(request);
+    }
+
+    @Override
+    public void write(final Correlation correlation, final String response) throws IOException {
+        append(response);
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final Content request) throws IOException {
+        append(request);
+    }
+
+    @Override
+    public void write(final Correlation correlation, final Content response) throws IOException {
+        append(response);
+    }
+
+    private void append(final Content message) throws IOException {
+        final Buffer buffer = buffers.get();
+
+        try {
+            message.writeTo(buffer);
+            append(buffer.bytes(), buffer.size());
+        } finally {
+            buffer.recycle();
+        }
+    }
+
+    private void append(final String message) throws IOException {
+        final byte[] bytes = message.getBytes(UTF_8);
+        append(bytes, bytes.length);
+    }
+
+    private void append(final byte[] bytes, final int length) throws IOException {
+        Segment segment = current;
+        while (!segment.append(bytes, length)) {
+            segment = roll(segment, length + 1);
+        }
+    }
+
+    private synchronized Segment roll(final Segment full, final int length) throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+
+        if (current == full) {
+            current = open(Math.max(segmentSize, length));
+        }
+        return current;
+    }
+
+    private Segment open(final int capacity) throws IOException {
+        while (true) {
+            final Path path = directory.resolve(prefix + "-" + nextIndex++ + ".log");
+
+            try {
+                return new Segment(path, FileChannel.open(path, CREATE_NEW, READ, WRITE), capacity);
+            } catch (final FileAlreadyExistsException e) {
+                // continue with the next index
+            }
+        }
+    }
+
+    /**
+     * Truncates the current segment to its actual length. Writing afterwards fails with an {@link IOException}.
+     *
+     * @throws IOException if the segment can't be truncated
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            current.close();
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+
+        private final AtomicLong position = new AtomicLong();
+        private final AtomicLong committed = new AtomicLong();
+        private final AtomicLong limit = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicBoolean sealed = new AtomicBoolean();
+
+        private Segment(final Path path, final FileChannel channel, final int capacity) throws IOException {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = channel.map(READ_WRITE, 0, capacity);
+            this.capacity = capacity;
+        }
+
+        boolean append(final byte[] bytes, final int count) throws IOException {
+            final int length = count + 1;
+            final long start = position.getAndAdd(length);
+
+            if (start + length > capacity) {
+                // reservations only grow, i.e. the segment ends where the first one that didn't fit starts
+                limit(start);
+                return false;
+            }
+
+            final int offset = (int) start;
+            buffer.put(offset, bytes, 0, count);
+            buffer.put(offset + count, NEWLINE);
+            committed.addAndGet(length);
+            sealIfComplete();
+            return true;
+        }
+
+        void close() throws IOException {
+            // reserves everything that is left, i.e. writers that come after are rejected and never touch the mapping
+            limit(Math.min(position.getAndAdd(capacity + 1L), capacity));
+        }
+
+        void limit(final long end) throws IOException {
+            limit.accumulateAndGet(end, Math::min);
+            sealIfComplete();
+        }
+
+        private void sealIfComplete() throws IOException {
+            final long end = limit.get();
+
+            if (committed.get() == end && sealed.compareAndSet(false, true)) {
+                channel.truncate(end);
+                channel.close();
+
+                if (end == 0) {
+                    Files.delete(path);
+                }
+            }
+        }
+
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        private static final int INITIAL_SIZE = 2048;
+
+        // buffers that grew beyond this for a single large message are not kept around
+        private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+        private Buffer() {
+            super(INITIAL_SIZE);
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+
+        void recycle() {
+            if (buf.length > MAX_RETAINED_SIZE) {
+                buf = new byte[INITIAL_SIZE];
+            }
+            reset();
+        }
+
+    }
+
+}
@@ -1,9 +1,9 @@
 package org.zalando.logbook.core;
 
 import java.io.IOException;
-import lombok.AllArgsConstructor;
 import org.apiguardian.api.API;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 import org.zalando.logbook.ForwardingHttpRequest;
 import org.zalando.logbook.HeaderFilter;
 import org.zalando.logbook.HttpHeaders;
@@ -13,11 +13,10 @@ import org.zalando.logbook.QueryFilter;
 import org.zalando.logbook.RequestURI;
 import org.zalando.logbook.attributes.HttpAttributes;
 
-import static lombok.AccessLevel.PRIVATE;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.zalando.fauxpas.FauxPas.throwingSupplier;
 
 @API(status = INTERNAL)
-@AllArgsConstructor(access = PRIVATE)
 final class FilteredHttpRequest implements ForwardingHttpRequest {
 
     private final HttpRequest request;
@@ -29,6 +28,9 @@ final class FilteredHttpRequest implements ForwardingHttpRequest {
     private final HttpHeaders headers;
     private final HttpAttributes attributes;
 
+    private final Cache<byte[]> body = new Cache<>(throwingSupplier(this::filterBody));
+    private final Cache<String> bodyAsString = new Cache<>(throwingSupplier(this::filterBodyAsString));
+
     FilteredHttpRequest(final HttpRequest request,
                         final QueryFilter queryFilter,
                         final PathFilter pathFilter,
@@ -45,6 +47,20 @@ final class FilteredHttpRequest implements ForwardingHttpRequest {
         this.attributes = request.getAttributes();
     }
 
+    private FilteredHttpRequest(final HttpRequest request,
+                                final String query,
+                                final String path,
+                                final BodyFilter bodyFilter,
+                                final HttpHeaders headers,
+                                final HttpAttributes attributes) {
+        this.request = request;
+        this.query = query;
+        this.path = path;
+        this.bodyFilter = bodyFilter;
+        this.headers = headers;
+        this.attributes = attributes;
+    }
+
     @Override
     public HttpRequest delegate() {
         return request;
@@ -85,17 +101,42 @@ final class FilteredHttpRequest implements ForwardingHttpRequest {
         return withRequest(request.withoutBody(), request.getAttributes());
     }
 
+    @Override
+    public HttpRequest withBodyLimit(final int limit) {
+        return withRequest(request.withBodyLimit(limit), request.getAttributes());
+    }
+
     private FilteredHttpRequest withRequest(final HttpRequest request, final HttpAttributes attributes) {
+        // most requests are stateful, i.e. changing the body of the new one changes this one's, too
+        body.invalidate();
+        bodyAsString.invalidate();
         return new FilteredHttpRequest(request, query, path, bodyFilter, headers, attributes);
     }
 
+    /**
+     * Filters the body only once, no matter how many sinks, formatters and writers ask for it.
+     */
     @Override
-    public byte[] getBody() throws IOException {
-        return getBodyAsString().getBytes(getCharset());
+    public byte[] getBody() {
+        return body.get();
     }
 
     @Override
-    public String getBodyAsString() throws IOException {
+    public String getBodyAsString() {
+        return bodyAsString.get();
+    }
+
+    private byte[] filterBody() throws IOException {
+        if (bodyFilter instanceof ByteBodyFilter) {
+            return ((ByteBodyFilter) bodyFilter).filter(getContentType(), getCharset(), request.getBody());
+        }
+        return getBodyAsString().getBytes(getCharset());
+    }
+
+    private String filterBodyAsString() throws IOException {
+        if (bodyFilter instanceof ByteBodyFilter) {
+            return new String(getBody(), getCharset());
+        }
         return bodyFilter.filter(getContentType(), request.getBodyAsString());
     }
 
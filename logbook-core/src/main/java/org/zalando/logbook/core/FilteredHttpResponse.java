@@ -1,25 +1,35 @@
 package org.zalando.logbook.core;
 
-import lombok.AllArgsConstructor;
 import org.apiguardian.api.API;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 import org.zalando.logbook.ForwardingHttpResponse;
 import org.zalando.logbook.HeaderFilter;
 import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpResponse;
 
 import java.io.IOException;
+import java.util.function.Predicate;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.zalando.fauxpas.FauxPas.throwingSupplier;
 
 @API(status = INTERNAL)
-@AllArgsConstructor
 final class FilteredHttpResponse implements ForwardingHttpResponse {
 
     private final HttpResponse response;
     private final HeaderFilter headerFilter;
     private final BodyFilter bodyFilter;
 
+    private final Cache<byte[]> body = new Cache<>(throwingSupplier(this::filterBody));
+    private final Cache<String> bodyAsString = new Cache<>(throwingSupplier(this::filterBodyAsString));
+
+    FilteredHttpResponse(final HttpResponse response, final HeaderFilter headerFilter, final BodyFilter bodyFilter) {
+        this.response = response;
+        this.headerFilter = headerFilter;
+        this.bodyFilter = bodyFilter;
+    }
+
     @Override
     public HttpResponse delegate() {
         return response;
@@ -40,18 +50,47 @@ final class FilteredHttpResponse implements ForwardingHttpResponse {
         return withResponse(response.withoutBody());
     }
 
+    @Override
+    public HttpResponse withBodyLimit(final int limit) {
+        return withResponse(response.withBodyLimit(limit));
+    }
+
+    @Override
+    public HttpResponse withBodyIf(final Predicate<HttpResponse> condition, final int limit) throws IOException {
+        return withResponse(response.withBodyIf(condition, limit));
+    }
+
     private HttpResponse withResponse(final HttpResponse response) {
+        // most responses are stateful, i.e. changing the body of the new one changes this one's, too
+        body.invalidate();
+        bodyAsString.invalidate();
         return new FilteredHttpResponse(response, headerFilter, bodyFilter);
     }
 
+    /**
+     * Filters the body only once, no matter how many sinks, formatters and writers ask for it.
+     */
     @Override
-    public byte[] getBody() throws IOException {
-        return getBodyAsString().getBytes(getCharset());
+    public byte[] getBody() {
+        return body.get();
     }
 
     @Override
-    public String getBodyAsString() throws IOException {
-        // TODO do this only once?!
+    public String getBodyAsString() {
+        return bodyAsString.get();
+    }
+
+    private byte[] filterBody() throws IOException {
+        if (bodyFilter instanceof ByteBodyFilter) {
+            return ((ByteBodyFilter) bodyFilter).filter(response.getContentType(), getCharset(), response.getBody());
+        }
+        return getBodyAsString().getBytes(getCharset());
+    }
+
+    private String filterBodyAsString() throws IOException {
+        if (bodyFilter instanceof ByteBodyFilter) {
+            return new String(getBody(), getCharset());
+        }
         return bodyFilter.filter(response.getContentType(), response.getBodyAsString());
     }
 
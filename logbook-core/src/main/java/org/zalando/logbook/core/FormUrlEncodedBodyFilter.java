@@ -0,0 +1,38 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
+import org.zalando.logbook.QueryFilter;
+import org.zalando.logbook.common.MediaTypeQuery;
+
+import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
+import java.util.function.Predicate;
+
+/**
+ * Applies a {@link QueryFilter} to form url encoded bodies. Bodies of any other content type are passed through as
+ * they are, i.e. without decoding them.
+ */
+@AllArgsConstructor
+final class FormUrlEncodedBodyFilter implements BodyFilter, ByteBodyFilter {
+
+    private static final Predicate<String> FORM_URL_ENCODED =
+            MediaTypeQuery.compile("application/x-www-form-urlencoded");
+
+    private final QueryFilter delegate;
+
+    @Override
+    public String filter(@Nullable final String contentType, final String body) {
+        return FORM_URL_ENCODED.test(contentType) ? delegate.filter(body) : body;
+    }
+
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        if (FORM_URL_ENCODED.test(contentType)) {
+            return delegate.filter(new String(body, charset)).getBytes(charset);
+        }
+        return body;
+    }
+
+}
@@ -3,6 +3,7 @@ package org.zalando.logbook.core;
 import org.apiguardian.api.API;
 import org.zalando.logbook.HeaderFilter;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiPredicate;
@@ -10,7 +11,6 @@ import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static java.util.Collections.nCopies;
 import static java.util.Collections.singleton;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
@@ -46,10 +46,7 @@ public final class HeaderFilters {
             final Collection<String> names,
             final String replacement) {
 
-        return headers -> headers.apply(names, (name, previous) ->
-                previous == null ?
-                        null :
-                        nCopies(previous.size(), replacement));
+        return CompiledHeaderFilter.replace(names, replacement);
     }
 
     public static HeaderFilter replaceCookies(
@@ -98,7 +95,7 @@ public final class HeaderFilters {
     public static HeaderFilter removeHeaders(
             final String... names) {
 
-        return headers -> headers.delete(names);
+        return CompiledHeaderFilter.remove(Arrays.asList(names));
     }
 
     public static HeaderFilter removeHeaders(
@@ -0,0 +1,28 @@
+package org.zalando.logbook.core;
+
+/**
+ * A {@link StringBuilder} per thread that messages are formatted into before they are written, so that writers only
+ * need to hold their lock while copying the finished message.
+ */
+final class MessageBuffers {
+
+    private static final int INITIAL_SIZE = 2048;
+
+    // buffers that grew beyond this for a single large message are not kept around
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_SIZE));
+
+    StringBuilder get() {
+        return buffers.get();
+    }
+
+    void recycle(final StringBuilder buffer) {
+        if (buffer.capacity() > MAX_RETAINED_SIZE) {
+            buffers.set(new StringBuilder(INITIAL_SIZE));
+        } else {
+            buffer.setLength(0);
+        }
+    }
+
+}
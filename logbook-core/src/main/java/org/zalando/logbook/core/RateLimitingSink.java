@@ -0,0 +1,308 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.logbook.core.Conditions.requestTo;
+
+/**
+ * A {@link Sink} that limits the number of messages per second that reach its delegate, using token buckets: one for
+ * all messages and, optionally, one per route and one per status class of responses.
+ * <p>
+ * Instead of dropping messages as soon as a bucket is empty, it degrades gradually. Once a bucket is filled to two
+ * thirds or less, messages are written without bodies. Once it's filled to a third or less, requests that are written
+ * on their own are dropped, while responses (and requests written together with them) are still written without
+ * bodies. Only once it's empty, all messages are dropped.
+ * <p>
+ * The number of messages that were written without bodies or dropped are counted and, if there were any, logged as a
+ * summary at most once per configured interval.
+ */
+@API(status = EXPERIMENTAL)
+@Slf4j
+public final class RateLimitingSink implements Sink {
+
+    private static final double WITHOUT_BODY = 2.0 / 3.0;
+    private static final double RESPONSES_ONLY = 1.0 / 3.0;
+
+    private final Sink delegate;
+    private final TokenBucket bucket;
+    private final List<Route> routes;
+    private final Map<Integer, TokenBucket> statusClasses;
+    private final LongSupplier ticker;
+    private final long summaryInterval;
+    private final AtomicLong nextSummary;
+
+    private final Counter withoutBody = new Counter();
+    private final Counter droppedRequests = new Counter();
+    private final Counter dropped = new Counter();
+
+    public RateLimitingSink(final Sink delegate, final double rate) {
+        this(delegate, rate, burstOf(rate), Map.of(), Map.of(), Duration.ofMinutes(1), System::nanoTime);
+    }
+
+    // visible for testing
+    RateLimitingSink(
+            final Sink delegate,
+            final double rate,
+            final int burst,
+            final Map<String, Double> routes,
+            final Map<Integer, Double> statusClasses,
+            final Duration summaryInterval,
+            final LongSupplier ticker) {
+
+        this.delegate = delegate;
+        this.bucket = new TokenBucket(rate, burst, ticker);
+        this.routes = new ArrayList<>(routes.size());
+        this.statusClasses = new HashMap<>(statusClasses.size());
+        this.ticker = ticker;
+        this.summaryInterval = summaryInterval.toNanos();
+        this.nextSummary = new AtomicLong(ticker.getAsLong() + this.summaryInterval);
+
+        routes.forEach((pattern, limit) ->
+                this.routes.add(new Route(requestTo(pattern), new TokenBucket(limit, burstOf(limit), ticker))));
+        statusClasses.forEach((statusClass, limit) ->
+                this.statusClasses.put(statusClass, new TokenBucket(limit, burstOf(limit), ticker)));
+    }
+
+    @API(status = EXPERIMENTAL)
+    public static final class Builder {
+
+    }
+
+    /**
+     * @param delegate        the sink to write to
+     * @param rate            messages per second, defaults to 100
+     * @param burst           the number of messages that can be written at once, defaults to one second worth of
+     *                        messages
+     * @param routes          messages per second per route, see {@link Conditions#requestTo(String)}; the first
+     *                        matching route applies
+     * @param statusClasses   messages per second per status class of responses, e.g. {@code 2} for {@code 2xx}
+     * @param summaryInterval how often to log a summary at most, defaults to one minute
+     * @return a new rate limiting sink
+     */
+    @SuppressWarnings("unused")
+    @lombok.Builder(builderClassName = "Builder")
+    private static RateLimitingSink create(
+            final Sink delegate,
+            @Nullable final Double rate,
+            @Nullable final Integer burst,
+            @Singular final Map<String, Double> routes,
+            @Singular("statusClass") final Map<Integer, Double> statusClasses,
+            @Nullable final Duration summaryInterval) {
+
+        final double limit = Optional.ofNullable(rate).orElse(100.0);
+
+        return new RateLimitingSink(
+                delegate,
+                limit,
+                Optional.ofNullable(burst).orElseGet(() -> burstOf(limit)),
+                routes,
+                statusClasses,
+                Optional.ofNullable(summaryInterval).orElse(Duration.ofMinutes(1)),
+                System::nanoTime);
+    }
+
+    /**
+     * @return the number of messages that were written without body
+     */
+    public long getWithoutBody() {
+        return withoutBody.total.sum();
+    }
+
+    /**
+     * @return the number of requests that were dropped, while their responses might have been written
+     */
+    public long getDroppedRequests() {
+        return droppedRequests.total.sum();
+    }
+
+    /**
+     * @return the number of messages that were dropped entirely
+     */
+    public long getDropped() {
+        return dropped.total.sum();
+    }
+
+    @Override
+    public boolean isActive() {
+        return delegate.isActive();
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
+        summarize();
+
+        final double fill = tryAcquire(request, null, RESPONSES_ONLY);
+
+        if (fill == 0.0) {
+            droppedRequests.total.increment();
+        } else if (fill <= WITHOUT_BODY) {
+            withoutBody.total.increment();
+            delegate.write(precorrelation, new BodyReplacementHttpRequest(request, ""));
+        } else {
+            delegate.write(precorrelation, request);
+        }
+    }
+
+    @Override
+    public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response)
+            throws IOException {
+        summarize();
+
+        final double fill = tryAcquire(request, response, 0.0);
+
+        if (fill == 0.0) {
+            dropped.total.increment();
+        } else if (fill <= WITHOUT_BODY) {
+            withoutBody.total.increment();
+            delegate.write(correlation,
+                    new BodyReplacementHttpRequest(request, ""), new BodyReplacementHttpResponse(response, ""));
+        } else {
+            delegate.write(correlation, request, response);
+        }
+    }
+
+    @Override
+    public void writeBoth(final Correlation correlation, final HttpRequest request, final HttpResponse response)
+            throws IOException {
+        summarize();
+
+        final double fill = tryAcquire(request, response, 0.0);
+
+        if (fill == 0.0) {
+            dropped.total.increment();
+        } else if (fill <= WITHOUT_BODY) {
+            withoutBody.total.increment();
+            delegate.writeBoth(correlation,
+                    new BodyReplacementHttpRequest(request, ""), new BodyReplacementHttpResponse(response, ""));
+        } else {
+            delegate.writeBoth(correlation, request, response);
+        }
+    }
+
+    /**
+     * Acquires a token from all buckets that apply, most specific first. If any of them is empty, the tokens that
+     * were already acquired are given back, i.e. a message that is dropped doesn't count against any bucket.
+     *
+     * @return the lowest share to which any of the buckets was filled before, or {@code 0.0} if any was empty
+     */
+    private double tryAcquire(final HttpRequest request, @Nullable final HttpResponse response,
+            final double reserve) {
+
+        @Nullable final TokenBucket statusClass = response == null ?
+                null : statusClasses.get(response.getStatus() / 100);
+        @Nullable final TokenBucket route = route(request);
+
+        double fill = 1.0;
+
+        if (statusClass != null) {
+            fill = statusClass.tryAcquire(reserve);
+
+            if (fill == 0.0) {
+                return fill;
+            }
+        }
+
+        if (route != null) {
+            final double routeFill = route.tryAcquire(reserve);
+
+            if (routeFill == 0.0) {
+                release(statusClass);
+                return routeFill;
+            }
+
+            fill = Math.min(fill, routeFill);
+        }
+
+        final double globalFill = bucket.tryAcquire(reserve);
+
+        if (globalFill == 0.0) {
+            release(statusClass);
+            release(route);
+            return globalFill;
+        }
+
+        return Math.min(fill, globalFill);
+    }
+
+    @Nullable
+    private TokenBucket route(final HttpRequest request) {
+        for (final Route route : routes) {
+            if (route.predicate.test(request)) {
+                return route.bucket;
+            }
+        }
+        return null;
+    }
+
+    private static void release(@Nullable final TokenBucket bucket) {
+        if (bucket != null) {
+            bucket.release();
+        }
+    }
+
+    private void summarize() {
+        final long next = nextSummary.get();
+        final long now = ticker.getAsLong();
+
+        if (now - next < 0 || !nextSummary.compareAndSet(next, now + summaryInterval)) {
+            return;
+        }
+
+        final long withoutBody = this.withoutBody.report();
+        final long droppedRequests = this.droppedRequests.report();
+        final long dropped = this.dropped.report();
+
+        if (withoutBody + droppedRequests + dropped > 0) {
+            log.warn("Rate limit exceeded: {} message(s) written without body, {} request(s) dropped and " +
+                    "{} message(s) dropped since the last summary", withoutBody, droppedRequests, dropped);
+        }
+    }
+
+    private static int burstOf(final double rate) {
+        return (int) Math.max(1, Math.ceil(rate));
+    }
+
+    @AllArgsConstructor
+    private static final class Route {
+        private final Predicate<HttpRequest> predicate;
+        private final TokenBucket bucket;
+    }
+
+    private static final class Counter {
+
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong reported = new AtomicLong();
+
+        /**
+         * @return the increments since the last report
+         */
+        private long report() {
+            final long total = this.total.sum();
+            return total - reported.getAndSet(total);
+        }
+
+    }
+
+}
@@ -0,0 +1,348 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import org.apiguardian.api.API;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.common.Glob;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Collections.emptyList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.logbook.core.Conditions.requestTo;
+
+/**
+ * Includes and excludes requests by path and method, like a combination of {@link Conditions#requestTo(String)} and
+ * {@link Conditions#requestWithMethod(String)}: a request matches if it matches any of the includes, if there are
+ * any, and none of the excludes.
+ * <p>
+ * Instead of evaluating every pattern one after another, path patterns are split into segments and merged into a
+ * single trie, of which every node holds the methods that the patterns ending there apply to, as a bitset. Deciding
+ * whether to include a request takes a single walk along the segments of its path, no matter how many patterns there
+ * are. Patterns that can't be split into segments, i.e. that aren't absolute paths, that contain {@code ?} or that use
+ * {@code **} within a segment, are evaluated one after another.
+ */
+@API(status = EXPERIMENTAL)
+public final class RequestPredicateIndex implements Predicate<HttpRequest> {
+
+    private static final int INCLUDED = 1;
+    private static final int EXCLUDED = 2;
+
+    /**
+     * The bit of all methods that none of the patterns mentions explicitly.
+     */
+    private static final long OTHER = Long.MIN_VALUE;
+
+    private static final long ANY = -1L;
+
+    private static final String TAIL = "/**";
+
+    private final Map<String, Long> methods;
+    private final Node root;
+    private final List<Fallback> fallbacks;
+    private final boolean hasIncludes;
+
+    private RequestPredicateIndex(final Builder builder) {
+        this.methods = builder.methods;
+        this.root = builder.root;
+        this.fallbacks = builder.fallbacks;
+        this.hasIncludes = builder.hasIncludes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean test(final HttpRequest request) {
+        final long method = methods.getOrDefault(request.getMethod(), OTHER);
+        final String path = request.getPath();
+
+        int result = path.isEmpty() || path.charAt(0) == '/' ? root.visit(path, start(path), method) : 0;
+
+        for (final Fallback fallback : fallbacks) {
+            if ((result & EXCLUDED) != 0) {
+                break;
+            }
+            result |= fallback.test(request, method);
+        }
+
+        return (result & EXCLUDED) == 0 && (!hasIncludes || (result & INCLUDED) != 0);
+    }
+
+    /**
+     * @return the start of the first segment of the given path, or {@link Node#END} if there is none
+     */
+    private static int start(final String path) {
+        return path.isEmpty() ? Node.END : 1;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Long> methods = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+        private final Node root = new Node();
+        private final List<Fallback> fallbacks = new ArrayList<>();
+        private boolean hasIncludes;
+
+        private Builder() {
+
+        }
+
+        /**
+         * @param pattern the path pattern, see {@link Conditions#requestTo(String)}
+         * @return this builder
+         */
+        public Builder include(final String pattern) {
+            return include(pattern, emptyList());
+        }
+
+        /**
+         * @param pattern the path pattern, see {@link Conditions#requestTo(String)}, or {@code null} for any path
+         * @param methods the methods, or none for any method
+         * @return this builder
+         */
+        public Builder include(@Nullable final String pattern, final Collection<String> methods) {
+            hasIncludes = true;
+            return add(pattern, methods, INCLUDED);
+        }
+
+        /**
+         * @param pattern the path pattern, see {@link Conditions#requestTo(String)}
+         * @return this builder
+         */
+        public Builder exclude(final String pattern) {
+            return exclude(pattern, emptyList());
+        }
+
+        /**
+         * @param pattern the path pattern, see {@link Conditions#requestTo(String)}, or {@code null} for any path
+         * @param methods the methods, or none for any method
+         * @return this builder
+         */
+        public Builder exclude(@Nullable final String pattern, final Collection<String> methods) {
+            return add(pattern, methods, EXCLUDED);
+        }
+
+        private Builder add(@Nullable final String pattern, final Collection<String> methods, final int kind) {
+            final long mask = maskOf(methods);
+
+            if (pattern == null) {
+                fallbacks.add(new Fallback(request -> true, mask, kind));
+            } else if (isIndexable(pattern)) {
+                final boolean tail = pattern.endsWith(TAIL);
+                final String body = tail ? pattern.substring(0, pattern.length() - TAIL.length()) : pattern;
+
+                Node node = root;
+
+                if (!body.isEmpty()) {
+                    for (final String segment : body.substring(1).split("/", -1)) {
+                        node = node.child(segment);
+                    }
+                }
+
+                if (tail) {
+                    node.below(kind, mask);
+                } else {
+                    node.here(kind, mask);
+                }
+            } else {
+                fallbacks.add(new Fallback(requestTo(pattern), mask, kind));
+            }
+
+            return this;
+        }
+
+        private long maskOf(final Collection<String> methods) {
+            if (methods.isEmpty()) {
+                return ANY;
+            }
+
+            long mask = 0;
+
+            for (final String method : methods) {
+                mask |= this.methods.computeIfAbsent(method, $ -> {
+                    if (this.methods.size() == Long.SIZE - 1) {
+                        throw new IllegalArgumentException("methods are expected to be at most 63 distinct values");
+                    }
+                    return 1L << this.methods.size();
+                });
+            }
+
+            return mask;
+        }
+
+        public RequestPredicateIndex build() {
+            return new RequestPredicateIndex(this);
+        }
+
+    }
+
+    /**
+     * Whether the pattern matches the same paths if it's matched segment by segment, i.e. it's an absolute path in
+     * which {@code **} is either a segment on its own or a trailing {@code /**} and which doesn't contain {@code ?},
+     * which, unlike {@code *}, matches {@code /}, too.
+     */
+    private static boolean isIndexable(final String pattern) {
+        if (!pattern.startsWith("/") || pattern.indexOf('?') != -1) {
+            return false;
+        }
+
+        for (final String segment : pattern.substring(1).split("/", -1)) {
+            if (segment.contains("**") && !segment.equals("**")) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class Node {
+
+        /**
+         * The position after the last segment of a path.
+         */
+        static final int END = -1;
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Wildcard> wildcards = new HashMap<>();
+
+        /**
+         * The child that matches one or more segments, i.e. {@code **} within a pattern.
+         */
+        @Nullable
+        private Node deep;
+
+        /**
+         * Methods of included and excluded patterns that end at this node.
+         */
+        private long included;
+        private long excluded;
+
+        /**
+         * Methods of included and excluded patterns that end at this node, followed by {@code /**}.
+         */
+        private long includedBelow;
+        private long excludedBelow;
+
+        Node child(final String segment) {
+            if (segment.equals("**")) {
+                if (deep == null) {
+                    deep = new Node();
+                }
+                return deep;
+            } else if (segment.indexOf('*') == -1) {
+                return literals.computeIfAbsent(segment, $ -> new Node());
+            } else {
+                return wildcards.computeIfAbsent(segment, Wildcard::new).node;
+            }
+        }
+
+        void here(final int kind, final long mask) {
+            if (kind == INCLUDED) {
+                included |= mask;
+            } else {
+                excluded |= mask;
+            }
+        }
+
+        void below(final int kind, final long mask) {
+            if (kind == INCLUDED) {
+                includedBelow |= mask;
+            } else {
+                excludedBelow |= mask;
+            }
+        }
+
+        /**
+         * @param path     the path
+         * @param start    the start of the next segment, or {@link #END}
+         * @param method   the bit of the request's method
+         * @return whether any include and/or exclude pattern matched, as a combination of {@link #INCLUDED} and
+         * {@link #EXCLUDED}
+         */
+        int visit(final String path, final int start, final long method) {
+            int result = flags(includedBelow, excludedBelow, method);
+
+            if (start == END) {
+                return result | flags(included, excluded, method);
+            }
+
+            final int end = endOf(path, start);
+            final int next = end == path.length() ? END : end + 1;
+            final String segment = path.substring(start, end);
+
+            @Nullable final Node literal = literals.get(segment);
+
+            if (literal != null) {
+                result |= literal.visit(path, next, method);
+            }
+
+            for (final Wildcard wildcard : wildcards.values()) {
+                if ((result & EXCLUDED) == 0 && wildcard.predicate.test(segment)) {
+                    result |= wildcard.node.visit(path, next, method);
+                }
+            }
+
+            if (deep != null) {
+                // one or more segments
+                for (int position = next; (result & EXCLUDED) == 0; position = next(path, position)) {
+                    result |= deep.visit(path, position, method);
+
+                    if (position == END) {
+                        break;
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        private static int flags(final long included, final long excluded, final long method) {
+            return ((included & method) == 0 ? 0 : INCLUDED) | ((excluded & method) == 0 ? 0 : EXCLUDED);
+        }
+
+        private static int endOf(final String path, final int start) {
+            final int slash = path.indexOf('/', start);
+            return slash == -1 ? path.length() : slash;
+        }
+
+        private static int next(final String path, final int start) {
+            final int end = endOf(path, start);
+            return end == path.length() ? END : end + 1;
+        }
+
+    }
+
+    private static final class Wildcard {
+
+        private final Predicate<String> predicate;
+        private final Node node = new Node();
+
+        private Wildcard(final String segment) {
+            this.predicate = Glob.compile(segment);
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static final class Fallback {
+
+        private final Predicate<HttpRequest> predicate;
+        private final long methods;
+        private final int kind;
+
+        int test(final HttpRequest request, final long method) {
+            return (methods & method) != 0 && predicate.test(request) ? kind : 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,176 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import org.apiguardian.api.API;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.CorrelationId;
+import org.zalando.logbook.ForwardingHttpRequest;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.Strategy;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static lombok.AccessLevel.PRIVATE;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.zalando.logbook.core.Conditions.requestTo;
+
+/**
+ * A {@link Strategy strategy} that logs only a share of all requests, but always logs responses with an error status.
+ * <p>
+ * Whether a request is sampled is decided before its body is buffered, so bodies of requests and responses that are
+ * not sampled are never buffered. Requests are written together with their response, i.e. once the status is known.
+ * Errors of requests that were not sampled are therefore logged without bodies.
+ * <p>
+ * The decision is based on a hash of the id that the given {@link CorrelationId} returns for a request, e.g. one that
+ * reads a header that clients propagate. If clients and servers use the same id and rates, both sides log the same
+ * requests. Requests without an id are not sampled. The decision is made once per request, before its body is
+ * buffered, and carried along by the request that {@link #process(HttpRequest)} returns, so that later phases agree
+ * with it.
+ * <p>
+ * Rates can be specified per path, using the same patterns as {@link Conditions#requestTo(String)}. The first
+ * matching pattern wins, requests that match none of them are sampled at the default rate.
+ */
+@API(status = EXPERIMENTAL)
+@AllArgsConstructor(access = PRIVATE)
+public final class SamplingStrategy implements Strategy {
+
+    private final CorrelationId correlationId;
+    private final double rate;
+    private final int status;
+    private final List<Rate> rates;
+
+    @AllArgsConstructor
+    private static final class Rate {
+        private final Predicate<HttpRequest> predicate;
+        private final double rate;
+    }
+
+    @AllArgsConstructor
+    private static final class Decision implements ForwardingHttpRequest {
+
+        private final HttpRequest request;
+        private final boolean sampled;
+
+        @Override
+        public HttpRequest delegate() {
+            return request;
+        }
+
+    }
+
+    /**
+     * @param correlationId the id to sample by
+     * @param rate          the default share of requests to log, between {@code 0.0} and {@code 1.0}
+     * @param status        the status at which responses are always logged
+     */
+    public SamplingStrategy(final CorrelationId correlationId, final double rate, final int status) {
+        this(correlationId, requireRate(rate), status, emptyList());
+    }
+
+    /**
+     * @param pattern the path pattern, see {@link Conditions#requestTo(String)}
+     * @param rate    the share of matching requests to log, between {@code 0.0} and {@code 1.0}
+     * @return a copy of this strategy that samples requests matching the given pattern at the given rate
+     */
+    public SamplingStrategy withRate(final String pattern, final double rate) {
+        final List<Rate> rates = new ArrayList<>(this.rates);
+        rates.add(new Rate(requestTo(pattern), requireRate(rate)));
+        return new SamplingStrategy(correlationId, this.rate, status, unmodifiableList(rates));
+    }
+
+    @Override
+    public HttpRequest process(final HttpRequest request) throws IOException {
+        final boolean sampled = isSampled(request);
+        return new Decision(sampled ? request.withBody() : request.withoutBody(), sampled);
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final HttpRequest request, final Sink sink) {
+        // defer decision until response is available
+    }
+
+    @Override
+    public HttpResponse process(final HttpRequest request, final HttpResponse response) throws IOException {
+        return wasSampled(request) ? response.withBody() : response.withoutBody();
+    }
+
+    @Override
+    public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response,
+                      final Sink sink) throws IOException {
+
+        if (response.getStatus() >= status || wasSampled(request)) {
+            sink.writeBoth(correlation, request, response);
+        }
+    }
+
+    /**
+     * Looks up the decision made by {@link #process(HttpRequest)}, which later phases receive wrapped in filters, and
+     * only decides again if the request was replaced on the way.
+     */
+    private boolean wasSampled(final HttpRequest request) {
+        HttpRequest current = request;
+
+        while (current instanceof ForwardingHttpRequest) {
+            if (current instanceof Decision) {
+                return ((Decision) current).sampled;
+            }
+            current = ((ForwardingHttpRequest) current).delegate();
+        }
+
+        return isSampled(request);
+    }
+
+    private boolean isSampled(final HttpRequest request) {
+        @Nullable final String id = correlationId.generate(request);
+        return id != null && sample(id) < rateOf(request);
+    }
+
+    private double rateOf(final HttpRequest request) {
+        for (final Rate candidate : rates) {
+            if (candidate.predicate.test(request)) {
+                return candidate.rate;
+            }
+        }
+        return rate;
+    }
+
+    /**
+     * Maps an id uniformly to {@code [0.0, 1.0)}, the same on every JVM, using the 64-bit FNV-1a hash of its
+     * characters, followed by the finalizer of MurmurHash3 to spread similar ids across all bits.
+     */
+    // visible for testing
+    static double sample(final String id) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        // the upper 53 bits, i.e. the precision of a double
+        return (hash >>> 11) * 0x1.0p-53;
+    }
+
+    private static double requireRate(final double rate) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException("rate is expected to be between 0.0 and 1.0");
+        }
+        return rate;
+    }
+
+}
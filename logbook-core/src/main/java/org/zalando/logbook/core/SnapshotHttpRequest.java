@@ -0,0 +1,78 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.zalando.logbook.HttpHeaders;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.Origin;
+import org.zalando.logbook.attributes.HttpAttributes;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Optional;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * An immutable copy of an {@link HttpRequest} that no longer depends on the underlying container, e.g. because it
+ * will be written on a different thread after the request was completed.
+ */
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+final class SnapshotHttpRequest implements HttpRequest {
+
+    private final String protocolVersion;
+    private final Origin origin;
+    private final String remote;
+    private final String method;
+    private final String requestUri;
+    private final String scheme;
+    private final String host;
+    private final Optional<Integer> port;
+    private final String path;
+    private final String query;
+    private final HttpHeaders headers;
+    @Nullable
+    private final String contentType;
+    private final Charset charset;
+    // the (filtered) bytes are authoritative, the string is derived from them rather than the other way round
+    private final byte[] body;
+    private final boolean bodyTruncated;
+    private final long originalBodyLength;
+    private final HttpAttributes attributes;
+
+    static SnapshotHttpRequest of(final HttpRequest request) throws IOException {
+        return new SnapshotHttpRequest(
+                request.getProtocolVersion(),
+                request.getOrigin(),
+                request.getRemote(),
+                request.getMethod(),
+                request.getRequestUri(),
+                request.getScheme(),
+                request.getHost(),
+                request.getPort(),
+                request.getPath(),
+                request.getQuery(),
+                // headers may be a view of native ones, which might be reused once the exchange is done
+                HttpHeaders.of(request.getHeaders()),
+                request.getContentType(),
+                request.getCharset(),
+                request.getBody(),
+                request.isBodyTruncated(),
+                request.getOriginalBodyLength(),
+                request.getAttributes());
+    }
+
+    @Override
+    public HttpRequest withBody() {
+        return this;
+    }
+
+    @Override
+    public HttpRequest withoutBody() {
+        return new SnapshotHttpRequest(protocolVersion, origin, remote, method, requestUri, scheme, host, port, path,
+                query, headers, contentType, charset, new byte[0], false, originalBodyLength, attributes);
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.zalando.logbook.HttpHeaders;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Origin;
+import org.zalando.logbook.attributes.HttpAttributes;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * An immutable copy of an {@link HttpResponse} that no longer depends on the underlying container.
+ *
+ * @see SnapshotHttpRequest
+ */
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+final class SnapshotHttpResponse implements HttpResponse {
+
+    private final String protocolVersion;
+    private final Origin origin;
+    private final int status;
+    private final String reasonPhrase;
+    private final HttpHeaders headers;
+    @Nullable
+    private final String contentType;
+    private final Charset charset;
+    private final byte[] body;
+    private final boolean bodyTruncated;
+    private final long originalBodyLength;
+    private final HttpAttributes attributes;
+
+    static SnapshotHttpResponse of(final HttpResponse response) throws IOException {
+        return new SnapshotHttpResponse(
+                response.getProtocolVersion(),
+                response.getOrigin(),
+                response.getStatus(),
+                response.getReasonPhrase(),
+                // headers may be a view of native ones, which might be reused once the exchange is done
+                HttpHeaders.of(response.getHeaders()),
+                response.getContentType(),
+                response.getCharset(),
+                response.getBody(),
+                response.isBodyTruncated(),
+                response.getOriginalBodyLength(),
+                response.getAttributes());
+    }
+
+    @Override
+    public HttpResponse withBody() {
+        return this;
+    }
+
+    @Override
+    public HttpResponse withoutBody() {
+        return new SnapshotHttpResponse(protocolVersion, origin, status, reasonPhrase, headers, contentType, charset,
+                new byte[0], false, originalBodyLength, attributes);
+    }
+
+}
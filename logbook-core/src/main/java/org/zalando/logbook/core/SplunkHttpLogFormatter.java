@@ -1,17 +1,57 @@
 package org.zalando.logbook.core;
 
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.StreamingHttpLogFormatter;
 import org.zalando.logbook.StructuredHttpLogFormatter;
 
+import java.io.IOException;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-public class SplunkHttpLogFormatter implements StructuredHttpLogFormatter {
+public class SplunkHttpLogFormatter implements StructuredHttpLogFormatter, StreamingHttpLogFormatter {
 
     @Override
-    public String format(final Map<String, Object> content) {
-        return content.entrySet().stream()
-                .map(entry -> String.format("%s=%s", entry.getKey(), entry.getValue()))
-                .collect(Collectors.joining(" "));
+    public String format(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
+        return StructuredHttpLogFormatter.super.format(precorrelation, request);
+    }
+
+    @Override
+    public String format(final Correlation correlation, final HttpResponse response) throws IOException {
+        return StructuredHttpLogFormatter.super.format(correlation, response);
+    }
+
+    @Override
+    public void format(final Precorrelation precorrelation, final HttpRequest request, final Appendable output)
+            throws IOException {
+        format(prepare(precorrelation, request), output);
+    }
+
+    @Override
+    public void format(final Correlation correlation, final HttpResponse response, final Appendable output)
+            throws IOException {
+        format(prepare(correlation, response), output);
+    }
+
+    @Override
+    public String format(final Map<String, Object> content) throws IOException {
+        final StringBuilder output = new StringBuilder();
+        format(content, output);
+        return output.toString();
+    }
+
+    private void format(final Map<String, Object> content, final Appendable output) throws IOException {
+        boolean first = true;
+        for (final Map.Entry<String, Object> entry : content.entrySet()) {
+            if (!first) {
+                output.append(' ');
+            }
+            output.append(entry.getKey());
+            output.append('=');
+            output.append(String.valueOf(entry.getValue()));
+            first = false;
+        }
     }
 
 }
@@ -13,24 +13,48 @@ import java.io.IOException;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
+/**
+ * Logs requests and responses only if the status of the response is at least the given one. Response bodies are
+ * {@link HttpResponse#withBodyIf(java.util.function.Predicate, int) only recorded} if that's the case, i.e. bodies of
+ * other responses are at most buffered speculatively, up to the given limit, until their status is known.
+ */
 @API(status = EXPERIMENTAL)
 @AllArgsConstructor
 public final class StatusAtLeastStrategy implements Strategy {
 
+    /**
+     * Servlet containers buffer 8 to 32 KiB before they commit a response, i.e. before its status is final.
+     */
+    static final int DEFAULT_LIMIT = 64 * 1024;
+
     private final int status;
+    private final int limit;
+
+    public StatusAtLeastStrategy(final int status) {
+        this(status, DEFAULT_LIMIT);
+    }
 
     @Override
     public void write(final Precorrelation precorrelation, final HttpRequest request, final Sink sink) {
         // defer decision until response is available
     }
 
+    @Override
+    public HttpResponse process(final HttpRequest request, final HttpResponse response) throws IOException {
+        return response.withBodyIf(this::isLogged, limit);
+    }
+
     @Override
     public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response,
                       final Sink sink) throws IOException {
 
-        if (response.getStatus() >= status) {
+        if (isLogged(response)) {
             sink.writeBoth(correlation, request, response);
         }
     }
 
+    private boolean isLogged(final HttpResponse response) {
+        return response.getStatus() >= status;
+    }
+
 }
@@ -4,15 +4,26 @@ import org.apiguardian.api.API;
 import org.zalando.logbook.Correlation;
 import org.zalando.logbook.HttpLogWriter;
 import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.StreamingHttpLogWriter;
 
 import java.io.IOException;
 import java.io.PrintStream;
 
 import static org.apiguardian.api.API.Status.STABLE;
 
+/**
+ * An {@link HttpLogWriter} that prints every message as a line to a {@link PrintStream}, {@link System#out} by
+ * default. Messages of a {@link org.zalando.logbook.StreamingHttpLogFormatter} are formatted into a buffer that is reused
+ * by the same thread, and only copied into the stream once they are complete. Concurrent messages therefore neither
+ * interleave nor wait for each other to be formatted, and a failing formatter leaves no partial line behind.
+ */
 @API(status = STABLE)
-public final class StreamHttpLogWriter implements HttpLogWriter {
+public final class StreamHttpLogWriter implements StreamingHttpLogWriter {
 
+    // copies formatted messages in slices, rather than turning each of them into a String of its own
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final MessageBuffers buffers = new MessageBuffers();
     private final PrintStream stream;
 
     public StreamHttpLogWriter() {
@@ -25,12 +36,43 @@ public final class StreamHttpLogWriter implements HttpLogWriter {
 
     @Override
     public void write(final Precorrelation precorrelation, final String request) throws IOException {
-        stream.println(request);
+        synchronized (stream) {
+            stream.println(request);
+        }
     }
 
     @Override
     public void write(final Correlation correlation, final String response) throws IOException {
-        stream.println(response);
+        synchronized (stream) {
+            stream.println(response);
+        }
+    }
+
+    @Override
+    public void write(final Precorrelation precorrelation, final Content request) throws IOException {
+        println(request);
+    }
+
+    @Override
+    public void write(final Correlation correlation, final Content response) throws IOException {
+        println(response);
+    }
+
+    private void println(final Content content) throws IOException {
+        final StringBuilder buffer = buffers.get();
+
+        try {
+            content.writeTo(buffer);
+
+            synchronized (stream) {
+                for (int start = 0; start < buffer.length(); start += CHUNK_SIZE) {
+                    stream.append(buffer, start, Math.min(buffer.length(), start + CHUNK_SIZE));
+                }
+                stream.println();
+            }
+        } finally {
+            buffers.recycle(buffer);
+        }
     }
 
 }
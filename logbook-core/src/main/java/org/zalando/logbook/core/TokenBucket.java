@@ -0,0 +1,77 @@
+package org.zalando.logbook.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A lock-free token bucket, implemented as a generic cell rate algorithm: instead of a number of tokens, it keeps the
+ * theoretical time at which the bucket will be full again, and acquires a token by moving that time forward by the
+ * interval of a single token.
+ */
+final class TokenBucket {
+
+    private final LongSupplier ticker;
+
+    /**
+     * Nanoseconds it takes to refill a single token.
+     */
+    private final long interval;
+
+    /**
+     * Nanoseconds it takes to refill the whole bucket.
+     */
+    private final long capacity;
+
+    private final AtomicLong full;
+
+    TokenBucket(final double rate, final int burst, final LongSupplier ticker) {
+        if (!(rate > 0.0)) {
+            throw new IllegalArgumentException("rate is expected to be greater than zero");
+        }
+
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst is expected to be greater than zero");
+        }
+
+        this.ticker = ticker;
+        this.interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        this.capacity = Math.multiplyExact(interval, (long) burst);
+        this.full = new AtomicLong(ticker.getAsLong());
+    }
+
+    /**
+     * Acquires a single token, unless the bucket is filled to the given share or less.
+     *
+     * @param reserve the share of the bucket, between {@code 0.0} and {@code 1.0}, that must remain untouched
+     * @return the share to which the bucket was filled before, or {@code 0.0} if no token was acquired
+     */
+    double tryAcquire(final double reserve) {
+        while (true) {
+            final long current = full.get();
+            final long now = ticker.getAsLong();
+
+            // differences only, since nano time may overflow
+            final long base = current - now > 0 ? current : now;
+            final long available = capacity - (base - now);
+            final double fill = (double) available / capacity;
+
+            if (available < interval || fill <= reserve) {
+                return 0.0;
+            }
+
+            if (full.compareAndSet(current, base + interval)) {
+                return fill;
+            }
+        }
+    }
+
+    /**
+     * Returns a token that was acquired before, e.g. because the message was rejected by another bucket. The bucket
+     * never exceeds its capacity, since tokens only count back from the current time.
+     */
+    void release() {
+        full.addAndGet(-interval);
+    }
+
+}
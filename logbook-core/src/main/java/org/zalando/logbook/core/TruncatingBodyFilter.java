@@ -0,0 +1,87 @@
+package org.zalando.logbook.core;
+
+import lombok.AllArgsConstructor;
+import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
+
+import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Truncates bodies to {@code maxSize} characters. UTF-8, ISO-8859-1 and US-ASCII encoded bodies are truncated without
+ * decoding them. In contrast to {@link String#substring(int, int)}, surrogate pairs are never split.
+ */
+@AllArgsConstructor
+final class TruncatingBodyFilter implements BodyFilter, ByteBodyFilter {
+
+    private static final String ELLIPSIS = "...";
+
+    private final int maxSize;
+
+    @Override
+    public String filter(@Nullable final String contentType, final String body) {
+        return body.length() <= maxSize ? body : body.substring(0, maxSize) + ELLIPSIS;
+    }
+
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        if (UTF_8.equals(charset)) {
+            return truncate(body, utf8Offset(body));
+        } else if (ISO_8859_1.equals(charset) || US_ASCII.equals(charset)) {
+            return truncate(body, body.length <= maxSize ? -1 : maxSize);
+        } else {
+            final String decoded = new String(body, charset);
+            final String truncated = filter(contentType, decoded);
+            return truncated == decoded ? body : truncated.getBytes(charset);
+        }
+    }
+
+    /**
+     * Finds the offset of the first code point that doesn't fit into {@code maxSize} characters.
+     *
+     * @param body the UTF-8 encoded body
+     * @return the offset to truncate at, or {@code -1} if the whole body fits
+     */
+    private int utf8Offset(final byte[] body) {
+        if (body.length <= maxSize) {
+            // every character takes at least one byte
+            return -1;
+        }
+
+        int characters = 0;
+
+        for (int offset = 0; offset < body.length; offset++) {
+            final int b = body[offset];
+
+            if ((b & 0xC0) == 0x80) {
+                // continuation byte
+                continue;
+            }
+
+            // four byte sequences are represented by a surrogate pair, i.e. two characters
+            characters += (b & 0xF8) == 0xF0 ? 2 : 1;
+
+            if (characters > maxSize) {
+                return offset;
+            }
+        }
+
+        return -1;
+    }
+
+    private static byte[] truncate(final byte[] body, final int offset) {
+        if (offset == -1) {
+            return body;
+        }
+
+        final byte[] truncated = Arrays.copyOf(body, offset + ELLIPSIS.length());
+        Arrays.fill(truncated, offset, truncated.length, (byte) '.');
+        return truncated;
+    }
+
+}
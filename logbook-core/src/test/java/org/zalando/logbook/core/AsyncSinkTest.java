@@ -0,0 +1,547 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpHeaders;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.attributes.HttpAttributes;
+import org.zalando.logbook.core.AsyncSink.OverflowPolicy;
+import org.zalando.logbook.core.DefaultLogbook.SimpleCorrelation;
+import org.zalando.logbook.core.DefaultLogbook.SimplePrecorrelation;
+import org.zalando.logbook.test.MockHttpRequest;
+import org.zalando.logbook.test.MockHttpResponse;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static java.time.Instant.MIN;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.zalando.logbook.Origin.LOCAL;
+
+final class AsyncSinkTest {
+
+    private final RecordingSink delegate = new RecordingSink();
+    private final List<AsyncSink> units = new ArrayList<>();
+
+    @AfterEach
+    void close() throws InterruptedException {
+        delegate.release();
+        for (final AsyncSink unit : units) {
+            unit.close();
+        }
+    }
+
+    @Test
+    void shouldDelegateActive() {
+        final Sink inactive = mock(Sink.class);
+        final AsyncSink unit = track(new AsyncSink(inactive));
+
+        assertThat(unit.isActive()).isFalse();
+
+        when(inactive.isActive()).thenReturn(true);
+
+        assertThat(unit.isActive()).isTrue();
+    }
+
+    @Test
+    void shouldWriteRequestOnWorkerThread() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate.unblocked()));
+
+        unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("Hello"));
+        unit.close();
+
+        assertThat(delegate.messages).containsExactly("request:1:Hello");
+        assertThat(delegate.threads).allSatisfy(name -> assertThat(name).startsWith("logbook-async-sink-"));
+    }
+
+    @Test
+    void shouldWriteResponse() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate.unblocked()));
+
+        unit.write(correlation("1"), MockHttpRequest.create(), MockHttpResponse.create().withBodyAsString("World"));
+        unit.close();
+
+        assertThat(delegate.messages).containsExactly("response:1:World");
+    }
+
+    @Test
+    void shouldWriteBothAsSingleMessage() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate.unblocked()));
+
+        unit.writeBoth(correlation("1"),
+                MockHttpRequest.create().withBodyAsString("Hello"),
+                MockHttpResponse.create().withBodyAsString("World"));
+        unit.close();
+
+        assertThat(delegate.messages).containsExactly("both:1:Hello:World");
+    }
+
+    @Test
+    void shouldPreserveOrderPerCorrelation() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate.unblocked())
+                .workers(4)
+                .queueCapacity(4096)
+                .build());
+
+        for (int i = 0; i < 500; i++) {
+            final String id = String.valueOf(i);
+            unit.write(precorrelation(id), MockHttpRequest.create());
+            unit.write(correlation(id), MockHttpRequest.create(), MockHttpResponse.create());
+        }
+        unit.close();
+
+        assertThat(delegate.messages).hasSize(1000);
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(delegate.messages.indexOf("request:" + i + ":"))
+                    .isLessThan(delegate.messages.indexOf("response:" + i + ":"));
+        }
+    }
+
+    @Test
+    void shouldSnapshotRequest() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate));
+
+        final MockHttpRequest original = MockHttpRequest.create()
+                .withProtocolVersion("HTTP/2")
+                .withOrigin(LOCAL)
+                .withRemote("192.168.0.1")
+                .withMethod("POST")
+                .withScheme("https")
+                .withHost("example.org")
+                .withPath("/test")
+                .withQuery("a=b")
+                .withHeaders(HttpHeaders.of("Content-Type", "text/plain"))
+                .withHttpAttributes(new HttpAttributes(Map.of("key", "value")))
+                .withBodyAsString("Hello");
+
+        unit.write(precorrelation("1"), original);
+        original.withoutBody();
+        delegate.release();
+        unit.close();
+
+        final HttpRequest snapshot = delegate.requests.get(0);
+
+        assertThat(snapshot).isNotSameAs(original);
+        assertThat(snapshot.getProtocolVersion()).isEqualTo("HTTP/2");
+        assertThat(snapshot.getOrigin()).isEqualTo(LOCAL);
+        assertThat(snapshot.getRemote()).isEqualTo("192.168.0.1");
+        assertThat(snapshot.getMethod()).isEqualTo("POST");
+        assertThat(snapshot.getRequestUri()).isEqualTo("https://example.org:80/test?a=b");
+        assertThat(snapshot.getScheme()).isEqualTo("https");
+        assertThat(snapshot.getHost()).isEqualTo("example.org");
+        assertThat(snapshot.getPort()).hasValue(80);
+        assertThat(snapshot.getPath()).isEqualTo("/test");
+        assertThat(snapshot.getQuery()).isEqualTo("a=b");
+        assertThat(snapshot.getHeaders()).containsEntry("Content-Type", Collections.singletonList("text/plain"));
+        assertThat(snapshot.getContentType()).isEqualTo("text/plain");
+        assertThat(snapshot.getCharset()).isEqualTo(original.getCharset());
+        assertThat(snapshot.getAttributes()).containsEntry("key", "value");
+        assertThat(snapshot.getBodyAsString()).isEqualTo("Hello");
+        assertThat(snapshot.getBody()).isEqualTo("Hello".getBytes(original.getCharset()));
+        assertThat(snapshot.isBodyTruncated()).isFalse();
+        assertThat(snapshot.getOriginalBodyLength()).isEqualTo(5);
+        assertThat(snapshot.withBody()).isSameAs(snapshot);
+        assertThat(snapshot.withoutBody().getBodyAsString()).isEmpty();
+        assertThat(snapshot.withoutBody().getMethod()).isEqualTo("POST");
+    }
+
+    @Test
+    void shouldSnapshotResponse() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate));
+
+        final MockHttpResponse original = MockHttpResponse.create()
+                .withProtocolVersion("HTTP/2")
+                .withOrigin(LOCAL)
+                .withStatus(201)
+                .withHeaders(HttpHeaders.of("Content-Type", "text/plain"))
+                .withBodyAsString("World");
+
+        unit.write(correlation("1"), MockHttpRequest.create(), original);
+        original.withoutBody();
+        delegate.release();
+        unit.close();
+
+        final HttpResponse snapshot = delegate.responses.get(0);
+
+        assertThat(snapshot).isNotSameAs(original);
+        assertThat(snapshot.getProtocolVersion()).isEqualTo("HTTP/2");
+        assertThat(snapshot.getOrigin()).isEqualTo(LOCAL);
+        assertThat(snapshot.getStatus()).isEqualTo(201);
+        assertThat(snapshot.getReasonPhrase()).isEqualTo("Created");
+        assertThat(snapshot.getHeaders()).containsEntry("Content-Type", Collections.singletonList("text/plain"));
+        assertThat(snapshot.getContentType()).isEqualTo("text/plain");
+        assertThat(snapshot.getCharset()).isEqualTo(original.getCharset());
+        assertThat(snapshot.getAttributes()).isEmpty();
+        assertThat(snapshot.getBodyAsString()).isEqualTo("World");
+        assertThat(snapshot.getBody()).isEqualTo("World".getBytes(original.getCharset()));
+        assertThat(snapshot.isBodyTruncated()).isFalse();
+        assertThat(snapshot.getOriginalBodyLength()).isEqualTo(5);
+        assertThat(snapshot.withBody()).isSameAs(snapshot);
+        assertThat(snapshot.withoutBody().getBodyAsString()).isEmpty();
+        assertThat(snapshot.withoutBody().getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void shouldSnapshotBinaryBodiesWithoutLoss() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate));
+
+        // not valid UTF-8, i.e. a round trip through a String would replace these bytes
+        final byte[] body = {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE};
+
+        final HttpRequest request = spy(MockHttpRequest.create().withContentType("application/octet-stream"));
+        doReturn(body).when(request).getBody();
+        final HttpResponse response = spy(MockHttpResponse.create().withContentType("application/octet-stream"));
+        doReturn(body).when(response).getBody();
+
+        unit.write(precorrelation("1"), request);
+        unit.write(correlation("1"), request, response);
+        delegate.release();
+        unit.close();
+
+        assertThat(delegate.requests.get(0).getBody()).isEqualTo(body);
+        assertThat(delegate.responses.get(0).getBody()).isEqualTo(body);
+        verify(request, never()).getBodyAsString();
+        verify(response, never()).getBodyAsString();
+    }
+
+    @Test
+    void shouldDropNewestIfFull() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate)
+                .queueCapacity(1)
+                .overflowPolicy(OverflowPolicy.DROP_NEWEST)
+                .build());
+
+        fill(unit);
+        unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("new"));
+
+        assertThat(unit.getDropped()).isEqualTo(1);
+
+        delegate.release();
+        unit.close();
+
+        assertThat(delegate.messages).containsExactly("request:1:blocking", "request:1:queued");
+    }
+
+    @Test
+    void shouldDropOldestIfFull() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate)
+                .queueCapacity(1)
+                .overflowPolicy(OverflowPolicy.DROP_OLDEST)
+                .build());
+
+        fill(unit);
+        unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("new"));
+
+        assertThat(unit.getDropped()).isEqualTo(1);
+
+        delegate.release();
+        unit.close();
+
+        assertThat(delegate.messages).containsExactly("request:1:blocking", "request:1:new");
+    }
+
+    @Test
+    void shouldDropAfterBlockingIfFull() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate)
+                .queueCapacity(1)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .blockTimeout(Duration.ofMillis(10))
+                .build());
+
+        fill(unit);
+        unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("new"));
+
+        assertThat(unit.getDropped()).isEqualTo(1);
+
+        delegate.release();
+        unit.close();
+
+        assertThat(delegate.messages).containsExactly("request:1:blocking", "request:1:queued");
+    }
+
+    @Test
+    void shouldBlockUntilSpaceIsAvailable() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate)
+                .queueCapacity(1)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .blockTimeout(Duration.ofSeconds(10))
+                .build());
+
+        fill(unit);
+        delegate.release();
+        unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("new"));
+        unit.close();
+
+        assertThat(unit.getDropped()).isZero();
+        assertThat(delegate.messages).containsExactly("request:1:blocking", "request:1:queued", "request:1:new");
+    }
+
+    @Test
+    void shouldDropIfInterruptedWhileBlocking() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate)
+                .queueCapacity(1)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .blockTimeout(Duration.ofSeconds(10))
+                .build());
+
+        fill(unit);
+
+        Thread.currentThread().interrupt();
+        try {
+            unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("new"));
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteSynchronouslyAfterClose() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate.unblocked()));
+        unit.close();
+
+        unit.write(precorrelation("1"), MockHttpRequest.create());
+
+        assertThat(delegate.messages).containsExactly("request:1:");
+        assertThat(delegate.threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldNotLoseMessageQueuedWhileClosing() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate)
+                .queueCapacity(1)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .blockTimeout(Duration.ofSeconds(10))
+                .build());
+
+        fill(unit);
+
+        final Thread producer = new Thread(() -> {
+            try {
+                unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("new"));
+            } catch (final IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        producer.start();
+        awaitWaiting(producer);
+
+        final Thread closer = new Thread(() -> {
+            try {
+                unit.close();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        closer.start();
+        awaitWaiting(closer);
+
+        delegate.release();
+        producer.join(5000);
+        closer.join(5000);
+
+        assertThat(unit.getDropped()).isZero();
+        assertThat(delegate.messages).containsExactlyInAnyOrder(
+                "request:1:blocking", "request:1:queued", "request:1:new");
+    }
+
+    @Test
+    void shouldKeepOrderOfCorrelationWhileClosing() throws Exception {
+        final AsyncSink unit = track(AsyncSink.builder()
+                .delegate(delegate)
+                .queueCapacity(1)
+                .build());
+
+        fill(unit);
+
+        final Thread closer = new Thread(() -> {
+            try {
+                unit.close();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        closer.start();
+        awaitWaiting(closer);
+
+        final Thread producer = new Thread(() -> {
+            try {
+                unit.write(correlation("1"), MockHttpRequest.create(), MockHttpResponse.create());
+            } catch (final IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        producer.start();
+        awaitWaiting(producer);
+
+        delegate.release();
+        producer.join(5000);
+        closer.join(5000);
+
+        assertThat(delegate.messages).containsExactly("request:1:blocking", "request:1:queued", "response:1:");
+    }
+
+    @Test
+    void shouldSurviveFailingDelegate() throws Exception {
+        final Sink failing = mock(Sink.class);
+        doThrow(new IOException()).when(failing).write(any(Precorrelation.class), any());
+
+        final AsyncSink unit = track(new AsyncSink(failing));
+
+        unit.write(precorrelation("1"), MockHttpRequest.create());
+        unit.write(correlation("1"), MockHttpRequest.create(), MockHttpResponse.create());
+
+        verify(failing, timeout(5000)).write(any(Correlation.class), any(), any());
+    }
+
+    @Test
+    void shouldStopWorkerOnInterrupt() throws Exception {
+        final AsyncSink unit = track(new AsyncSink(delegate.unblocked()));
+
+        final Thread worker = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("logbook-async-sink-0"))
+                .filter(Thread::isAlive)
+                .findFirst()
+                .orElseThrow();
+
+        worker.interrupt();
+        worker.join(5000);
+
+        assertThat(worker.isAlive()).isFalse();
+        unit.close();
+    }
+
+    @Test
+    void shouldRejectInvalidWorkers() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncSink.builder()
+                .delegate(delegate)
+                .workers(0)
+                .build());
+    }
+
+    @Test
+    void shouldRejectQueueCapacitySmallerThanWorkers() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncSink.builder()
+                .delegate(delegate)
+                .workers(2)
+                .queueCapacity(1)
+                .build());
+    }
+
+    private AsyncSink track(final AsyncSink unit) {
+        units.add(unit);
+        return unit;
+    }
+
+    /**
+     * Occupies the single worker with a blocked message and fills the queue with another one.
+     */
+    private void fill(final AsyncSink unit) throws Exception {
+        unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("blocking"));
+        assertThat(delegate.started.await(5, SECONDS)).isTrue();
+        unit.write(precorrelation("1"), MockHttpRequest.create().withBodyAsString("queued"));
+    }
+
+    private static void awaitWaiting(final Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static Precorrelation precorrelation(final String id) {
+        return new SimplePrecorrelation(id, Clock.systemUTC());
+    }
+
+    private static Correlation correlation(final String id) {
+        return new SimpleCorrelation(id, MIN, MIN);
+    }
+
+    private static final class RecordingSink implements Sink {
+
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        private final List<HttpRequest> requests = Collections.synchronizedList(new ArrayList<>());
+        private final List<HttpResponse> responses = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        RecordingSink unblocked() {
+            release();
+            return this;
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void write(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
+            await();
+            requests.add(request);
+            record("request:" + precorrelation.getId() + ":" + request.getBodyAsString());
+        }
+
+        @Override
+        public void write(final Correlation correlation, final HttpRequest request, final HttpResponse response)
+                throws IOException {
+            await();
+            responses.add(response);
+            record("response:" + correlation.getId() + ":" + response.getBodyAsString());
+        }
+
+        @Override
+        public void writeBoth(final Correlation correlation, final HttpRequest request, final HttpResponse response)
+                throws IOException {
+            await();
+            record("both:" + correlation.getId() + ":" + request.getBodyAsString() + ":" + response.getBodyAsString());
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                released.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void record(final String message) {
+            threads.add(Thread.currentThread().getName());
+            messages.add(message);
+        }
+
+    }
+
+}
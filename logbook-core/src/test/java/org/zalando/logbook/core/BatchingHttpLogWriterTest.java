@@ -0,0 +1,222 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.core.DefaultLogbook.SimpleCorrelation;
+import org.zalando.logbook.core.DefaultLogbook.SimplePrecorrelation;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+import static java.time.Instant.MIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+final class BatchingHttpLogWriterTest {
+
+    private static final String SEPARATOR = System.lineSeparator();
+
+    private final HttpLogWriter delegate = mock(HttpLogWriter.class);
+
+    private final Precorrelation precorrelation = new SimplePrecorrelation("1", Clock.systemUTC());
+    private final Correlation correlation = new SimpleCorrelation("1", MIN, MIN);
+
+    @Test
+    void shouldDelegateActive() {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 10, 1024, Duration.ZERO);
+
+        assertThat(unit.isActive()).isFalse();
+
+        when(delegate.isActive()).thenReturn(true);
+
+        assertThat(unit.isActive()).isTrue();
+    }
+
+    @Test
+    void shouldHoldBackMessagesBelowThresholds() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 10, 1024, Duration.ZERO);
+
+        unit.write(precorrelation, "request");
+        unit.write(correlation, "response");
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void shouldWriteBatchWhenMaxRecordsIsReached() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 2, 1024, Duration.ZERO);
+
+        unit.write(precorrelation, "request");
+        unit.write(correlation, "response");
+
+        verify(delegate).write(precorrelation, "request" + SEPARATOR + "response");
+    }
+
+    @Test
+    void shouldWriteBatchWhenMaxSizeIsReached() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 10, 10, Duration.ZERO);
+
+        unit.write(precorrelation, "12345");
+        unit.write(correlation, "67890");
+
+        verify(delegate).write(precorrelation, "12345" + SEPARATOR + "67890");
+    }
+
+    @Test
+    void shouldStartNewBatchAfterWrite() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 1, 1024, Duration.ZERO);
+
+        unit.write(precorrelation, "request");
+        unit.write(correlation, "response");
+
+        verify(delegate).write(precorrelation, "request");
+        verify(delegate).write((Precorrelation) correlation, "response");
+    }
+
+    @Test
+    void shouldAppendContentToBatch() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 2, 1024, Duration.ZERO);
+
+        unit.write(precorrelation, output -> output.append("req").append("uest"));
+        unit.write(correlation, output -> output.append("response"));
+
+        verify(delegate).write(precorrelation, "request" + SEPARATOR + "response");
+    }
+
+    @Test
+    void shouldDiscardPartiallyWrittenContent() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 2, 1024, Duration.ZERO);
+
+        unit.write(precorrelation, "request");
+        assertThrows(IOException.class, () -> unit.write(correlation, output -> {
+            output.append("partial");
+            throw new IOException();
+        }));
+        assertThrows(IllegalStateException.class, () -> unit.write(correlation, output -> {
+            output.append("partial");
+            throw new IllegalStateException();
+        }));
+        unit.write(correlation, "response");
+
+        verify(delegate).write(precorrelation, "request" + SEPARATOR + "response");
+    }
+
+    @Test
+    void shouldWritePeriodically() throws IOException {
+        final BatchingHttpLogWriter unit = BatchingHttpLogWriter.builder()
+                .delegate(delegate)
+                .maxDelay(Duration.ofMillis(10))
+                .build();
+
+        unit.write(precorrelation, "request");
+
+        verify(delegate, timeout(5000)).write(precorrelation, "request");
+
+        unit.close();
+    }
+
+    @Test
+    void shouldSurviveFailingPeriodicWrite() throws IOException {
+        doThrow(new IOException()).when(delegate).write(any(Precorrelation.class), anyString());
+
+        final BatchingHttpLogWriter unit = BatchingHttpLogWriter.builder()
+                .delegate(delegate)
+                .maxDelay(Duration.ofMillis(10))
+                .build();
+
+        unit.write(precorrelation, "first");
+        verify(delegate, timeout(5000)).write(precorrelation, "first");
+
+        unit.write(precorrelation, "second");
+        verify(delegate, timeout(5000)).write(precorrelation, "second");
+
+        unit.close();
+    }
+
+    @Test
+    void shouldNotWriteEmptyBatch() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 10, 1024, Duration.ZERO);
+
+        unit.flush();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void shouldWritePendingMessagesOnClose() throws IOException {
+        final BatchingHttpLogWriter unit = BatchingHttpLogWriter.builder()
+                .delegate(delegate)
+                .maxDelay(Duration.ofHours(1))
+                .build();
+
+        unit.write(precorrelation, "request");
+        unit.write(correlation, "response");
+        unit.close();
+
+        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(delegate, times(1)).write(any(Precorrelation.class), captor.capture());
+        assertThat(captor.getValue()).isEqualTo("request" + SEPARATOR + "response");
+    }
+
+    @Test
+    void shouldCloseWithoutScheduler() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 10, 1024, Duration.ofMillis(-1));
+
+        unit.write(precorrelation, "request");
+        unit.close();
+
+        verify(delegate).write(precorrelation, "request");
+    }
+
+    @Test
+    void shouldWriteMessagesAfterCloseRightAway() throws IOException {
+        final BatchingHttpLogWriter unit = BatchingHttpLogWriter.builder()
+                .delegate(delegate)
+                .maxDelay(Duration.ofHours(1))
+                .build();
+
+        unit.close();
+        unit.write(precorrelation, "request");
+
+        verify(delegate).write(precorrelation, "request");
+    }
+
+    @Test
+    void shouldKeepBatchingAfterLargeMessage() throws IOException {
+        final BatchingHttpLogWriter unit = new BatchingHttpLogWriter(delegate, 2, 16, Duration.ZERO);
+        final String large = "x".repeat(1024);
+
+        unit.write(precorrelation, large);
+        unit.write(precorrelation, "request");
+        unit.write(correlation, "response");
+
+        verify(delegate).write(precorrelation, large);
+        verify(delegate).write(precorrelation, "request" + SEPARATOR + "response");
+    }
+
+    @Test
+    void shouldRejectInvalidMaxRecords() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BatchingHttpLogWriter(delegate, 0, 1024, Duration.ZERO));
+    }
+
+    @Test
+    void shouldRejectInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BatchingHttpLogWriter(delegate, 10, 0, Duration.ZERO));
+    }
+
+}
@@ -4,7 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.zalando.logbook.core.BodyFilters.defaultValue;
@@ -51,6 +55,50 @@ final class BodyFiltersTest {
         assertThat(actual).isEqualTo("{\"foo\":\"secret\"}");
     }
 
+    @Test
+    void shouldTruncateUtf8EncodedBodyWithoutSplittingCharacters() {
+        final ByteBodyFilter unit = (ByteBodyFilter) truncate(3);
+
+        assertThat(unit.filter("text/plain", UTF_8, "äö😀ü".getBytes(UTF_8)))
+                .isEqualTo("äö...".getBytes(UTF_8));
+        assertThat(unit.filter("text/plain", UTF_8, "ä😀".getBytes(UTF_8)))
+                .isEqualTo("ä😀".getBytes(UTF_8));
+        assertThat(unit.filter("text/plain", UTF_8, "äöüß".getBytes(UTF_8)))
+                .isEqualTo("äöü...".getBytes(UTF_8));
+    }
+
+    @Test
+    void shouldNotTruncateShortUtf8EncodedBody() {
+        final ByteBodyFilter unit = (ByteBodyFilter) truncate(5);
+        final byte[] body = "abc".getBytes(UTF_8);
+
+        assertThat(unit.filter("text/plain", UTF_8, body)).isSameAs(body);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ISO-8859-1", "US-ASCII", "UTF-16"})
+    void shouldTruncateEncodedBody(final String name) {
+        final Charset charset = Charset.forName(name);
+        final ByteBodyFilter unit = (ByteBodyFilter) truncate(5);
+
+        final byte[] body = "{\"foo\":\"secret\"}".getBytes(charset);
+        assertThat(new String(unit.filter("application/json", charset, body), charset)).isEqualTo("{\"foo...");
+
+        final byte[] shortBody = "{}".getBytes(charset);
+        assertThat(unit.filter("application/json", charset, shortBody)).isSameAs(shortBody);
+    }
+
+    @Test
+    void shouldFilterFormUrlEncodedBodyWithoutDecodingOtherContentTypes() {
+        final ByteBodyFilter unit = (ByteBodyFilter) oauthRequest();
+
+        assertThat(unit.filter("application/x-www-form-urlencoded", UTF_8, "password=secret".getBytes(UTF_8)))
+                .isEqualTo("password=XXX".getBytes(UTF_8));
+
+        final byte[] body = "password=secret".getBytes(UTF_8);
+        assertThat(unit.filter("text/plain", UTF_8, body)).isSameAs(body);
+    }
+
     @Test
     void shouldFilterFormUrlEncodedBodyIfValidRequest() {
         final BodyFilter unit = replaceFormUrlEncodedProperty(singleton("q"), "XXX");
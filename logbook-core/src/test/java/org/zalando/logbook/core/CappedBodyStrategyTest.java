@@ -0,0 +1,59 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.Strategy;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CappedBodyStrategyTest {
+
+    private final Strategy strategy = mock(Strategy.class);
+    private final Strategy unit = new CappedBodyStrategy(strategy, 1024);
+
+    @Test
+    void shouldLimitRequestBeforeProcessing() throws IOException {
+        final HttpRequest request = mock(HttpRequest.class);
+        final HttpRequest limited = mock(HttpRequest.class);
+        when(request.withBodyLimit(1024)).thenReturn(limited);
+        when(strategy.process(limited)).thenReturn(limited);
+
+        assertThat(unit.process(request)).isSameAs(limited);
+    }
+
+    @Test
+    void shouldLimitResponseBeforeProcessing() throws IOException {
+        final HttpRequest request = mock(HttpRequest.class);
+        final HttpResponse response = mock(HttpResponse.class);
+        final HttpResponse limited = mock(HttpResponse.class);
+        when(response.withBodyLimit(1024)).thenReturn(limited);
+        when(strategy.process(request, limited)).thenReturn(limited);
+
+        assertThat(unit.process(request, response)).isSameAs(limited);
+    }
+
+    @Test
+    void shouldDelegateWrites() throws IOException {
+        final Precorrelation precorrelation = mock(Precorrelation.class);
+        final Correlation correlation = mock(Correlation.class);
+        final HttpRequest request = mock(HttpRequest.class);
+        final HttpResponse response = mock(HttpResponse.class);
+        final Sink sink = mock(Sink.class);
+
+        unit.write(precorrelation, request, sink);
+        unit.write(correlation, request, response, sink);
+
+        verify(strategy).write(precorrelation, request, sink);
+        verify(strategy).write(correlation, request, response, sink);
+    }
+
+}
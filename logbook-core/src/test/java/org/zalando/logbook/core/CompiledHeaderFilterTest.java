@@ -0,0 +1,91 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.logbook.HeaderFilter;
+import org.zalando.logbook.HttpHeaders;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.zalando.logbook.HeaderFilter.merge;
+import static org.zalando.logbook.core.HeaderFilters.removeHeaders;
+import static org.zalando.logbook.core.HeaderFilters.replaceHeaders;
+
+final class CompiledHeaderFilterTest {
+
+    private final HttpHeaders headers = HttpHeaders.empty()
+            .update("Authorization", "Bearer s3cr3t", "Basic dXNlcjpwYXNzd29yZA==")
+            .update("Cookie", "user=me")
+            .update("Accept", "text/plain")
+            .update("X-Api-Key", "s3cr3t");
+
+    @Test
+    void shouldMergeNameBasedRules() {
+        final HeaderFilter unit = merge(
+                replaceHeaders(Arrays.asList("authorization", "X-API-KEY"), "XXX"),
+                removeHeaders("cookie", "X-Missing"));
+
+        assertThat(unit).isInstanceOf(CompiledHeaderFilter.class);
+        assertThat(unit.filter(headers))
+                .containsOnlyKeys("Accept", "Authorization", "X-Api-Key")
+                .containsEntry("Authorization", Arrays.asList("XXX", "XXX"))
+                .containsEntry("X-Api-Key", singletonList("XXX"))
+                .containsEntry("Accept", singletonList("text/plain"));
+    }
+
+    @Test
+    void shouldApplyMergedRulesLikeChain() {
+        final List<HeaderFilter> filters = Arrays.asList(
+                replaceHeaders("Authorization", "XXX"),
+                removeHeaders("Authorization"),
+                replaceHeaders("Authorization", "YYY"),
+                replaceHeaders("Cookie", "XXX"),
+                replaceHeaders("Cookie", "YYY"),
+                removeHeaders("Accept"),
+                replaceHeaders("Accept", "XXX"));
+
+        final HttpHeaders expected = chain(filters).filter(headers);
+        final HeaderFilter unit = filters.stream().reduce(HeaderFilter::merge).orElseThrow();
+
+        assertThat(unit).isInstanceOf(CompiledHeaderFilter.class);
+        assertThat(unit.filter(headers)).isEqualTo(expected)
+                .containsOnlyKeys("Cookie", "X-Api-Key")
+                .containsEntry("Cookie", singletonList("XXX"));
+    }
+
+    @Test
+    void shouldNotChangeHeadersWithoutMatches() {
+        final HeaderFilter unit = merge(replaceHeaders("X-Secret", "XXX"), removeHeaders("X-Other"));
+
+        assertThat(unit.filter(headers)).isSameAs(headers);
+    }
+
+    @Test
+    void shouldFallBackToChainForOpaqueFilters() {
+        final HeaderFilter opaque = HeaderFilters.removeHeaders("Cookie"::equalsIgnoreCase);
+        final HeaderFilter unit = merge(replaceHeaders("Authorization", "XXX"), opaque);
+
+        assertThat(unit).isNotInstanceOf(CompiledHeaderFilter.class);
+        assertThat(replaceHeaders("Authorization", "XXX").tryMerge(opaque)).isNull();
+        assertThat(unit.filter(headers))
+                .containsOnlyKeys("Accept", "Authorization", "X-Api-Key")
+                .containsEntry("Authorization", Arrays.asList("XXX", "XXX"));
+    }
+
+    /**
+     * Applies filters one after another, like {@link HeaderFilter#merge(HeaderFilter, HeaderFilter)} without merging,
+     * i.e. the last one first.
+     */
+    private static HeaderFilter chain(final List<HeaderFilter> filters) {
+        return headers -> {
+            HttpHeaders result = headers;
+            for (int i = filters.size() - 1; i >= 0; i--) {
+                result = filters.get(i).filter(result);
+            }
+            return result;
+        };
+    }
+
+}
@@ -6,6 +6,7 @@ import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpLogFormatter;
 import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.Origin;
+import org.zalando.logbook.StreamingHttpLogFormatter;
 import org.zalando.logbook.core.DefaultLogbook.SimpleCorrelation;
 import org.zalando.logbook.core.DefaultLogbook.SimplePrecorrelation;
 import org.zalando.logbook.test.MockHttpRequest;
@@ -18,6 +19,7 @@ import static java.time.Instant.MIN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 final class CurlHttpLogFormatterTest {
 
@@ -94,4 +96,33 @@ final class CurlHttpLogFormatterTest {
         verify(fallback).format(correlation, response);
     }
 
+    @Test
+    void shouldDelegateStreamingLogResponse() throws IOException {
+        final StreamingHttpLogFormatter fallback = mock(StreamingHttpLogFormatter.class);
+        final StreamingHttpLogFormatter unit = new CurlHttpLogFormatter(fallback);
+
+        final MockHttpResponse response = MockHttpResponse.create();
+        final StringBuilder output = new StringBuilder();
+
+        final Correlation correlation = new SimpleCorrelation("3881ae92-6824-11e5-921b-10ddb1ee7671", MIN, MIN);
+
+        unit.format(correlation, response, output);
+        verify(fallback).format(correlation, response, output);
+    }
+
+    @Test
+    void shouldAppendNonStreamingLogResponse() throws IOException {
+        final HttpLogFormatter fallback = mock(HttpLogFormatter.class);
+        final StreamingHttpLogFormatter unit = new CurlHttpLogFormatter(fallback);
+
+        final MockHttpResponse response = MockHttpResponse.create();
+        final StringBuilder output = new StringBuilder();
+
+        final Correlation correlation = new SimpleCorrelation("3881ae92-6824-11e5-921b-10ddb1ee7671", MIN, MIN);
+        when(fallback.format(correlation, response)).thenReturn("response");
+
+        unit.format(correlation, response, output);
+        assertThat(output).hasToString("response");
+    }
+
 }
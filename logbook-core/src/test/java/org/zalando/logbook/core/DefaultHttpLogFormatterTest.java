@@ -235,4 +235,25 @@ final class DefaultHttpLogFormatterTest {
                 "\n" +
                 "{\"success\":true}");
     }
+
+    @Test
+    void shouldLogResponseForMultiValuedHeader() throws IOException {
+        final String correlationId = "2d51bc02-677e-11e5-8b9b-10ddb1ee7671";
+
+        final HttpResponse response = MockHttpResponse.create()
+                .withProtocolVersion("HTTP/1.0")
+                .withOrigin(Origin.REMOTE)
+                .withHeaders(HttpHeaders.empty()
+                        .update("Vary", "Accept", "Accept-Encoding"));
+
+        final StringBuilder http = new StringBuilder();
+        new DefaultHttpLogFormatter().format(
+                new SimpleCorrelation(correlationId, Instant.MIN, Instant.MIN.plusMillis(125)), response, http);
+
+        assertThat(http).hasToString("Incoming Response: 2d51bc02-677e-11e5-8b9b-10ddb1ee7671\n" +
+                "Duration: 125 ms\n" +
+                "HTTP/1.0 200 OK\n" +
+                "Vary: Accept, Accept-Encoding");
+    }
+
 }
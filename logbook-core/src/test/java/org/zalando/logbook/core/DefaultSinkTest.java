@@ -8,14 +8,25 @@ import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Precorrelation;
 import org.zalando.logbook.Sink;
+import org.zalando.logbook.StreamingHttpLogFormatter;
+import org.zalando.logbook.StreamingHttpLogWriter;
+import org.zalando.logbook.StreamingHttpLogWriter.Content;
+import org.zalando.logbook.Utf8HttpLogFormatter;
+import org.zalando.logbook.Utf8HttpLogWriter;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class DefaultSinkTest {
 
@@ -65,4 +76,130 @@ class DefaultSinkTest {
         verify(writer).write(correlation, "response");
     }
 
+    @Test
+    void writeRequestWithoutIntermediateString() throws IOException {
+        final StreamingHttpLogFormatter formatter = mock(StreamingHttpLogFormatter.class);
+        final StreamingHttpLogWriter writer = mock(StreamingHttpLogWriter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        final StringBuilder output = new StringBuilder();
+        doAnswer(invocation -> {
+            invocation.<Content>getArgument(1).writeTo(output);
+            return null;
+        }).when(writer).write(eq(precorrelation), any(Content.class));
+
+        unit.write(precorrelation, request);
+
+        verify(formatter).format(precorrelation, request, output);
+        verify(formatter, never()).format(precorrelation, request);
+    }
+
+    @Test
+    void writeResponseWithoutIntermediateString() throws IOException {
+        final StreamingHttpLogFormatter formatter = mock(StreamingHttpLogFormatter.class);
+        final StreamingHttpLogWriter writer = mock(StreamingHttpLogWriter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        final StringBuilder output = new StringBuilder();
+        doAnswer(invocation -> {
+            invocation.<Content>getArgument(1).writeTo(output);
+            return null;
+        }).when(writer).write(eq(correlation), any(Content.class));
+
+        unit.write(correlation, request, response);
+
+        verify(formatter).format(correlation, response, output);
+        verify(formatter, never()).format(correlation, response);
+    }
+
+    @Test
+    void writeStringIfOnlyFormatterIsStreaming() throws IOException {
+        final StreamingHttpLogFormatter formatter = mock(StreamingHttpLogFormatter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        when(formatter.format(precorrelation, request)).thenReturn("request");
+        unit.write(precorrelation, request);
+        verify(writer).write(precorrelation, "request");
+    }
+
+    @Test
+    void writeStringIfOnlyWriterIsStreaming() throws IOException {
+        final StreamingHttpLogWriter writer = mock(StreamingHttpLogWriter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        when(formatter.format(correlation, response)).thenReturn("response");
+        unit.write(correlation, request, response);
+        verify(writer).write(correlation, "response");
+    }
+
+    @Test
+    void writeRequestWithoutEncodingString() throws IOException {
+        final Utf8HttpLogFormatter formatter = mock(Utf8HttpLogFormatter.class);
+        final Utf8HttpLogWriter writer = mock(Utf8HttpLogWriter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            invocation.<Utf8HttpLogWriter.Content>getArgument(1).writeTo(output);
+            return null;
+        }).when(writer).write(eq(precorrelation), any(Utf8HttpLogWriter.Content.class));
+
+        unit.write(precorrelation, request);
+
+        verify(formatter).format(precorrelation, request, output);
+        verify(formatter, never()).format(precorrelation, request);
+    }
+
+    @Test
+    void writeResponseWithoutEncodingString() throws IOException {
+        final Utf8HttpLogFormatter formatter = mock(Utf8HttpLogFormatter.class);
+        final Utf8HttpLogWriter writer = mock(Utf8HttpLogWriter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            invocation.<Utf8HttpLogWriter.Content>getArgument(1).writeTo(output);
+            return null;
+        }).when(writer).write(eq(correlation), any(Utf8HttpLogWriter.Content.class));
+
+        unit.write(correlation, request, response);
+
+        verify(formatter).format(correlation, response, output);
+        verify(formatter, never()).format(correlation, response);
+    }
+
+    @Test
+    void preferEncodedOverStreamingOutput() throws IOException {
+        final Utf8HttpLogFormatter formatter = mock(Utf8HttpLogFormatter.class,
+                withSettings().extraInterfaces(StreamingHttpLogFormatter.class));
+        final Utf8HttpLogWriter writer = mock(Utf8HttpLogWriter.class,
+                withSettings().extraInterfaces(StreamingHttpLogWriter.class));
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        unit.write(precorrelation, request);
+
+        verify(writer).write(eq(precorrelation), any(Utf8HttpLogWriter.Content.class));
+        verify((StreamingHttpLogWriter) writer, never()).write(eq(precorrelation), any(Content.class));
+    }
+
+    @Test
+    void writeStringIfOnlyFormatterIsEncoding() throws IOException {
+        final Utf8HttpLogFormatter formatter = mock(Utf8HttpLogFormatter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        when(formatter.format(precorrelation, request)).thenReturn("request");
+        unit.write(precorrelation, request);
+        verify(writer).write(precorrelation, "request");
+    }
+
+    @Test
+    void writeStringIfOnlyWriterIsEncoding() throws IOException {
+        final Utf8HttpLogWriter writer = mock(Utf8HttpLogWriter.class);
+        final Sink unit = new DefaultSink(formatter, writer);
+
+        when(formatter.format(correlation, response)).thenReturn("response");
+        unit.write(correlation, request, response);
+        verify(writer).write(correlation, "response");
+    }
+
 }
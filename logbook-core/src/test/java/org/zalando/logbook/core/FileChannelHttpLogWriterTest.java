@@ -0,0 +1,233 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.core.DefaultLogbook.SimpleCorrelation;
+import org.zalando.logbook.core.DefaultLogbook.SimplePrecorrelation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.Instant.MIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class FileChannelHttpLogWriterTest {
+
+    private final Precorrelation precorrelation = new SimplePrecorrelation("1", Clock.systemUTC());
+    private final Correlation correlation = new SimpleCorrelation("1", MIN, MIN);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldBeActive() throws IOException {
+        try (FileChannelHttpLogWriter unit = FileChannelHttpLogWriter.builder().directory(directory).build()) {
+            assertThat(((HttpLogWriter) unit).isActive()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldWriteRequestAndResponse() throws IOException {
+        try (FileChannelHttpLogWriter unit = FileChannelHttpLogWriter.builder().directory(directory).build()) {
+            unit.write(precorrelation, "request");
+            unit.write(correlation, "response äöü");
+        }
+
+        assertThat(segments()).containsExactly(directory.resolve("logbook-0.log"));
+        assertThat(Files.readString(directory.resolve("logbook-0.log"), UTF_8))
+                .isEqualTo("request\nresponse äöü\n");
+    }
+
+    @Test
+    void shouldWriteEncodedRequestAndResponse() throws IOException {
+        try (FileChannelHttpLogWriter unit = FileChannelHttpLogWriter.builder().directory(directory).build()) {
+            unit.write(precorrelation, output -> output.write("request".getBytes(UTF_8)));
+            unit.write(correlation, output -> output.write("response äöü".getBytes(UTF_8)));
+        }
+
+        assertThat(Files.readString(directory.resolve("logbook-0.log"), UTF_8))
+                .isEqualTo("request\nresponse äöü\n");
+    }
+
+    @Test
+    void shouldReuseBufferAfterLargeEncodedMessage() throws IOException {
+        final String large = "x".repeat(100 * 1024);
+
+        try (FileChannelHttpLogWriter unit = FileChannelHttpLogWriter.builder().directory(directory).build()) {
+            unit.write(precorrelation, output -> output.write(large.getBytes(UTF_8)));
+            unit.write(correlation, output -> output.write("response".getBytes(UTF_8)));
+        }
+
+        assertThat(Files.readString(directory.resolve("logbook-0.log"), UTF_8))
+                .isEqualTo(large + "\nresponse\n");
+    }
+
+    @Test
+    void shouldDiscardPartiallyEncodedMessage() throws IOException {
+        try (FileChannelHttpLogWriter unit = FileChannelHttpLogWriter.builder().directory(directory).build()) {
+            assertThrows(IOException.class, () -> unit.write(precorrelation, output -> {
+                output.write("partial".getBytes(UTF_8));
+                throw new IOException();
+            }));
+            unit.write(correlation, output -> output.write("response".getBytes(UTF_8)));
+        }
+
+        assertThat(Files.readString(directory.resolve("logbook-0.log"), UTF_8))
+                .isEqualTo("response\n");
+    }
+
+    @Test
+    void shouldRollOverFullSegments() throws IOException {
+        try (FileChannelHttpLogWriter unit = new FileChannelHttpLogWriter(directory, "test", 16)) {
+            unit.write(precorrelation, "first");
+            unit.write(precorrelation, "second");
+            unit.write(precorrelation, "third");
+        }
+
+        assertThat(segments()).containsExactly(
+                directory.resolve("test-0.log"),
+                directory.resolve("test-1.log"));
+        assertThat(Files.readString(directory.resolve("test-0.log"))).isEqualTo("first\nsecond\n");
+        assertThat(Files.readString(directory.resolve("test-1.log"))).isEqualTo("third\n");
+    }
+
+    @Test
+    void shouldWriteOversizedMessageToDedicatedSegment() throws IOException {
+        try (FileChannelHttpLogWriter unit = new FileChannelHttpLogWriter(directory, "test", 8)) {
+            unit.write(precorrelation, "a");
+            unit.write(precorrelation, "much longer than a segment");
+            unit.write(precorrelation, "b");
+        }
+
+        assertThat(segments()).containsExactly(
+                directory.resolve("test-0.log"),
+                directory.resolve("test-1.log"),
+                directory.resolve("test-2.log"));
+        assertThat(Files.readString(directory.resolve("test-0.log"))).isEqualTo("a\n");
+        assertThat(Files.readString(directory.resolve("test-1.log"))).isEqualTo("much longer than a segment\n");
+        assertThat(Files.readString(directory.resolve("test-2.log"))).isEqualTo("b\n");
+    }
+
+    @Test
+    void shouldDeleteEmptySegments() throws IOException {
+        try (FileChannelHttpLogWriter unit = new FileChannelHttpLogWriter(directory, "test", 8)) {
+            unit.write(precorrelation, "much longer than a segment");
+        }
+
+        assertThat(segments()).containsExactly(directory.resolve("test-1.log"));
+    }
+
+    @Test
+    void shouldNotOverwriteExistingSegments() throws IOException {
+        Files.writeString(directory.resolve("test-0.log"), "existing\n");
+
+        try (FileChannelHttpLogWriter unit = new FileChannelHttpLogWriter(directory, "test", 1024)) {
+            unit.write(precorrelation, "new");
+        }
+
+        assertThat(Files.readString(directory.resolve("test-0.log"))).isEqualTo("existing\n");
+        assertThat(Files.readString(directory.resolve("test-1.log"))).isEqualTo("new\n");
+    }
+
+    @Test
+    void shouldSupportClosingTwice() throws IOException {
+        final FileChannelHttpLogWriter unit = new FileChannelHttpLogWriter(directory, "test", 1024);
+        unit.write(precorrelation, "request");
+
+        unit.close();
+        unit.close();
+
+        assertThat(Files.readString(directory.resolve("test-0.log"))).isEqualTo("request\n");
+    }
+
+    @Test
+    void shouldRejectWritesAfterClose() throws IOException {
+        final FileChannelHttpLogWriter unit = new FileChannelHttpLogWriter(directory, "test", 1024);
+        unit.write(precorrelation, "request");
+        unit.close();
+
+        assertThrows(IOException.class, () -> unit.write(correlation, "response"));
+        assertThrows(IOException.class, () -> unit.write(correlation, output -> output.write('x')));
+
+        assertThat(Files.readString(directory.resolve("test-0.log"))).isEqualTo("request\n");
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldSupportConcurrentWriters() throws Exception {
+        final int threads = 8;
+        final int messages = 1000;
+
+        try (FileChannelHttpLogWriter unit = new FileChannelHttpLogWriter(directory, "test", 4096)) {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            try {
+                final List<Callable<Void>> tasks = IntStream.range(0, threads)
+                        .<Callable<Void>>mapToObj(thread -> () -> {
+                            for (int i = 0; i < messages; i++) {
+                                unit.write(precorrelation, "thread-" + thread + "-message-" + i);
+                            }
+                            return null;
+                        })
+                        .collect(Collectors.toList());
+
+                for (final Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        final List<String> lines = new ArrayList<>();
+        for (final Path segment : segments()) {
+            final String content = Files.readString(segment);
+            assertThat(content).doesNotContain("\0").endsWith("\n");
+            lines.addAll(content.lines().collect(Collectors.toList()));
+        }
+
+        assertThat(lines)
+                .hasSize(threads * messages)
+                .doesNotHaveDuplicates()
+                .allMatch(line -> line.matches("thread-\\d-message-\\d+"));
+    }
+
+    @Test
+    void shouldRejectInvalidSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new FileChannelHttpLogWriter(directory, "test", 0));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .sorted(Comparator.comparingInt(path -> index(path.getFileName().toString())))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int index(final String name) {
+        return Integer.parseInt(name.substring(name.lastIndexOf('-') + 1, name.length() - ".log".length()));
+    }
+
+}
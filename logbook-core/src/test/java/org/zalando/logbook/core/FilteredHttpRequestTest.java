@@ -1,18 +1,25 @@
 package org.zalando.logbook.core;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 import org.zalando.logbook.HeaderFilter;
 import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.PathFilter;
+import org.zalando.logbook.QueryFilter;
 import org.zalando.logbook.attributes.HttpAttributes;
 import org.zalando.logbook.test.MockHttpRequest;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
 
 final class FilteredHttpRequestTest {
     private final Map<String, Object> attributesMap = new HashMap<>();
@@ -62,6 +69,12 @@ final class FilteredHttpRequestTest {
                 .hasEntrySatisfying("Authorization", values -> assertThat(values).contains("XXX"));
     }
 
+    @Test
+    void shouldFilterAuthorizationHeaderWithBodyLimit() {
+        assertThat(unit.withBodyLimit(1024).getHeaders())
+                .hasEntrySatisfying("Authorization", values -> assertThat(values).contains("XXX"));
+    }
+
     @Test
     void shouldNotFilterAcceptHeader() {
         assertThat(unit.getHeaders())
@@ -96,6 +109,23 @@ final class FilteredHttpRequestTest {
         assertThat(new String(unit.getBody(), unit.getCharset())).isEqualTo("My secret is f4k3");
     }
 
+    @Test
+    void shouldFilterBodyWithoutDecoding() throws IOException {
+        final byte[] body = "My secret is s3cr3t".getBytes(UTF_8);
+        final HttpRequest original = spy(MockHttpRequest.create());
+        when(original.getBody()).thenReturn(body);
+
+        final HttpRequest request = new FilteredHttpRequest(
+                original,
+                QueryFilter.none(),
+                PathFilter.none(),
+                HeaderFilter.none(),
+                ByteBodyFilter.toBodyFilter((contentType, charset, bytes) -> bytes));
+
+        assertThat(request.getBody()).isSameAs(body);
+        assertThat(request.getBodyAsString()).isEqualTo("My secret is s3cr3t");
+    }
+
     @Test
     void shouldFilterPath() {
         assertThat(unit.getPath()).isEqualTo("/endpoint/XXX/action");
@@ -152,4 +182,78 @@ final class FilteredHttpRequestTest {
                 HeaderFilters.authorization(),
                 (contentType, body) -> body.replace("s3cr3t", "f4k3"));
     }
+
+    @Test
+    void shouldFilterBodyOnlyOnce() throws IOException {
+        final AtomicInteger invocations = new AtomicInteger();
+        final HttpRequest original = MockHttpRequest.create().withBodyAsString("My secret is s3cr3t");
+
+        final HttpRequest message = new FilteredHttpRequest(
+                original,
+                QueryFilter.none(),
+                PathFilter.none(),
+                HeaderFilter.none(),
+                (contentType, body) -> {
+                    invocations.incrementAndGet();
+                    return body.replace("s3cr3t", "f4k3");
+                });
+
+        assertThat(message.getBodyAsString()).isEqualTo("My secret is f4k3");
+        assertThat(message.getBodyAsString()).isEqualTo("My secret is f4k3");
+        assertThat(message.getBody()).isEqualTo("My secret is f4k3".getBytes(UTF_8));
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldFilterBytesOnlyOnce() throws IOException {
+        final AtomicInteger invocations = new AtomicInteger();
+        final HttpRequest original = MockHttpRequest.create().withBodyAsString("My secret is s3cr3t");
+
+        final HttpRequest message = new FilteredHttpRequest(
+                original,
+                QueryFilter.none(),
+                PathFilter.none(),
+                HeaderFilter.none(),
+                ByteBodyFilter.toBodyFilter((contentType, charset, bytes) -> {
+                    invocations.incrementAndGet();
+                    return bytes;
+                }));
+
+        assertThat(message.getBody()).isSameAs(message.getBody());
+        assertThat(message.getBodyAsString()).isSameAs(message.getBodyAsString());
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldFilterBodyAgainIfStatefulRequestChanged() throws IOException {
+        final HttpRequest original = MockHttpRequest.create().withBodyAsString("My secret is s3cr3t");
+
+        final HttpRequest message = new FilteredHttpRequest(
+                original,
+                QueryFilter.none(),
+                PathFilter.none(),
+                HeaderFilter.none(),
+                (contentType, body) -> body.replace("s3cr3t", "f4k3"));
+
+        assertThat(message.getBodyAsString()).isEqualTo("My secret is f4k3");
+        message.withoutBody();
+        assertThat(message.getBodyAsString()).isEmpty();
+        assertThat(message.getBody()).isEmpty();
+    }
+
+    @Test
+    void shouldPropagateFailureToReadBody() throws IOException {
+        final HttpRequest original = spy(MockHttpRequest.create());
+        when(original.getBody()).thenThrow(new IOException());
+
+        final HttpRequest message = new FilteredHttpRequest(
+                original,
+                QueryFilter.none(),
+                PathFilter.none(),
+                HeaderFilter.none(),
+                ByteBodyFilter.toBodyFilter((contentType, charset, bytes) -> bytes));
+
+        assertThrows(IOException.class, message::getBody);
+    }
+
 }
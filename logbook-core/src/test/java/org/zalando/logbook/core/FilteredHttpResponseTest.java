@@ -1,13 +1,20 @@
 package org.zalando.logbook.core;
 
 import org.junit.jupiter.api.Test;
+import org.zalando.logbook.ByteBodyFilter;
+import org.zalando.logbook.HeaderFilter;
 import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.test.MockHttpResponse;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
 
 final class FilteredHttpResponseTest {
 
@@ -37,6 +44,24 @@ final class FilteredHttpResponseTest {
                 .hasEntrySatisfying("Authorization", values -> assertThat(values).contains("XXX"));
     }
 
+    @Test
+    void shouldFilterConditionalBody() throws IOException {
+        final HttpResponse response = unit.withBodyIf(candidate -> true, 0);
+
+        assertThat(response.getHeaders())
+                .hasEntrySatisfying("Authorization", values -> assertThat(values).contains("XXX"));
+        assertThat(response.getBodyAsString()).isEqualTo("My secret is f4k3");
+    }
+
+    @Test
+    void shouldFilterLimitedBody() throws IOException {
+        final HttpResponse response = unit.withBodyLimit(1024).withBody();
+
+        assertThat(response.getHeaders())
+                .hasEntrySatisfying("Authorization", values -> assertThat(values).contains("XXX"));
+        assertThat(response.getBodyAsString()).isEqualTo("My secret is f4k3");
+    }
+
     @Test
     void shouldNotFilterAcceptHeader() {
         assertThat(unit.getHeaders())
@@ -53,4 +78,73 @@ final class FilteredHttpResponseTest {
         assertThat(new String(unit.getBody(), unit.getCharset())).isEqualTo("My secret is f4k3");
     }
 
+    @Test
+    void shouldFilterBodyWithoutDecoding() throws IOException {
+        final byte[] body = "My secret is s3cr3t".getBytes(UTF_8);
+        final HttpResponse original = spy(MockHttpResponse.create());
+        when(original.getBody()).thenReturn(body);
+
+        final HttpResponse response = new FilteredHttpResponse(
+                original,
+                HeaderFilter.none(),
+                ByteBodyFilter.toBodyFilter((contentType, charset, bytes) -> bytes));
+
+        assertThat(response.getBody()).isSameAs(body);
+        assertThat(response.getBodyAsString()).isEqualTo("My secret is s3cr3t");
+    }
+
+    @Test
+    void shouldFilterBodyOnlyOnce() throws IOException {
+        final AtomicInteger invocations = new AtomicInteger();
+        final HttpResponse original = MockHttpResponse.create().withBodyAsString("My secret is s3cr3t");
+
+        final HttpResponse message = new FilteredHttpResponse(original, HeaderFilter.none(), (contentType, body) -> {
+                    invocations.incrementAndGet();
+                    return body.replace("s3cr3t", "f4k3");
+                });
+
+        assertThat(message.getBodyAsString()).isEqualTo("My secret is f4k3");
+        assertThat(message.getBodyAsString()).isEqualTo("My secret is f4k3");
+        assertThat(message.getBody()).isEqualTo("My secret is f4k3".getBytes(UTF_8));
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldFilterBytesOnlyOnce() throws IOException {
+        final AtomicInteger invocations = new AtomicInteger();
+        final HttpResponse original = MockHttpResponse.create().withBodyAsString("My secret is s3cr3t");
+
+        final HttpResponse message = new FilteredHttpResponse(original, HeaderFilter.none(), ByteBodyFilter.toBodyFilter((contentType, charset, bytes) -> {
+                    invocations.incrementAndGet();
+                    return bytes;
+                }));
+
+        assertThat(message.getBody()).isSameAs(message.getBody());
+        assertThat(message.getBodyAsString()).isSameAs(message.getBodyAsString());
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldFilterBodyAgainIfStatefulResponseChanged() throws IOException {
+        final HttpResponse original = MockHttpResponse.create().withBodyAsString("My secret is s3cr3t");
+
+        final HttpResponse message = new FilteredHttpResponse(original, HeaderFilter.none(),
+                (contentType, body) -> body.replace("s3cr3t", "f4k3"));
+
+        assertThat(message.getBodyAsString()).isEqualTo("My secret is f4k3");
+        message.withoutBody();
+        assertThat(message.getBodyAsString()).isEmpty();
+        assertThat(message.getBody()).isEmpty();
+    }
+
+    @Test
+    void shouldPropagateFailureToReadBody() throws IOException {
+        final HttpResponse original = spy(MockHttpResponse.create());
+        when(original.getBody()).thenThrow(new IOException());
+
+        final HttpResponse message = new FilteredHttpResponse(original, HeaderFilter.none(), ByteBodyFilter.toBodyFilter((contentType, charset, bytes) -> bytes));
+
+        assertThrows(IOException.class, message::getBody);
+    }
+
 }
@@ -0,0 +1,315 @@
+package org.zalando.logbook.core;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.core.DefaultLogbook.SimpleCorrelation;
+import org.zalando.logbook.core.DefaultLogbook.SimplePrecorrelation;
+import org.zalando.logbook.test.MockHttpRequest;
+import org.zalando.logbook.test.MockHttpResponse;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import static java.time.Instant.MIN;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class RateLimitingSinkTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RateLimitingSink.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    private final Sink delegate = mock(Sink.class);
+    private final AtomicLong time = new AtomicLong();
+
+    private final Precorrelation precorrelation = new SimplePrecorrelation("1", Clock.systemUTC());
+    private final Correlation correlation = new SimpleCorrelation("1", MIN, MIN);
+
+    private final HttpRequest request = MockHttpRequest.create().withPath("/orders").withBodyAsString("Hello");
+    private final HttpResponse response = MockHttpResponse.create().withBodyAsString("World");
+
+    @AfterEach
+    void detach() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void shouldDelegateActive() {
+        final Sink unit = new RateLimitingSink(delegate, 1);
+
+        assertThat(unit.isActive()).isFalse();
+
+        when(delegate.isActive()).thenReturn(true);
+
+        assertThat(unit.isActive()).isTrue();
+    }
+
+    @Test
+    void shouldDropBodiesThenMessages() throws IOException {
+        final RateLimitingSink unit = unit(3, Map.of(), Map.of());
+
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, request, response);
+
+        final ArgumentCaptor<HttpRequest> requests = ArgumentCaptor.forClass(HttpRequest.class);
+        final ArgumentCaptor<HttpResponse> responses = ArgumentCaptor.forClass(HttpResponse.class);
+        verify(delegate, times(3)).writeBoth(eq(correlation), requests.capture(), responses.capture());
+
+        assertThat(requests.getAllValues()).extracting(HttpRequest::getBodyAsString)
+                .containsExactly("Hello", "", "");
+        assertThat(responses.getAllValues()).extracting(HttpResponse::getBodyAsString)
+                .containsExactly("World", "", "");
+
+        assertThat(unit.getWithoutBody()).isEqualTo(2);
+        assertThat(unit.getDroppedRequests()).isZero();
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropRequestsBeforeResponses() throws IOException {
+        final RateLimitingSink unit = unit(3, Map.of(), Map.of());
+
+        unit.write(precorrelation, request);
+        unit.write(precorrelation, request);
+        unit.write(precorrelation, request);
+        unit.write(correlation, request, response);
+        unit.write(correlation, request, response);
+
+        final ArgumentCaptor<HttpRequest> requests = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(delegate, times(2)).write(eq(precorrelation), requests.capture());
+        assertThat(requests.getAllValues()).extracting(HttpRequest::getBodyAsString)
+                .containsExactly("Hello", "");
+
+        final ArgumentCaptor<HttpResponse> responses = ArgumentCaptor.forClass(HttpResponse.class);
+        verify(delegate).write(eq(correlation), any(), responses.capture());
+        assertThat(responses.getValue().getBodyAsString()).isEmpty();
+
+        assertThat(unit.getWithoutBody()).isEqualTo(2);
+        assertThat(unit.getDroppedRequests()).isEqualTo(1);
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteResponsesAsIsWhileBucketIsFull() throws IOException {
+        final RateLimitingSink unit = unit(3, Map.of(), Map.of());
+
+        unit.write(correlation, request, response);
+
+        verify(delegate).write(correlation, request, response);
+    }
+
+    @Test
+    void shouldRecover() throws IOException {
+        final RateLimitingSink unit = unit(1, Map.of(), Map.of());
+
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, request, response);
+        time.addAndGet(SECONDS.toNanos(1));
+        unit.writeBoth(correlation, request, response);
+
+        verify(delegate, times(2)).writeBoth(correlation, request, response);
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLimitPerRoute() throws IOException {
+        final Map<String, Double> routes = new LinkedHashMap<>();
+        routes.put("/orders/**", 1.0);
+        routes.put("/**", 100.0);
+        final RateLimitingSink unit = unit(100, routes, Map.of());
+
+        final HttpRequest other = MockHttpRequest.create().withPath("/users");
+
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, other, response);
+
+        verify(delegate).writeBoth(correlation, request, response);
+        verify(delegate).writeBoth(correlation, other, response);
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreRoutesThatDontMatch() throws IOException {
+        final RateLimitingSink unit = unit(100, Map.of("/users/**", 1.0), Map.of());
+
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, request, response);
+
+        verify(delegate, times(2)).writeBoth(correlation, request, response);
+    }
+
+    @Test
+    void shouldLimitPerStatusClass() throws IOException {
+        final RateLimitingSink unit = unit(100, Map.of("/orders/**", 100.0), Map.of(5, 1.0));
+
+        final HttpResponse error = MockHttpResponse.create().withStatus(503);
+
+        unit.writeBoth(correlation, request, error);
+        unit.writeBoth(correlation, request, error);
+        unit.writeBoth(correlation, request, response);
+        unit.write(precorrelation, request);
+
+        verify(delegate).writeBoth(correlation, request, error);
+        verify(delegate).writeBoth(correlation, request, response);
+        verify(delegate).write(precorrelation, request);
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveBackRouteTokensIfGlobalBucketIsEmpty() throws IOException {
+        final RateLimitingSink unit = unit(10, Map.of("/orders/**", 1.0), Map.of());
+
+        final HttpRequest other = MockHttpRequest.create().withPath("/users");
+
+        for (int i = 0; i < 10; i++) {
+            unit.writeBoth(correlation, other, response);
+        }
+        unit.writeBoth(correlation, request, response);
+        assertThat(unit.getDropped()).isEqualTo(1);
+
+        // refills a single global token, while the route still needs almost a second
+        time.addAndGet(MILLISECONDS.toNanos(100));
+        unit.writeBoth(correlation, request, response);
+
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveBackStatusClassTokensIfRouteBucketIsEmpty() throws IOException {
+        final RateLimitingSink unit = unit(100, Map.of("/orders/**", 1.0), Map.of(2, 1.0));
+
+        final HttpRequest other = MockHttpRequest.create().withPath("/users");
+
+        unit.write(precorrelation, request);
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, other, response);
+
+        verify(delegate).write(precorrelation, request);
+        verify(delegate, never()).writeBoth(correlation, request, response);
+        verify(delegate).writeBoth(correlation, other, response);
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLogSummaryPeriodically() throws IOException {
+        final RateLimitingSink unit = unit(1, Map.of(), Map.of());
+
+        unit.write(precorrelation, request);
+        unit.write(precorrelation, request);
+        unit.writeBoth(correlation, request, response);
+        assertThat(appender.list).isEmpty();
+
+        time.addAndGet(SECONDS.toNanos(60));
+        unit.writeBoth(correlation, request, response);
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage()).isEqualTo("Rate limit exceeded: " +
+                "0 message(s) written without body, 1 request(s) dropped and 1 message(s) dropped " +
+                "since the last summary");
+
+        time.addAndGet(SECONDS.toNanos(60));
+        unit.writeBoth(correlation, request, response);
+
+        assertThat(appender.list).hasSize(1);
+    }
+
+    @Test
+    void shouldLogSummaryOnlyOnceIfConcurrent() throws IOException {
+        final AtomicReference<RateLimitingSink> sink = new AtomicReference<>();
+        final AtomicLong calls = new AtomicLong();
+
+        final LongSupplier ticker = () -> {
+            if (sink.get() != null && calls.incrementAndGet() == 1) {
+                // another thread summarizes in between
+                try {
+                    sink.get().writeBoth(correlation, request, response);
+                } catch (final IOException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            return time.get();
+        };
+
+        final RateLimitingSink unit = new RateLimitingSink(
+                delegate, 1, 1, Map.of(), Map.of(), Duration.ofMinutes(1), ticker);
+
+        unit.writeBoth(correlation, request, response);
+        unit.writeBoth(correlation, request, response);
+        time.addAndGet(SECONDS.toNanos(60));
+        sink.set(unit);
+        unit.writeBoth(correlation, request, response);
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(unit.getDropped()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBuildWithDefaults() throws IOException {
+        final RateLimitingSink unit = RateLimitingSink.builder().delegate(delegate).build();
+
+        for (int i = 0; i < 100; i++) {
+            unit.write(correlation, request, response);
+        }
+
+        verify(delegate, never()).writeBoth(any(), any(), any());
+        assertThat(unit.getDropped()).isZero();
+    }
+
+    @Test
+    void shouldBuild() throws IOException {
+        final RateLimitingSink unit = RateLimitingSink.builder()
+                .delegate(delegate)
+                .rate(10.0)
+                .burst(1)
+                .route("/orders/**", 5.0)
+                .statusClass(2, 5.0)
+                .summaryInterval(Duration.ofSeconds(10))
+                .build();
+
+        unit.write(correlation, request, response);
+        unit.write(correlation, request, response);
+
+        verify(delegate).write(correlation, request, response);
+        assertThat(unit.getDropped()).isEqualTo(1);
+    }
+
+    private RateLimitingSink unit(final double rate, final Map<String, Double> routes,
+            final Map<Integer, Double> statusClasses) {
+        return new RateLimitingSink(delegate, rate, (int) rate, routes, statusClasses, Duration.ofMinutes(1),
+                time::get);
+    }
+
+}
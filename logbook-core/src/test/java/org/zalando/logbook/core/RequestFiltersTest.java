@@ -27,6 +27,17 @@ final class RequestFiltersTest {
         assertThat(request.getBodyAsString()).isEqualTo("<binary>");
     }
 
+    @Test
+    void shouldReplaceImageBodyEvenWithBodyLimit() throws IOException {
+        final RequestFilter filter = RequestFilters.defaultValue();
+
+        final HttpRequest request = filter.filter(MockHttpRequest.create()
+                .withContentType("image/png")
+                .withBodyAsString("this is an image"));
+
+        assertThat(request.withBodyLimit(4).withBody().getBodyAsString()).isEqualTo("<binary>");
+    }
+
     @Test
     void shouldReplaceImageBodyEvenWithoutBody() throws IOException {
         final RequestFilter filter = RequestFilters.defaultValue();
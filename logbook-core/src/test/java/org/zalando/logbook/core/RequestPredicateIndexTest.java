@@ -0,0 +1,151 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.test.MockHttpRequest;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.zalando.logbook.core.Conditions.requestTo;
+
+final class RequestPredicateIndexTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "/", "/**", "/a", "/a/", "/a/**", "/a/*", "/a/*/c", "/a/**/c", "/a/b*", "/*/b/**", "/**/c",
+            "/a/**/**", "/a/*.json", "/a?c", "/a**", "/a/b**/c", "http://localhost/a/**", "a/b");
+
+    private static final List<String> PATHS = List.of(
+            "", "/", "//", "/a", "/a/", "/a/b", "/a/b/", "/a/b/c", "/a/b/b/c", "/a/bb", "/a/x.json", "/abc",
+            "/a/c", "/x/b", "/x/b/c", "/a//c", "a/b", "/b/c");
+
+    static List<String> patterns() {
+        return PATTERNS;
+    }
+
+    @ParameterizedTest
+    @MethodSource("patterns")
+    void shouldIncludeLikeRequestTo(final String pattern) {
+        final Predicate<HttpRequest> expected = requestTo(pattern);
+        final RequestPredicateIndex unit = RequestPredicateIndex.builder().include(pattern).build();
+
+        for (final String path : PATHS) {
+            final MockHttpRequest request = MockHttpRequest.create().withPath(path);
+            assertThat(unit.test(request))
+                    .as("%s matches %s", pattern, path)
+                    .isEqualTo(expected.test(request));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("patterns")
+    void shouldExcludeLikeRequestTo(final String pattern) {
+        final Predicate<HttpRequest> expected = requestTo(pattern).negate();
+        final RequestPredicateIndex unit = RequestPredicateIndex.builder().exclude(pattern).build();
+
+        for (final String path : PATHS) {
+            final MockHttpRequest request = MockHttpRequest.create().withPath(path);
+            assertThat(unit.test(request))
+                    .as("%s excludes %s", pattern, path)
+                    .isEqualTo(expected.test(request));
+        }
+    }
+
+    @Test
+    void shouldCombineIncludesAndExcludesLikeConditions() {
+        final RequestPredicateIndex.Builder builder = RequestPredicateIndex.builder();
+        builder.include("/a/**").include("/**/c").include("/a?c");
+        builder.exclude("/a/*/c").exclude("/a/x.json").exclude("/a**");
+
+        final Predicate<HttpRequest> expected = requestTo("/a/**").or(requestTo("/**/c")).or(requestTo("/a?c"))
+                .and(requestTo("/a/*/c").negate())
+                .and(requestTo("/a/x.json").negate())
+                .and(requestTo("/a**").negate());
+
+        final RequestPredicateIndex unit = builder.build();
+
+        for (final String path : PATHS) {
+            final MockHttpRequest request = MockHttpRequest.create().withPath(path);
+            assertThat(unit.test(request))
+                    .as("%s", path)
+                    .isEqualTo(expected.test(request));
+        }
+    }
+
+    @Test
+    void shouldIncludeEverythingByDefault() {
+        final RequestPredicateIndex unit = RequestPredicateIndex.builder().build();
+
+        assertThat(unit.test(MockHttpRequest.create().withPath("/a"))).isTrue();
+    }
+
+    @Test
+    void shouldMatchMethods() {
+        final RequestPredicateIndex unit = RequestPredicateIndex.builder()
+                .include("/a/**", List.of("GET", "post"))
+                .include("/b", List.of())
+                .exclude("/a/admin", List.of("POST"))
+                .build();
+
+        assertThat(unit.test(request("GET", "/a/admin"))).isTrue();
+        assertThat(unit.test(request("get", "/a/admin"))).isTrue();
+        assertThat(unit.test(request("POST", "/a/admin"))).isFalse();
+        assertThat(unit.test(request("POST", "/a/b"))).isTrue();
+        assertThat(unit.test(request("PUT", "/a/b"))).isFalse();
+        assertThat(unit.test(request("PUT", "/b"))).isTrue();
+        assertThat(unit.test(request("PUT", "/c"))).isFalse();
+    }
+
+    @Test
+    void shouldMatchMethodsOnAnyPath() {
+        final RequestPredicateIndex unit = RequestPredicateIndex.builder()
+                .include(null, List.of("PUT"))
+                .exclude(null, List.of("DELETE"))
+                .include("/a", List.of("DELETE"))
+                .build();
+
+        assertThat(unit.test(request("PUT", "/b"))).isTrue();
+        assertThat(unit.test(request("GET", "/b"))).isFalse();
+        assertThat(unit.test(request("DELETE", "/a"))).isFalse();
+    }
+
+    @Test
+    void shouldMatchWildcardsAndDeepSegmentsAtOnce() {
+        final RequestPredicateIndex unit = RequestPredicateIndex.builder()
+                .exclude("/a/*/c")
+                .exclude("/a/b*/d")
+                .exclude("/a/**/e")
+                .exclude("/a/**/g")
+                .build();
+
+        assertThat(unit.test(request("GET", "/a/b/c"))).isFalse();
+        assertThat(unit.test(request("GET", "/a/bb/d"))).isFalse();
+        assertThat(unit.test(request("GET", "/a/b/x/e"))).isFalse();
+        assertThat(unit.test(request("GET", "/a/b/x/g"))).isFalse();
+        assertThat(unit.test(request("GET", "/a/b/x/f"))).isTrue();
+    }
+
+    @Test
+    void shouldRejectTooManyMethods() {
+        final List<String> methods = IntStream.range(0, 64)
+                .mapToObj(index -> "METHOD" + index)
+                .collect(Collectors.toList());
+
+        final RequestPredicateIndex.Builder builder = RequestPredicateIndex.builder();
+
+        assertThatThrownBy(() -> builder.include("/", methods))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("methods are expected to be at most 63 distinct values");
+    }
+
+    private static MockHttpRequest request(final String method, final String path) {
+        return MockHttpRequest.create().withMethod(method).withPath(path);
+    }
+
+}
@@ -27,6 +27,17 @@ final class ResponseFiltersTest {
         assertThat(response.getBodyAsString()).isEqualTo("<binary>");
     }
 
+    @Test
+    void shouldReplaceImageBodyEvenWithBodyLimit() throws IOException {
+        final ResponseFilter filter = ResponseFilters.defaultValue();
+
+        final HttpResponse response = filter.filter(MockHttpResponse.create()
+                .withContentType("image/png")
+                .withBodyAsString("this is an image"));
+
+        assertThat(response.withBodyLimit(4).withBody().getBodyAsString()).isEqualTo("<binary>");
+    }
+
     @Test
     void shouldReplaceImageBodyEvenWithoutBody() throws IOException {
         final ResponseFilter filter = ResponseFilters.defaultValue();
@@ -41,6 +52,18 @@ final class ResponseFiltersTest {
         assertThat(response.getBody()).isEqualTo("<binary>".getBytes(UTF_8));
     }
 
+    @Test
+    void shouldReplaceImageBodyEvenWithConditionalBody() throws IOException {
+        final ResponseFilter filter = ResponseFilters.defaultValue();
+
+        final HttpResponse response = filter.filter(MockHttpResponse.create()
+                .withContentType("image/png")
+                .withBodyAsString("this is an image"))
+                .withBodyIf(candidate -> true, 0);
+
+        assertThat(response.getBodyAsString()).isEqualTo("<binary>");
+    }
+
     @Test
     void shouldNotReplaceTextBodyByDefault() throws IOException {
         final ResponseFilter filter = ResponseFilters.defaultValue();
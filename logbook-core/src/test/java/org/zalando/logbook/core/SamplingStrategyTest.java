@@ -0,0 +1,185 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.zalando.logbook.CorrelationId;
+import org.zalando.logbook.HttpHeaders;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.Strategy;
+import org.zalando.logbook.test.MockHttpRequest;
+import org.zalando.logbook.test.MockHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SamplingStrategyTest {
+
+    private static final CorrelationId FLOW_ID = request -> request.getHeaders().getFirst("X-Flow-ID");
+
+    private final Sink sink = mock(Sink.class);
+
+    private final MockHttpRequest request = MockHttpRequest.create().withBodyAsString("Hello");
+    private final MockHttpResponse response = MockHttpResponse.create().withBodyAsString("World");
+
+    @BeforeEach
+    void defaultBehaviour() {
+        when(sink.isActive()).thenReturn(true);
+    }
+
+    @Test
+    void shouldDeferWritingOfRequest() throws IOException {
+        logbook(new SamplingStrategy(FLOW_ID, 1.0, 500)).process(withFlowId("a")).write();
+
+        verify(sink, never()).write(any(), any());
+    }
+
+    @Test
+    void shouldLogSampledRequests() throws IOException {
+        logbook(new SamplingStrategy(FLOW_ID, 1.0, 500))
+                .process(withFlowId("a")).write().process(response).write();
+
+        final ArgumentCaptor<HttpRequest> writtenRequest = ArgumentCaptor.forClass(HttpRequest.class);
+        final ArgumentCaptor<HttpResponse> writtenResponse = ArgumentCaptor.forClass(HttpResponse.class);
+
+        verify(sink).writeBoth(any(), writtenRequest.capture(), writtenResponse.capture());
+
+        assertThat(writtenRequest.getValue().getBodyAsString()).isEqualTo("Hello");
+        assertThat(writtenResponse.getValue().getBodyAsString()).isEqualTo("World");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 201, 301, 404})
+    void shouldNotLogRequestsThatAreNotSampled(final int status) throws IOException {
+        logbook(new SamplingStrategy(FLOW_ID, 0.0, 500))
+                .process(withFlowId("a")).write().process(response.withStatus(status)).write();
+
+        verify(sink, never()).write(any(), any(), any());
+        verify(sink, never()).writeBoth(any(), any(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {500, 503})
+    void shouldLogErrorsWithoutBodiesIfNotSampled(final int status) throws IOException {
+        logbook(new SamplingStrategy(FLOW_ID, 0.0, 500))
+                .process(withFlowId("a")).write().process(response.withStatus(status)).write();
+
+        final ArgumentCaptor<HttpRequest> writtenRequest = ArgumentCaptor.forClass(HttpRequest.class);
+        final ArgumentCaptor<HttpResponse> writtenResponse = ArgumentCaptor.forClass(HttpResponse.class);
+
+        verify(sink).writeBoth(any(), writtenRequest.capture(), writtenResponse.capture());
+
+        assertThat(writtenRequest.getValue().getBodyAsString()).isEmpty();
+        assertThat(writtenResponse.getValue().getBodyAsString()).isEmpty();
+    }
+
+    @Test
+    void shouldNotSampleRequestsWithoutId() throws IOException {
+        logbook(new SamplingStrategy(FLOW_ID, 1.0, 500)).process(request).write().process(response).write();
+
+        verify(sink, never()).writeBoth(any(), any(), any());
+    }
+
+    @Test
+    void shouldDecideOncePerRequest() throws IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final CorrelationId once = request -> calls.getAndIncrement() == 0 ? "a" : null;
+
+        logbook(new SamplingStrategy(once, 1.0, 500))
+                .process(withFlowId("a")).write().process(response).write();
+
+        final ArgumentCaptor<HttpRequest> writtenRequest = ArgumentCaptor.forClass(HttpRequest.class);
+        final ArgumentCaptor<HttpResponse> writtenResponse = ArgumentCaptor.forClass(HttpResponse.class);
+
+        verify(sink).writeBoth(any(), writtenRequest.capture(), writtenResponse.capture());
+
+        assertThat(writtenRequest.getValue().getBodyAsString()).isEqualTo("Hello");
+        assertThat(writtenResponse.getValue().getBodyAsString()).isEqualTo("World");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldSampleByPath() throws IOException {
+        final Strategy unit = new SamplingStrategy(FLOW_ID, 0.0, 500)
+                .withRate("/health/**", 0.0)
+                .withRate("/orders/internal", 0.0)
+                .withRate("/orders/**", 1.0);
+
+        logbook(unit).process(withFlowId("a").withPath("/health")).write().process(response).write();
+        logbook(unit).process(withFlowId("b").withPath("/orders/internal")).write().process(response).write();
+        verify(sink, never()).writeBoth(any(), any(), any());
+
+        logbook(unit).process(withFlowId("c").withPath("/orders/123")).write().process(response).write();
+        verify(sink).writeBoth(any(), any(), any());
+    }
+
+    @Test
+    void shouldMakeTheSameDecisionForTheSameId() {
+        final SamplingStrategy unit = new SamplingStrategy(FLOW_ID, 0.5, 500);
+
+        IntStream.range(0, 100).mapToObj(Integer::toHexString).forEach(id -> {
+            final boolean sampled = isSampled(unit, id);
+            assertThat(isSampled(unit, id)).isEqualTo(sampled);
+        });
+    }
+
+    @Test
+    void shouldSampleAtRate() {
+        final SamplingStrategy unit = new SamplingStrategy(FLOW_ID, 0.25, 500);
+
+        final long sampled = IntStream.range(0, 100_000)
+                .mapToObj(Long::toHexString)
+                .filter(id -> isSampled(unit, id))
+                .count();
+
+        assertThat(sampled / 100_000.0).isCloseTo(0.25, within(0.01));
+    }
+
+    @Test
+    void shouldMapIdsToTheSameSampleEverywhere() {
+        assertThat(SamplingStrategy.sample("a")).isEqualTo(0.5102945176565711);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.1, Double.NaN})
+    void shouldRejectInvalidRates(final double rate) {
+        assertThatThrownBy(() -> new SamplingStrategy(FLOW_ID, rate, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SamplingStrategy(FLOW_ID, 0.5, 500).withRate("/**", rate))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean isSampled(final Strategy unit, final String id) {
+        try {
+            return !unit.process(withFlowId(id)).getBodyAsString().isEmpty();
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static MockHttpRequest withFlowId(final String id) {
+        return MockHttpRequest.create()
+                .withHeaders(HttpHeaders.of("X-Flow-ID", id))
+                .withBodyAsString("Hello");
+    }
+
+    private Logbook logbook(final Strategy strategy) {
+        return Logbook.builder().strategy(strategy).sink(sink).build();
+    }
+
+}
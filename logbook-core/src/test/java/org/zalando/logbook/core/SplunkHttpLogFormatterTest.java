@@ -5,6 +5,7 @@ import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpLogFormatter;
 import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.StreamingHttpLogFormatter;
 import org.zalando.logbook.core.DefaultLogbook.SimpleCorrelation;
 import org.zalando.logbook.core.DefaultLogbook.SimplePrecorrelation;
 import org.zalando.logbook.test.MockHttpRequest;
@@ -153,6 +154,21 @@ class SplunkHttpLogFormatterTest {
         assertThat(format).doesNotContain("body");
     }
 
+    @Test
+    void shouldAppendRequestAndResponse() throws IOException {
+        final StreamingHttpLogFormatter unit = new SplunkHttpLogFormatter();
+        final StringBuilder output = new StringBuilder();
+
+        unit.format(correlation("c"), MockHttpRequest.create(), output);
+        output.append('\n');
+        unit.format(correlation("c", ofMillis(125)), create().withStatus(201), output);
+
+        assertThat(output.toString()).isEqualTo(
+                "origin=remote type=request correlation=c protocol=HTTP/1.1 remote=127.0.0.1 method=GET " +
+                        "uri=http://localhost/ host=localhost path=/ scheme=http port=80\n" +
+                        "origin=local type=response correlation=c duration=125 protocol=HTTP/1.1 status=201");
+    }
+
     private SimplePrecorrelation correlation(final String correlationId) {
         return new SimplePrecorrelation(correlationId, Clock.systemUTC());
     }
@@ -13,9 +13,11 @@ import org.zalando.logbook.test.MockHttpRequest;
 import org.zalando.logbook.test.MockHttpResponse;
 
 import java.io.IOException;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -69,4 +71,18 @@ class StatusAtLeastStrategyTest {
         assertThat(writtenResponse.getValue().getBodyAsString()).isEqualTo("World");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRecordResponseBodyOnlyIfStatusIsAtLeast() throws IOException {
+        final HttpResponse original = mock(HttpResponse.class);
+
+        new StatusAtLeastStrategy(400, 1024).process(request, original);
+
+        final ArgumentCaptor<Predicate<HttpResponse>> condition = ArgumentCaptor.forClass(Predicate.class);
+        verify(original).withBodyIf(condition.capture(), eq(1024));
+
+        assertThat(condition.getValue().test(response.withStatus(400))).isTrue();
+        assertThat(condition.getValue().test(response.withStatus(399))).isFalse();
+    }
+
 }
@@ -6,13 +6,19 @@ import org.zalando.logbook.HttpLogWriter;
 import org.zalando.logbook.core.DefaultLogbook.SimpleCorrelation;
 import org.zalando.logbook.core.DefaultLogbook.SimplePrecorrelation;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.time.Clock;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Instant.MIN;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @NotThreadSafe
@@ -46,6 +52,64 @@ final class StreamHttpLogWriterTest {
         verify(stream).println("bar");
     }
 
+    @Test
+    void shouldAppendRequestToStream() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final StreamHttpLogWriter unit = new StreamHttpLogWriter(new PrintStream(bytes, true, UTF_8));
+
+        unit.write(new SimplePrecorrelation("", Clock.systemUTC()), output -> output.append("foo"));
+
+        assertThat(bytes.toString(UTF_8)).isEqualTo("foo" + System.lineSeparator());
+    }
+
+    @Test
+    void shouldAppendResponseToStream() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final StreamHttpLogWriter unit = new StreamHttpLogWriter(new PrintStream(bytes, true, UTF_8));
+
+        unit.write(new SimpleCorrelation("1", MIN, MIN), output -> output.append("bar"));
+
+        assertThat(bytes.toString(UTF_8)).isEqualTo("bar" + System.lineSeparator());
+    }
+
+    @Test
+    void shouldCopyContentWithoutTurningItIntoString() throws IOException {
+        final PrintStream stream = mock(PrintStream.class);
+        final StreamHttpLogWriter unit = new StreamHttpLogWriter(stream);
+
+        unit.write(new SimpleCorrelation("1", MIN, MIN), output -> output.append("bar"));
+
+        verify(stream).append(any(CharSequence.class), eq(0), eq(3));
+        verify(stream).println();
+        verify(stream, never()).println(any(Object.class));
+    }
+
+    @Test
+    void shouldNotPrintPartiallyWrittenContent() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final StreamHttpLogWriter unit = new StreamHttpLogWriter(new PrintStream(bytes, true, UTF_8));
+
+        assertThrows(IOException.class, () -> unit.write(new SimpleCorrelation("1", MIN, MIN), output -> {
+            output.append("partial");
+            throw new IOException();
+        }));
+        unit.write(new SimpleCorrelation("1", MIN, MIN), output -> output.append("bar"));
+
+        assertThat(bytes.toString(UTF_8)).isEqualTo("bar" + System.lineSeparator());
+    }
+
+    @Test
+    void shouldReuseBufferAfterLargeMessage() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final StreamHttpLogWriter unit = new StreamHttpLogWriter(new PrintStream(bytes, true, UTF_8));
+        final String large = "x".repeat(100 * 1024);
+
+        unit.write(new SimpleCorrelation("1", MIN, MIN), output -> output.append(large));
+        unit.write(new SimpleCorrelation("1", MIN, MIN), output -> output.append("bar"));
+
+        assertThat(bytes.toString(UTF_8)).isEqualTo(large + System.lineSeparator() + "bar" + System.lineSeparator());
+    }
+
     @Test
     void shouldRequestToStdoutByDefault() throws IOException {
         final PrintStream original = System.out;
@@ -0,0 +1,115 @@
+package org.zalando.logbook.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+final class TokenBucketTest {
+
+    private final AtomicLong time = new AtomicLong(Long.MAX_VALUE - MILLISECONDS.toNanos(500));
+
+    @Test
+    void shouldAcquireUpToBurst() {
+        final TokenBucket unit = new TokenBucket(2, 2, time::get);
+
+        assertThat(unit.tryAcquire(0.0)).isEqualTo(1.0);
+        assertThat(unit.tryAcquire(0.0)).isCloseTo(0.5, within(1e-9));
+        assertThat(unit.tryAcquire(0.0)).isZero();
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+        final TokenBucket unit = new TokenBucket(2, 2, time::get);
+
+        unit.tryAcquire(0.0);
+        unit.tryAcquire(0.0);
+
+        // overflows
+        time.addAndGet(MILLISECONDS.toNanos(500));
+        assertThat(unit.tryAcquire(0.0)).isCloseTo(0.5, within(1e-9));
+        assertThat(unit.tryAcquire(0.0)).isZero();
+
+        time.addAndGet(MILLISECONDS.toNanos(5000));
+        assertThat(unit.tryAcquire(0.0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldKeepReserve() {
+        final TokenBucket unit = new TokenBucket(2, 2, time::get);
+
+        assertThat(unit.tryAcquire(0.5)).isEqualTo(1.0);
+        assertThat(unit.tryAcquire(0.5)).isZero();
+        assertThat(unit.tryAcquire(0.0)).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    void shouldGiveBackTokens() {
+        final TokenBucket unit = new TokenBucket(2, 2, time::get);
+
+        unit.tryAcquire(0.0);
+        unit.tryAcquire(0.0);
+        unit.release();
+
+        assertThat(unit.tryAcquire(0.0)).isCloseTo(0.5, within(1e-9));
+        assertThat(unit.tryAcquire(0.0)).isZero();
+    }
+
+    @Test
+    void shouldNotExceedCapacityWhenGivingBackTokens() {
+        final TokenBucket unit = new TokenBucket(2, 2, time::get);
+
+        unit.tryAcquire(0.0);
+        time.addAndGet(MILLISECONDS.toNanos(5000));
+        unit.release();
+
+        assertThat(unit.tryAcquire(0.0)).isEqualTo(1.0);
+        assertThat(unit.tryAcquire(0.0)).isCloseTo(0.5, within(1e-9));
+        assertThat(unit.tryAcquire(0.0)).isZero();
+    }
+
+    @Test
+    void shouldRetryAfterConcurrentAcquisition() {
+        final AtomicReference<TokenBucket> bucket = new AtomicReference<>();
+        final AtomicLong calls = new AtomicLong();
+
+        final TokenBucket unit = new TokenBucket(2, 2, () -> {
+            if (calls.incrementAndGet() == 2) {
+                // another thread acquires a token in between
+                bucket.get().tryAcquire(0.0);
+            }
+            return time.get();
+        });
+        bucket.set(unit);
+
+        assertThat(unit.tryAcquire(0.0)).isCloseTo(0.5, within(1e-9));
+        assertThat(unit.tryAcquire(0.0)).isZero();
+    }
+
+    @Test
+    void shouldSupportVeryHighRates() {
+        final TokenBucket unit = new TokenBucket(1e12, 1, time::get);
+
+        assertThat(unit.tryAcquire(0.0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRejectInvalidRate() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, time::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(Double.NaN, 1, time::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectInvalidBurst() {
+        assertThatThrownBy(() -> new TokenBucket(1, 0, time::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -5,10 +5,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
 import lombok.experimental.UtilityClass;
 import org.apache.http.HttpEntity;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
 
 
 @UtilityClass
@@ -16,19 +22,49 @@ final class HttpEntities {
 
     interface Copy extends HttpEntity {
         byte[] getBody();
+
+        boolean isTruncated();
+
+        long getLength();
     }
 
     Copy copy(final HttpEntity entity) throws IOException {
         final ByteArrayOutputStream os = new ByteArrayOutputStream();
         entity.writeTo(os);
-        final byte[] body = os.toByteArray();
+        return copy(entity, os.toByteArray());
+    }
+
+    /**
+     * Copies at most {@code limit} bytes of the given entity. The remainder of a longer entity is not read, but
+     * streamed through after the copied bytes.
+     */
+    Copy copy(final HttpEntity entity, final int limit) throws IOException {
+        final InputStream content = entity.getContent();
+        final byte[] prefix = content.readNBytes((int) Math.min(Integer.MAX_VALUE, limit + 1L));
+
+        if (prefix.length <= limit) {
+            return copy(entity, prefix);
+        }
+
+        final long length = entity.getContentLength();
+        final InputStreamEntity copy = new InputStreamEntity(
+                new SequenceInputStream(new ByteArrayInputStream(prefix), content), length);
+        copyMetadata(entity, copy);
+
+        return new DefaultCopy(copy, Arrays.copyOf(prefix, limit), true, length);
+    }
 
+    private Copy copy(final HttpEntity entity, final byte[] body) {
         final ByteArrayEntity copy = new ByteArrayEntity(body);
+        copyMetadata(entity, copy);
+
+        return new DefaultCopy(copy, body, false, body.length);
+    }
+
+    private void copyMetadata(final HttpEntity entity, final AbstractHttpEntity copy) {
         copy.setChunked(entity.isChunked());
         copy.setContentEncoding(entity.getContentEncoding());
         copy.setContentType(entity.getContentType());
-
-        return new DefaultCopy(copy, body);
     }
 
     @RequiredArgsConstructor
@@ -40,6 +76,12 @@ final class HttpEntities {
         @Getter
         private final byte[] body;
 
+        @Getter
+        private final boolean truncated;
+
+        @Getter
+        private final long length;
+
     }
 
 }
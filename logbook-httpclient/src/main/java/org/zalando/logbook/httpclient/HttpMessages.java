@@ -0,0 +1,38 @@
+package org.zalando.logbook.httpclient;
+
+import lombok.experimental.UtilityClass;
+import org.apache.http.Header;
+import org.apache.http.HttpMessage;
+import org.zalando.logbook.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@UtilityClass
+final class HttpMessages {
+
+    HttpHeaders headersOf(final HttpMessage message) {
+        return HttpHeaders.view(name -> valuesOf(message.getHeaders(name)), () -> copyOf(message.getAllHeaders()));
+    }
+
+    private List<String> valuesOf(final Header[] headers) {
+        final List<String> values = new ArrayList<>(headers.length);
+
+        for (final Header header : headers) {
+            values.add(header.getValue());
+        }
+
+        return values;
+    }
+
+    private HttpHeaders copyOf(final Header[] headers) {
+        final HttpHeaders.Builder builder = HttpHeaders.builder();
+
+        for (final Header header : headers) {
+            builder.add(header.getName(), header.getValue());
+        }
+
+        return builder.build();
+    }
+
+}
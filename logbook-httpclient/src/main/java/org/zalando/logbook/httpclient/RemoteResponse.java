@@ -12,28 +12,22 @@ import jakarta.annotation.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.charset.Charset;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
 import static org.zalando.fauxpas.FauxPas.throwingUnaryOperator;
 
 @AllArgsConstructor
 final class RemoteResponse implements org.zalando.logbook.HttpResponse {
 
-    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered());
+    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered(Integer.MAX_VALUE));
     private final HttpResponse response;
     private final boolean decompressResponse;
 
@@ -47,6 +41,10 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
             return this;
         }
 
+        default State limit(final int limit) {
+            return this;
+        }
+
         default State buffer(final HttpResponse response) throws IOException {
             return this;
         }
@@ -55,22 +53,46 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
             return new byte[0];
         }
 
+        default boolean isTruncated() {
+            return false;
+        }
+
+        default long getLength() {
+            return getBody().length;
+        }
+
     }
 
+    @AllArgsConstructor
     private static final class Unbuffered implements State {
 
+        private final int limit;
+
         @Override
         public State with() {
-            return new Offering();
+            return new Offering(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Unbuffered(limit);
         }
 
     }
 
+    @AllArgsConstructor
     private static final class Offering implements State {
 
+        private final int limit;
+
         @Override
         public State without() {
-            return new Unbuffered();
+            return new Unbuffered(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Offering(limit);
         }
 
         @Override
@@ -80,9 +102,9 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
             if (entity == null) {
                 return new Passing();
             } else {
-                final HttpEntities.Copy copy = HttpEntities.copy(entity);
+                final HttpEntities.Copy copy = HttpEntities.copy(entity, limit);
                 response.setEntity(copy);
-                return new Buffering(copy.getBody());
+                return new Buffering(copy);
             }
         }
 
@@ -91,7 +113,7 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
     @AllArgsConstructor
     private static final class Buffering implements State {
 
-        private final byte[] body;
+        private final HttpEntities.Copy copy;
 
         @Override
         public State without() {
@@ -100,7 +122,17 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
 
         @Override
         public byte[] getBody() {
-            return body;
+            return copy.getBody();
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return copy.isTruncated();
+        }
+
+        @Override
+        public long getLength() {
+            return copy.getLength();
         }
 
     }
@@ -138,23 +170,7 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
 
     @Override
     public HttpHeaders getHeaders() {
-        HttpHeaders headers = HttpHeaders.empty();
-
-        final Set<Map.Entry<String, List<String>>> entries =
-                Stream.of(response.getAllHeaders())
-                        .collect(groupingBy(
-                                Header::getName,
-                                mapping(Header::getValue, toList())))
-                        .entrySet();
-
-        for (final Map.Entry<String, List<String>> entry : entries) {
-            final String name = entry.getKey();
-            final List<String> values = entry.getValue();
-
-            headers = headers.update(name, values);
-        }
-
-        return headers;
+        return HttpMessages.headersOf(response);
     }
 
     @Override
@@ -187,13 +203,23 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
         return this;
     }
 
+    @Override
+    public RemoteResponse withBodyLimit(final int limit) {
+        state.updateAndGet(state -> state.limit(limit));
+        return this;
+    }
+
     private static byte[] getDecompressedBytes(byte[] body) throws IOException {
         try (ByteArrayInputStream inputStream = new ByteArrayInputStream(body); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream);
             byte[] buffer = new byte[1024];
             int bytesRead;
-            while ((bytesRead = gzipInputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
+            try {
+                while ((bytesRead = gzipInputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, bytesRead);
+                }
+            } catch (final EOFException e) {
+                // truncated bodies end prematurely, the part that was captured is still worth logging
             }
             return outputStream.toByteArray();
         }
@@ -201,13 +227,27 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
 
     @Override
     public byte[] getBody() throws IOException {
-        byte[] body = state.updateAndGet(throwingUnaryOperator(s -> s.buffer(response))).getBody();
+        byte[] body = buffer().getBody();
         if (decompressResponse && isGzip()) {
             return getDecompressedBytes(body);
         }
         return body;
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return buffer().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return buffer().getLength();
+    }
+
+    private State buffer() {
+        return state.updateAndGet(throwingUnaryOperator(s -> s.buffer(response)));
+    }
+
     private boolean isGzip() {
         if (response.containsHeader("Content-Encoding")) {
             Header[] headers = response.getHeaders("Content-Encoding");
@@ -142,6 +142,19 @@ final class LocalRequestTest {
                 .hasEntrySatisfying("Content-Type", values -> assertThat(values).hasSize(2));
     }
 
+    @Test
+    void shouldLookUpHeadersCaseInsensitively() {
+        final HttpRequest delegate = post("/");
+        delegate.addHeader("Content-Type", "text/plain;");
+        delegate.addHeader("Accept", "text/plain");
+        delegate.addHeader("accept", "application/json");
+        final LocalRequest unit = unit(delegate);
+
+        assertThat(unit.getHeaders().get("ACCEPT")).containsExactly("text/plain", "application/json");
+        assertThat(unit.getHeaders().getFirst("content-type")).isEqualTo("text/plain;");
+        assertThat(unit.getHeaders().get("Authorization")).isNull();
+    }
+
     @Test
     void shouldReturnDefaultCharsetIfNoneGiven() {
         final LocalRequest unit = unit(get("/"));
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
 
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -91,4 +93,46 @@ final class RemoteResponseTest {
         assertThat(new String(unit.withBody().withBody().getBody(), UTF_8)).isEqualTo("Hello, world!");
     }
 
+    @Test
+    void shouldReadBodyUpToLimit() throws IOException {
+        entity.setContentLength(13);
+        entity.setChunked(true);
+
+        unit.withoutBody().withBodyLimit(5).withBody();
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("Hello");
+        assertThat(unit.isBodyTruncated()).isTrue();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(13);
+        assertThat(new String(toByteArray(delegate.getEntity()), UTF_8)).isEqualTo("Hello, world!");
+        assertThat(delegate.getEntity().isChunked()).isTrue();
+    }
+
+    @Test
+    void shouldReadBodyWithinLimit() throws IOException {
+        unit.withBody().withBodyLimit(13).withoutBody().withBody();
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("Hello, world!");
+        assertThat(unit.withBodyLimit(5).isBodyTruncated()).isFalse();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(13);
+        assertThat(unit.withoutBody().isBodyTruncated()).isFalse();
+        assertThat(unit.getOriginalBodyLength()).isZero();
+    }
+
+    @Test
+    void shouldDecompressTruncatedBodyAsFarAsPossible() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (final GZIPOutputStream stream = new GZIPOutputStream(output)) {
+            stream.write("Hello, world!".getBytes(UTF_8));
+        }
+        final byte[] compressed = output.toByteArray();
+        entity.setContent(new ByteArrayInputStream(compressed));
+        delegate.addHeader("Content-Encoding", "gzip");
+
+        final RemoteResponse unit = new RemoteResponse(delegate, true);
+        unit.withBodyLimit(compressed.length - 8).withBody();
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("Hello, world!");
+        assertThat(unit.isBodyTruncated()).isTrue();
+    }
+
 }
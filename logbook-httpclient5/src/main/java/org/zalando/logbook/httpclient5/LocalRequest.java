@@ -17,17 +17,10 @@ import org.zalando.logbook.Origin;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
-import java.util.List;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
 import static org.apache.hc.core5.http.HttpHeaders.CONTENT_TYPE;
 import static org.zalando.fauxpas.FauxPas.throwingUnaryOperator;
 
@@ -192,23 +185,7 @@ final class LocalRequest implements org.zalando.logbook.HttpRequest {
 
     @Override
     public HttpHeaders getHeaders() {
-        HttpHeaders headers = HttpHeaders.empty();
-
-        final Set<Entry<String, List<String>>> entries =
-                Stream.of(request.getHeaders())
-                        .collect(groupingBy(
-                                Header::getName,
-                                mapping(Header::getValue, toList())))
-                        .entrySet();
-
-        for (final Entry<String, List<String>> entry : entries) {
-            final String name = entry.getKey();
-            final List<String> values = entry.getValue();
-
-            headers = headers.update(name, values);
-        }
-
-        return headers;
+        return HttpMessages.headersOf(request);
     }
 
     @Override
@@ -20,19 +20,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
 import static org.apache.hc.core5.http.HttpHeaders.CONTENT_TYPE;
 import static org.zalando.fauxpas.FauxPas.throwingUnaryOperator;
 
@@ -189,23 +182,7 @@ final class RemoteResponse implements org.zalando.logbook.HttpResponse {
 
     @Override
     public HttpHeaders getHeaders() {
-        HttpHeaders headers = HttpHeaders.empty();
-
-        final Set<Map.Entry<String, List<String>>> entries =
-                Stream.of(response.getHeaders())
-                        .collect(groupingBy(
-                                Header::getName,
-                                mapping(Header::getValue, toList())))
-                        .entrySet();
-
-        for (final Map.Entry<String, List<String>> entry : entries) {
-            final String name = entry.getKey();
-            final List<String> values = entry.getValue();
-
-            headers = headers.update(name, values);
-        }
-
-        return headers;
+        return HttpMessages.headersOf(response);
     }
 
     @Override
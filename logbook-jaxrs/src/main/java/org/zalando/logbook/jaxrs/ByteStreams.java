@@ -1,6 +1,7 @@
 package org.zalando.logbook.jaxrs;
 
-import java.io.ByteArrayOutputStream;
+import org.zalando.logbook.CappedByteArrayOutputStream;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -13,9 +14,13 @@ final class ByteStreams {
     }
 
     static byte[] toByteArray(final InputStream in) throws IOException {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        copy(in, out);
-        return out.toByteArray();
+        final CappedByteArrayOutputStream out = new CappedByteArrayOutputStream(Integer.MAX_VALUE);
+        try {
+            copy(in, out);
+            return out.toByteArray();
+        } finally {
+            out.release();
+        }
     }
 
     static void copy(final InputStream from, final OutputStream to) throws IOException {
@@ -16,7 +16,7 @@ import static java.util.Optional.ofNullable;
 @AllArgsConstructor
 final class LocalRequest implements HttpRequest {
 
-    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered());
+    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered(Integer.MAX_VALUE));
 
     private final ClientRequestContext context;
 
@@ -30,6 +30,10 @@ final class LocalRequest implements HttpRequest {
             return this;
         }
 
+        default State limit(final int limit) {
+            return this;
+        }
+
         default State buffer(final ClientRequestContext context) {
             return this;
         }
@@ -38,27 +42,55 @@ final class LocalRequest implements HttpRequest {
             return new byte[0];
         }
 
+        default boolean isTruncated() {
+            return false;
+        }
+
+        default long getLength() {
+            return getBody().length;
+        }
+
+        default void release() {
+            // nothing to do here
+        }
+
     }
 
+    @AllArgsConstructor
     private static final class Unbuffered implements State {
 
+        private final int limit;
+
         @Override
         public State with() {
-            return new Offering();
+            return new Offering(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Unbuffered(limit);
         }
 
     }
 
+    @AllArgsConstructor
     private static final class Offering implements State {
 
+        private final int limit;
+
         @Override
         public State without() {
-            return new Unbuffered();
+            return new Unbuffered(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Offering(limit);
         }
 
         @Override
         public State buffer(final ClientRequestContext context) {
-            final TeeOutputStream stream = new TeeOutputStream(context.getEntityStream());
+            final TeeOutputStream stream = new TeeOutputStream(context.getEntityStream(), limit);
             context.setEntityStream(stream);
             return new Buffering(stream);
         }
@@ -80,6 +112,25 @@ final class LocalRequest implements HttpRequest {
             return stream.toByteArray();
         }
 
+        @Override
+        public boolean isTruncated() {
+            return stream.isTruncated();
+        }
+
+        @Override
+        public long getLength() {
+            return stream.getLength();
+        }
+
+        @Override
+        public void release() {
+            stream.release();
+        }
+
+        void discard() {
+            stream.discard();
+        }
+
     }
 
     @AllArgsConstructor
@@ -92,6 +143,12 @@ final class LocalRequest implements HttpRequest {
             return buffering;
         }
 
+        @Override
+        public void release() {
+            // the body was ignored, i.e. there is nothing worth retaining
+            buffering.discard();
+        }
+
     }
 
     @Override
@@ -168,6 +225,12 @@ final class LocalRequest implements HttpRequest {
         return this;
     }
 
+    @Override
+    public HttpRequest withBodyLimit(final int limit) {
+        state.updateAndGet(state -> state.limit(limit));
+        return this;
+    }
+
     void expose() {
         state.updateAndGet(state -> state.buffer(context));
     }
@@ -177,4 +240,22 @@ final class LocalRequest implements HttpRequest {
         return state.get().getBody();
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
+
+    /**
+     * Gives the buffer back to the pool, once the body was written. The body itself is retained, unless it was
+     * ignored.
+     */
+    void release() {
+        state.get().release();
+    }
+
 }
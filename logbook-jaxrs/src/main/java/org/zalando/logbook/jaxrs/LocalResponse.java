@@ -14,7 +14,7 @@ import java.util.concurrent.atomic.AtomicReference;
 @AllArgsConstructor
 final class LocalResponse implements HttpResponse {
 
-    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered());
+    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered(Integer.MAX_VALUE));
 
     private final ContainerResponseContext context;
 
@@ -28,6 +28,10 @@ final class LocalResponse implements HttpResponse {
             return this;
         }
 
+        default State limit(final int limit) {
+            return this;
+        }
+
         default State buffer(final ContainerResponseContext context) {
             return this;
         }
@@ -36,27 +40,55 @@ final class LocalResponse implements HttpResponse {
             return new byte[0];
         }
 
+        default boolean isTruncated() {
+            return false;
+        }
+
+        default long getLength() {
+            return getBody().length;
+        }
+
+        default void release() {
+            // nothing to do here
+        }
+
     }
 
+    @AllArgsConstructor
     private static final class Unbuffered implements State {
 
+        private final int limit;
+
         @Override
         public State with() {
-            return new Offering();
+            return new Offering(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Unbuffered(limit);
         }
 
     }
 
+    @AllArgsConstructor
     private static final class Offering implements State {
 
+        private final int limit;
+
         @Override
         public State without() {
-            return new Unbuffered();
+            return new Unbuffered(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Offering(limit);
         }
 
         @Override
         public State buffer(final ContainerResponseContext context) {
-            final TeeOutputStream stream = new TeeOutputStream(context.getEntityStream());
+            final TeeOutputStream stream = new TeeOutputStream(context.getEntityStream(), limit);
             context.setEntityStream(stream);
             return new Buffering(stream);
         }
@@ -78,6 +110,25 @@ final class LocalResponse implements HttpResponse {
             return stream.toByteArray();
         }
 
+        @Override
+        public boolean isTruncated() {
+            return stream.isTruncated();
+        }
+
+        @Override
+        public long getLength() {
+            return stream.getLength();
+        }
+
+        @Override
+        public void release() {
+            stream.release();
+        }
+
+        void discard() {
+            stream.discard();
+        }
+
     }
 
     @AllArgsConstructor
@@ -90,6 +141,12 @@ final class LocalResponse implements HttpResponse {
             return buffering;
         }
 
+        @Override
+        public void release() {
+            // the body was ignored, i.e. there is nothing worth retaining
+            buffering.discard();
+        }
+
     }
 
     @Override
@@ -136,6 +193,12 @@ final class LocalResponse implements HttpResponse {
         return this;
     }
 
+    @Override
+    public HttpResponse withBodyLimit(final int limit) {
+        state.updateAndGet(state -> state.limit(limit));
+        return this;
+    }
+
     void expose() {
         state.updateAndGet(state -> state.buffer(context));
     }
@@ -145,4 +208,22 @@ final class LocalResponse implements HttpResponse {
         return state.get().getBody();
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
+
+    /**
+     * Gives the buffer back to the pool, once the body was written. The body itself is retained, unless it was
+     * ignored.
+     */
+    void release() {
+        state.get().release();
+    }
+
 }
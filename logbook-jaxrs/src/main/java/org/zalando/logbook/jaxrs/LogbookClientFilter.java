@@ -60,7 +60,13 @@ public final class LogbookClientFilter implements ClientRequestFilter, ClientRes
                     final RemoteResponse response = new RemoteResponse(context);
                     final ResponseWritingStage write = stage.process(response);
                     response.expose();
-                    write.write();
+
+                    try {
+                        write.write();
+                    } finally {
+                        read(request::getProperty, "request", LocalRequest.class)
+                                .ifPresent(LocalRequest::release);
+                    }
                 }));
     }
 
@@ -44,6 +44,7 @@ public final class LogbookServerFilter implements ContainerRequestFilter, Contai
         read(request::getProperty, "process-response", ResponseProcessingStage.class)
                 .ifPresent(context.hasEntity() ?
                         throwingConsumer(stage -> {
+                            request.setProperty("response", response);
                             request.setProperty("write-response", stage.process(response));
                             response.expose();
                         }) :
@@ -55,8 +56,13 @@ public final class LogbookServerFilter implements ContainerRequestFilter, Contai
     public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
         context.proceed();
 
-        read(context::getProperty, "write-response", ResponseWritingStage.class)
-                .ifPresent(throwingConsumer(ResponseWritingStage::write));
+        try {
+            read(context::getProperty, "write-response", ResponseWritingStage.class)
+                    .ifPresent(throwingConsumer(ResponseWritingStage::write));
+        } finally {
+            read(context::getProperty, "response", LocalResponse.class)
+                    .ifPresent(LocalResponse::release);
+        }
     }
 
     private static <T> Optional<T> read(final Function<String, Object> provider, final String name,
@@ -1,20 +1,26 @@
 package org.zalando.logbook.jaxrs;
 
+import org.zalando.logbook.CappedByteArrayOutputStream;
+
 import jakarta.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
 /**
- * Copies any bytes written to a stream in an internal buffer for later retrieval.
+ * Copies any bytes written to a stream in an internal buffer for later retrieval, up to the given limit. Once
+ * released, the bytes are retained, unless they were discarded.
  */
 final class TeeOutputStream extends OutputStream {
 
     private final OutputStream original;
-    private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    private final CappedByteArrayOutputStream copy;
+
+    @Nullable
+    private byte[] bytes;
 
-    TeeOutputStream(@Nullable final OutputStream original) {
+    TeeOutputStream(@Nullable final OutputStream original, final int limit) {
         this.original = original;
+        this.copy = new CappedByteArrayOutputStream(limit);
     }
 
     @Override
@@ -46,7 +52,32 @@ final class TeeOutputStream extends OutputStream {
     }
 
     byte[] toByteArray() {
-        return copy.toByteArray();
+        return bytes == null ? copy.toByteArray() : bytes;
+    }
+
+    boolean isTruncated() {
+        return bytes == null ? copy.isTruncated() : copy.getLength() > bytes.length;
+    }
+
+    long getLength() {
+        return copy.getLength();
+    }
+
+    /**
+     * Gives the buffer back to the pool. The bytes are copied before, i.e. they can still be retrieved afterwards.
+     */
+    void release() {
+        if (bytes == null) {
+            bytes = copy.toByteArray();
+        }
+        copy.release();
+    }
+
+    /**
+     * Gives the buffer back to the pool without copying, i.e. the bytes appear empty and truncated afterwards.
+     */
+    void discard() {
+        copy.release();
     }
 
 }
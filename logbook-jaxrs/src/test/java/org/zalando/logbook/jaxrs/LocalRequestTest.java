@@ -0,0 +1,102 @@
+package org.zalando.logbook.jaxrs;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocalRequestTest {
+
+    private final ClientRequestContext context = mock(ClientRequestContext.class);
+    private final ByteArrayOutputStream original = new ByteArrayOutputStream();
+    private final LocalRequest unit = new LocalRequest(context);
+
+    @Test
+    void shouldCaptureBodyUpToLimit() throws IOException {
+        unit.withoutBody().withBodyLimit(2).withBody();
+
+        write(new byte[]{17, 18, 19});
+
+        assertArrayEquals(new byte[]{17, 18, 19}, original.toByteArray());
+        assertArrayEquals(new byte[]{17, 18}, unit.getBody());
+        assertTrue(unit.isBodyTruncated());
+        assertEquals(3, unit.getOriginalBodyLength());
+    }
+
+    @Test
+    void shouldKeepLimitWhenToggled() throws IOException {
+        unit.withBody().withBodyLimit(2).withoutBody().withBody();
+
+        write(new byte[]{17, 18, 19});
+
+        assertArrayEquals(new byte[]{17, 18}, unit.getBody());
+    }
+
+    @Test
+    void shouldIgnoreLimitOnceBuffering() throws IOException {
+        unit.withBody();
+
+        write(new byte[]{17, 18, 19});
+        unit.withBodyLimit(2);
+
+        assertArrayEquals(new byte[]{17, 18, 19}, unit.getBody());
+        assertFalse(unit.isBodyTruncated());
+    }
+
+    @Test
+    void shouldRetainBodyOnRelease() throws IOException {
+        unit.withBody();
+
+        write(new byte[]{17, 18, 19});
+        unit.release();
+        unit.release();
+
+        assertArrayEquals(new byte[]{17, 18, 19}, unit.getBody());
+        assertFalse(unit.isBodyTruncated());
+        assertEquals(3, unit.getOriginalBodyLength());
+    }
+
+    @Test
+    void shouldNotCopyIgnoredBodyOnRelease() throws IOException {
+        unit.withBody();
+
+        write(new byte[]{17, 18, 19});
+        unit.withoutBody();
+        unit.release();
+        unit.withBody();
+
+        assertArrayEquals(new byte[0], unit.getBody());
+        assertTrue(unit.isBodyTruncated());
+        assertEquals(3, unit.getOriginalBodyLength());
+    }
+
+    @Test
+    void shouldNotBeTruncatedWithoutBody() throws IOException {
+        unit.withBodyLimit(2);
+        unit.release();
+
+        assertFalse(unit.isBodyTruncated());
+        assertEquals(0, unit.getOriginalBodyLength());
+    }
+
+    private void write(final byte[] body) throws IOException {
+        when(context.getEntityStream()).thenReturn(original);
+        unit.expose();
+
+        final ArgumentCaptor<OutputStream> captor = ArgumentCaptor.forClass(OutputStream.class);
+        verify(context).setEntityStream(captor.capture());
+        captor.getValue().write(body);
+    }
+
+}
@@ -6,6 +6,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,8 +16,8 @@ import static org.mockito.Mockito.verify;
 class TeeOutputStreamTest {
 
     private final ByteArrayOutputStream output = spy(new ByteArrayOutputStream());
-    private final TeeOutputStream unit1 = new TeeOutputStream(output);
-    private final TeeOutputStream unit2 = new TeeOutputStream(null);
+    private final TeeOutputStream unit1 = new TeeOutputStream(output, Integer.MAX_VALUE);
+    private final TeeOutputStream unit2 = new TeeOutputStream(null, Integer.MAX_VALUE);
 
     @Test
     void shouldWriteByte() throws IOException {
@@ -45,6 +48,19 @@ class TeeOutputStreamTest {
 
     }
 
+    @Test
+    void shouldCopyUpToLimit() throws IOException {
+        final TeeOutputStream unit = new TeeOutputStream(output, 2);
+
+        unit.write(new byte[]{17, 18, 19});
+
+        assertArrayEquals(new byte[]{17, 18, 19}, output.toByteArray());
+        assertArrayEquals(new byte[]{17, 18}, unit.toByteArray());
+        assertTrue(unit.isTruncated());
+        assertEquals(3, unit.getLength());
+        assertFalse(unit1.isTruncated());
+    }
+
     @Test
     void shouldFlushAndClose() throws IOException {
         unit1.flush();
@@ -40,7 +40,11 @@ public final class LogbookFilter extends Filter {
 
         chain.doFilter(forwardingHttpExchange);
 
-        forwardingHttpExchange.getResponseWritingStage().write();
+        try {
+            forwardingHttpExchange.getResponseWritingStage().write();
+        } finally {
+            response.release();
+        }
     }
 
     @Override
@@ -251,11 +251,11 @@ final class Request implements HttpRequest {
 
     @Override
     public HttpHeaders getHeaders() {
-        HttpHeaders headers = HttpHeaders.empty();
+        final HttpHeaders.Builder headers = HttpHeaders.builder();
         for (Map.Entry<String, List<String>> e : httpExchange.getRequestHeaders().entrySet()) {
-            headers = headers.update(e.getKey(), e.getValue());
+            headers.put(e.getKey(), e.getValue());
         }
-        return headers;
+        return headers.build();
     }
 
     @Override
@@ -3,11 +3,11 @@ package org.zalando.logbook.jdkserver;
 import com.sun.net.httpserver.HttpExchange;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.zalando.logbook.CappedByteArrayOutputStream;
 import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Origin;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
@@ -21,7 +21,7 @@ final class Response implements HttpResponse {
 
     private final HttpExchange httpExchange;
 
-    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered());
+    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered(Integer.MAX_VALUE));
 
     private interface State {
 
@@ -33,6 +33,10 @@ final class Response implements HttpResponse {
             return this;
         }
 
+        default State limit(final int limit) {
+            return this;
+        }
+
         default State buffer(final HttpExchange exchange) throws IOException {
             return this;
         }
@@ -45,27 +49,55 @@ final class Response implements HttpResponse {
             return new byte[0];
         }
 
+        default boolean isTruncated() {
+            return false;
+        }
+
+        default long getLength() {
+            return getBody().length;
+        }
+
+        default void release() {
+            // nothing to do here
+        }
+
     }
 
+    @AllArgsConstructor
     private static final class Unbuffered implements State {
 
+        private final int limit;
+
         @Override
         public State with() {
-            return new Offering();
+            return new Offering(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Unbuffered(limit);
         }
 
     }
 
+    @AllArgsConstructor
     private static final class Offering implements State {
 
+        private final int limit;
+
         @Override
         public State without() {
-            return new Unbuffered();
+            return new Unbuffered(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Offering(limit);
         }
 
         @Override
         public State buffer(final HttpExchange exchange) throws IOException {
-            final Tee tee = new Tee(exchange.getResponseBody());
+            final Tee tee = new Tee(exchange.getResponseBody(), limit);
             return new Buffering(tee);
         }
 
@@ -82,6 +114,11 @@ final class Response implements HttpResponse {
             return tee.getOutputStream();
         }
 
+        @Override
+        public void release() {
+            tee.release();
+        }
+
     }
 
     private static final class Buffering extends Streaming {
@@ -100,6 +137,16 @@ final class Response implements HttpResponse {
             return getTee().getBytes();
         }
 
+        @Override
+        public boolean isTruncated() {
+            return getTee().isTruncated();
+        }
+
+        @Override
+        public long getLength() {
+            return getTee().getLength();
+        }
+
     }
 
     private static final class Ignoring extends Streaming {
@@ -113,6 +160,12 @@ final class Response implements HttpResponse {
             return new Buffering(getTee());
         }
 
+        @Override
+        public void release() {
+            // the body was ignored, i.e. there is nothing worth retaining
+            getTee().discard();
+        }
+
     }
 
     public Response(HttpExchange httpExchange) {
@@ -130,11 +183,11 @@ final class Response implements HttpResponse {
 
     @Override
     public HttpHeaders getHeaders() {
-        HttpHeaders headers = HttpHeaders.empty();
+        final HttpHeaders.Builder headers = HttpHeaders.builder();
         for (Map.Entry<String, List<String>> e : httpExchange.getResponseHeaders().entrySet()) {
-            headers = headers.update(e.getKey(), e.getValue());
+            headers.put(e.getKey(), e.getValue());
         }
-        return headers;
+        return headers.build();
     }
 
     @Override
@@ -142,6 +195,16 @@ final class Response implements HttpResponse {
         return buffer().getBody();
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
+
     @Override
     public int getStatus() {
         return httpExchange.getResponseCode();
@@ -159,6 +222,20 @@ final class Response implements HttpResponse {
         return this;
     }
 
+    @Override
+    public HttpResponse withBodyLimit(final int limit) {
+        state.updateAndGet(state -> state.limit(limit));
+        return this;
+    }
+
+    /**
+     * Gives the buffer back to the pool, once the body was written. The body itself is retained, unless it was
+     * ignored.
+     */
+    void release() {
+        state.get().release();
+    }
+
     private State buffer() {
         return state.updateAndGet(throwingUnaryOperator(state ->
                 state.buffer(httpExchange)));
@@ -166,13 +243,13 @@ final class Response implements HttpResponse {
 
     private static class Tee {
 
-        private final ByteArrayOutputStream branch;
+        private final CappedByteArrayOutputStream branch;
         private final TeeOutputStream output;
 
         private byte[] bytes;
 
-        private Tee(final OutputStream original) {
-            this.branch = new ByteArrayOutputStream();
+        private Tee(final OutputStream original, final int limit) {
+            this.branch = new CappedByteArrayOutputStream(limit);
             this.output = new TeeOutputStream(original, branch);
         }
 
@@ -186,6 +263,23 @@ final class Response implements HttpResponse {
             }
             return bytes;
         }
+
+        boolean isTruncated() {
+            return bytes == null ? branch.isTruncated() : branch.getLength() > bytes.length;
+        }
+
+        long getLength() {
+            return branch.getLength();
+        }
+
+        void release() {
+            getBytes();
+            branch.release();
+        }
+
+        void discard() {
+            branch.release();
+        }
     }
 
     @AllArgsConstructor
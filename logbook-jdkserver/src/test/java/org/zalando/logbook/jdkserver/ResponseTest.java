@@ -11,6 +11,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class ResponseTest {
 
@@ -42,6 +44,61 @@ final class ResponseTest {
         assertEquals(RESPONSE_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void shouldReturnBodyUpToLimit() throws IOException {
+        final Response response = (Response) new Response(new MockHttpExchange())
+                .withoutBody().withBodyLimit(3).withBody();
+        writeBody(response);
+        assertEquals("res", new String(response.getBody(), StandardCharsets.UTF_8));
+        assertTrue(response.isBodyTruncated());
+        assertEquals(RESPONSE_BODY.length(), response.getOriginalBodyLength());
+    }
+
+    @Test
+    public void shouldKeepLimitWhenToggled() throws IOException {
+        final Response response = (Response) new Response(new MockHttpExchange())
+                .withBody().withBodyLimit(3).withoutBody().withBody();
+        writeBody(response);
+        assertEquals("res", new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldIgnoreLimitOnceBuffering() throws IOException {
+        final Response response = (Response) new Response(new MockHttpExchange()).withBody();
+        writeBody(response);
+        response.withBodyLimit(3);
+        assertEquals(RESPONSE_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+        assertFalse(response.isBodyTruncated());
+    }
+
+    @Test
+    public void shouldNotBeTruncatedWithoutBody() throws IOException {
+        unit.withBodyLimit(3);
+        assertFalse(unit.isBodyTruncated());
+        assertEquals(0, unit.getOriginalBodyLength());
+    }
+
+    @Test
+    public void shouldRetainBodyOnRelease() throws IOException {
+        final Response response = (Response) new Response(new MockHttpExchange()).withBody();
+        writeBody(response);
+        response.release();
+        assertEquals(RESPONSE_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+        assertFalse(response.isBodyTruncated());
+    }
+
+    @Test
+    public void shouldNotCopyIgnoredBodyOnRelease() throws IOException {
+        final Response response = (Response) new Response(new MockHttpExchange()).withBody();
+        writeBody(response);
+        response.withoutBody();
+        response.release();
+        response.withBody();
+        assertEquals(0, response.getBody().length);
+        assertTrue(response.isBodyTruncated());
+        assertEquals(RESPONSE_BODY.length(), response.getOriginalBodyLength());
+    }
+
     @Test
     public void shouldReturnOriginFromExchange() {
         assertEquals(Origin.LOCAL, unit.getOrigin());
@@ -0,0 +1,128 @@
+package org.zalando.logbook.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.core.CompositeSink;
+import org.zalando.logbook.core.DefaultSink;
+import org.zalando.logbook.json.JsonHttpLogFormatter;
+import org.zalando.logbook.test.MockHttpRequest;
+import org.zalando.logbook.test.MockHttpResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.zalando.logbook.json.JsonPathBodyFilters.jsonPath;
+
+/**
+ * Logs a request and its response through a {@link CompositeSink} with one or two delegates and a JSONPath body
+ * filter. The {@code filterInvocations} counter reports how often the body filter ran per operation, i.e. it stays at
+ * two (request and response) regardless of the number of sinks, since filtered bodies are computed only once.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CompositeSinkBenchmark {
+
+    private static final String BODY = "{\"id\":\"3f7a\",\"user\":{\"name\":\"Alice\",\"password\":\"s3cr3t\"}," +
+            "\"items\":[{\"sku\":\"A-1\",\"price\":9.99},{\"sku\":\"B-2\",\"price\":19.99}]}";
+
+    private final AtomicLong invocations = new AtomicLong();
+
+    @Param({"1", "2"})
+    private int sinks;
+
+    private Logbook logbook;
+    private HttpRequest request;
+    private HttpResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final BodyFilter filter = jsonPath("$.user.password").replace("XXX");
+
+        final List<Sink> delegates = new ArrayList<>();
+        for (int i = 0; i < sinks; i++) {
+            delegates.add(new DefaultSink(new JsonHttpLogFormatter(), new NoopHttpLogWriter()));
+        }
+
+        logbook = Logbook.builder()
+                .bodyFilter((contentType, body) -> {
+                    invocations.incrementAndGet();
+                    return filter.filter(contentType, body);
+                })
+                .sink(new CompositeSink(delegates))
+                .build();
+
+        request = MockHttpRequest.create()
+                .withContentType("application/json")
+                .withBodyAsString(BODY);
+
+        response = MockHttpResponse.create()
+                .withContentType("application/json")
+                .withBodyAsString(BODY);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+
+        public long filterInvocations;
+
+    }
+
+    @Benchmark
+    public void write(final Counters counters, final Blackhole blackhole) throws IOException {
+        final long before = invocations.get();
+        logbook.process(request).write().process(response).write();
+        counters.filterInvocations += invocations.get() - before;
+        blackhole.consume(counters);
+    }
+
+    private static final class NoopHttpLogWriter implements HttpLogWriter {
+
+        @Override
+        public void write(final Precorrelation precorrelation, final String request) {
+            // nothing to do
+        }
+
+        @Override
+        public void write(final Correlation correlation, final String response) {
+            // nothing to do
+        }
+
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(CompositeSinkBenchmark.class.getSimpleName())
+                .forks(1).build();
+        new Runner(options).run();
+    }
+
+}
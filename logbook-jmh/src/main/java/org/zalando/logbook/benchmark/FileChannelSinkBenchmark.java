@@ -0,0 +1,89 @@
+package org.zalando.logbook.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zalando.logbook.HttpLogFormatter;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.core.DefaultSink;
+import org.zalando.logbook.core.FileChannelHttpLogWriter;
+import org.zalando.logbook.json.FastJsonHttpLogFormatter;
+import org.zalando.logbook.json.JsonHttpLogFormatter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Writes a request and its response through a {@link DefaultSink} into a {@link FileChannelHttpLogWriter}. The
+ * {@code fast-json} formatter encodes messages directly into the writer, while the {@code json} formatter produces an
+ * intermediate {@link String} first. Segments are written to a temporary directory that is deleted after every
+ * iteration.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class FileChannelSinkBenchmark {
+
+    @Param({"json", "fast-json"})
+    private String formatter;
+
+    private Path directory;
+    private FileChannelHttpLogWriter writer;
+    private Sink sink;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logbook-jmh-");
+        writer = FileChannelHttpLogWriter.builder().directory(directory).build();
+        sink = new DefaultSink(createFormatter(), writer);
+    }
+
+    private HttpLogFormatter createFormatter() {
+        return "json".equals(formatter) ? new JsonHttpLogFormatter() : new FastJsonHttpLogFormatter();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        writer.close();
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void write(final RequestResponseState state) throws IOException {
+        sink.write(state.getDefaultPrecorrelation(), state.getRequest());
+        sink.write(state.getDefaultCorrelation(), state.getRequest(), state.getResponse());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(FileChannelSinkBenchmark.class.getSimpleName())
+                .forks(1).build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.zalando.logbook.benchmark;
+
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.zalando.logbook.HttpHeaders;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Messages with a configurable number of headers, in the order in which a server would receive them, including
+ * repeated names.
+ */
+@Getter
+@State(Scope.Benchmark)
+public class GeneratedHeaderState {
+
+    @Param({"10", "50", "200"})
+    private int size;
+
+    private List<Entry<String, String>> entries;
+    private Map<String, List<String>> map;
+    private HttpHeaders headers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entries = new ArrayList<>(size);
+        map = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            // every fifth header repeats a previous name, e.g. Set-Cookie or Via
+            final String name = i % 5 == 4 ? "X-Header-" + (i - 1) : "X-Header-" + i;
+            final String value = "value-" + i;
+
+            entries.add(new SimpleImmutableEntry<>(name, value));
+            map.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+
+        entries.set(0, new SimpleImmutableEntry<>("Authorization", "Bearer s3cr3t"));
+        map.remove("X-Header-0");
+        map.put("Authorization", singletonList("Bearer s3cr3t"));
+
+        headers = HttpHeaders.of(map);
+    }
+
+}
@@ -10,10 +10,16 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zalando.logbook.HttpHeaders;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.Collections.singletonList;
+
 @Fork(value = 1, warmups = 1)
 @Warmup(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
 @BenchmarkMode(Mode.Throughput)
@@ -55,6 +61,71 @@ public class HeaderBenchmark {
         headerState.getReplace2xFilter().filter(headerState.getShopifyResponseHeaders());
     }
 
+    @Benchmark
+    public HttpHeaders obfuscateChained(final HeaderState headerState) {
+        return headerState.getChainedObfuscationFilter().filter(headerState.getAllRequestHeaders());
+    }
+
+    @Benchmark
+    public HttpHeaders obfuscateCompiled(final HeaderState headerState) {
+        return headerState.getCompiledObfuscationFilter().filter(headerState.getAllRequestHeaders());
+    }
+
+    @Benchmark
+    public HttpHeaders obfuscateChainedGenerated(final HeaderState headerState, final GeneratedHeaderState state) {
+        return headerState.getChainedObfuscationFilter().filter(state.getHeaders());
+    }
+
+    @Benchmark
+    public HttpHeaders obfuscateCompiledGenerated(final HeaderState headerState, final GeneratedHeaderState state) {
+        return headerState.getCompiledObfuscationFilter().filter(state.getHeaders());
+    }
+
+    @Benchmark
+    public HttpHeaders buildIncrementally(final GeneratedHeaderState state) {
+        HttpHeaders headers = HttpHeaders.empty();
+
+        for (final Entry<String, String> entry : state.getEntries()) {
+            headers = headers.apply(entry.getKey(), previous -> {
+                if (previous == null) {
+                    return singletonList(entry.getValue());
+                }
+
+                final List<String> result = new ArrayList<>(previous);
+                result.add(entry.getValue());
+                return result;
+            });
+        }
+
+        return headers;
+    }
+
+    @Benchmark
+    public HttpHeaders buildWithBuilder(final GeneratedHeaderState state) {
+        final HttpHeaders.Builder headers = HttpHeaders.builder();
+
+        for (final Entry<String, String> entry : state.getEntries()) {
+            headers.add(entry.getKey(), entry.getValue());
+        }
+
+        return headers.build();
+    }
+
+    @Benchmark
+    public HttpHeaders buildFromMap(final GeneratedHeaderState state) {
+        return HttpHeaders.of(state.getMap());
+    }
+
+    @Benchmark
+    public HttpHeaders autoconfigurationGenerated(final HeaderState headerState, final GeneratedHeaderState state) {
+        return headerState.getAutoconfigurationFilter().filter(state.getHeaders());
+    }
+
+    @Benchmark
+    public String getFirstGenerated(final GeneratedHeaderState state) {
+        return state.getHeaders().getFirst("x-header-5");
+    }
+
     public static void main(final String[] args) throws RunnerException {
         final Options options = new OptionsBuilder().include(HeaderBenchmark.class.getSimpleName())
                 .forks(1).build();
@@ -15,11 +15,18 @@ import java.util.List;
 import java.util.UUID;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singleton;
 
 @Getter
 @State(Scope.Benchmark)
 public class HeaderState {
 
+    private static final List<String> OBFUSCATED_HEADERS = List.of(
+            "Authorization", "Proxy-Authorization", "Cookie", "Set-Cookie", "X-Api-Key", "X-Auth-Token",
+            "X-CSRF-Token", "X-XSRF-Token", "X-Amz-Security-Token", "X-Goog-Api-Key", "X-Client-Secret",
+            "X-Session-Id");
+
     private HttpHeaders shopifyResponseHeaders; // real-life example
 
     private HttpHeaders postRequestHeaders;
@@ -34,6 +41,8 @@ public class HeaderState {
     private HeaderFilter replace2xFilter;
     private HeaderFilter removeFilter;
     private HeaderFilter remove2xFilter;
+    private HeaderFilter chainedObfuscationFilter;
+    private HeaderFilter compiledObfuscationFilter;
 
     @Setup(Level.Trial)
     public void setUp() throws Exception {
@@ -52,6 +61,16 @@ public class HeaderState {
                 HeaderFilters.removeHeaders("Authorization"),
                 HeaderFilters.removeHeaders("Set-Cookie"));
 
+        // one rule per header, like the ones that each filter used to apply on its own
+        chainedObfuscationFilter = OBFUSCATED_HEADERS.stream()
+                .map(name -> (HeaderFilter) headers -> headers.apply(singleton(name), (ignored, previous) ->
+                        previous == null ? null : nCopies(previous.size(), "XXX")))
+                .reduce(autoconfigurationFilter, (left, right) -> headers -> left.filter(right.filter(headers)));
+
+        compiledObfuscationFilter = OBFUSCATED_HEADERS.stream()
+                .map(name -> HeaderFilters.replaceHeaders(name, "XXX"))
+                .reduce(autoconfigurationFilter, HeaderFilter::merge);
+
         // header collections
         postRequestHeaders = postRequestHeaders();
         getRequestHeaders = getRequestHeaders();
@@ -6,6 +6,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -39,6 +40,36 @@ public class HttpLogFormatterBenchmark {
         return httpLogFormatterState.getFastJsonHttpLogFormatter().format(state.getDefaultCorrelation(), state.getResponse());
     }
 
+    @Benchmark
+    public Object fastJsonRequestChars(final RequestResponseState state, final HttpLogFormatterState httpLogFormatterState, final Utf8OutputState output) throws Exception {
+        output.getBytes().reset();
+        httpLogFormatterState.getFastJsonHttpLogFormatterJackson3().format(state.getDefaultPrecorrelation(), state.getRequest(), output.getChars());
+        output.getChars().flush();
+        return output.getBytes();
+    }
+
+    @Benchmark
+    public Object fastJsonRequestBytes(final RequestResponseState state, final HttpLogFormatterState httpLogFormatterState, final Utf8OutputState output) throws Exception {
+        output.getBytes().reset();
+        httpLogFormatterState.getFastJsonHttpLogFormatterJackson3().format(state.getDefaultPrecorrelation(), state.getRequest(), output.getBytes());
+        return output.getBytes();
+    }
+
+    @Benchmark
+    public Object fastJsonResponseChars(final RequestResponseState state, final HttpLogFormatterState httpLogFormatterState, final Utf8OutputState output) throws Exception {
+        output.getBytes().reset();
+        httpLogFormatterState.getFastJsonHttpLogFormatterJackson3().format(state.getDefaultCorrelation(), state.getResponse(), output.getChars());
+        output.getChars().flush();
+        return output.getBytes();
+    }
+
+    @Benchmark
+    public Object fastJsonResponseBytes(final RequestResponseState state, final HttpLogFormatterState httpLogFormatterState, final Utf8OutputState output) throws Exception {
+        output.getBytes().reset();
+        httpLogFormatterState.getFastJsonHttpLogFormatterJackson3().format(state.getDefaultCorrelation(), state.getResponse(), output.getBytes());
+        return output.getBytes();
+    }
+
     @Benchmark
     public Object defaultRequest(final RequestResponseState state, final HttpLogFormatterState httpLogFormatterState) throws Exception {
         return httpLogFormatterState.getDefaultHttpLogFormatter().format(state.getDefaultPrecorrelation(), state.getRequest());
@@ -49,8 +80,13 @@ public class HttpLogFormatterBenchmark {
         return httpLogFormatterState.getDefaultHttpLogFormatter().format(state.getDefaultCorrelation(), state.getResponse());
     }
 
+    /**
+     * Runs with the GC profiler, i.e. reports the allocation rate per operation next to the throughput. Same as
+     * running with {@code -prof gc}.
+     */
     public static void main(final String[] args) throws RunnerException {
         final Options options = new OptionsBuilder().include(HttpLogFormatterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
                 .forks(1).build();
         new Runner(options).run();
     }
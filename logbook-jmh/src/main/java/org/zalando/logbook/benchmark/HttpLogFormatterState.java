@@ -4,6 +4,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.zalando.logbook.HttpLogFormatter;
 import org.zalando.logbook.core.DefaultHttpLogFormatter;
+import org.zalando.logbook.json.FastJsonHttpLogFormatter;
 import org.zalando.logbook.json.FastJsonHttpLogFormatterJackson2;
 import org.zalando.logbook.json.JsonHttpLogFormatter;
 
@@ -14,6 +15,7 @@ public class HttpLogFormatterState {
 
     private JsonHttpLogFormatter jsonHttpLogFormatter = new JsonHttpLogFormatter();
     private FastJsonHttpLogFormatterJackson2 fastJsonHttpLogFormatterJackson2 = new FastJsonHttpLogFormatterJackson2();
+    private FastJsonHttpLogFormatter fastJsonHttpLogFormatterJackson3 = new FastJsonHttpLogFormatter();
     private HttpLogFormatter defaultHttpLogFormatter = new DefaultHttpLogFormatter();
 
     public JsonHttpLogFormatter getJsonHttpLogFormatter() {
@@ -24,6 +26,10 @@ public class HttpLogFormatterState {
         return fastJsonHttpLogFormatterJackson2;
     }
 
+    public FastJsonHttpLogFormatter getFastJsonHttpLogFormatterJackson3() {
+        return fastJsonHttpLogFormatterJackson3;
+    }
+
     public HttpLogFormatter getDefaultHttpLogFormatter() {
         return defaultHttpLogFormatter;
     }
@@ -0,0 +1,43 @@
+package org.zalando.logbook.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Threads(8)
+public class HttpLogWriterBenchmark {
+
+    @Benchmark
+    public void stream(final RequestResponseState state, final HttpLogWriterState writerState) throws IOException {
+        writerState.getStreamHttpLogWriter().write(state.getDefaultPrecorrelation(), writerState.getRequest());
+        writerState.getStreamHttpLogWriter().write(state.getDefaultCorrelation(), writerState.getResponse());
+    }
+
+    @Benchmark
+    public void batching(final RequestResponseState state, final HttpLogWriterState writerState) throws IOException {
+        writerState.getBatchingHttpLogWriter().write(state.getDefaultPrecorrelation(), writerState.getRequest());
+        writerState.getBatchingHttpLogWriter().write(state.getDefaultCorrelation(), writerState.getResponse());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(HttpLogWriterBenchmark.class.getSimpleName())
+                .forks(1).build();
+        new Runner(options).run();
+    }
+
+}
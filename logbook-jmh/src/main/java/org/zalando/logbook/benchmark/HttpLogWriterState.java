@@ -0,0 +1,61 @@
+package org.zalando.logbook.benchmark;
+
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.core.BatchingHttpLogWriter;
+import org.zalando.logbook.core.StreamHttpLogWriter;
+import org.zalando.logbook.json.JsonHttpLogFormatter;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+
+@Getter
+@State(Scope.Benchmark)
+public class HttpLogWriterState {
+
+    private HttpLogWriter streamHttpLogWriter;
+    private BatchingHttpLogWriter batchingHttpLogWriter;
+
+    private PrintStream stream;
+
+    private String request;
+    private String response;
+
+    @Setup(Level.Trial)
+    public void setUp(final RequestResponseState state) throws IOException {
+        // buffered and flushed on every line like System.out, but discarding the actual output
+        stream = new PrintStream(new BufferedOutputStream(new FileOutputStream(nullDevice())), true);
+
+        streamHttpLogWriter = new StreamHttpLogWriter(stream);
+        batchingHttpLogWriter = BatchingHttpLogWriter.builder()
+                .delegate(new StreamHttpLogWriter(stream))
+                .maxRecords(64)
+                .maxSize(64 * 1024)
+                .maxDelay(Duration.ofMillis(100))
+                .build();
+
+        final JsonHttpLogFormatter formatter = new JsonHttpLogFormatter();
+        request = formatter.format(state.getDefaultPrecorrelation(), state.getRequest());
+        response = formatter.format(state.getDefaultCorrelation(), state.getResponse());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        batchingHttpLogWriter.close();
+        stream.close();
+    }
+
+    private static File nullDevice() {
+        return new File(System.getProperty("os.name").startsWith("Windows") ? "NUL" : "/dev/null");
+    }
+
+}
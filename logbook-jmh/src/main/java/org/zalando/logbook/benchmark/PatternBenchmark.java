@@ -0,0 +1,105 @@
+package org.zalando.logbook.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zalando.logbook.common.Glob;
+import org.zalando.logbook.common.MediaTypeQuery;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link Glob} and {@link MediaTypeQuery} to the regular expressions they used to be translated to.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PatternBenchmark {
+
+    private static final String PATH = "/api/customers/123/orders/456";
+    private static final String MEDIA_TYPE = "application/problem+json;charset=utf-8";
+
+    private final Predicate<String> prefix = Glob.compile("/api/**");
+    private final Pattern prefixRegex = Pattern.compile("\\Q/api\\E(/.*)?$");
+
+    private final Predicate<String> suffix = Glob.compile("**.json");
+    private final Pattern suffixRegex = Pattern.compile(".*?\\Q.json\\E");
+
+    private final Predicate<String> glob = Glob.compile("/api/*/*/orders/**");
+    private final Pattern globRegex = Pattern.compile("\\Q/api/\\E[^/]*?\\Q/\\E[^/]*?\\Q/orders\\E(/.*)?$");
+
+    private final Predicate<String> form = MediaTypeQuery.compile("application/x-www-form-urlencoded");
+    private final Pattern formRegex = Pattern.compile("\\Qapplication\\E/\\Qx-www-form-urlencoded\\E(;.*)?");
+
+    private final Predicate<String> json = MediaTypeQuery.compile("application/*+json");
+    private final Pattern jsonRegex = Pattern.compile("\\Qapplication\\E/.*?\\Q+json\\E(;.*)?");
+
+    @Benchmark
+    public boolean globPrefix() {
+        return prefix.test(PATH);
+    }
+
+    @Benchmark
+    public boolean globPrefixRegex() {
+        return prefixRegex.matcher(PATH).matches();
+    }
+
+    @Benchmark
+    public boolean globSuffix() {
+        return suffix.test(PATH);
+    }
+
+    @Benchmark
+    public boolean globSuffixRegex() {
+        return suffixRegex.matcher(PATH).matches();
+    }
+
+    @Benchmark
+    public boolean globWildcards() {
+        return glob.test(PATH);
+    }
+
+    @Benchmark
+    public boolean globWildcardsRegex() {
+        return globRegex.matcher(PATH).matches();
+    }
+
+    @Benchmark
+    public boolean mediaTypeExact() {
+        return form.test(MEDIA_TYPE);
+    }
+
+    @Benchmark
+    public boolean mediaTypeExactRegex() {
+        return formRegex.matcher(MEDIA_TYPE).matches();
+    }
+
+    @Benchmark
+    public boolean mediaTypeWildcard() {
+        return json.test(MEDIA_TYPE);
+    }
+
+    @Benchmark
+    public boolean mediaTypeWildcardRegex() {
+        return jsonRegex.matcher(MEDIA_TYPE).matches();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(PatternBenchmark.class.getSimpleName())
+                .forks(1).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,94 @@
+package org.zalando.logbook.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.core.Conditions;
+import org.zalando.logbook.core.RequestPredicateIndex;
+import org.zalando.logbook.test.MockHttpRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Compares a {@link RequestPredicateIndex} of 80 exclude patterns to the equivalent chain of
+ * {@link Conditions#requestTo(String) conditions}, as built by the autoconfiguration before.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RequestPredicateBenchmark {
+
+    private final HttpRequest included = MockHttpRequest.create()
+            .withPath("/api/customers/123/orders/456");
+
+    private final HttpRequest excluded = MockHttpRequest.create()
+            .withPath("/internal/service-79/health");
+
+    private Predicate<HttpRequest> chain;
+    private Predicate<HttpRequest> index;
+
+    @Setup
+    public void setUp() {
+        final List<String> patterns = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            patterns.add("/internal/service-" + i + "/**");
+            patterns.add("/admin/" + i + "/*");
+            patterns.add("/static/v" + i + "/**/*.js");
+            patterns.add("/internal/service-" + (i + 60) + "/health");
+        }
+
+        Predicate<HttpRequest> chain = request -> true;
+        final RequestPredicateIndex.Builder index = RequestPredicateIndex.builder();
+
+        for (final String pattern : patterns) {
+            chain = chain.and(Conditions.<HttpRequest>requestTo(pattern).negate());
+            index.exclude(pattern);
+        }
+
+        this.chain = chain;
+        this.index = index.build();
+    }
+
+    @Benchmark
+    public boolean chainIncluded() {
+        return chain.test(included);
+    }
+
+    @Benchmark
+    public boolean chainExcluded() {
+        return chain.test(excluded);
+    }
+
+    @Benchmark
+    public boolean indexIncluded() {
+        return index.test(included);
+    }
+
+    @Benchmark
+    public boolean indexExcluded() {
+        return index.test(excluded);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(RequestPredicateBenchmark.class.getSimpleName())
+                .forks(1).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,24 @@
+package org.zalando.logbook.benchmark;
+
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A reusable, UTF-8 encoded destination that can be written to as characters (encoded by a {@link Writer}) or as
+ * bytes (encoded by the formatter).
+ */
+@Getter
+@State(Scope.Thread)
+public class Utf8OutputState {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+    private final Writer chars = new OutputStreamWriter(bytes, UTF_8);
+
+}
@@ -0,0 +1,101 @@
+package org.zalando.logbook.benchmark.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
+import org.zalando.logbook.json.JsonBodyFilters;
+import org.zalando.logbook.json.JsonBodyFiltersJackson2;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares the regex based JSON property filters of {@code logbook-json-jackson2}, which scan the body once per
+ * filter, with the single pass filters of {@code logbook-json}, on payloads of roughly 1 KB, 100 KB and 5 MB.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JsonPropertyBodyFilterBenchmark {
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    @Param({"1024", "102400", "5242880"})
+    private int size;
+
+    private String body;
+    private byte[] bytes;
+
+    private BodyFilter regex;
+    private BodyFilter singlePass;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StringBuilder json = new StringBuilder(size + 256).append('[');
+
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"User \\\"").append(i).append("\\\"\"")
+                    .append(",\"password\":\"s3cr3t-").append(i).append('"')
+                    .append(",\"age\":").append(20 + i % 50)
+                    .append(",\"active\":").append(i % 2 == 0)
+                    .append(",\"address\":{\"city\":\"Berlin\",\"zip\":null}}");
+        }
+
+        body = json.append(']').toString();
+        bytes = body.getBytes(UTF_8);
+
+        regex = BodyFilter.merge(BodyFilter.merge(
+                JsonBodyFiltersJackson2.replaceJsonStringProperty(Set.of("password", "name"), "XXX"),
+                JsonBodyFiltersJackson2.replaceJsonNumberProperty(Set.of("age"), 0)),
+                JsonBodyFiltersJackson2.replacePrimitiveJsonProperty("active"::equals, "XXX"));
+
+        singlePass = BodyFilter.merge(BodyFilter.merge(
+                JsonBodyFilters.replaceJsonStringProperty(Set.of("password", "name"), "XXX"),
+                JsonBodyFilters.replaceJsonNumberProperty(Set.of("age"), 0)),
+                JsonBodyFilters.replacePrimitiveJsonProperty("active"::equals, "XXX"));
+    }
+
+    @Benchmark
+    public String regex() {
+        return regex.filter(CONTENT_TYPE, body);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return singlePass.filter(CONTENT_TYPE, body);
+    }
+
+    @Benchmark
+    public byte[] singlePassBytes() {
+        return ((ByteBodyFilter) singlePass).filter(CONTENT_TYPE, UTF_8, bytes);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(JsonPropertyBodyFilterBenchmark.class.getSimpleName())
+                .forks(1).build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.zalando.logbook.benchmark.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zalando.logbook.BodyFilter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.zalando.logbook.json.JsonPathBodyFilters.jsonPath;
+
+/**
+ * Compares JSONPath filters that only address locations, which stream through the body, with an equivalent filter
+ * that uses a filter expression and therefore parses the whole body into a document.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StreamingJsonPathBodyFilterBenchmark {
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    @Param({"1024", "102400", "1048576"})
+    private int size;
+
+    private String body;
+
+    private BodyFilter streaming;
+    private BodyFilter parsing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StringBuilder json = new StringBuilder(size + 256).append("{\"users\":[");
+
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"User ").append(i).append('"')
+                    .append(",\"password\":\"s3cr3t-").append(i).append('"')
+                    .append(",\"roles\":[\"user\",\"admin\"]")
+                    .append(",\"address\":{\"city\":\"Berlin\",\"zip\":\"10115\"}}");
+        }
+
+        body = json.append("],\"token\":\"abc\"}").toString();
+
+        streaming = jsonPath("$.users[*].password").replace("XXX")
+                .tryMerge(jsonPath("$.token").delete());
+
+        // the filter expression matches the same values, but isn't supported while streaming
+        parsing = jsonPath("$.users[?(@.id >= 0)].password").replace("XXX")
+                .tryMerge(jsonPath("$.token").delete());
+    }
+
+    @Benchmark
+    public String streaming() {
+        return streaming.filter(CONTENT_TYPE, body);
+    }
+
+    @Benchmark
+    public String parsing() {
+        return parsing.filter(CONTENT_TYPE, body);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(StreamingJsonPathBodyFilterBenchmark.class.getSimpleName())
+                .forks(1).build();
+        new Runner(options).run();
+    }
+
+}
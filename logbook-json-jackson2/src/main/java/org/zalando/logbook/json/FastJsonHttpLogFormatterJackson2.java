@@ -2,6 +2,8 @@ package org.zalando.logbook.json;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import org.apiguardian.api.API;
@@ -14,7 +16,6 @@ import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Precorrelation;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 
@@ -70,16 +71,21 @@ public final class FastJsonHttpLogFormatterJackson2 implements HttpLogFormatter
             final H message,
             final Formatter<C, H> formatter) throws IOException {
 
-        final StringWriter writer = new StringWriter(message.getBody().length + 2048);
+        // the recycler's buffers are reused across formatted messages, rather than sized (and allocated) per body
+        final BufferRecycler recycler = factory._getBufferRecycler();
 
-        try (final JsonGenerator generator = factory.createGenerator(writer)) {
-            generator.writeStartObject();
-            formatter.format(correlation, message, generator);
-            delegate.write(message, generator);
-            generator.writeEndObject();
-        }
+        try (final SegmentedStringWriter writer = new SegmentedStringWriter(recycler)) {
+            try (final JsonGenerator generator = factory.createGenerator(writer)) {
+                generator.writeStartObject();
+                formatter.format(correlation, message, generator);
+                delegate.write(message, generator);
+                generator.writeEndObject();
+            }
 
-        return writer.toString();
+            return writer.getAndClear();
+        } finally {
+            recycler.releaseToPool();
+        }
     }
 
     private static class DefaultJsonFieldWriter implements JsonFieldWriterJackson2 {
@@ -12,6 +12,9 @@ import org.zalando.logbook.test.MockHttpRequest;
 
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY;
 import static java.time.Clock.systemUTC;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.zalando.logbook.Origin.REMOTE;
 
 public class FastJsonHttpLogFormatterJackson2Test {
@@ -38,4 +41,17 @@ public class FastJsonHttpLogFormatterJackson2Test {
 
         Assertions.assertDoesNotThrow(() -> objectMapper.readTree(json));
     }
+
+    @Test
+    public void shouldReadBodyOnlyOnce() throws IOException {
+        final HttpRequest request = spy(MockHttpRequest.create()
+                .withContentType("application/json")
+                .withBodyAsString("{\"action\": \"test\"}"));
+
+        final String json = formatter.format(new SimplePrecorrelation("1", systemUTC()), request);
+
+        Assertions.assertEquals("test", objectMapper.readTree(json).get("body").get("action").asText());
+        verify(request).getBodyAsString();
+        verify(request, never()).getBody();
+    }
 }
@@ -3,12 +3,23 @@ package org.zalando.logbook.json;
 import lombok.experimental.Delegate;
 import org.apiguardian.api.API;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
+
+import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.zalando.logbook.json.JsonBodyFilters.accessToken;
 
 @API(status = INTERNAL)
-public final class AccessTokenBodyFilter implements BodyFilter {
+public final class AccessTokenBodyFilter implements BodyFilter, ByteBodyFilter {
     @Delegate
     private final BodyFilter delegate = accessToken();
+
+    private final ByteBodyFilter byteDelegate = ByteBodyFilter.of(delegate);
+
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        return byteDelegate.filter(contentType, charset, body);
+    }
 }
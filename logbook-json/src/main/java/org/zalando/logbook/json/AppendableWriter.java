@@ -0,0 +1,43 @@
+package org.zalando.logbook.json;
+
+import lombok.AllArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Exposes an {@link Appendable} as a {@link Writer}, so that Jackson can generate directly into it. Flushing and
+ * closing are left to the owner of the underlying output.
+ */
+@AllArgsConstructor
+final class AppendableWriter extends Writer {
+
+    private final Appendable output;
+
+    @Override
+    public void write(final int c) throws IOException {
+        output.append((char) c);
+    }
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) throws IOException {
+        output.append(CharBuffer.wrap(buffer, offset, length));
+    }
+
+    @Override
+    public void write(final String string, final int offset, final int length) throws IOException {
+        output.append(string, offset, offset + length);
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public void close() {
+        // the underlying output is not owned by this writer
+    }
+
+}
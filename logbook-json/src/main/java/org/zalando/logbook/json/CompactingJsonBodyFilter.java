@@ -1,11 +1,13 @@
 package org.zalando.logbook.json;
 
 import jakarta.annotation.Nullable;
+import java.nio.charset.Charset;
 import lombok.AllArgsConstructor;
 import lombok.Generated;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 import org.zalando.logbook.ContentType;
 
 import static org.apiguardian.api.API.Status.MAINTAINED;
@@ -16,7 +18,7 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
 @API(status = MAINTAINED)
 @Slf4j
 @AllArgsConstructor
-public final class CompactingJsonBodyFilter implements BodyFilter {
+public final class CompactingJsonBodyFilter implements BodyFilter, ByteBodyFilter {
 
     private final JsonCompactor compactor;
 
@@ -55,4 +57,18 @@ public final class CompactingJsonBodyFilter implements BodyFilter {
         }
     }
 
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        if (!ContentType.isJsonMediaType(contentType)) {
+            return body;
+        }
+
+        try {
+            return compactor.compact(body, charset);
+        } catch (final RuntimeException e) {
+            log.trace("Unable to compact body, is it a JSON?. Keep it as-is: `{}`", e.getMessage());
+            return body;
+        }
+    }
+
 }
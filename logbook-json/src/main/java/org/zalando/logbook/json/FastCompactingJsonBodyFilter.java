@@ -4,8 +4,11 @@ import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 import org.zalando.logbook.ContentType;
 
+import java.nio.charset.Charset;
+
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
 /**
@@ -16,7 +19,7 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
  */
 @API(status = EXPERIMENTAL)
 @Slf4j
-public final class FastCompactingJsonBodyFilter implements BodyFilter {
+public final class FastCompactingJsonBodyFilter implements BodyFilter, ByteBodyFilter {
     private final StringReplaceJsonCompactor compactor = new StringReplaceJsonCompactor();
     @Override
     public String filter(@Nullable final String contentType, final String body) {
@@ -25,4 +28,12 @@ public final class FastCompactingJsonBodyFilter implements BodyFilter {
         }
         return compactor.compact(body);
     }
+
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        if (!ContentType.isJsonMediaType(contentType)) {
+            return body;
+        }
+        return compactor.compact(body, charset);
+    }
 }
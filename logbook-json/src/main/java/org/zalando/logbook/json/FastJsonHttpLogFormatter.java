@@ -1,8 +1,11 @@
 package org.zalando.logbook.json;
 
+import tools.jackson.core.JsonEncoding;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.core.io.SegmentedStringWriter;
 import tools.jackson.core.json.JsonFactory;
+import tools.jackson.core.util.BufferRecycler;
 import tools.jackson.databind.json.JsonMapper;
 import lombok.AllArgsConstructor;
 import org.apiguardian.api.API;
@@ -13,20 +16,24 @@ import org.zalando.logbook.HttpMessage;
 import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.StreamingHttpLogFormatter;
+import org.zalando.logbook.Utf8HttpLogFormatter;
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.List;
 import java.util.Map;
 
 import static org.apiguardian.api.API.Status.STABLE;
 
 /**
- * A custom {@link HttpLogFormatter} that produces JSON objects.
+ * A custom {@link HttpLogFormatter} that produces JSON objects. Besides {@link String strings}, it generates directly
+ * into {@link Appendable character} and UTF-8 encoded {@link OutputStream byte} outputs.
  */
 @API(status = STABLE)
 @AllArgsConstructor
-public final class FastJsonHttpLogFormatter implements HttpLogFormatter {
+public final class FastJsonHttpLogFormatter implements StreamingHttpLogFormatter, Utf8HttpLogFormatter {
 
     private final JsonFactory factory;
 
@@ -65,21 +72,90 @@ public final class FastJsonHttpLogFormatter implements HttpLogFormatter {
         return format(correlation, response, delegate::write);
     }
 
+    @Override
+    public void format(
+            final Precorrelation precorrelation,
+            final HttpRequest request,
+            final Appendable output) throws IOException {
+
+        format(precorrelation, request, delegate::write, new AppendableWriter(output));
+    }
+
+    @Override
+    public void format(
+            final Precorrelation precorrelation,
+            final HttpRequest request,
+            final OutputStream output) throws IOException {
+
+        format(precorrelation, request, delegate::write, output);
+    }
+
+    @Override
+    public void format(
+            final Correlation correlation,
+            final HttpResponse response,
+            final Appendable output) throws IOException {
+
+        format(correlation, response, delegate::write, new AppendableWriter(output));
+    }
+
+    @Override
+    public void format(
+            final Correlation correlation,
+            final HttpResponse response,
+            final OutputStream output) throws IOException {
+
+        format(correlation, response, delegate::write, output);
+    }
+
     private <C extends Precorrelation, H extends HttpMessage> String format(
             final C correlation,
             final H message,
             final Formatter<C, H> formatter) throws IOException {
 
-        final StringWriter writer = new StringWriter(message.getBody().length + 2048);
+        // the recycler's buffers are reused across formatted messages, rather than sized (and allocated) per body
+        final BufferRecycler recycler = factory._getBufferRecycler();
+
+        try (final SegmentedStringWriter writer = new SegmentedStringWriter(recycler)) {
+            format(correlation, message, formatter, writer);
+            return writer.getAndClear();
+        } finally {
+            recycler.releaseToPool();
+        }
+    }
+
+    private <C extends Precorrelation, H extends HttpMessage> void format(
+            final C correlation,
+            final H message,
+            final Formatter<C, H> formatter,
+            final Writer writer) throws IOException {
+
+        format(correlation, message, formatter, factory.createGenerator(ObjectWriteContext.empty(), writer));
+    }
+
+    private <C extends Precorrelation, H extends HttpMessage> void format(
+            final C correlation,
+            final H message,
+            final Formatter<C, H> formatter,
+            final OutputStream output) throws IOException {
+
+        // encodes while generating, i.e. there are no intermediate characters to be encoded by the writer
+        format(correlation, message, formatter, factory.createGenerator(
+                ObjectWriteContext.empty(), new NonClosingOutputStream(output), JsonEncoding.UTF8));
+    }
 
-        try (final JsonGenerator generator = factory.createGenerator(ObjectWriteContext.empty(), writer)) {
+    private <C extends Precorrelation, H extends HttpMessage> void format(
+            final C correlation,
+            final H message,
+            final Formatter<C, H> formatter,
+            final JsonGenerator generator) throws IOException {
+
+        try (generator) {
             generator.writeStartObject();
             formatter.format(correlation, message, generator);
             delegate.write(message, generator);
             generator.writeEndObject();
         }
-
-        return writer.toString();
     }
 
     private static class DefaultJsonFieldWriter implements JsonFieldWriter {
@@ -0,0 +1,209 @@
+package org.zalando.logbook.json;
+
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Lexical helpers for JSON encoded in an ASCII compatible charset, i.e. one in which every structural character of
+ * JSON is a single byte that never occurs as part of a multi-byte character.
+ */
+final class JsonBytes {
+
+    private JsonBytes() {
+
+    }
+
+    static boolean isAsciiCompatible(final Charset charset) {
+        return UTF_8.equals(charset) || ISO_8859_1.equals(charset) || US_ASCII.equals(charset);
+    }
+
+    /**
+     * @param json   the JSON
+     * @param offset the offset of the opening quote
+     * @return the offset after the closing quote, or the length of the JSON if the string is not terminated
+     */
+    static int skipString(final byte[] json, final int offset) {
+        for (int i = offset + 1; i < json.length; i++) {
+            final byte b = json[i];
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i + 1;
+            }
+        }
+        return json.length;
+    }
+
+    /**
+     * Skips whitespace, as defined by {@code \s} in regular expressions.
+     *
+     * @param json   the JSON
+     * @param offset the offset to start at
+     * @return the offset of the first non-whitespace byte, or the length of the JSON
+     */
+    static int skipWhitespace(final byte[] json, final int offset) {
+        int i = offset;
+        while (i < json.length && isWhitespace(json[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r');
+    }
+
+    /**
+     * Matches a valid JSON string, including its quotes.
+     *
+     * @param json   the JSON
+     * @param offset the offset to start at
+     * @return the offset after the closing quote, or {@code -1} if there is no valid string at the given offset
+     */
+    static int matchString(final byte[] json, final int offset) {
+        if (offset == json.length || json[offset] != '"') {
+            return -1;
+        }
+
+        int i = offset + 1;
+
+        while (i < json.length) {
+            final int b = json[i] & 0xFF;
+
+            if (b == '"') {
+                return i + 1;
+            } else if (b == '\\') {
+                i = matchEscape(json, i + 1);
+                if (i == -1) {
+                    return -1;
+                }
+            } else if (b < 0x20 || b == 0x7F) {
+                return -1;
+            } else {
+                i++;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int matchEscape(final byte[] json, final int offset) {
+        if (offset == json.length) {
+            return -1;
+        }
+
+        switch (json[offset]) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return offset + 1;
+            case 'u':
+                for (int i = offset + 1; i <= offset + 4; i++) {
+                    if (i == json.length || Character.digit(json[i], 16) == -1) {
+                        return -1;
+                    }
+                }
+                return offset + 5;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Matches a JSON number.
+     *
+     * @param json   the JSON
+     * @param offset the offset to start at
+     * @return the offset after the number, or {@code -1} if there is no number at the given offset
+     */
+    static int matchNumber(final byte[] json, final int offset) {
+        int i = offset;
+
+        if (i < json.length && json[i] == '-') {
+            i++;
+        }
+
+        if (i == json.length || !isDigit(json[i])) {
+            return -1;
+        }
+
+        // leading zeros are not allowed, i.e. a zero is a number on its own
+        i = json[i] == '0' ? i + 1 : skipDigits(json, i);
+
+        if (i + 1 < json.length && json[i] == '.' && isDigit(json[i + 1])) {
+            i = skipDigits(json, i + 1);
+        }
+
+        if (i < json.length && (json[i] == 'e' || json[i] == 'E')) {
+            int exponent = i + 1;
+
+            if (exponent < json.length && (json[exponent] == '+' || json[exponent] == '-')) {
+                exponent++;
+            }
+
+            if (exponent < json.length && isDigit(json[exponent])) {
+                i = skipDigits(json, exponent);
+            }
+        }
+
+        return i;
+    }
+
+    private static int skipDigits(final byte[] json, final int offset) {
+        int i = offset;
+        while (i < json.length && isDigit(json[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Matches {@code true} or {@code false}.
+     *
+     * @param json   the JSON
+     * @param offset the offset to start at
+     * @return the offset after the boolean, or {@code -1} if there is no boolean at the given offset
+     */
+    static int matchBoolean(final byte[] json, final int offset) {
+        final int end = matchLiteral(json, offset, "true");
+        return end == -1 ? matchLiteral(json, offset, "false") : end;
+    }
+
+    /**
+     * Matches {@code null}.
+     *
+     * @param json   the JSON
+     * @param offset the offset to start at
+     * @return the offset after {@code null}, or {@code -1} if there is no {@code null} at the given offset
+     */
+    static int matchNull(final byte[] json, final int offset) {
+        return matchLiteral(json, offset, "null");
+    }
+
+    private static int matchLiteral(final byte[] json, final int offset, final String literal) {
+        if (offset + literal.length() > json.length) {
+            return -1;
+        }
+
+        for (int i = 0; i < literal.length(); i++) {
+            if (json[offset + i] != literal.charAt(i)) {
+                return -1;
+            }
+        }
+
+        return offset + literal.length();
+    }
+
+}
@@ -1,5 +1,11 @@
 package org.zalando.logbook.json;
 
+import java.nio.charset.Charset;
+
 interface JsonCompactor {
     String compact(String json);
+
+    default byte[] compact(final byte[] json, final Charset charset) {
+        return compact(new String(json, charset)).getBytes(charset);
+    }
 }
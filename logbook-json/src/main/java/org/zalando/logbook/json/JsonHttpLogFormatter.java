@@ -9,7 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Generated;
 import org.apiguardian.api.API;
 import org.zalando.logbook.ContentType;
+import org.zalando.logbook.Correlation;
 import org.zalando.logbook.HttpMessage;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.StreamingHttpLogFormatter;
 import org.zalando.logbook.StructuredHttpLogFormatter;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -20,7 +25,7 @@ import static org.apiguardian.api.API.Status.STABLE;
  */
 @API(status = STABLE)
 @Generated
-public final class JsonHttpLogFormatter implements StructuredHttpLogFormatter {
+public final class JsonHttpLogFormatter implements StructuredHttpLogFormatter, StreamingHttpLogFormatter {
 
     private final JsonMapper mapper;
 
@@ -46,6 +51,28 @@ public final class JsonHttpLogFormatter implements StructuredHttpLogFormatter {
         }
     }
 
+    @Override
+    public String format(final Precorrelation precorrelation, final HttpRequest request) throws IOException {
+        return StructuredHttpLogFormatter.super.format(precorrelation, request);
+    }
+
+    @Override
+    public String format(final Correlation correlation, final HttpResponse response) throws IOException {
+        return StructuredHttpLogFormatter.super.format(correlation, response);
+    }
+
+    @Override
+    public void format(final Precorrelation precorrelation, final HttpRequest request, final Appendable output)
+            throws IOException {
+        mapper.writeValue(new AppendableWriter(output), prepare(precorrelation, request));
+    }
+
+    @Override
+    public void format(final Correlation correlation, final HttpResponse response, final Appendable output)
+            throws IOException {
+        mapper.writeValue(new AppendableWriter(output), prepare(correlation, response));
+    }
+
     @Override
     public String format(final Map<String, Object> content) throws IOException {
         return mapper.writeValueAsString(content);
@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 import org.zalando.logbook.BodyFilter;
 import org.zalando.logbook.ContentType;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.BooleanNode;
 import tools.jackson.databind.node.DoubleNode;
@@ -21,10 +22,12 @@ import tools.jackson.databind.node.StringNode;
 import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.jayway.jsonpath.JsonPath.compile;
 import static lombok.AccessLevel.PRIVATE;
@@ -35,13 +38,15 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 @NoArgsConstructor(access = PRIVATE)
 public final class JsonPathBodyFilters {
 
+    private static final LogbookJacksonJsonProvider PROVIDER = new LogbookJacksonJsonProvider();
+
     @RequiredArgsConstructor(access = PRIVATE)
     public static final class JsonPathBodyFilterBuilder {
 
         private final JsonPath path;
 
         public BodyFilter delete() {
-            return filter(context -> context.delete(path));
+            return filter(context -> context.delete(path), node -> null);
         }
 
         public BodyFilter replace(final String replacement) {
@@ -57,7 +62,7 @@ public final class JsonPathBodyFilters {
         }
 
         public BodyFilter replace(final JsonNode replacement) {
-            return filter(context -> context.set(path, replacement));
+            return filter(context -> context.set(path, replacement), node -> replacement.deepCopy());
         }
 
         public BodyFilter replace(final UnaryOperator<String> replacementFunction) {
@@ -65,7 +70,11 @@ public final class JsonPathBodyFilters {
                 Object unwrapped = context.configuration().jsonProvider().unwrap(node);
                 return unwrapped == null ?
                         NullNode.getInstance() : new StringNode(replacementFunction.apply(unwrapped.toString()));
-            }));
+            }), node -> {
+                @Nullable final Object unwrapped = PROVIDER.unwrap(node);
+                return unwrapped == null ?
+                        NullNode.getInstance() : new StringNode(replacementFunction.apply(unwrapped.toString()));
+            });
         }
 
         public BodyFilter replace(final Pattern pattern, final String replacement) {
@@ -83,28 +92,74 @@ public final class JsonPathBodyFilters {
                 } else {
                     return unwrapped;
                 }
-            }));
+            }), node -> {
+                @Nullable final Object unwrapped = PROVIDER.unwrap(node);
+
+                if (unwrapped == null) {
+                    return NullNode.getInstance();
+                }
+
+                final Matcher matcher = pattern.matcher(unwrapped.toString());
+                return matcher.find() ? new StringNode(matcher.replaceAll(replacement)) : node;
+            });
         }
 
-    }
+        private BodyFilter filter(final Operation operation, final StreamingJsonPathFilter.Operation streaming) {
+            return new JsonPathBodyFilter(Collections.singletonList(
+                    new PathOperation(operation, JsonPathMatcher.compile(path), streaming)));
+        }
 
-    private static JsonPathBodyFilter filter(final Operation operation) {
-        return new JsonPathBodyFilter(operation);
     }
 
+    /**
+     * An operation in two forms: one that works on a parsed {@link DocumentContext}, and one that works on matched
+     * values only, if the expression is supported by {@link JsonPathMatcher}.
+     */
     @AllArgsConstructor
-    private static class JsonPathBodyFilter implements BodyFilter {
+    private static final class PathOperation {
+
+        private final Operation operation;
+
+        @Nullable
+        private final JsonPathMatcher matcher;
+
+        private final StreamingJsonPathFilter.Operation streaming;
+
+    }
+
+    /**
+     * Streams through the body if all expressions are supported by {@link JsonPathMatcher}, and parses it into a
+     * document otherwise.
+     */
+    private static final class JsonPathBodyFilter implements BodyFilter {
 
         private static final ParseContext CONTEXT = JsonPath.using(
                 Configuration.builder()
-                        .jsonProvider(new LogbookJacksonJsonProvider())
+                        .jsonProvider(PROVIDER)
                         .mappingProvider(new LogbookJacksonMappingProvider())
                         .options(Option.SUPPRESS_EXCEPTIONS)
                         .options(Option.ALWAYS_RETURN_LIST)
                         .build());
 
+        private final List<PathOperation> operations;
+
         private final Operation operation;
 
+        @Nullable
+        private final StreamingJsonPathFilter streaming;
+
+        private JsonPathBodyFilter(final List<PathOperation> operations) {
+            this.operations = operations;
+            this.operation = Operation.composite(operations.stream()
+                    .map(operation -> operation.operation)
+                    .collect(Collectors.toList()));
+            this.streaming = operations.stream().allMatch(operation -> operation.matcher != null) ?
+                    new StreamingJsonPathFilter(
+                            operations.stream().map(operation -> operation.matcher).collect(Collectors.toList()),
+                            operations.stream().map(operation -> operation.streaming).collect(Collectors.toList())) :
+                    null;
+        }
+
         @Override
         public String filter(
                 @Nullable final String contentType, final String body) {
@@ -113,6 +168,19 @@ public final class JsonPathBodyFilters {
                 return body;
             }
 
+            if (streaming != null) {
+                try {
+                    return streaming.filter(body);
+                } catch (final JacksonException e) {
+                    log.trace("The body could not be filtered, the following exception {} has been thrown", e.getClass());
+                    return body;
+                } catch (final RuntimeException e) {
+                    // e.g. a failing replacement function, which filtering the parsed document tolerates per operation
+                    log.trace("The body could not be filtered while streaming, falling back to parsing it: `{}`",
+                            e.getMessage());
+                }
+            }
+
             try {
                 final DocumentContext original = CONTEXT.parse(body);
                 return operation.filter(original).jsonString();
@@ -127,8 +195,9 @@ public final class JsonPathBodyFilters {
         @Override
         public BodyFilter tryMerge(final BodyFilter next) {
             if (next instanceof JsonPathBodyFilter filter) {
-                return new JsonPathBodyFilter(
-                        Operation.composite(operation, filter.operation));
+                final List<PathOperation> merged = new ArrayList<>(operations);
+                merged.addAll(filter.operations);
+                return new JsonPathBodyFilter(merged);
             }
             return BodyFilter.super.tryMerge(next);
         }
@@ -139,10 +208,6 @@ public final class JsonPathBodyFilters {
     private interface Operation {
         DocumentContext filter(DocumentContext context);
 
-        static Operation composite(final Operation... operations) {
-            return composite(List.of(operations));
-        }
-
         static Operation composite(final Collection<Operation> operations) {
             return new CompositeOperation(operations);
         }
@@ -0,0 +1,189 @@
+package org.zalando.logbook.json;
+
+import com.jayway.jsonpath.JsonPath;
+import lombok.AllArgsConstructor;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A compiled form of the subset of JSONPath expressions that only depend on the location of a value, i.e. properties,
+ * array indices, wildcards and recursive descent. It matches one path segment at a time, which allows to evaluate it
+ * while streaming through a document.
+ * <p>
+ * A state is the set of positions within the expression that the segments so far lead to, encoded as a bitset. The
+ * expression matches once the state contains the position after its last step.
+ */
+@AllArgsConstructor
+final class JsonPathMatcher {
+
+    /**
+     * Positions are encoded as bits of a {@code long}, including the one after the last step.
+     */
+    private static final int MAX_STEPS = Long.SIZE - 1;
+
+    @AllArgsConstructor
+    private static final class Step {
+
+        /**
+         * Recursive descent, i.e. the step matches at any depth below the current one.
+         */
+        private final boolean deep;
+
+        /**
+         * Property names or array indices, or {@code null} for a wildcard.
+         */
+        @Nullable
+        private final Set<Object> keys;
+
+        private boolean matches(final Object key) {
+            return keys == null || keys.contains(key);
+        }
+
+    }
+
+    private final Step[] steps;
+
+    /**
+     * @param path the compiled JSONPath expression
+     * @return the matcher, or {@code null} if the expression is not supported, e.g. because it contains filters,
+     * slices, negative indices or functions
+     */
+    @Nullable
+    static JsonPathMatcher compile(final JsonPath path) {
+        // normalized by JsonPath, e.g. $..['a'][*][0,1]
+        final String expression = path.getPath();
+        final List<Step> steps = new ArrayList<>();
+
+        int i = 1;
+        while (i < expression.length()) {
+            boolean deep = false;
+
+            if (expression.startsWith("..", i)) {
+                deep = true;
+                i += 2;
+            }
+
+            if (i == expression.length() || expression.charAt(i) != '[') {
+                return null;
+            }
+
+            final int end = expression.indexOf(']', i);
+
+            if (end == -1) {
+                return null;
+            }
+
+            final String selector = expression.substring(i + 1, end);
+            final char first = selector.isEmpty() ? ']' : selector.charAt(0);
+
+            if (selector.equals("*")) {
+                steps.add(new Step(deep, null));
+            } else {
+                @Nullable final Set<Object> keys = first == '\'' || first == '"' ?
+                        names(selector, first) : indices(selector);
+
+                if (keys == null) {
+                    return null;
+                }
+
+                steps.add(new Step(deep, keys));
+            }
+
+            i = end + 1;
+        }
+
+        if (steps.isEmpty() || steps.size() > MAX_STEPS) {
+            return null;
+        }
+
+        return new JsonPathMatcher(steps.toArray(new Step[0]));
+    }
+
+    @Nullable
+    private static Set<Object> names(final String selector, final char quote) {
+        final Set<Object> names = new HashSet<>();
+        int i = 0;
+
+        while (true) {
+            if (i == selector.length() || selector.charAt(i) != quote) {
+                return null;
+            }
+
+            final int end = selector.indexOf(quote, i + 1);
+
+            if (end == -1) {
+                return null;
+            }
+
+            names.add(selector.substring(i + 1, end));
+
+            if (end + 1 == selector.length()) {
+                return names;
+            }
+
+            if (selector.charAt(end + 1) != ',') {
+                // e.g. a quote within a name, which JsonPath doesn't escape
+                return null;
+            }
+
+            i = end + 2;
+        }
+    }
+
+    @Nullable
+    private static Set<Object> indices(final String selector) {
+        final Set<Object> indices = new HashSet<>();
+
+        for (final String index : selector.split(",", -1)) {
+            if (index.isEmpty() || index.length() > 9 || !index.chars().allMatch(Character::isDigit)) {
+                return null;
+            }
+            indices.add(Integer.parseInt(index));
+        }
+
+        return indices;
+    }
+
+    long start() {
+        return 1L;
+    }
+
+    long next(final long state, final Object key) {
+        long next = 0L;
+
+        for (int position = 0; position < steps.length; position++) {
+            if ((state & (1L << position)) == 0) {
+                continue;
+            }
+
+            final Step step = steps[position];
+
+            if (step.deep) {
+                next |= 1L << position;
+            }
+
+            if (step.matches(key)) {
+                next |= 1L << (position + 1);
+            }
+        }
+
+        return next;
+    }
+
+    boolean matches(final long state) {
+        return (state & (1L << steps.length)) != 0;
+    }
+
+    /**
+     * @param state the current state
+     * @return whether the expression could still match below the current location
+     */
+    boolean isViable(final long state) {
+        return (state & ~(1L << steps.length)) != 0;
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.zalando.logbook.json;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Lets Jackson generate directly into an {@link OutputStream} it doesn't own. Flushing and closing are left to the
+ * owner of the underlying output.
+ */
+final class NonClosingOutputStream extends FilterOutputStream {
+
+    NonClosingOutputStream(final OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+        out.write(buffer, offset, length);
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public void close() {
+        // the underlying output is not owned by this stream
+    }
+
+}
@@ -1,9 +1,16 @@
 package org.zalando.logbook.json;
 
+import java.nio.charset.Charset;
+
 final class NoopJsonCompactor implements JsonCompactor {
 
     @Override
     public String compact(final String json) {
         return json;
     }
+
+    @Override
+    public byte[] compact(final byte[] json, final Charset charset) {
+        return json;
+    }
 }
@@ -1,14 +1,18 @@
 package org.zalando.logbook.json;
 
 import lombok.Generated;
+import tools.jackson.core.JsonEncoding;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.core.JsonParser;
 import tools.jackson.core.ObjectReadContext;
 import tools.jackson.core.ObjectWriteContext;
 import tools.jackson.core.json.JsonFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.CharArrayWriter;
-import java.io.IOException;
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Generated
 final class ParsingJsonCompactor implements JsonCompactor {
@@ -51,4 +55,27 @@ final class ParsingJsonCompactor implements JsonCompactor {
         }
     }
 
+    @Override
+    public byte[] compact(final byte[] json, final Charset charset) {
+        if (!UTF_8.equals(charset)) {
+            return JsonCompactor.super.compact(json, charset);
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(json.length);
+
+        try (
+                final JsonParser parser = factory.createParser(ObjectReadContext.empty(), json);
+                final JsonGenerator generator = factory.createGenerator(
+                        ObjectWriteContext.empty(), output, JsonEncoding.UTF8)) {
+
+            while (parser.nextToken() != null) {
+                jsonGeneratorWrapper.copyCurrentEvent(generator, parser);
+            }
+
+            generator.flush();
+        }
+
+        return output.toByteArray();
+    }
+
 }
@@ -2,140 +2,258 @@ package org.zalando.logbook.json;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
-import lombok.With;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 import org.zalando.logbook.ContentType;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import static java.util.regex.Pattern.compile;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
- * @see <a href="https://regex101.com/library/tA9pM8">Regex101 Library: Match Valid JSON</a>
+ * Replaces the values of JSON properties by walking through the body once. Property names are strings followed by a
+ * colon, their values are matched with the same rules as in <a href="https://regex101.com/library/tA9pM8">Regex101
+ * Library: Match Valid JSON</a>. Merged filters apply all of their rules, in order, within that single pass, i.e. a
+ * later rule sees the value that an earlier one replaced.
  */
-@AllArgsConstructor(access = PRIVATE, staticName = "create")
-final class PrimitiveJsonPropertyBodyFilter implements BodyFilter {
+@AllArgsConstructor(access = PRIVATE)
+final class PrimitiveJsonPropertyBodyFilter implements BodyFilter, ByteBodyFilter {
 
-    /*language=RegExp*/
-    private static final String BOOLEAN_PATTERN = "(?>true|false)";
+    /**
+     * The kind of values to replace. Every kind also matches {@code null}.
+     */
+    private enum Kind {
 
-    /*language=RegExp*/
-    private static final String NUMBER_PATTERN =
-            "(?>-?(?>0|[1-9][0-9]*)(?>\\.[0-9]+)?(?>[eE][+-]?[0-9]+)?)";
+        STRING {
+            @Override
+            int match(final byte[] json, final int offset) {
+                return JsonBytes.matchString(json, offset);
+            }
+        },
 
-    private static final Pattern NUMBER = pattern(NUMBER_PATTERN);
+        NUMBER {
+            @Override
+            int match(final byte[] json, final int offset) {
+                return JsonBytes.matchNumber(json, offset);
+            }
+        },
 
-    /**
-     * Matches strings, without surrounding double quotes.
-     * <p>
-     * The following characters are reserved in JSON and must be properly escaped to be used in strings:
-     *
-     * <ul>
-     *     <li>Double quote is replaced with {@code \"}</li>
-     *     <li>Backslash is replaced with {@code \\}</li>
-     *     <li>Forward Slash is replaced with {@code \/}</li>
-     *     <li>Backspace is replaced with {@code \b}</li>
-     *     <li>Form feed is replaced with {@code \f}</li>
-     *     <li>Newline is replaced with {@code \n}</li>
-     *     <li>Carriage return is replaced with {@code \r}</li>
-     *     <li>Tab is replaced with {@code \t}</li>
-     * </ul>
-     */
-    /*language=RegExp*/
-    private static final String STRING_VALUE_PATTERN = "" +
-            "(?>(?>\\\\(?>[\"\\\\/bfnrt]|u[a-fA-F0-9]{4})|[^\"\\\\\0-\\x1F\\x7F]+)++|)";
+        PRIMITIVE {
+            @Override
+            int match(final byte[] json, final int offset) {
+                final int end = JsonBytes.matchBoolean(json, offset);
+                if (end != -1) {
+                    return end;
+                }
+                final int number = JsonBytes.matchNumber(json, offset);
+                return number == -1 ? JsonBytes.matchString(json, offset) : number;
+            }
+        };
+
+        abstract int match(byte[] json, int offset);
+
+        int matchValue(final byte[] json, final int offset) {
+            final int end = JsonBytes.matchNull(json, offset);
+            return end == -1 ? match(json, offset) : end;
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static final class Rule {
 
-    /*language=RegExp*/
-    private static final String STRING_PATTERN = "(?>\"" + STRING_VALUE_PATTERN + "\")";
+        private final Kind kind;
+        private final Predicate<String> predicate;
+        private final BiFunction<String, String, String> replacement;
 
-    private static final Pattern STRING = pattern(STRING_PATTERN);
+        private boolean compatibleWith(final Rule that) {
+            return kind == that.kind
+                    && replacement.equals(that.replacement);
+        }
 
-    /*language=RegExp*/
-    private static final String PRIMITIVE_PATTERN =
-            "(?>" + BOOLEAN_PATTERN + "|" + NUMBER_PATTERN + "|" + STRING_PATTERN + ")";
+        private Rule or(final Rule that) {
+            return new Rule(kind, predicate.or(that.predicate), replacement);
+        }
 
-    private static final Pattern PRIMITIVE = pattern(PRIMITIVE_PATTERN);
+        /**
+         * Applies this rule to a value that a previous rule already replaced. Like a subsequent filter would, this
+         * only replaces the leading part of the value that matches its kind.
+         */
+        @Nullable
+        private String replace(final String property, final String value, final Charset charset) {
+            final byte[] bytes = value.getBytes(charset);
+            final int end = kind.matchValue(bytes, 0);
+
+            if (end == -1 || !predicate.test(property)) {
+                return null;
+            }
 
-    private final Pattern pattern;
+            return replacement.apply(property, new String(bytes, 0, end, charset)) +
+                    new String(bytes, end, bytes.length - end, charset);
+        }
 
-    @With(PRIVATE)
-    private final Predicate<String> predicate;
+    }
 
-    private final BiFunction<String, String, String> replacement;
+    private final List<Rule> rules;
 
-    private static Pattern pattern(final String value) {
-        return compile("(?<key>\"(?<property>" + STRING_VALUE_PATTERN + ")\"\\s*:\\s*)(?<propertyValue>" + value + "|null)");
+    private static PrimitiveJsonPropertyBodyFilter create(
+            final Kind kind,
+            final Predicate<String> predicate,
+            final BiFunction<String, String, String> replacement) {
+        return new PrimitiveJsonPropertyBodyFilter(Collections.singletonList(new Rule(kind, predicate, replacement)));
     }
 
     @Override
     public String filter(@Nullable final String contentType, final String body) {
-        if (ContentType.isJsonMediaType(contentType)) {
-            final Matcher matcher = pattern.matcher(body);
-            final StringBuffer result = new StringBuffer(body.length());
-
-            while (matcher.find()) {
-                if (predicate.test(matcher.group("property"))) {
-                    // this preserves whitespaces around properties
-                    matcher.appendReplacement(result, "${key}");
-                    result.append(replacement.apply(
-                            matcher.group("property"),
-                            matcher.group("propertyValue")));
+        if (!ContentType.isJsonMediaType(contentType)) {
+            return body;
+        }
+
+        final byte[] bytes = body.getBytes(UTF_8);
+        final byte[] filtered = filter(bytes, UTF_8);
+        return filtered == bytes ? body : new String(filtered, UTF_8);
+    }
+
+    /**
+     * Replaces the same properties as {@link #filter(String, String)}, but without decoding the body, as long as it's
+     * encoded in an ASCII compatible charset.
+     */
+    @Override
+    public byte[] filter(@Nullable final String contentType, final Charset charset, final byte[] body) {
+        if (!ContentType.isJsonMediaType(contentType)) {
+            return body;
+        }
+
+        if (!JsonBytes.isAsciiCompatible(charset)) {
+            final String decoded = new String(body, charset);
+            final String filtered = filter(contentType, decoded);
+            return filtered.equals(decoded) ? body : filtered.getBytes(charset);
+        }
+
+        return filter(body, charset);
+    }
+
+    private byte[] filter(final byte[] body, final Charset charset) {
+        @Nullable ByteArrayOutputStream result = null;
+        int copied = 0;
+        int offset = 0;
+
+        while (offset < body.length) {
+            if (body[offset] != '"') {
+                offset++;
+                continue;
+            }
+
+            final int end = JsonBytes.skipString(body, offset);
+            final int colon = JsonBytes.skipWhitespace(body, end);
+
+            if (colon == body.length || body[colon] != ':') {
+                offset = end;
+                continue;
+            }
+
+            final int valueStart = JsonBytes.skipWhitespace(body, colon + 1);
+
+            @Nullable String property = null;
+            @Nullable String value = null;
+            int valueEnd = valueStart;
+
+            for (final Rule rule : rules) {
+                if (value == null) {
+                    final int match = rule.kind.matchValue(body, valueStart);
+
+                    if (match == -1) {
+                        continue;
+                    }
+
+                    if (property == null) {
+                        property = new String(body, offset + 1, end - offset - 2, charset);
+                    }
+
+                    if (rule.predicate.test(property)) {
+                        valueEnd = match;
+                        value = rule.replacement.apply(
+                                property, new String(body, valueStart, valueEnd - valueStart, charset));
+                    }
                 } else {
-                    matcher.appendReplacement(result, "$0");
+                    final String replaced = rule.replace(property, value, charset);
+                    value = replaced == null ? value : replaced;
+                }
+            }
+
+            if (value != null) {
+                if (result == null) {
+                    result = new ByteArrayOutputStream(body.length);
                 }
+
+                result.write(body, copied, valueStart - copied);
+                result.writeBytes(value.getBytes(charset));
+                copied = valueEnd;
             }
-            matcher.appendTail(result);
 
-            return result.toString();
+            // nested objects and arrays are scanned as part of the remaining body
+            offset = valueEnd;
+        }
+
+        if (result == null) {
+            return body;
         }
-        return body;
+
+        result.write(body, copied, body.length - copied);
+        return result.toByteArray();
     }
 
     @Override
     public BodyFilter tryMerge(final BodyFilter next) {
         if (next instanceof PrimitiveJsonPropertyBodyFilter) {
-            final PrimitiveJsonPropertyBodyFilter filter = (PrimitiveJsonPropertyBodyFilter) next;
+            final List<Rule> merged = new ArrayList<>(rules);
 
-            if (compatibleWith(filter)) {
-                return withPredicate(predicate.or(filter.predicate));
+            for (final Rule rule : ((PrimitiveJsonPropertyBodyFilter) next).rules) {
+                final int last = merged.size() - 1;
+
+                if (merged.get(last).compatibleWith(rule)) {
+                    merged.set(last, merged.get(last).or(rule));
+                } else {
+                    merged.add(rule);
+                }
             }
+
+            return new PrimitiveJsonPropertyBodyFilter(merged);
         }
 
         return null;
     }
 
-    private boolean compatibleWith(final PrimitiveJsonPropertyBodyFilter that) {
-        return pattern.equals(that.pattern)
-                && replacement.equals(that.replacement);
-    }
-
     static BodyFilter replaceString(
             final Predicate<String> predicate, final String replacement) {
-        return create(STRING, predicate, new StaticReplacement(replacement).andThen(quote()));
+        return create(Kind.STRING, predicate, new StaticReplacement(replacement).andThen(quote()));
     }
 
     static BodyFilter replaceNumber(
             final Predicate<String> predicate, final Number replacement) {
-        return create(NUMBER, predicate, new StaticReplacement(replacement.toString()));
+        return create(Kind.NUMBER, predicate, new StaticReplacement(replacement.toString()));
     }
 
     static BodyFilter replacePrimitive(
             final Predicate<String> predicate, final String replacement) {
-        return create(PRIMITIVE, predicate, new StaticReplacement(replacement).andThen(quote()));
+        return create(Kind.PRIMITIVE, predicate, new StaticReplacement(replacement).andThen(quote()));
     }
 
     static BodyFilter replacePrimitive(
             final Predicate<String> predicate,
             final BiFunction<String, String, String> replacement) {
-        return create(PRIMITIVE, predicate, new DynamicReplacement(replacement).andThen(quote()));
+        return create(Kind.PRIMITIVE, predicate, new DynamicReplacement(replacement).andThen(quote()));
     }
 
     /**
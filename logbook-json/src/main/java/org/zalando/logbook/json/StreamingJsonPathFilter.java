@@ -0,0 +1,254 @@
+package org.zalando.logbook.json;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import jakarta.annotation.Nullable;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies JSONPath operations while copying a document from a {@link JsonParser} to a {@link JsonGenerator}. Only the
+ * values that an expression matches are read into a tree, everything else is copied token by token, or skipped over
+ * entirely if no expression can match below it.
+ * <p>
+ * The result is the same as applying the operations one after another to the whole document: array indices of later
+ * operations take elements into account that earlier ones deleted, and later operations see the values that earlier
+ * ones replaced.
+ */
+final class StreamingJsonPathFilter {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder()
+            // values are read from the middle of the document
+            .disable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+            .build();
+
+    @FunctionalInterface
+    interface Operation {
+
+        /**
+         * @param node the matched value
+         * @return the replacement, or {@code null} to delete the value
+         */
+        @Nullable
+        JsonNode apply(JsonNode node);
+
+    }
+
+    private final JsonPathMatcher[] matchers;
+    private final Operation[] operations;
+
+    StreamingJsonPathFilter(final List<JsonPathMatcher> matchers, final List<Operation> operations) {
+        this.matchers = matchers.toArray(new JsonPathMatcher[0]);
+        this.operations = operations.toArray(new Operation[0]);
+    }
+
+    String filter(final String body) {
+        final StringWriter writer = new StringWriter(body.length());
+
+        try (JsonParser parser = MAPPER.createParser(body); JsonGenerator generator = MAPPER.createGenerator(writer)) {
+            if (parser.nextToken() == null) {
+                return body;
+            }
+
+            final long[] states = new long[matchers.length];
+            for (int i = 0; i < matchers.length; i++) {
+                states[i] = matchers[i].start();
+            }
+
+            copy(parser, generator, states);
+
+            if (parser.nextToken() != null) {
+                // trailing content, not a single JSON document
+                return body;
+            }
+        }
+
+        return writer.toString();
+    }
+
+    private void copy(final JsonParser parser, final JsonGenerator generator, final long[] states) {
+        final JsonToken token = parser.currentToken();
+
+        if (!isViable(states)) {
+            generator.copyCurrentStructureExact(parser);
+        } else if (token == JsonToken.START_OBJECT) {
+            copyObject(parser, generator, states);
+        } else if (token == JsonToken.START_ARRAY) {
+            copyArray(parser, generator, states);
+        } else {
+            generator.copyCurrentEventExact(parser);
+        }
+    }
+
+    private void copyObject(final JsonParser parser, final JsonGenerator generator, final long[] states) {
+        generator.writeStartObject();
+
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+
+            final long[] next = new long[states.length];
+            for (int i = 0; i < states.length; i++) {
+                next[i] = matchers[i].next(states[i], name);
+            }
+
+            if (matches(next)) {
+                @Nullable final JsonNode value = apply(read(parser), next, null);
+
+                if (value != null) {
+                    generator.writeName(name);
+                    generator.writeTree(value);
+                }
+            } else {
+                generator.writeName(name);
+                copy(parser, generator, next);
+            }
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void copyArray(final JsonParser parser, final JsonGenerator generator, final long[] states) {
+        generator.writeStartArray();
+
+        // number of preceding elements that an earlier operation deleted, per operation
+        final int[] deleted = new int[states.length];
+        int index = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final long[] next = new long[states.length];
+            for (int i = 0; i < states.length; i++) {
+                next[i] = matchers[i].next(states[i], index - deleted[i]);
+            }
+
+            if (matches(next)) {
+                @Nullable final JsonNode value = apply(read(parser), next, deleted);
+
+                if (value != null) {
+                    generator.writeTree(value);
+                }
+            } else {
+                copy(parser, generator, next);
+            }
+
+            index++;
+        }
+
+        generator.writeEndArray();
+    }
+
+    private static JsonNode read(final JsonParser parser) {
+        return MAPPER.readTree(parser);
+    }
+
+    /**
+     * Applies all operations in order.
+     *
+     * @param node    the value
+     * @param states  the states of all operations at the location of the value
+     * @param deleted the deletion counters of the enclosing array, if any
+     * @return the resulting value or {@code null} if an operation deleted it
+     */
+    @Nullable
+    private JsonNode apply(final JsonNode node, final long[] states, @Nullable final int[] deleted) {
+        JsonNode current = node;
+
+        for (int i = 0; i < operations.length; i++) {
+            @Nullable final JsonNode result = apply(i, current, states[i]);
+
+            if (result == null) {
+                if (deleted != null) {
+                    for (int j = i + 1; j < deleted.length; j++) {
+                        deleted[j]++;
+                    }
+                }
+                return null;
+            }
+
+            current = result;
+        }
+
+        return current;
+    }
+
+    /**
+     * Applies a single operation to a value and, where it doesn't match, to its children.
+     */
+    @Nullable
+    private JsonNode apply(final int operation, final JsonNode node, final long state) {
+        final JsonPathMatcher matcher = matchers[operation];
+
+        if (matcher.matches(state)) {
+            return operations[operation].apply(node);
+        }
+
+        if (matcher.isViable(state)) {
+            applyToChildren(operation, node, state);
+        }
+
+        return node;
+    }
+
+    private void applyToChildren(final int operation, final JsonNode node, final long state) {
+        final JsonPathMatcher matcher = matchers[operation];
+
+        if (node instanceof ObjectNode object) {
+            final List<String> removals = new ArrayList<>();
+
+            for (final Map.Entry<String, JsonNode> property : object.properties()) {
+                final String name = property.getKey();
+                final JsonNode value = property.getValue();
+                @Nullable final JsonNode result = apply(operation, value, matcher.next(state, name));
+
+                if (result == null) {
+                    removals.add(name);
+                } else if (result != value) {
+                    // replaces the value of an existing property, i.e. doesn't modify the structure while iterating
+                    object.set(name, result);
+                }
+            }
+
+            object.remove(removals);
+        } else if (node instanceof ArrayNode array) {
+            // deletes from the end, so that indices within this operation refer to the original elements
+            for (int index = array.size() - 1; index >= 0; index--) {
+                final JsonNode element = array.get(index);
+                @Nullable final JsonNode result = apply(operation, element, matcher.next(state, index));
+
+                if (result == null) {
+                    array.remove(index);
+                } else if (result != element) {
+                    array.set(index, result);
+                }
+            }
+        }
+    }
+
+    private boolean matches(final long[] states) {
+        for (int i = 0; i < states.length; i++) {
+            if (matchers[i].matches(states[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isViable(final long[] states) {
+        for (int i = 0; i < states.length; i++) {
+            if (matchers[i].isViable(states[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -1,8 +1,35 @@
 package org.zalando.logbook.json;
 
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
 final class StringReplaceJsonCompactor implements JsonCompactor {
     @Override
     public String compact(final String json) {
         return json.replace("\n", "");
     }
+
+    @Override
+    public byte[] compact(final byte[] json, final Charset charset) {
+        if (!JsonBytes.isAsciiCompatible(charset)) {
+            return JsonCompactor.super.compact(json, charset);
+        }
+
+        int length = 0;
+        byte[] result = json;
+
+        for (int i = 0; i < json.length; i++) {
+            if (json[i] == '\n') {
+                if (result == json) {
+                    // copy lazily, bodies without new lines stay as they are
+                    result = Arrays.copyOf(json, json.length);
+                    length = i;
+                }
+            } else if (result != json) {
+                result[length++] = json[i];
+            }
+        }
+
+        return result == json ? json : Arrays.copyOf(result, length);
+    }
 }
@@ -2,7 +2,10 @@ package org.zalando.logbook.json;
 
 import org.junit.jupiter.api.Test;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CompactingJsonBodyFilterTest {
@@ -99,4 +102,24 @@ class CompactingJsonBodyFilterTest {
         assertThat(filtered).isEqualTo(invalidJson);
     }
 
+    @Test
+    void shouldCompactBytes() {
+        final ByteBodyFilter filter = (ByteBodyFilter) unit;
+
+        assertThat(new String(filter.filter("application/json", UTF_8, pretty.getBytes(UTF_8)), UTF_8))
+                .isEqualTo(compacted);
+        assertThat(new String(filter.filter("application/json", UTF_16, pretty.getBytes(UTF_16)), UTF_16))
+                .isEqualTo(compacted);
+    }
+
+    @Test
+    void shouldIgnoreInvalidBytes() {
+        final ByteBodyFilter filter = (ByteBodyFilter) unit;
+        final byte[] invalid = "{\ninvalid}".getBytes(UTF_8);
+        final byte[] text = pretty.getBytes(UTF_8);
+
+        assertThat(filter.filter("application/json", UTF_8, invalid)).isSameAs(invalid);
+        assertThat(filter.filter("text/plain", UTF_8, text)).isSameAs(text);
+    }
+
 }
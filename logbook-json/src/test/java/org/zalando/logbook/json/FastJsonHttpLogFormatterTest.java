@@ -9,16 +9,24 @@ import org.junit.jupiter.api.Test;
 import org.zalando.logbook.Correlation;
 import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Precorrelation;
 import org.zalando.logbook.test.MockHttpRequest;
+import org.zalando.logbook.test.MockHttpResponse;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.UUID;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Clock.systemUTC;
 import static java.time.Instant.MIN;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.zalando.logbook.Origin.REMOTE;
 
 public class FastJsonHttpLogFormatterTest {
@@ -45,6 +53,67 @@ public class FastJsonHttpLogFormatterTest {
         assertDoesNotThrow(() -> jsonMapper.readTree(json));
     }
 
+    @Test
+    public void shouldAppendSameJsonAsString() throws IOException {
+        final HttpRequest request = MockHttpRequest.create()
+                .withHeaders(HttpHeaders.empty().update("Accept", "application/json"))
+                .withContentType("application/json")
+                .withBodyAsString("{\"action\": \"test\"}");
+        final HttpResponse response = MockHttpResponse.create()
+                .withContentType("text/plain")
+                .withBodyAsString("Hello, world!");
+
+        final Precorrelation precorrelation = new SimplePrecorrelation("1", systemUTC());
+        final Correlation correlation = new SimpleCorrelation("1", Duration.ofMillis(125));
+
+        final StringBuilder output = new StringBuilder();
+        formatter.format(precorrelation, request, output);
+        output.append('\n');
+        formatter.format(correlation, response, output);
+
+        assertEquals(
+                formatter.format(precorrelation, request) + "\n" + formatter.format(correlation, response),
+                output.toString());
+    }
+
+    @Test
+    public void shouldWriteSameJsonAsStringEncodedAsUtf8() throws IOException {
+        final HttpRequest request = MockHttpRequest.create()
+                .withHeaders(HttpHeaders.empty().update("Accept", "application/json"))
+                .withContentType("application/json")
+                .withBodyAsString("{\"greeting\": \"Grüße\"}");
+        final HttpResponse response = MockHttpResponse.create()
+                .withContentType("text/plain")
+                .withBodyAsString("Hello, wörld! \uD83D\uDC4B");
+
+        final Precorrelation precorrelation = new SimplePrecorrelation("1", systemUTC());
+        final Correlation correlation = new SimpleCorrelation("1", Duration.ofMillis(125));
+
+        final ByteArrayOutputStream output = spy(new ByteArrayOutputStream());
+        formatter.format(precorrelation, request, output);
+        output.write('\n');
+        formatter.format(correlation, response, output);
+
+        assertEquals(
+                formatter.format(precorrelation, request) + "\n" + formatter.format(correlation, response),
+                output.toString(UTF_8));
+        verify(output, never()).flush();
+        verify(output, never()).close();
+    }
+
+    @Test
+    public void shouldReadBodyOnlyOnce() throws IOException {
+        final HttpResponse response = spy(MockHttpResponse.create()
+                .withContentType("application/json")
+                .withBodyAsString("{\"action\": \"test\"}"));
+
+        final String json = formatter.format(new SimpleCorrelation("1", Duration.ofMillis(125)), response);
+
+        assertEquals("test", jsonMapper.readTree(json).get("body").get("action").asString());
+        verify(response).getBodyAsString();
+        verify(response, never()).getBody();
+    }
+
     @Getter
     static class SimplePrecorrelation implements Precorrelation {
 
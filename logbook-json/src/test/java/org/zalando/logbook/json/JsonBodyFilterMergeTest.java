@@ -6,6 +6,7 @@ import org.zalando.logbook.BodyFilter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.zalando.logbook.json.JsonBodyFilters.replaceJsonNumberProperty;
 import static org.zalando.logbook.json.JsonBodyFilters.replaceJsonStringProperty;
+import static org.zalando.logbook.json.JsonBodyFilters.replacePrimitiveJsonProperty;
 
 final class JsonBodyFilterMergeTest {
 
@@ -24,21 +25,47 @@ final class JsonBodyFilterMergeTest {
     }
 
     @Test
-    void wontMergePrimitiveJsonPropertyFilterWithDifferentReplacements() {
+    void mergesPrimitiveJsonPropertyFilterWithDifferentReplacements() {
         final BodyFilter unit = BodyFilter.merge(
                 replaceJsonStringProperty("secret"::equals, "XXX"),
                 replaceJsonStringProperty("password"::equals, "xxx"));
 
-        assertThat(unit).isNotInstanceOf(PrimitiveJsonPropertyBodyFilter.class);
+        assertThat(unit).isInstanceOf(PrimitiveJsonPropertyBodyFilter.class);
+
+        final String actual = unit.filter("application/json",
+                "{\"secret\":\"abc\",\"password\":\"123\"}");
+
+        assertThat(actual).isEqualTo("{\"secret\":\"XXX\",\"password\":\"xxx\"}");
     }
 
     @Test
-    void wontMergePrimitiveJsonPropertyFilterWithPropertyTypes() {
+    void mergesPrimitiveJsonPropertyFilterWithPropertyTypes() {
         final BodyFilter unit = BodyFilter.merge(
                 replaceJsonStringProperty("secret"::equals, "XXX"),
                 replaceJsonNumberProperty("age"::equals, 123));
 
-        assertThat(unit).isNotInstanceOf(PrimitiveJsonPropertyBodyFilter.class);
+        assertThat(unit).isInstanceOf(PrimitiveJsonPropertyBodyFilter.class);
+
+        final String actual = unit.filter("application/json",
+                "{\"secret\":\"abc\",\"age\":42,\"other\":{\"age\":\"unknown\"}}");
+
+        assertThat(actual).isEqualTo("{\"secret\":\"XXX\",\"age\":123,\"other\":{\"age\":\"unknown\"}}");
+    }
+
+    @Test
+    void appliesMergedFiltersInOrder() {
+        final BodyFilter first = replacePrimitiveJsonProperty("id"::equals, (name, value) -> "1" + value);
+        final BodyFilter second = replaceJsonNumberProperty("id"::equals, 0);
+        final BodyFilter third = replacePrimitiveJsonProperty("id"::equals, (name, value) -> value + "2");
+        final String body = "{\"id\":true,\"other\":\"value\"}";
+
+        final BodyFilter unit = BodyFilter.merge(BodyFilter.merge(first, second), third);
+
+        assertThat(unit).isInstanceOf(PrimitiveJsonPropertyBodyFilter.class);
+        assertThat(unit.filter("application/json", body))
+                .isEqualTo(third.filter("application/json",
+                        second.filter("application/json",
+                                first.filter("application/json", body))));
     }
 
     @Test
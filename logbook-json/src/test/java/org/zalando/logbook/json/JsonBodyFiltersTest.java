@@ -1,6 +1,7 @@
 package org.zalando.logbook.json;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashSet;
@@ -8,7 +9,10 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import org.junit.jupiter.api.Test;
 import org.zalando.logbook.BodyFilter;
+import org.zalando.logbook.ByteBodyFilter;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -237,4 +241,83 @@ class JsonBodyFiltersTest {
                 .isEqualTo("{\"foo\":\"fooXXX1.0\",\"bar\":\"barXXXfalse\",\"baz\":\"bazXXX\"secret\"\"}");
     }
 
+    @Test
+    void shouldFilterBytesLikeStrings() {
+        final BodyFilter unit = BodyFilter.merge(
+                replaceJsonStringProperty(singleton("password"), "XXX"),
+                replacePrimitiveJsonProperty(asList("foo", "bar")::contains, (name, value) -> name + value));
+
+        final String[] bodies = {
+                "{\"password\":\"abc\\\"!?$123\\\\\",\"bar\":\"public\"}",
+                "{\"password\" : \"äöü\", \"other\": {\"foo\": -1.5e+3, \"bar\": true}}",
+                "[{\"foo\":null},{\"bar\":false},{\"password\":null}]",
+                "{\"foo\":[1,2],\"bar\":{\"password\":\"secret\"}}",
+                "{\"bar\":\"invalid\\u00\",\"foo\":0123,\"password\":\"\\u00e4\"}",
+                "{\"password\":\"not terminated",
+                "{\"foo\":",
+                "\"foo\"",
+        };
+
+        for (final String body : bodies) {
+            assertThat(new String(filter(unit, UTF_8, body.getBytes(UTF_8)), UTF_8))
+                    .isEqualTo(unit.filter(contentType, body));
+        }
+    }
+
+    @Test
+    void shouldFilterBytesInIsoLatin1() {
+        final BodyFilter unit = replaceJsonStringProperty(singleton("password"), "XXX");
+        final byte[] body = "{\"name\":\"Jürgen\",\"password\":\"äöü\"}".getBytes(ISO_8859_1);
+
+        assertThat(new String(filter(unit, ISO_8859_1, body), ISO_8859_1))
+                .isEqualTo("{\"name\":\"Jürgen\",\"password\":\"XXX\"}");
+    }
+
+    @Test
+    void shouldFilterBytesInIncompatibleCharset() {
+        final BodyFilter unit = replaceJsonStringProperty(singleton("password"), "XXX");
+        final byte[] body = "{\"password\":\"secret\"}".getBytes(UTF_16);
+
+        assertThat(new String(filter(unit, UTF_16, body), UTF_16)).isEqualTo("{\"password\":\"XXX\"}");
+    }
+
+    @Test
+    void shouldKeepBytesIfNothingWasReplaced() {
+        final BodyFilter unit = replaceJsonStringProperty(singleton("password"), "XXX");
+
+        final byte[] json = "{\"foo\":\"bar\"}".getBytes(UTF_8);
+        final byte[] text = "{\"password\":\"secret\"}".getBytes(UTF_8);
+        final byte[] utf16 = "{\"foo\":\"bar\"}".getBytes(UTF_16);
+
+        assertThat(filter(unit, UTF_8, json)).isSameAs(json);
+        assertThat(((ByteBodyFilter) unit).filter("text/plain", UTF_8, text)).isSameAs(text);
+        assertThat(filter(unit, UTF_16, utf16)).isSameAs(utf16);
+    }
+
+    @Test
+    void shouldFilterBytesOfLargeBodies() throws IOException {
+        final BodyFilter unit = replaceJsonStringProperty(
+                new HashSet<>(asList("password", "informationCode")), "XXX");
+
+        for (final String file : asList("huge-value.json", "many-quotes.json", "huge-json-value.json")) {
+            final byte[] bytes = Files.readAllBytes(Paths.get("src/test/resources", file));
+
+            assertThat(new String(filter(unit, UTF_8, bytes), UTF_8))
+                    .isEqualTo(unit.filter(contentType, new String(bytes, UTF_8)));
+        }
+    }
+
+    @Test
+    void shouldFilterAccessTokenBytes() {
+        final BodyFilter unit = new AccessTokenBodyFilter();
+
+        final byte[] actual = filter(unit, UTF_8, "{\"access_token\":\"secret\"}".getBytes(UTF_8));
+
+        assertThat(new String(actual, UTF_8)).isEqualTo("{\"access_token\":\"XXX\"}");
+    }
+
+    private byte[] filter(final BodyFilter unit, final Charset charset, final byte[] body) {
+        return ((ByteBodyFilter) unit).filter(contentType, charset, body);
+    }
+
 }
@@ -0,0 +1,52 @@
+package org.zalando.logbook.json;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class JsonPathMatcherTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "$", "$[-1]", "$[1:2]", "$[:2]", "$[?(@.a)]", "$.a.length()", "$['it\\'s']", "$[1234567890]",
+    })
+    void shouldNotSupportExpressionsThatDependOnMoreThanTheLocation(final String path) {
+        assertThat(JsonPathMatcher.compile(JsonPath.compile(path))).isNull();
+    }
+
+    @Test
+    void shouldMatchPropertiesAndIndices() {
+        final JsonPathMatcher unit = compile("$.a[0,2]");
+
+        assertThat(unit.matches(unit.next(unit.next(unit.start(), "a"), 2))).isTrue();
+        assertThat(unit.matches(unit.next(unit.next(unit.start(), "a"), 1))).isFalse();
+        assertThat(unit.isViable(unit.next(unit.start(), "b"))).isFalse();
+    }
+
+    @Test
+    void shouldMatchAtAnyDepth() {
+        final JsonPathMatcher unit = compile("$..a");
+
+        final long state = unit.next(unit.next(unit.start(), "b"), 0);
+        assertThat(unit.matches(state)).isFalse();
+        assertThat(unit.isViable(state)).isTrue();
+        assertThat(unit.matches(unit.next(state, "a"))).isTrue();
+        assertThat(unit.isViable(unit.next(state, "a"))).isTrue();
+    }
+
+    @Test
+    void shouldNotSupportMoreThan63Steps() {
+        assertThat(JsonPathMatcher.compile(JsonPath.compile("$" + ".a".repeat(63)))).isNotNull();
+        assertThat(JsonPathMatcher.compile(JsonPath.compile("$" + ".a".repeat(64)))).isNull();
+    }
+
+    private static JsonPathMatcher compile(final String path) {
+        final JsonPathMatcher matcher = JsonPathMatcher.compile(JsonPath.compile(path));
+        assertThat(matcher).isNotNull();
+        return matcher;
+    }
+
+}
@@ -0,0 +1,155 @@
+package org.zalando.logbook.json;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.zalando.logbook.BodyFilter;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.node.StringNode;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.zalando.logbook.json.JsonPathBodyFilters.jsonPath;
+
+final class StreamingJsonPathFilterTest {
+
+    private static final Configuration CONFIGURATION = Configuration.builder()
+            .jsonProvider(new LogbookJacksonJsonProvider())
+            .mappingProvider(new LogbookJacksonMappingProvider())
+            .options(Option.SUPPRESS_EXCEPTIONS)
+            .options(Option.ALWAYS_RETURN_LIST)
+            .build();
+
+    private static final String TYPE = "application/json";
+
+    /*language=JSON*/
+    private static final String BODY = "{" +
+            "\"id\":1," +
+            "\"name\":\"Alice\"," +
+            "\"debt\":123450.4," +
+            "\"big\":123456789012345678901234567890," +
+            "\"nickname\":null," +
+            "\"friends\":[{\"id\":2,\"name\":\"Bob\",\"tags\":[\"a\",\"b\"]},{\"id\":3,\"name\":\"Charlie\"},{\"id\":4}]," +
+            "\"grades\":{\"Math\":1.0,\"English\":2.2}," +
+            "\"nested\":{\"name\":\"outer\",\"child\":{\"name\":\"inner\",\"list\":[[1,2],[3,{\"name\":\"deep\"}]]}}," +
+            "\"a-b\":{\"c d\":true}" +
+            "}";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "$.id", "$.name", "$.nickname", "$.missing", "$.friends", "$.friends[0]", "$.friends[1].name",
+            "$.friends[0,2]", "$.friends[5]", "$.friends[*].name", "$.friends.*.id", "$['friends'][*]['tags'][1]",
+            "$.grades.*", "$.grades['Math','English']", "$..name", "$..[0]", "$..list[1]", "$.nested..name",
+            "$.*", "$[*]", "$[0]", "$['a-b']['c d']", "$[\"a-b\"]", "$.friends.name", "$.grades[0]",
+    })
+    void shouldFilterLikeDocument(final String path) {
+        shouldDeleteAndReplaceLikeDocument(path);
+        assertSame(jsonPath(path).replace(String::toUpperCase), document -> document.map(path, (node, config) -> {
+            final Object unwrapped = config.jsonProvider().unwrap(node);
+            return unwrapped == null ? null : new StringNode(unwrapped.toString().toUpperCase());
+        }));
+    }
+
+    /**
+     * Mapping values that match at different depths, e.g. {@code $..*}, depends on the order in which JsonPath happens
+     * to visit them, which streaming doesn't reproduce.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"$..*", "$..[*]"})
+    void shouldDeleteAndReplaceLikeDocument(final String path) {
+        assertSame(jsonPath(path).delete(), document -> document.delete(path));
+        assertSame(jsonPath(path).replace("XXX"), document -> document.set(path, new StringNode("XXX")));
+    }
+
+    @Test
+    void shouldApplyMergedOperationsInOrder() {
+        final BodyFilter unit = jsonPath("$.friends[0]").delete()
+                .tryMerge(jsonPath("$.friends[0].name").replace("XXX"))
+                .tryMerge(jsonPath("$..name").replace(String::toUpperCase))
+                .tryMerge(jsonPath("$.friends[1]").delete())
+                .tryMerge(jsonPath("$.nested.child").replace("XXX"))
+                .tryMerge(jsonPath("$.nested.child.name").delete())
+                .tryMerge(jsonPath("$.grades").replace(value -> value.replace("1.0", "X")));
+
+        assertSame(unit,
+                document -> document.delete("$.friends[0]"),
+                document -> document.set("$.friends[0].name", new StringNode("XXX")),
+                document -> document.map("$..name", (node, config) ->
+                        new StringNode(config.jsonProvider().unwrap(node).toString().toUpperCase())),
+                document -> document.delete("$.friends[1]"),
+                document -> document.set("$.nested.child", new StringNode("XXX")),
+                document -> document.delete("$.nested.child.name"),
+                document -> document.map("$.grades", (node, config) ->
+                        new StringNode(node.toString().replace("1.0", "X"))));
+    }
+
+    @Test
+    void shouldDeleteAllArrayElements() {
+        assertThat(jsonPath("$.list[*]").delete().filter(TYPE, "{\"list\":[1,2,3],\"other\":[1]}"))
+                .isEqualTo("{\"list\":[],\"other\":[1]}");
+    }
+
+    @Test
+    void shouldNotModifyReplacements() {
+        final ObjectNode replacement = JsonNodeFactory.instance.objectNode().put("x", 1).put("y", 2);
+        final BodyFilter unit = jsonPath("$.a").replace(replacement)
+                .tryMerge(jsonPath("$.a.x").delete());
+
+        assertThat(unit.filter(TYPE, "{\"a\":1}")).isEqualTo("{\"a\":{\"y\":2}}");
+        assertThat(replacement.has("x")).isTrue();
+    }
+
+    @Test
+    void shouldKeepInvalidBody() {
+        final BodyFilter unit = jsonPath("$.a").delete();
+
+        assertThat(unit.filter(TYPE, "{\"a\":1,")).isEqualTo("{\"a\":1,");
+        assertThat(unit.filter(TYPE, "{\"a\":1} {\"a\":2}")).isEqualTo("{\"a\":1} {\"a\":2}");
+        assertThat(unit.filter(TYPE, "  ")).isEqualTo("  ");
+    }
+
+    @Test
+    void shouldFallBackToDocumentIfReplacementFails() {
+        final BodyFilter unit = jsonPath("$.a").replace(value -> {
+            throw new IllegalStateException();
+        }).tryMerge(jsonPath("$.b").delete());
+
+        assertThat(unit.filter(TYPE, "{\"a\":1,\"b\":2}")).isEqualTo("{\"a\":1}");
+    }
+
+    @Test
+    void shouldFilterUnsupportedExpressionsUsingDocument() {
+        final BodyFilter unit = jsonPath("$.friends[?(@.id > 2)].name").replace("XXX")
+                .tryMerge(jsonPath("$.id").delete());
+
+        assertSame(unit,
+                document -> document.set("$.friends[?(@.id > 2)].name", new StringNode("XXX")),
+                document -> document.delete("$.id"));
+    }
+
+    /**
+     * Applies the operations like the filter does without streaming, i.e. ignoring those that fail, e.g. when setting
+     * an array index that doesn't exist.
+     */
+    @SafeVarargs
+    private static void assertSame(final BodyFilter unit, final Consumer<DocumentContext>... operations) {
+        final DocumentContext document = JsonPath.using(CONFIGURATION).parse(BODY);
+
+        for (final Consumer<DocumentContext> operation : operations) {
+            try {
+                operation.accept(document);
+            } catch (final RuntimeException e) {
+                // ignored, like in JsonPathBodyFilters
+            }
+        }
+
+        assertThat(unit.filter(TYPE, BODY)).isEqualTo(document.jsonString());
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.zalando.logbook.netty;
+
+import jakarta.annotation.Nullable;
+import org.apiguardian.api.API;
+
+import static java.util.Locale.ROOT;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Controls how the handlers capture bodies.
+ */
+@API(status = EXPERIMENTAL)
+public enum BodyCapture {
+
+    /**
+     * Copies every chunk into a pooled buffer. Bodies remain available after they were written.
+     */
+    COPY {
+        @Override
+        State create(final int initialCapacity, final int limit) {
+            return new Buffering(initialCapacity, limit);
+        }
+    },
+
+    /**
+     * Retains slices of the chunks passing through, i.e. bodies aren't copied until they are formatted. Chunks are
+     * kept alive until the message was written, bodies aren't available afterwards.
+     */
+    RETAIN {
+        @Override
+        State create(final int initialCapacity, final int limit) {
+            return new Retaining(limit);
+        }
+    };
+
+    abstract State create(int initialCapacity, int limit);
+
+    public static BodyCapture fromProperties() {
+        @Nullable final String property = System.getProperty("logbook.netty.body-capture");
+
+        if (property == null) {
+            return COPY;
+        }
+
+        return BodyCapture.valueOf(property.toUpperCase(ROOT));
+    }
+
+}
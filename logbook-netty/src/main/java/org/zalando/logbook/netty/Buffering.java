@@ -1,15 +1,30 @@
 package org.zalando.logbook.netty;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.http.HttpMessage;
 
+import jakarta.annotation.Nullable;
+
+/**
+ * Buffers a body into a pooled buffer. Once released, the buffer goes back to the pool and the body is retained. A
+ * discarded body is not copied, i.e. it appears empty and truncated afterwards.
+ */
 final class Buffering implements State {
 
     private final ByteBuf buffer;
+    private final int limit;
+    private long total;
+
+    private boolean released;
+
+    @Nullable
+    private byte[] body;
 
-    Buffering(final int initialCapacity) {
-        this.buffer = Unpooled.buffer(initialCapacity);
+    Buffering(final int initialCapacity, final int limit) {
+        this.buffer = PooledByteBufAllocator.DEFAULT.heapBuffer(initialCapacity);
+        this.limit = limit;
     }
 
     @Override
@@ -19,24 +34,49 @@ final class Buffering implements State {
 
     @Override
     public State buffer(final HttpMessage message, final ByteBuf content) {
-        final int index = content.readerIndex();
-        buffer.ensureWritable(content.readableBytes());
-        content.readBytes(buffer, content.readableBytes());
-        content.readerIndex(index);
+        final int readable = content.readableBytes();
+        total += readable;
+
+        if (!released) {
+            buffer.writeBytes(content, content.readerIndex(), Math.min(readable, limit - buffer.writerIndex()));
+        }
+
         return this;
     }
 
     @Override
     public byte[] getBody() {
-        final int length = buffer.readableBytes();
+        if (body == null) {
+            return released ? new byte[0] : ByteBufUtil.getBytes(buffer);
+        }
 
-        if (length == buffer.capacity()) {
-            return buffer.array();
+        return body;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return total > (released ? (body == null ? 0 : body.length) : buffer.readableBytes());
+    }
+
+    @Override
+    public long getLength() {
+        return total;
+    }
+
+    @Override
+    public void release() {
+        if (!released) {
+            body = ByteBufUtil.getBytes(buffer);
+            discard();
         }
+    }
 
-        final byte[] target = new byte[length];
-        System.arraycopy(buffer.array(), 0, target, 0, length);
-        return target;
+    @Override
+    public void discard() {
+        if (!released) {
+            released = true;
+            buffer.release();
+        }
     }
 
 }
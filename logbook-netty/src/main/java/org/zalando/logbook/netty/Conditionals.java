@@ -1,6 +1,9 @@
 package org.zalando.logbook.netty;
 
 import org.zalando.fauxpas.ThrowingConsumer;
+import org.zalando.fauxpas.ThrowingRunnable;
+
+import static org.zalando.fauxpas.FauxPas.throwingRunnable;
 
 final class Conditionals {
 
@@ -18,4 +21,17 @@ final class Conditionals {
         }
     }
 
+    static <X extends Exception> Runnable runFinally(
+            final ThrowingRunnable<X> task,
+            final Runnable cleanup) {
+
+        return throwingRunnable(() -> {
+            try {
+                task.tryRun();
+            } finally {
+                cleanup.run();
+            }
+        });
+    }
+
 }
@@ -7,7 +7,7 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 final class Ignoring implements State {
 
-    private final Buffering buffering;
+    private final State buffering;
 
     @Override
     public State with() {
@@ -20,4 +20,10 @@ final class Ignoring implements State {
         return this;
     }
 
+    @Override
+    public void release() {
+        // the body was ignored, i.e. there is nothing worth retaining
+        buffering.discard();
+    }
+
 }
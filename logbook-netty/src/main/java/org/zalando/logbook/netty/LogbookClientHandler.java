@@ -18,6 +18,7 @@ import static org.zalando.logbook.Logbook.RequestWritingStage;
 import static org.zalando.logbook.Logbook.ResponseWritingStage;
 import static org.zalando.logbook.Origin.LOCAL;
 import static org.zalando.logbook.Origin.REMOTE;
+import static org.zalando.logbook.netty.Conditionals.runFinally;
 import static org.zalando.logbook.netty.Conditionals.runIf;
 
 @API(status = EXPERIMENTAL)
@@ -28,12 +29,17 @@ public final class LogbookClientHandler extends ChannelDuplexHandler {
     private final Sequence sequence = new Sequence(2);
 
     private final Logbook logbook;
+    private final BodyCapture capture;
 
     private Request request;
     private Response response;
     private RequestWritingStage requestStage;
     private ResponseWritingStage responseStage;
 
+    public LogbookClientHandler(final Logbook logbook) {
+        this(logbook, BodyCapture.fromProperties());
+    }
+
     @Override
     public void write(
             final ChannelHandlerContext context,
@@ -41,7 +47,7 @@ public final class LogbookClientHandler extends ChannelDuplexHandler {
             final ChannelPromise promise) {
 
         runIf(message, HttpRequest.class, httpRequest -> {
-            this.request = new Request(context, LOCAL, httpRequest);
+            this.request = new Request(context, LOCAL, httpRequest, capture);
             this.requestStage = logbook.process(request);
         });
 
@@ -60,7 +66,7 @@ public final class LogbookClientHandler extends ChannelDuplexHandler {
             final Object message) {
 
         runIf(message, HttpResponse.class, httpResponse -> {
-            this.response = new Response(REMOTE, httpResponse);
+            this.response = new Response(REMOTE, httpResponse, capture);
             this.responseStage = requestStage.process(response);
         });
 
@@ -68,9 +74,34 @@ public final class LogbookClientHandler extends ChannelDuplexHandler {
         runIf(message, ByteBuf.class, response::buffer);
 
         runIf(message, LastHttpContent.class, content ->
-                sequence.set(1, throwingRunnable(responseStage::write)));
+                // strategies might defer writing the request until the response is known
+                sequence.set(1, runFinally(responseStage::write, this::release)));
 
         context.fireChannelRead(message);
     }
 
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        // buffers of messages that were never completed would otherwise not be given back to the pool
+        discard();
+        super.handlerRemoved(context);
+    }
+
+    private void release() {
+        try {
+            response.release();
+        } finally {
+            request.release();
+        }
+    }
+
+    private void discard() {
+        if (request != null) {
+            request.discard();
+        }
+        if (response != null) {
+            response.discard();
+        }
+    }
+
 }
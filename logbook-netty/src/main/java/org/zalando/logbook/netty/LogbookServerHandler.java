@@ -19,6 +19,7 @@ import static org.zalando.logbook.Logbook.RequestWritingStage;
 import static org.zalando.logbook.Logbook.ResponseWritingStage;
 import static org.zalando.logbook.Origin.LOCAL;
 import static org.zalando.logbook.Origin.REMOTE;
+import static org.zalando.logbook.netty.Conditionals.runFinally;
 import static org.zalando.logbook.netty.Conditionals.runIf;
 
 @API(status = EXPERIMENTAL)
@@ -29,19 +30,24 @@ public final class LogbookServerHandler extends ChannelDuplexHandler {
     private final Sequence sequence = new Sequence(2);
 
     private final Logbook logbook;
+    private final BodyCapture capture;
 
     private Request request;
     private Response response;
     private RequestWritingStage requestStage;
     private ResponseWritingStage responseStage;
 
+    public LogbookServerHandler(final Logbook logbook) {
+        this(logbook, BodyCapture.fromProperties());
+    }
+
     @Override
     public void channelRead(
             final ChannelHandlerContext context,
             final Object message) {
 
         runIf(message, HttpRequest.class, httpRequest -> {
-            this.request = new Request(context, REMOTE, httpRequest);
+            this.request = new Request(context, REMOTE, httpRequest, capture);
             this.requestStage = logbook.process(request);
         });
 
@@ -61,7 +67,7 @@ public final class LogbookServerHandler extends ChannelDuplexHandler {
             final ChannelPromise promise) {
 
         runIf(message, HttpResponse.class, httpResponse -> {
-            this.response = new Response(LOCAL, httpResponse);
+            this.response = new Response(LOCAL, httpResponse, capture);
             this.responseStage = requestStage.process(response);
         });
 
@@ -69,7 +75,8 @@ public final class LogbookServerHandler extends ChannelDuplexHandler {
         runIf(message, ByteBuf.class, response::buffer);
 
         runIf(message, LastHttpContent.class, content ->
-                sequence.set(1, throwingRunnable(responseStage::write)));
+                // strategies might defer writing the request until the response is known
+                sequence.set(1, runFinally(responseStage::write, this::release)));
 
         context.write(message, promise);
     }
@@ -81,6 +88,25 @@ public final class LogbookServerHandler extends ChannelDuplexHandler {
         if (sequence.hasSecondTask()) {
             sequence.set(0, throwingRunnable(requestStage::write));
         }
+        // buffers of messages that were never completed would otherwise not be given back to the pool
+        discard();
         super.handlerRemoved(ctx);
     }
+
+    private void release() {
+        try {
+            response.release();
+        } finally {
+            request.release();
+        }
+    }
+
+    private void discard() {
+        if (request != null) {
+            request.discard();
+        }
+        if (response != null) {
+            response.discard();
+        }
+    }
 }
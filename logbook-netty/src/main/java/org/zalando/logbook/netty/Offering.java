@@ -3,14 +3,24 @@ package org.zalando.logbook.netty;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMessage;
+import lombok.AllArgsConstructor;
 
 import static io.netty.handler.codec.http.HttpUtil.getContentLength;
 
+@AllArgsConstructor
 final class Offering implements State {
 
+    private final int limit;
+    private final BodyCapture capture;
+
     @Override
     public State without() {
-        return new Unbuffered();
+        return new Unbuffered(limit, capture);
+    }
+
+    @Override
+    public State limit(final int limit) {
+        return new Offering(limit, capture);
     }
 
     @Override
@@ -21,7 +31,7 @@ final class Offering implements State {
         }
 
         final int contentLength = getContentLength(message, 2048);
-        return new Buffering(contentLength).buffer(message, content);
+        return capture.create(Math.min(contentLength, limit), limit).buffer(message, content);
     }
 
 }
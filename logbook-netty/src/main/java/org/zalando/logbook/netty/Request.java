@@ -27,8 +27,7 @@ import static org.zalando.logbook.Origin.LOCAL;
 @AllArgsConstructor(access = PRIVATE)
 final class Request implements org.zalando.logbook.HttpRequest, HeaderSupport {
 
-    private final AtomicReference<State> state =
-            new AtomicReference<>(new Unbuffered());
+    private final AtomicReference<State> state;
 
     private final ChannelHandlerContext context;
     private final Origin origin;
@@ -39,7 +38,16 @@ final class Request implements org.zalando.logbook.HttpRequest, HeaderSupport {
         final ChannelHandlerContext context,
         final Origin origin,
         final HttpRequest request) {
-        this(context, origin, request, new QueryStringDecoder(request.uri()));
+        this(context, origin, request, BodyCapture.COPY);
+    }
+
+    public Request(
+        final ChannelHandlerContext context,
+        final Origin origin,
+        final HttpRequest request,
+        final BodyCapture capture) {
+        this(new AtomicReference<>(new Unbuffered(capture)), context, origin, request,
+                new QueryStringDecoder(request.uri()));
     }
 
     @Override
@@ -110,7 +118,7 @@ final class Request implements org.zalando.logbook.HttpRequest, HeaderSupport {
 
     @Override
     public HttpHeaders getHeaders() {
-        return copyOf(request.headers());
+        return viewOf(request.headers());
     }
 
     @Nullable
@@ -136,6 +144,12 @@ final class Request implements org.zalando.logbook.HttpRequest, HeaderSupport {
         return this;
     }
 
+    @Override
+    public org.zalando.logbook.HttpRequest withBodyLimit(final int limit) {
+        state.updateAndGet(state -> state.limit(limit));
+        return this;
+    }
+
     void buffer(final ByteBuf content) {
         state.updateAndGet(state -> state.buffer(request, content));
     }
@@ -145,4 +159,35 @@ final class Request implements org.zalando.logbook.HttpRequest, HeaderSupport {
         return state.get().getBody();
     }
 
+    @Override
+    public String getBodyAsString() {
+        return state.get().getBodyAsString(getCharset());
+    }
+
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
+
+    /**
+     * Gives the captured chunks or the pooled buffer back, once the body was written. A copied body is retained.
+     *
+     * @see BodyCapture
+     */
+    void release() {
+        state.get().release();
+    }
+
+    /**
+     * Gives the captured chunks or the pooled buffer back without retaining the body, if it was never written.
+     */
+    void discard() {
+        state.get().discard();
+    }
+
 }
@@ -11,19 +11,28 @@ import jakarta.annotation.Nullable;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static lombok.AccessLevel.PRIVATE;
 
-@AllArgsConstructor
+@AllArgsConstructor(access = PRIVATE)
 final class Response
         implements org.zalando.logbook.HttpResponse, HeaderSupport {
 
-    private final AtomicReference<State> state =
-            new AtomicReference<>(new Unbuffered());
+    private final AtomicReference<State> state;
 
     private final Origin origin;
     private final HttpResponse response;
 
+    Response(final Origin origin, final HttpResponse response) {
+        this(origin, response, BodyCapture.COPY);
+    }
+
+    Response(final Origin origin, final HttpResponse response, final BodyCapture capture) {
+        this(new AtomicReference<>(new Unbuffered(capture)), origin, response);
+    }
+
     @Override
     public String getProtocolVersion() {
         return response.protocolVersion().text();
@@ -41,7 +50,7 @@ final class Response
 
     @Override
     public HttpHeaders getHeaders() {
-        return copyOf(response.headers());
+        return viewOf(response.headers());
     }
 
     @Nullable
@@ -61,12 +70,25 @@ final class Response
         return this;
     }
 
+    @Override
+    public org.zalando.logbook.HttpResponse withBodyIf(
+            final Predicate<org.zalando.logbook.HttpResponse> condition, final int limit) {
+        // status and headers are final before any content arrives
+        return condition.test(this) ? withBody() : withoutBody();
+    }
+
     @Override
     public org.zalando.logbook.HttpResponse withoutBody() {
         state.updateAndGet(State::without);
         return this;
     }
 
+    @Override
+    public org.zalando.logbook.HttpResponse withBodyLimit(final int limit) {
+        state.updateAndGet(state -> state.limit(limit));
+        return this;
+    }
+
     void buffer(final ByteBuf content) {
         state.updateAndGet(state -> state.buffer(response, content));
     }
@@ -76,4 +98,35 @@ final class Response
         return state.get().getBody();
     }
 
+    @Override
+    public String getBodyAsString() {
+        return state.get().getBodyAsString(getCharset());
+    }
+
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
+
+    /**
+     * Gives the captured chunks or the pooled buffer back, once the body was written. A copied body is retained.
+     *
+     * @see BodyCapture
+     */
+    void release() {
+        state.get().release();
+    }
+
+    /**
+     * Gives the captured chunks or the pooled buffer back without retaining the body, if it was never written.
+     */
+    void discard() {
+        state.get().discard();
+    }
+
 }
@@ -0,0 +1,72 @@
+package org.zalando.logbook.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.handler.codec.http.HttpMessage;
+
+import java.nio.charset.Charset;
+
+import static io.netty.buffer.Unpooled.compositeBuffer;
+
+/**
+ * Captures a body by retaining slices of the chunks it consists of, rather than copying them.
+ */
+final class Retaining implements State {
+
+    private final CompositeByteBuf buffer = compositeBuffer(Integer.MAX_VALUE);
+    private final int limit;
+    private long total;
+    private boolean released;
+
+    Retaining(final int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public State without() {
+        return new Ignoring(this);
+    }
+
+    @Override
+    public State buffer(final HttpMessage message, final ByteBuf content) {
+        final int readable = content.readableBytes();
+        final int length = released ? 0 : Math.min(readable, limit - buffer.writerIndex());
+        total += readable;
+
+        if (length > 0) {
+            buffer.addComponent(true, content.retainedSlice(content.readerIndex(), length));
+        }
+
+        return this;
+    }
+
+    @Override
+    public byte[] getBody() {
+        return released ? new byte[0] : ByteBufUtil.getBytes(buffer);
+    }
+
+    @Override
+    public String getBodyAsString(final Charset charset) {
+        return released ? "" : buffer.toString(charset);
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return total > buffer.writerIndex();
+    }
+
+    @Override
+    public long getLength() {
+        return total;
+    }
+
+    @Override
+    public void release() {
+        if (!released) {
+            released = true;
+            buffer.release();
+        }
+    }
+
+}
@@ -3,6 +3,8 @@ package org.zalando.logbook.netty;
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.HttpMessage;
 
+import java.nio.charset.Charset;
+
 interface State {
 
     default State with() {
@@ -13,6 +15,10 @@ interface State {
         return this;
     }
 
+    default State limit(final int limit) {
+        return this;
+    }
+
     default State buffer(
             final HttpMessage message, final ByteBuf content) {
         return this;
@@ -22,4 +28,24 @@ interface State {
         return new byte[0];
     }
 
+    default String getBodyAsString(final Charset charset) {
+        return new String(getBody(), charset);
+    }
+
+    default boolean isTruncated() {
+        return false;
+    }
+
+    default long getLength() {
+        return getBody().length;
+    }
+
+    default void release() {
+        // nothing to do here
+    }
+
+    default void discard() {
+        release();
+    }
+
 }
@@ -1,10 +1,25 @@
 package org.zalando.logbook.netty;
 
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
 final class Unbuffered implements State {
 
+    private final int limit;
+    private final BodyCapture capture;
+
+    Unbuffered(final BodyCapture capture) {
+        this(Integer.MAX_VALUE, capture);
+    }
+
     @Override
     public State with() {
-        return new Offering();
+        return new Offering(limit, capture);
+    }
+
+    @Override
+    public State limit(final int limit) {
+        return new Unbuffered(limit, capture);
     }
 
 }
@@ -0,0 +1,34 @@
+package org.zalando.logbook.netty;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static java.util.Locale.ROOT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.zalando.logbook.netty.BodyCapture.COPY;
+
+@NotThreadSafe
+final class BodyCaptureTest {
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty("logbook.netty.body-capture");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"copy", "retain"})
+    void test(final String value) {
+        System.setProperty("logbook.netty.body-capture", value);
+        final BodyCapture unit = BodyCapture.fromProperties();
+        assertEquals(value, unit.name().toLowerCase(ROOT));
+    }
+
+    @Test
+    void defaultsToCopy() {
+        assertEquals(COPY, BodyCapture.fromProperties());
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.zalando.logbook.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpRequest;
+import org.junit.jupiter.api.Test;
+
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class BufferingTest {
+
+    final HttpRequest request = new DefaultHttpRequest(HTTP_1_1, GET, "/");
+
+    @Test
+    void shouldRetainBodyOnRelease() {
+        final State state = new Buffering(16, 16).buffer(request, content("Hello"));
+
+        state.release();
+        state.release();
+
+        assertEquals("Hello", new String(state.getBody(), UTF_8));
+        assertFalse(state.isTruncated());
+    }
+
+    @Test
+    void shouldRetainLatestBodyOnRelease() {
+        final State state = new Buffering(16, 16).buffer(request, content("Hello"));
+
+        state.getBody();
+        state.buffer(request, content("World"));
+        state.release();
+
+        assertEquals("HelloWorld", new String(state.getBody(), UTF_8));
+        assertFalse(state.isTruncated());
+    }
+
+    @Test
+    void shouldNotCopyBodyOnDiscard() {
+        final State state = new Buffering(16, 16).buffer(request, content("Hello"));
+
+        state.discard();
+        state.release();
+
+        assertEquals(0, state.getBody().length);
+        assertTrue(state.isTruncated());
+        assertEquals(5, state.getLength());
+    }
+
+    @Test
+    void shouldOnlyCountBytesAfterRelease() {
+        final State state = new Buffering(16, 16).buffer(request, content("Hello"));
+
+        state.release();
+        state.buffer(request, content("World"));
+
+        assertEquals("Hello", new String(state.getBody(), UTF_8));
+        assertTrue(state.isTruncated());
+        assertEquals(10, state.getLength());
+    }
+
+    private ByteBuf content(final String s) {
+        return wrappedBuffer(s.getBytes(UTF_8));
+    }
+
+}
@@ -16,7 +16,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 final class IgnoringTest {
 
     final AtomicReference<State> state =
-            new AtomicReference<>(new Unbuffered());
+            new AtomicReference<>(new Unbuffered(BodyCapture.COPY));
 
     final HttpRequest request = new DefaultHttpRequest(HTTP_1_1, GET, "/");
 
@@ -34,6 +34,18 @@ final class IgnoringTest {
         Assertions.assertEquals("foobar", body);
     }
 
+    @Test
+    void shouldReleaseBufferWithoutCopyWhenIgnoring() {
+        state.updateAndGet(State::with);
+        state.updateAndGet(state -> state.buffer(request, content("foo")));
+        state.updateAndGet(State::without);
+        state.get().release();
+        state.updateAndGet(State::with);
+
+        final String body = new String(state.get().getBody(), UTF_8);
+        Assertions.assertEquals("", body);
+    }
+
     private ByteBuf content(final String s) {
         return wrappedBuffer(s.getBytes(UTF_8));
     }
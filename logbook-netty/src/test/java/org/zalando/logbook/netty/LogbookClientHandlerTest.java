@@ -1,6 +1,14 @@
 package org.zalando.logbook.netty;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -193,6 +201,47 @@ final class LogbookClientHandlerTest {
         }
     }
 
+    @Test
+    void shouldReleaseNothingWhenRemovedBeforeAnyMessage() throws Exception {
+        final LogbookClientHandler handler = new LogbookClientHandler(logbook);
+
+        handler.handlerRemoved(mock());
+
+        verify(writer, never()).write(any(Precorrelation.class), any());
+    }
+
+    @Test
+    void shouldReleaseIncompleteMessagesWhenRemoved() throws Exception {
+        final LogbookClientHandler handler = new LogbookClientHandler(logbook);
+
+        final DefaultHttpRequest request = mock(DefaultHttpRequest.class);
+        when(request.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        when(request.uri()).thenReturn("/echo");
+        when(request.method()).thenReturn(HttpMethod.GET);
+        when(request.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+
+        final ChannelHandlerContext context = mock();
+        final Channel channel = mock(Channel.class);
+        when(channel.pipeline()).thenReturn(mock());
+        when(context.channel()).thenReturn(channel);
+
+        // Simulate the write event (not final)
+        handler.write(context, request, mock());
+
+        final FullHttpResponse message = mock(FullHttpResponse.class);
+        when(message.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        when(message.content()).thenReturn(wrappedBuffer("Hello, world!".getBytes(UTF_8)));
+        when(message.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+        when(message.status()).thenReturn(HttpResponseStatus.OK);
+
+        // Simulate the channelRead event (final)
+        handler.channelRead(context, message);
+
+        handler.handlerRemoved(context);
+
+        verify(writer, never()).write(any(Correlation.class), any());
+    }
+
     private void sendAndReceive() {
         sendAndReceive("/echo");
     }
@@ -7,11 +7,15 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ResourceLeakDetector;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -21,6 +25,7 @@ import org.zalando.logbook.Logbook;
 import org.zalando.logbook.Precorrelation;
 import org.zalando.logbook.core.DefaultHttpLogFormatter;
 import org.zalando.logbook.core.DefaultSink;
+import org.zalando.logbook.core.StatusAtLeastStrategy;
 import org.zalando.logbook.test.TestStrategy;
 import reactor.core.publisher.Mono;
 import reactor.netty.DisposableServer;
@@ -33,7 +38,9 @@ import static io.netty.buffer.Unpooled.wrappedBuffer;
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -65,6 +72,19 @@ final class LogbookServerHandlerTest {
     private final HttpClient client = HttpClient.create()
             .baseUrl("http://localhost:" + server.port());
 
+    private static ResourceLeakDetector.Level level;
+
+    @BeforeAll
+    static void detectLeaks() {
+        level = ResourceLeakDetector.getLevel();
+        ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    }
+
+    @AfterAll
+    static void resetLeakDetection() {
+        ResourceLeakDetector.setLevel(level);
+    }
+
     @BeforeEach
     void defaultBehaviour() {
         when(writer.isActive()).thenCallRealMethod();
@@ -241,10 +261,113 @@ final class LogbookServerHandlerTest {
                 .startsWith("Outgoing Response:");
     }
 
+    @Test
+    void shouldReleaseRetainedChunksOnceWritten() throws Exception {
+        final LogbookServerHandler handler = new LogbookServerHandler(logbook, BodyCapture.RETAIN);
+
+        final ByteBuf requestBody = body();
+        final FullHttpRequest request = mock(FullHttpRequest.class);
+        when(request.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        when(request.uri()).thenReturn("/echo");
+        when(request.method()).thenReturn(HttpMethod.POST);
+        when(request.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+        when(request.content()).thenReturn(requestBody);
+
+        final ChannelHandlerContext context = mock();
+        final Channel channel = mock(Channel.class);
+        when(channel.pipeline()).thenReturn(mock());
+        when(context.channel()).thenReturn(channel);
+
+        handler.channelRead(context, request);
+
+        final ByteBuf responseBody = body();
+        final FullHttpResponse response = mock(FullHttpResponse.class);
+        when(response.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        when(response.content()).thenReturn(responseBody);
+        when(response.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+        when(response.status()).thenReturn(HttpResponseStatus.OK);
+
+        handler.write(context, response, mock());
+
+        assertThat(captureRequest()).contains("Hello, world!");
+        assertThat(captureResponse()).contains("Hello, world!");
+        assertReleased(requestBody, responseBody);
+    }
+
+    @Test
+    void shouldRetainRequestBodyUntilDeferredRequestIsWritten() throws Exception {
+        final Logbook logbook = Logbook.builder()
+                .strategy(new StatusAtLeastStrategy(200))
+                .sink(new DefaultSink(new DefaultHttpLogFormatter(), writer))
+                .build();
+        final LogbookServerHandler handler = new LogbookServerHandler(logbook, BodyCapture.RETAIN);
+
+        final ByteBuf requestBody = body();
+        final FullHttpRequest request = mock(FullHttpRequest.class);
+        when(request.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        when(request.uri()).thenReturn("/echo");
+        when(request.method()).thenReturn(HttpMethod.POST);
+        when(request.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+        when(request.content()).thenReturn(requestBody);
+
+        final ChannelHandlerContext context = mock();
+        final Channel channel = mock(Channel.class);
+        when(channel.pipeline()).thenReturn(mock());
+        when(context.channel()).thenReturn(channel);
+
+        handler.channelRead(context, request);
+
+        // the strategy defers the request until the response is known
+        verify(writer, never()).write(any(Precorrelation.class), any());
+
+        final FullHttpResponse response = mock(FullHttpResponse.class);
+        when(response.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        when(response.content()).thenReturn(new EmptyByteBuf(ByteBufAllocator.DEFAULT));
+        when(response.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+        when(response.status()).thenReturn(HttpResponseStatus.OK);
+
+        handler.write(context, response, mock());
+
+        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(writer, atLeastOnce()).write(any(Precorrelation.class), captor.capture());
+
+        assertThat(captor.getAllValues())
+                .filteredOn(message -> message.startsWith("Incoming Request:"))
+                .singleElement(STRING)
+                .contains("Hello, world!");
+        assertReleased(requestBody);
+    }
+
+    @Test
+    void shouldReleaseNothingWhenRemovedBeforeAnyMessage() throws Exception {
+        final LogbookServerHandler handler = new LogbookServerHandler(logbook);
+
+        handler.handlerRemoved(mock());
+
+        verify(writer, never()).write(any(Precorrelation.class), any());
+    }
+
     private void sendAndReceive() {
         sendAndReceive("/echo");
     }
 
+    /**
+     * Allocated rather than wrapped, i.e. tracked by the leak detector.
+     */
+    private static ByteBuf body() {
+        return ByteBufAllocator.DEFAULT.buffer().writeBytes("Hello, world!".getBytes(UTF_8));
+    }
+
+    /**
+     * Releases the test's own reference, i.e. anything the handler retained and didn't release shows up as a leak.
+     */
+    private static void assertReleased(final ByteBuf... buffers) {
+        for (final ByteBuf buffer : buffers) {
+            assertThat(buffer.refCnt()).isEqualTo(1);
+            assertThat(buffer.release()).isTrue();
+        }
+    }
+
     private static Mono<ByteBuf> helloWorld() {
         return just(wrappedBuffer("Hello, world!".getBytes(UTF_8)));
     }
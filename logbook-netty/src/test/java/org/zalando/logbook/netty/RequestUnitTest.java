@@ -1,5 +1,6 @@
 package org.zalando.logbook.netty;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPipeline;
@@ -11,6 +12,8 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.ssl.SslHandler;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -110,6 +113,35 @@ public class RequestUnitTest {
         assertThat(remoteRequest.getRemote()).isEqualTo(null);
     }
 
+    @Test
+    void shouldCaptureBodyUpToLimit() throws IOException {
+        HttpRequest req = mock(HttpRequest.class);
+        when(req.uri()).thenReturn("/test");
+        when(req.headers()).thenReturn(new DefaultHttpHeaders());
+
+        Request request = new Request(mockChannelHandlerContext(), REMOTE, req);
+        request.withBodyLimit(3).withBody();
+        request.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+
+        assertThat(new String(request.getBody(), UTF_8)).isEqualTo("Hel");
+        assertThat(request.isBodyTruncated()).isTrue();
+        assertThat(request.getOriginalBodyLength()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDecodeRetainedBody() throws IOException {
+        HttpRequest req = mock(HttpRequest.class);
+        when(req.uri()).thenReturn("/test");
+        when(req.headers()).thenReturn(new DefaultHttpHeaders());
+
+        Request request = new Request(mockChannelHandlerContext(), REMOTE, req, BodyCapture.RETAIN);
+        request.withBody();
+        request.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+
+        assertThat(request.getBodyAsString()).isEqualTo("Hello");
+        request.release();
+    }
+
     private ChannelHandlerContext mockChannelHandlerContext() {
 
         ChannelHandlerContext context = mock(ChannelHandlerContext.class);
@@ -0,0 +1,83 @@
+package org.zalando.logbook.netty;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.zalando.logbook.Origin.LOCAL;
+
+public class ResponseUnitTest {
+
+    @Test
+    void shouldBufferIfConditionHolds() {
+        final Response response = response(HttpResponseStatus.INTERNAL_SERVER_ERROR);
+        response.withBodyIf(r -> r.getStatus() >= 400, 1024);
+        response.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+
+        assertThat(new String(response.getBody(), UTF_8)).isEqualTo("Hello");
+        assertThat(response.getBodyAsString()).isEqualTo("Hello");
+        assertThat(response.isBodyTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreLimitOnceBuffering() throws IOException {
+        final Response response = response(HttpResponseStatus.OK);
+        response.withBody();
+        response.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+        response.withBodyLimit(3);
+        response.buffer(Unpooled.copiedBuffer("World", UTF_8));
+
+        assertThat(new String(response.getBody(), UTF_8)).isEqualTo("HelloWorld");
+    }
+
+    @Test
+    void shouldNotBufferIfConditionDoesNotHold() {
+        final Response response = response(HttpResponseStatus.OK);
+        response.withBodyIf(r -> r.getStatus() >= 400, 1024);
+        response.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+
+        assertThat(response.getBody()).isEmpty();
+    }
+
+    @Test
+    void shouldCaptureBodyUpToLimit() throws IOException {
+        final Response response = response(HttpResponseStatus.OK);
+        response.withBody().withBodyLimit(3);
+        response.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+        response.buffer(Unpooled.copiedBuffer("World", UTF_8));
+
+        assertThat(new String(response.getBody(), UTF_8)).isEqualTo("Hel");
+        assertThat(response.isBodyTruncated()).isTrue();
+        assertThat(response.getOriginalBodyLength()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldKeepLimitWhenToggled() throws IOException {
+        final Response response = response(HttpResponseStatus.OK);
+        response.withBodyLimit(3).withBody().withoutBody();
+        response.withBody();
+        response.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+
+        assertThat(new String(response.getBody(), UTF_8)).isEqualTo("Hel");
+    }
+
+    @Test
+    void shouldNotBeTruncatedWithoutBody() {
+        final Response response = response(HttpResponseStatus.OK);
+        response.buffer(Unpooled.copiedBuffer("Hello", UTF_8));
+
+        assertThat(response.isBodyTruncated()).isFalse();
+        assertThat(response.getOriginalBodyLength()).isZero();
+    }
+
+    private static Response response(final HttpResponseStatus status) {
+        return new Response(LOCAL, new DefaultHttpResponse(HTTP_1_1, status));
+    }
+
+}
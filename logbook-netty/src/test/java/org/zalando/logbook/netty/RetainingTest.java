@@ -0,0 +1,91 @@
+package org.zalando.logbook.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpRequest;
+import org.junit.jupiter.api.Test;
+
+import static io.netty.buffer.Unpooled.copiedBuffer;
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RetainingTest {
+
+    final HttpRequest request = new DefaultHttpRequest(HTTP_1_1, GET, "/");
+
+    @Test
+    void shouldRetainChunksUntilReleased() {
+        final ByteBuf hello = content("Hello, ");
+        final ByteBuf world = content("world!");
+        final State state = new Retaining(Integer.MAX_VALUE)
+                .buffer(request, hello)
+                .buffer(request, world);
+
+        assertEquals(2, hello.refCnt());
+        assertEquals(2, world.refCnt());
+        assertEquals("Hello, world!", state.getBodyAsString(UTF_8));
+        assertArrayEquals("Hello, world!".getBytes(UTF_8), state.getBody());
+        assertFalse(state.isTruncated());
+
+        state.release();
+        state.release();
+
+        assertEquals(1, hello.refCnt());
+        assertEquals(1, world.refCnt());
+    }
+
+    @Test
+    void shouldNotRetainChunksBeyondLimit() {
+        final ByteBuf hello = content("Hello, ");
+        final ByteBuf world = content("world!");
+        final State state = new Retaining(5)
+                .buffer(request, hello)
+                .buffer(request, world);
+
+        assertEquals(1, world.refCnt());
+        assertEquals("Hello", state.getBodyAsString(UTF_8));
+        assertTrue(state.isTruncated());
+        assertEquals(13, state.getLength());
+
+        state.release();
+
+        assertEquals(1, hello.refCnt());
+    }
+
+    @Test
+    void shouldNotRetainChunksAfterRelease() {
+        final State state = new Retaining(Integer.MAX_VALUE).buffer(request, content("Hello"));
+
+        state.release();
+
+        final ByteBuf world = content("World");
+        state.buffer(request, world);
+
+        assertEquals(1, world.refCnt());
+        assertEquals(0, state.getBody().length);
+        assertEquals("", state.getBodyAsString(UTF_8));
+        assertEquals(10, state.getLength());
+    }
+
+    @Test
+    void shouldKeepRetainingWhenIgnoring() {
+        final ByteBuf content = content("Hello");
+        final State state = new Retaining(Integer.MAX_VALUE).without().buffer(request, content);
+
+        assertEquals(2, content.refCnt());
+
+        state.release();
+
+        assertEquals(1, content.refCnt());
+    }
+
+    private ByteBuf content(final String s) {
+        return copiedBuffer(s, UTF_8);
+    }
+
+}
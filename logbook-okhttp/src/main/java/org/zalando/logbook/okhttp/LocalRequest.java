@@ -2,6 +2,7 @@ package org.zalando.logbook.okhttp;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -184,7 +185,8 @@ final class LocalRequest implements HttpRequest {
 
     @Override
     public HttpHeaders getHeaders() {
-        return HttpHeaders.of(request.headers().toMultimap());
+        final Headers headers = request.headers();
+        return HttpHeaders.view(headers::values, () -> HttpHeaders.of(headers.toMultimap()));
     }
 
     @Override
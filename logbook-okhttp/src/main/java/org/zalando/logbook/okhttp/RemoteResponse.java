@@ -2,6 +2,7 @@ package org.zalando.logbook.okhttp;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
@@ -23,7 +24,7 @@ import static org.zalando.fauxpas.FauxPas.throwingUnaryOperator;
 @AllArgsConstructor
 final class RemoteResponse implements HttpResponse {
 
-    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered());
+    private final AtomicReference<State> state = new AtomicReference<>(new Unbuffered(Integer.MAX_VALUE));
 
     private final Response response;
 
@@ -37,6 +38,10 @@ final class RemoteResponse implements HttpResponse {
             return this;
         }
 
+        default State limit(final int limit) {
+            return this;
+        }
+
         default State buffer() throws IOException {
             return this;
         }
@@ -45,26 +50,50 @@ final class RemoteResponse implements HttpResponse {
             return new byte[0];
         }
 
+        default boolean isTruncated() {
+            return false;
+        }
+
+        default long getLength() {
+            return getBody().length;
+        }
+
     }
 
     private abstract static class AbstractState implements State {
 
     }
 
+    @AllArgsConstructor
     private final class Unbuffered extends AbstractState {
 
+        private final int limit;
+
         @Override
         public State with() {
-            return new Offering();
+            return new Offering(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Unbuffered(limit);
         }
 
     }
 
+    @AllArgsConstructor
     private final class Offering extends AbstractState {
 
+        private final int limit;
+
         @Override
         public State without() {
-            return new Unbuffered();
+            return new Unbuffered(limit);
+        }
+
+        @Override
+        public State limit(final int limit) {
+            return new Offering(limit);
         }
 
         @Override
@@ -76,15 +105,19 @@ final class RemoteResponse implements HttpResponse {
                 return new Passing();
             } else {
                 byte[] body;
+                boolean truncated = false;
                 // We need to read the body to buffer it, but we don't want to consume it
-                // so we use peek() to read the bytes without consuming them.
+                // so we use peek() to read the bytes without consuming them. Bodies beyond
+                // the limit are only peeked at far enough to tell that they're truncated.
                 try (final BufferedSource peekBuffer = entity.source().peek()) {
-                    body = peekBuffer.readByteArray();
+                    truncated = peekBuffer.request(limit + 1L);
+                    body = truncated ? peekBuffer.readByteArray(limit) : peekBuffer.readByteArray();
                 } catch (IOException e) {
                     body = String.format("<error> Logbook was unable to read the response body due to [%s]", e).getBytes(UTF_8);
                 }
 
-                return new Buffering(response, body);
+                final long length = truncated ? entity.contentLength() : body.length;
+                return new Buffering(response, body, truncated, length);
             }
         }
 
@@ -96,10 +129,12 @@ final class RemoteResponse implements HttpResponse {
         @Getter
         private final Response response;
         private final byte[] body;
+        private final boolean truncated;
+        private final long length;
 
         @Override
         public State without() {
-            return new Ignoring(response, body);
+            return new Ignoring(response, body, truncated, length);
         }
 
         @Override
@@ -107,6 +142,16 @@ final class RemoteResponse implements HttpResponse {
             return body;
         }
 
+        @Override
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public long getLength() {
+            return length;
+        }
+
     }
 
     @AllArgsConstructor
@@ -115,10 +160,12 @@ final class RemoteResponse implements HttpResponse {
         @Getter
         private final Response response;
         private final byte[] body;
+        private final boolean truncated;
+        private final long length;
 
         @Override
         public State with() {
-            return new Buffering(response, body);
+            return new Buffering(response, body, truncated, length);
         }
 
     }
@@ -145,7 +192,8 @@ final class RemoteResponse implements HttpResponse {
 
     @Override
     public HttpHeaders getHeaders() {
-        return HttpHeaders.of(response.headers().toMultimap());
+        final Headers headers = response.headers();
+        return HttpHeaders.view(headers::values, () -> HttpHeaders.of(headers.toMultimap()));
     }
 
     @Override
@@ -175,6 +223,12 @@ final class RemoteResponse implements HttpResponse {
         return this;
     }
 
+    @Override
+    public RemoteResponse withBodyLimit(final int limit) {
+        state.updateAndGet(state -> state.limit(limit));
+        return this;
+    }
+
     Response toResponse() {
         return response;
     }
@@ -184,6 +238,16 @@ final class RemoteResponse implements HttpResponse {
         return buffer().getBody();
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return buffer().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return buffer().getLength();
+    }
+
     private State buffer() {
         return state.updateAndGet(throwingUnaryOperator(State::buffer));
     }
@@ -0,0 +1,66 @@
+package org.zalando.logbook.okhttp;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static okhttp3.MediaType.parse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class RemoteResponseTest {
+
+    @Test
+    void shouldBufferBodyUpToLimit() throws IOException {
+        final Response response = response(ResponseBody.create("Hello, world!", parse("text/plain")));
+        final RemoteResponse unit = new RemoteResponse(response);
+
+        unit.withoutBody().withBodyLimit(5).withBody();
+
+        assertThat(new String(unit.getBody())).isEqualTo("Hello");
+        assertThat(unit.isBodyTruncated()).isTrue();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(13);
+        assertThat(response.body().string()).isEqualTo("Hello, world!");
+    }
+
+    @Test
+    void shouldReportUnknownLengthOfTruncatedChunkedBody() throws IOException {
+        final Buffer source = new Buffer().writeUtf8("Hello, world!");
+        final RemoteResponse unit = new RemoteResponse(response(ResponseBody.create(source, parse("text/plain"), -1)));
+
+        unit.withBody().withBodyLimit(5).withoutBody().withBody();
+
+        assertThat(new String(unit.getBody())).isEqualTo("Hello");
+        assertThat(unit.isBodyTruncated()).isTrue();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldBufferBodyWithinLimit() throws IOException {
+        final RemoteResponse unit = new RemoteResponse(
+                response(ResponseBody.create("Hello, world!", parse("text/plain"))));
+
+        unit.withBodyLimit(13).withBody();
+
+        assertThat(new String(unit.getBody())).isEqualTo("Hello, world!");
+        assertThat(unit.withBodyLimit(5).isBodyTruncated()).isFalse();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(13);
+        assertThat(unit.withoutBody().isBodyTruncated()).isFalse();
+        assertThat(unit.getOriginalBodyLength()).isZero();
+    }
+
+    private static Response response(final ResponseBody body) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(body)
+                .build();
+    }
+
+}
@@ -1,6 +1,5 @@
 package org.zalando.logbook.servlet;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -12,10 +11,29 @@ final class ByteStreams {
 
     }
 
-    static byte[] toByteArray(final InputStream in) throws IOException {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        copy(in, out);
-        return out.toByteArray();
+    /**
+     * Reads the given stream until it ends or more than the given number of bytes were read, i.e. the result may
+     * exceed the limit by less than the size of a read. Reads are collected in pooled segments and, beyond the
+     * given threshold, in a temporary file. The caller has to {@link SpillingOutputStream#release() release} the
+     * result.
+     */
+    static SpillingOutputStream buffer(final InputStream in, final int threshold, final int limit)
+            throws IOException {
+
+        final SpillingOutputStream out = new SpillingOutputStream(threshold, Integer.MAX_VALUE);
+        final byte[] buf = new byte[4096];
+        int bytesRead;
+
+        try {
+            while (out.size() <= limit && (bytesRead = in.read(buf)) != -1) {
+                out.write(buf, 0, bytesRead);
+            }
+
+            return out;
+        } catch (final IOException e) {
+            out.release();
+            throw e;
+        }
     }
 
     static void copy(final InputStream from, final OutputStream to) throws IOException {
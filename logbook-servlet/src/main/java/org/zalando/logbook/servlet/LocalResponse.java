@@ -7,19 +7,21 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.zalando.logbook.ContentType;
 import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpResponse;
 import org.zalando.logbook.Origin;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
@@ -33,9 +35,12 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
 
     private final String protocolVersion;
 
+    private volatile int limit = Integer.MAX_VALUE;
+    private Runnable startListener = () -> {};
+
     private interface State {
 
-        default State with() {
+        default State with(final Supplier<SpillingOutputStream> branch) {
             return this;
         }
 
@@ -66,23 +71,47 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
             // nothing to do here
         }
 
+        default boolean isNonBlocking() {
+            return false;
+        }
+
         default byte[] getBody() {
             return new byte[0];
         }
 
+        default boolean isTruncated() {
+            return false;
+        }
+
+        default long getLength() {
+            return getBody().length;
+        }
+
+        default void release() {
+            // nothing to do here
+        }
+
     }
 
     private static final class Unbuffered implements State {
 
         @Override
-        public State with() {
-            return new Offering();
+        public State with(final Supplier<SpillingOutputStream> branch) {
+            return new Offering(branch);
         }
 
     }
 
+    @AllArgsConstructor
     private static final class Offering implements State {
 
+        private final Supplier<SpillingOutputStream> branch;
+
+        @Override
+        public State with(final Supplier<SpillingOutputStream> branch) {
+            return new Offering(branch);
+        }
+
         @Override
         public State without() {
             return new Unbuffered();
@@ -90,7 +119,7 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
 
         @Override
         public State buffer(final ServletResponse response) throws IOException {
-            final Tee tee = new Tee(response.getOutputStream());
+            final Tee tee = new Tee(response.getOutputStream(), branch.get());
             return new Buffering(tee);
         }
 
@@ -117,6 +146,16 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
             tee.flush();
         }
 
+        @Override
+        public boolean isNonBlocking() {
+            return tee.isNonBlocking();
+        }
+
+        @Override
+        public void release() {
+            tee.release();
+        }
+
     }
 
     private static final class Buffering extends Streaming {
@@ -135,6 +174,16 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
             return getTee().getBytes();
         }
 
+        @Override
+        public boolean isTruncated() {
+            return getTee().isTruncated();
+        }
+
+        @Override
+        public long getLength() {
+            return getTee().getLength();
+        }
+
     }
 
     private static final class Ignoring extends Streaming {
@@ -144,10 +193,16 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
         }
 
         @Override
-        public State with() {
+        public State with(final Supplier<SpillingOutputStream> branch) {
             return new Buffering(getTee());
         }
 
+        @Override
+        public void release() {
+            // the body was ignored, i.e. there is nothing worth retaining
+            getTee().discard();
+        }
+
     }
 
     LocalResponse(final HttpServletResponse response, final String protocolVersion) {
@@ -167,13 +222,17 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
 
     @Override
     public HttpHeaders getHeaders() {
-        HttpHeaders headers = HttpHeaders.empty();
+        return HttpHeaders.view(name -> new ArrayList<>(getHeaders(name)), this::copyHeaders);
+    }
+
+    private HttpHeaders copyHeaders() {
+        final HttpHeaders.Builder headers = HttpHeaders.builder();
 
         for (final String header : getHeaderNames()) {
-            headers = headers.update(header, getHeaders(header));
+            headers.put(header, getHeaders(header));
         }
 
-        return headers;
+        return headers.build();
     }
 
     @Override
@@ -197,7 +256,24 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
 
     @Override
     public HttpResponse withBody() {
-        state.updateAndGet(State::with);
+        // response bodies are never replayed, i.e. bytes beyond what is read back when logging are only counted
+        state.updateAndGet(state -> state.with(() -> new SpillingOutputStream(SpillingOutputStream.THRESHOLD,
+                Math.min(limit, SpillingOutputStream.READ_LIMIT))));
+        return this;
+    }
+
+    @Override
+    public HttpResponse withBodyIf(final Predicate<HttpResponse> condition, final int limit) {
+        // bodies that still fit into the container's buffer are not committed yet, no matter when it was resized
+        final IntSupplier size = () -> Math.max(limit, getBufferSize());
+        state.updateAndGet(state -> state.with(() ->
+                new SpeculativeOutputStream(this::isCommitted, () -> condition.test(this), size, this.limit)));
+        return this;
+    }
+
+    @Override
+    public HttpResponse withBodyLimit(final int limit) {
+        this.limit = limit;
         return this;
     }
 
@@ -209,16 +285,19 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
 
     @Override
     public ServletOutputStream getOutputStream() throws IOException {
+        startListener.run();
         return buffer().getOutputStream(getResponse());
     }
 
     @Override
     public PrintWriter getWriter() throws IOException {
+        startListener.run();
         return buffer().getWriter(getResponse(), this::getCharset);
     }
 
     @Override
     public void flushBuffer() throws IOException {
+        startListener.run();
         state.get().flush();
         super.flushBuffer();
     }
@@ -228,6 +307,39 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
         return buffer().getBody();
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return buffer().getLength();
+    }
+
+    /**
+     * @param startListener run before the body is written or the response is flushed
+     */
+    void setStartListener(final Runnable startListener) {
+        this.startListener = startListener;
+    }
+
+    /**
+     * @return whether the application switched to non-blocking writes, i.e. the response must only be flushed from
+     * within its {@link WriteListener}
+     */
+    boolean isNonBlocking() {
+        return state.get().isNonBlocking();
+    }
+
+    /**
+     * Gives the buffer back to the pool, once the body was written. The body itself is retained, unless it was ignored
+     * or spilled to a temporary file.
+     */
+    void release() {
+        state.get().release();
+    }
+
     private State buffer() {
         return state.updateAndGet(throwingUnaryOperator(state ->
                 state.buffer(getResponse())));
@@ -235,14 +347,14 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
 
     private static class Tee {
 
-        private final ByteArrayOutputStream branch;
+        private final SpillingOutputStream branch;
         private final TeeServletOutputStream output;
 
         private PrintWriter writer;
         private byte[] bytes;
 
-        private Tee(final ServletOutputStream original) {
-            this.branch = new ByteArrayOutputStream();
+        private Tee(final ServletOutputStream original, final SpillingOutputStream branch) {
+            this.branch = branch;
             this.output = new TeeServletOutputStream(original, branch);
         }
 
@@ -265,19 +377,44 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
             }
         }
 
+        boolean isNonBlocking() {
+            return output.nonBlocking;
+        }
+
         byte[] getBytes() {
             if (bytes == null) {
                 bytes = branch.toByteArray();
             }
             return bytes;
         }
+
+        boolean isTruncated() {
+            return bytes == null ? branch.isTruncated() : branch.getLength() > bytes.length;
+        }
+
+        long getLength() {
+            return branch.getLength();
+        }
+
+        void release() {
+            if (!branch.isSpilled()) {
+                getBytes();
+            }
+            branch.release();
+        }
+
+        void discard() {
+            branch.release();
+        }
     }
 
-    @AllArgsConstructor
+    @RequiredArgsConstructor
     private static class TeeServletOutputStream extends ServletOutputStream {
 
         private final ServletOutputStream original;
-        private final OutputStream branch;
+        private final SpillingOutputStream branch;
+
+        private volatile boolean nonBlocking;
 
         @Override
         public void write(final int b) throws IOException {
@@ -308,8 +445,14 @@ final class LocalResponse extends HttpServletResponseWrapper implements HttpResp
             return original.isReady();
         }
 
+        /**
+         * Switches to non-blocking writes. The body is no longer spilled to disk from then on, since writes
+         * must not block, i.e. it's captured up to the spill threshold.
+         */
         @Override
         public void setWriteListener(final WriteListener listener) {
+            nonBlocking = true;
+            branch.stopSpilling();
             original.setWriteListener(listener);
         }
 
@@ -5,8 +5,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.With;
 import org.apiguardian.api.API;
+import org.zalando.fauxpas.ThrowingSupplier;
 import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.Logbook;
 import org.zalando.logbook.Logbook.RequestWritingStage;
@@ -23,6 +25,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static jakarta.servlet.DispatcherType.ASYNC;
 import static lombok.AccessLevel.PRIVATE;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.zalando.fauxpas.FauxPas.throwingRunnable;
 
 @API(status = STABLE)
 @AllArgsConstructor(access = PRIVATE)
@@ -41,6 +44,9 @@ public final class LogbookFilter implements HttpFilter {
     @With
     private final FormRequestMode formRequestMode;
 
+    @With
+    private final RequestCapture requestCapture;
+
     public LogbookFilter() {
         this(Logbook.create());
     }
@@ -50,30 +56,52 @@ public final class LogbookFilter implements HttpFilter {
     }
 
     public LogbookFilter(final Logbook logbook, @Nullable final Strategy strategy) {
-        this(logbook, strategy, FormRequestMode.fromProperties());
+        this(logbook, strategy, FormRequestMode.fromProperties(), RequestCapture.fromProperties());
     }
 
     @Override
     public void doFilter(final HttpServletRequest httpRequest, final HttpServletResponse httpResponse,
                          final FilterChain chain) throws ServletException, IOException {
 
-        final RemoteRequest request = new RemoteRequest(httpRequest, formRequestMode);
+        final RemoteRequest request = new RemoteRequest(httpRequest, formRequestMode, requestCapture);
         final LocalResponse response = new LocalResponse(httpResponse, request.getProtocolVersion());
 
-        final ResponseProcessingStage processing;
+        final Stage<ResponseProcessingStage> processing;
 
         if (request.getDispatcherType() == ASYNC) {
-            processing = (ResponseProcessingStage) request.getAttribute(responseProcessingStageName);
+            processing = getProcessingStage(request);
         } else {
-            processing = process(request).write();
+            final RequestWritingStage stage = process(request);
+            processing = new Stage<>(stage::write);
             request.setAttribute(responseProcessingStageName, processing);
         }
 
-        final ResponseWritingStage writing = processing.process(response);
+        final Stage<ResponseWritingStage> writing = new Stage<>(() -> processing.get().process(response));
+
+        if (requestCapture == RequestCapture.EAGER) {
+            writing.get();
+        } else {
+            // the request is logged as soon as it was read, the response is processed as soon as it starts
+            request.setEndOfStreamListener(throwingRunnable(processing::get));
+            response.setStartListener(throwingRunnable(writing::get));
+        }
+
         request.setAsyncListener(Optional.of(new LogbookAsyncListener(event -> write(request, response, writing))));
         request.setAttribute(responseWritingStageSynchronizationName, new AtomicBoolean(false));
 
-        chain.doFilter(request, response);
+        try {
+            chain.doFilter(request, response);
+        } catch (final IOException | ServletException | RuntimeException e) {
+            try {
+                processing.get();
+            } finally {
+                // the exchange won't be written, i.e. buffers and temporary files have to be released right away
+                if (!request.isAsyncStarted()) {
+                    release(request, response);
+                }
+            }
+            throw e;
+        }
 
         if (request.isAsyncStarted()) {
             return;
@@ -82,15 +110,35 @@ public final class LogbookFilter implements HttpFilter {
         write(request, response, writing);
     }
 
-    private void write(RemoteRequest request, LocalResponse response, ResponseWritingStage writing) throws IOException {
+    @SuppressWarnings("unchecked")
+    private Stage<ResponseProcessingStage> getProcessingStage(final HttpServletRequest request) {
+        return (Stage<ResponseProcessingStage>) request.getAttribute(responseProcessingStageName);
+    }
+
+    private void write(RemoteRequest request, LocalResponse response, Stage<ResponseWritingStage> writing) throws IOException {
         final AtomicBoolean attribute = (AtomicBoolean) request.getAttribute(responseWritingStageSynchronizationName);
         if (attribute != null && !attribute.getAndSet(true)) {
+            // flushing outside the application's WriteListener would make the container schedule further callbacks
+            if (!response.isNonBlocking()) {
+                try {
+                    response.flushBuffer();
+                } catch (IOException e) {
+                    // ignore and try to log the response anyway
+                }
+            }
             try {
-                response.flushBuffer();
-            } catch (IOException e) {
-                // ignore and try to log the response anyway
+                writing.get().write();
+            } finally {
+                release(request, response);
             }
-            writing.write();
+        }
+    }
+
+    private static void release(final RemoteRequest request, final LocalResponse response) {
+        try {
+            response.release();
+        } finally {
+            request.release();
         }
     }
 
@@ -101,4 +149,24 @@ public final class LogbookFilter implements HttpFilter {
                 logbook.process(request) :
                 logbook.process(request, strategy);
     }
+
+    /**
+     * A stage that is reached at most once, either right away or as soon as it's needed.
+     */
+    @RequiredArgsConstructor
+    private static final class Stage<T> {
+
+        private final ThrowingSupplier<T, IOException> supplier;
+
+        @Nullable
+        private T value;
+
+        synchronized T get() throws IOException {
+            if (value == null) {
+                value = supplier.tryGet();
+            }
+            return value;
+        }
+
+    }
 }
@@ -0,0 +1,61 @@
+package org.zalando.logbook.servlet;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replays the beginning of a body that was already read from the given stream, followed by the rest of it.
+ */
+final class PrefixedServletInputStream extends ServletInputStream {
+
+    private final InputStream prefix;
+    private final ServletInputStream stream;
+
+    /**
+     * @param prefix the beginning of the body, its {@link InputStream#available()} has to be accurate
+     * @param stream the rest of the body
+     */
+    PrefixedServletInputStream(final InputStream prefix, final ServletInputStream stream) {
+        this.prefix = prefix;
+        this.stream = stream;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = prefix.read();
+        return b == -1 ? stream.read() : b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (prefix.available() > 0) {
+            return prefix.read(b, off, len);
+        }
+        return stream.read(b, off, len);
+    }
+
+    @Override
+    public boolean isFinished() {
+        return buffered() == 0 && stream.isFinished();
+    }
+
+    @Override
+    public boolean isReady() {
+        return buffered() > 0 || stream.isReady();
+    }
+
+    @SneakyThrows
+    private int buffered() {
+        return prefix.available();
+    }
+
+    @Override
+    public void setReadListener(final ReadListener readListener) {
+        stream.setReadListener(readListener);
+    }
+
+}
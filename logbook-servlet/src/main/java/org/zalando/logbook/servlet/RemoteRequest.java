@@ -1,5 +1,6 @@
 package org.zalando.logbook.servlet;
 
+import jakarta.annotation.Nullable;
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletInputStream;
@@ -17,6 +18,7 @@ import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
@@ -35,12 +37,19 @@ import static java.util.stream.Collectors.joining;
 import static lombok.AccessLevel.PROTECTED;
 import static org.zalando.fauxpas.FauxPas.throwingUnaryOperator;
 import static org.zalando.logbook.ContentType.CONTENT_TYPE_HEADER;
-import static org.zalando.logbook.servlet.ByteStreams.toByteArray;
 
 final class RemoteRequest extends HttpServletRequestWrapper implements HttpRequest {
 
+    private static final Predicate<String> FORM_REQUEST =
+            MediaTypeQuery.compile("application/x-www-form-urlencoded");
+
+    private static final Predicate<String> MULTIPART_REQUEST = MediaTypeQuery.compile("multipart/*");
+
     private final AtomicReference<State> state;
+    private final RequestCapture requestCapture;
+    private volatile int limit = Integer.MAX_VALUE;
     private Optional<AsyncListener> asyncListener = Optional.empty();
+    private Runnable endOfStreamListener = () -> {};
 
     /**
      * Manages the lifecycle of HTTP request body buffering for servlet requests.
@@ -60,6 +69,7 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
      *  buffer()      with()
      *     ↓           |
      *  Buffering     (back to Offering)
+     *  or Truncated
      *  or Passing
      * (for form OFF)
      *     ↓
@@ -103,6 +113,22 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
      *   </ul>
      * </li>
      *
+     * <li><b>Truncated</b>: Like Buffering, but the body exceeded its limit. Only the beginning of
+     * it has been read and cached, the rest of it is passed through to consumers. {@code with()} and
+     * {@code without()} toggle the visibility of the cached beginning.
+     * </li>
+     *
+     * <li><b>Spilled</b>: Like Buffering or Truncated, but the body exceeded the spill threshold and
+     * was partially written to a temporary file. The body is read back from it on demand, and the file
+     * is deleted once the exchange was written.
+     * </li>
+     *
+     * <li><b>Teeing</b>: Used instead of Buffering if requests are captured while they are
+     * {@link RequestCapture#STREAMING streamed}. The body is copied while the application reads it,
+     * i.e. only the part that was read so far is available. Form and multipart requests are buffered
+     * as usual.
+     * </li>
+     *
      * <li><b>Passing</b>: Special state for form-encoded requests when FormRequestMode is OFF.
      * Body is not buffered; the original stream is passed through. Used to bypass buffering
      * for performance when form bodies are not needed.
@@ -137,7 +163,8 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
      *
      * <li><b>Eager Call on with()</b>: When {@code with()} is called (via
      * {@link RemoteRequest#withBody()}), buffering is eagerly triggered to ensure the body is
-     * captured before it can be consumed elsewhere.</li>
+     * captured before it can be consumed elsewhere, unless it's captured while being
+     * {@link RequestCapture#STREAMING streamed}.</li>
      *
      * <li><b>Stream Replayability</b>: By caching the body bytes, the stream can be
      * "replayed" multiple times without re-reading from the network.</li>
@@ -156,7 +183,12 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
             return this;
         }
 
-        default State buffer(final ServletRequest request) throws IOException {
+        default State buffer(final ServletRequest request, final int limit) throws IOException {
+            return this;
+        }
+
+        default State tee(final ServletRequest request, final int limit, final Runnable callback)
+                throws IOException {
             return this;
         }
 
@@ -168,6 +200,18 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
             return new byte[0];
         }
 
+        default boolean isTruncated() {
+            return false;
+        }
+
+        default long getLength() {
+            return getBody().length;
+        }
+
+        default void release() {
+            // nothing to do here
+        }
+
     }
 
     @AllArgsConstructor
@@ -187,8 +231,8 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
         }
 
         @Override
-        public State buffer(final ServletRequest request) throws IOException {
-            return doBuffer(request, formRequestMode, charset);
+        public State buffer(final ServletRequest request, final int limit) throws IOException {
+            return doBuffer(request, formRequestMode, charset, limit);
         }
 
     }
@@ -213,12 +257,27 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
         private final Charset charset;
 
         @Override
-        public State buffer(final ServletRequest request) throws IOException {
-            return doBuffer(request, formRequestMode, charset);
+        public State buffer(final ServletRequest request, final int limit) throws IOException {
+            return doBuffer(request, formRequestMode, charset, limit);
         }
+
+        @Override
+        public State tee(final ServletRequest request, final int limit, final Runnable callback)
+                throws IOException {
+
+            if (isFormRequest(request) || isMultipartRequest(request)) {
+                return doBuffer(request, formRequestMode, charset, limit);
+            }
+
+            final SpillingOutputStream copy = new SpillingOutputStream(SpillingOutputStream.THRESHOLD, limit);
+            return new Teeing(new TeeServletInputStream(request.getInputStream(), copy, callback),
+                    request.getContentLengthLong(), true);
+        }
+
     }
 
-    private static State doBuffer(final ServletRequest request, final FormRequestMode formRequestMode, final Charset charset) throws IOException {
+    private static State doBuffer(final ServletRequest request, final FormRequestMode formRequestMode,
+            final Charset charset, final int limit) throws IOException {
         if (isFormRequest(request)) {
             switch (formRequestMode) {
                 case PARAMETER:
@@ -232,20 +291,39 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
         if (isMultipartRequest(request)) {
             return new Passing();
         }
-        return new Buffering(toByteArray(request.getInputStream()));
+        return doBuffer(request.getInputStream(), limit, request.getContentLengthLong());
+    }
+
+    private static State doBuffer(final ServletInputStream stream, final int limit, final long length)
+            throws IOException {
+
+        final SpillingOutputStream copy = ByteStreams.buffer(stream, SpillingOutputStream.THRESHOLD, limit);
+
+        if (copy.isSpilled()) {
+            return new Spilled(copy, limit, length, new PrefixedServletInputStream(copy.toInputStream(), stream),
+                    true);
+        }
+
+        final byte[] bytes = copy.toByteArray();
+        copy.release();
+
+        if (bytes.length <= limit) {
+            return new Buffering(bytes);
+        }
+
+        return new Truncated(Arrays.copyOf(bytes, limit), length,
+                new PrefixedServletInputStream(new ByteArrayInputStream(bytes), stream), true);
     }
 
     private static boolean isFormRequest(final ServletRequest request) {
-        final Predicate<String> FORM_REQUEST = MediaTypeQuery.compile("application/x-www-form-urlencoded");
         return Optional.ofNullable(request.getContentType())
                 .filter(FORM_REQUEST)
                 .isPresent();
     }
 
     private static boolean isMultipartRequest(final ServletRequest request) {
-        final Predicate<String> FORM_REQUEST = MediaTypeQuery.compile("multipart/*");
         return Optional.ofNullable(request.getContentType())
-                .filter(FORM_REQUEST)
+                .filter(MULTIPART_REQUEST)
                 .isPresent();
     }
 
@@ -326,13 +404,162 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
 
     }
 
+    @AllArgsConstructor
+    private static final class Truncated implements State {
+
+        private final byte[] body;
+        private final long length;
+        private final ServletInputStream stream;
+        private final boolean visible;
+
+        @Override
+        public State with() {
+            return new Truncated(body, length, stream, true);
+        }
+
+        @Override
+        public State without() {
+            return new Truncated(body, length, stream, false);
+        }
+
+        @Override
+        public ServletInputStream getInputStream(final ServletRequest request) {
+            return stream;
+        }
+
+        @Override
+        public byte[] getBody() {
+            return visible ? body : new byte[0];
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return visible;
+        }
+
+        @Override
+        public long getLength() {
+            return length;
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static final class Spilled implements State {
+
+        private final SpillingOutputStream copy;
+        private final int limit;
+        private final long length;
+        private final ServletInputStream stream;
+        private final boolean visible;
+
+        @Override
+        public State with() {
+            return new Spilled(copy, limit, length, stream, true);
+        }
+
+        @Override
+        public State without() {
+            return new Spilled(copy, limit, length, stream, false);
+        }
+
+        @Override
+        public ServletInputStream getInputStream(final ServletRequest request) {
+            return stream;
+        }
+
+        @Override
+        public byte[] getBody() {
+            if (visible) {
+                final byte[] body = copy.toByteArray();
+                return body.length <= limit ? body : Arrays.copyOf(body, limit);
+            }
+            return new byte[0];
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return visible && (copy.size() > limit || copy.isTruncated());
+        }
+
+        @Override
+        public long getLength() {
+            return copy.size() > limit ? length : copy.size();
+        }
+
+        @Override
+        public void release() {
+            copy.release();
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static final class Teeing implements State {
+
+        private final TeeServletInputStream stream;
+        private final long length;
+        private final boolean visible;
+
+        @Override
+        public State with() {
+            return new Teeing(stream, length, true);
+        }
+
+        @Override
+        public State without() {
+            return new Teeing(stream, length, false);
+        }
+
+        @Override
+        public ServletInputStream getInputStream(final ServletRequest request) {
+            return stream;
+        }
+
+        @Override
+        public byte[] getBody() {
+            return visible ? stream.getCopy().toByteArray() : new byte[0];
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return visible && (stream.getCopy().isTruncated() || !isDone());
+        }
+
+        @Override
+        public long getLength() {
+            final long captured = stream.getCopy().getLength();
+            return isDone() ? captured : Math.max(length, captured);
+        }
+
+        /**
+         * Many parsers stop reading once they consumed the announced length, i.e. without ever seeing the end of the
+         * stream.
+         */
+        private boolean isDone() {
+            return stream.isDone() || stream.isFinished() || stream.getCopy().getLength() == length;
+        }
+
+        @Override
+        public void release() {
+            stream.getCopy().release();
+        }
+
+    }
+
     private static final class Passing implements State {
 
     }
 
     RemoteRequest(final HttpServletRequest request, final FormRequestMode formRequestMode) {
+        this(request, formRequestMode, RequestCapture.EAGER);
+    }
+
+    RemoteRequest(final HttpServletRequest request, final FormRequestMode formRequestMode,
+            final RequestCapture requestCapture) {
         super(request);
         this.state = new AtomicReference<>(new Unbuffered(formRequestMode, getCharset()));
+        this.requestCapture = requestCapture;
     }
 
     @Override
@@ -372,15 +599,25 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
 
     @Override
     public HttpHeaders getHeaders() {
-        HttpHeaders headers = HttpHeaders.empty();
+        return HttpHeaders.view(this::getHeaderValues, this::copyHeaders);
+    }
+
+    @Nullable
+    private List<String> getHeaderValues(final String name) {
+        @Nullable final Enumeration<String> values = getHeaders(name);
+        return values == null ? null : list(values);
+    }
+
+    private HttpHeaders copyHeaders() {
+        final HttpHeaders.Builder headers = HttpHeaders.builder();
         final Enumeration<String> names = getHeaderNames();
 
         while (names.hasMoreElements()) {
             final String name = names.nextElement();
-            headers = headers.update(name, list(getHeaders(name)));
+            headers.put(name, list(getHeaders(name)));
         }
 
-        return headers;
+        return headers.build();
     }
 
     @Override
@@ -402,7 +639,9 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
     @Override
     public HttpRequest withBody() {
         state.updateAndGet(State::with);
-        buffer();
+        if (requestCapture == RequestCapture.EAGER) {
+            buffer();
+        }
         return this;
     }
 
@@ -412,9 +651,16 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
         return this;
     }
 
+    @Override
+    public HttpRequest withBodyLimit(final int limit) {
+        this.limit = limit;
+        return this;
+    }
+
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return buffer().getInputStream(getRequest());
+        final State current = requestCapture == RequestCapture.STREAMING ? tee() : buffer();
+        return current.getInputStream(getRequest());
     }
 
     @Override
@@ -429,6 +675,23 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
         return buffer().getBody();
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return buffer().getLength();
+    }
+
+    /**
+     * Deletes the temporary file a large body was spilled to, once the exchange was written.
+     */
+    void release() {
+        state.get().release();
+    }
+
     @Override
     public AsyncContext startAsync() throws IllegalStateException {
         final AsyncContext asyncContext = super.startAsync();
@@ -447,9 +710,21 @@ final class RemoteRequest extends HttpServletRequestWrapper implements HttpReque
         this.asyncListener = asyncListener;
     }
 
+    /**
+     * @param endOfStreamListener run once a {@link RequestCapture#STREAMING streamed} body was read entirely
+     */
+    void setEndOfStreamListener(final Runnable endOfStreamListener) {
+        this.endOfStreamListener = endOfStreamListener;
+    }
+
     private State buffer() {
         return state.updateAndGet(throwingUnaryOperator(state ->
-                state.buffer(getRequest())));
+                state.buffer(getRequest(), limit)));
+    }
+
+    private State tee() {
+        return state.updateAndGet(throwingUnaryOperator(state ->
+                state.tee(getRequest(), limit, endOfStreamListener)));
     }
 
     @SneakyThrows
@@ -0,0 +1,36 @@
+package org.zalando.logbook.servlet;
+
+import jakarta.annotation.Nullable;
+import org.apiguardian.api.API;
+
+import static java.util.Locale.ROOT;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Controls when request bodies are captured.
+ */
+@API(status = EXPERIMENTAL)
+public enum RequestCapture {
+
+    /**
+     * Reads the body before the request is passed on, i.e. the request is logged before the application sees it.
+     */
+    EAGER,
+
+    /**
+     * Captures the body while the application reads it, including non-blocking reads. The request is logged once
+     * the body was read entirely, once the response starts or once the exchange completes, whichever comes first.
+     */
+    STREAMING;
+
+    public static RequestCapture fromProperties() {
+        @Nullable final String property = System.getProperty("logbook.servlet.request-capture");
+
+        if (property == null) {
+            return EAGER;
+        }
+
+        return RequestCapture.valueOf(property.toUpperCase(ROOT));
+    }
+
+}
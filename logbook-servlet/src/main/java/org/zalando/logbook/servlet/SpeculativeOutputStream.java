@@ -0,0 +1,83 @@
+package org.zalando.logbook.servlet;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Buffers a body speculatively, i.e. until it's known whether it's needed or not. The decision is made as soon as the
+ * response is {@link jakarta.servlet.ServletResponse#isCommitted() committed}, since its status and headers are final
+ * by then. Bodies that exceed the speculative limit before that are discarded. The speculative limit is evaluated on
+ * every write, since it may depend on the response's buffer size, which can change until the response is committed.
+ */
+final class SpeculativeOutputStream extends SpillingOutputStream {
+
+    private enum Decision {
+        UNDECIDED, NEEDED, DISCARDED
+    }
+
+    private final BooleanSupplier committed;
+    private final BooleanSupplier condition;
+    private final IntSupplier speculativeLimit;
+
+    private Decision decision = Decision.UNDECIDED;
+
+    SpeculativeOutputStream(final BooleanSupplier committed, final BooleanSupplier condition,
+            final IntSupplier speculativeLimit, final int limit) {
+        // response bodies are never replayed, i.e. bytes beyond what is read back when logging are only counted
+        super(THRESHOLD, Math.min(limit, READ_LIMIT));
+        this.committed = committed;
+        this.condition = condition;
+        this.speculativeLimit = speculativeLimit;
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+        if (accept(1)) {
+            super.write(b);
+        } else {
+            skip(1);
+        }
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+        if (accept(len)) {
+            super.write(b, off, len);
+        } else {
+            skip(len);
+        }
+    }
+
+    @Override
+    public synchronized byte[] toByteArray() {
+        if (decision == Decision.UNDECIDED) {
+            decide();
+        }
+        return super.toByteArray();
+    }
+
+    private boolean accept(final int length) {
+        if (decision == Decision.UNDECIDED) {
+            if (committed.getAsBoolean()) {
+                decide();
+            } else if (size() + length > speculativeLimit.getAsInt()) {
+                discard();
+            }
+        }
+        return decision != Decision.DISCARDED;
+    }
+
+    private void decide() {
+        if (condition.getAsBoolean()) {
+            decision = Decision.NEEDED;
+        } else {
+            discard();
+        }
+    }
+
+    private void discard() {
+        decision = Decision.DISCARDED;
+        release();
+    }
+
+}
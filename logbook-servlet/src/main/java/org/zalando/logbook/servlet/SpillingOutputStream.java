@@ -0,0 +1,256 @@
+package org.zalando.logbook.servlet;
+
+import jakarta.annotation.Nullable;
+import lombok.SneakyThrows;
+import org.zalando.fauxpas.ThrowingSupplier;
+import org.zalando.logbook.CappedByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A {@link CappedByteArrayOutputStream} that keeps only the beginning of a body on heap and spills the rest of it to a
+ * temporary file. The memory held per body is therefore bounded by the threshold, regardless of the size of the body.
+ * Spilled bytes are read back from disk up to the read limit when the body is logged, the rest of it is reported as
+ * truncated. The file is deleted as soon as the stream is {@link #release() released}.
+ */
+class SpillingOutputStream extends CappedByteArrayOutputStream {
+
+    /**
+     * Number of bytes kept on heap, configurable via the system property {@code logbook.servlet.spill-threshold}.
+     */
+    static final int THRESHOLD = Integer.getInteger("logbook.servlet.spill-threshold", 1024 * 1024);
+
+    /**
+     * Number of bytes that are logged of a spilled body, configurable via the system property
+     * {@code logbook.servlet.spill-read-limit}.
+     */
+    static final int READ_LIMIT = Integer.getInteger("logbook.servlet.spill-read-limit", 4 * 1024 * 1024);
+
+    private final int threshold;
+    private final int readLimit;
+    private final ThrowingSupplier<FileChannel, IOException> files;
+    private final byte[] single = new byte[1];
+
+    private int limit;
+
+    @Nullable
+    private FileChannel file;
+    private int spilled;
+
+    SpillingOutputStream(final int threshold, final int limit) {
+        this(threshold, limit, SpillingOutputStream::createTempFile);
+    }
+
+    SpillingOutputStream(final int threshold, final int limit,
+            final ThrowingSupplier<FileChannel, IOException> files) {
+        this(threshold, limit, READ_LIMIT, files);
+    }
+
+    SpillingOutputStream(final int threshold, final int limit, final int readLimit,
+            final ThrowingSupplier<FileChannel, IOException> files) {
+        super(Math.min(threshold, limit));
+        this.threshold = threshold;
+        this.readLimit = readLimit;
+        this.limit = limit;
+        this.files = files;
+    }
+
+    private static FileChannel createTempFile() throws IOException {
+        return FileChannel.open(Files.createTempFile("logbook-", ".body"), READ, WRITE, DELETE_ON_CLOSE);
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+        single[0] = (byte) b;
+        append(single, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+        append(b, off, len);
+    }
+
+    private void append(final byte[] b, final int off, final int len) {
+        final int heap = Math.min(len, super.remaining());
+        super.write(b, off, len);
+
+        final int spill = Math.min(len - heap, remaining());
+
+        if (spill > 0) {
+            spill(b, off + heap, spill);
+        }
+    }
+
+    @SneakyThrows
+    private void spill(final byte[] b, final int off, final int len) {
+        if (file == null) {
+            file = files.tryGet();
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+
+        while (buffer.hasRemaining()) {
+            file.write(buffer);
+        }
+
+        spilled += len;
+    }
+
+    /**
+     * @return a copy of the bytes this stream holds, including those that were spilled up to the read limit
+     */
+    @Override
+    @SneakyThrows
+    public synchronized byte[] toByteArray() {
+        final byte[] heap = super.toByteArray();
+
+        if (file == null) {
+            return heap;
+        }
+
+        final byte[] bytes = Arrays.copyOf(heap, readable());
+        final int read = read(ByteBuffer.wrap(bytes, heap.length, bytes.length - heap.length), 0);
+        return heap.length + read == bytes.length ? bytes : Arrays.copyOf(bytes, heap.length + read);
+    }
+
+    private int readable() {
+        return Math.max(super.size(), Math.min(size(), readLimit));
+    }
+
+    /**
+     * @return a stream of all the bytes this stream holds, which reads spilled bytes from disk rather than copying them
+     */
+    synchronized InputStream toInputStream() {
+        return new SpillInputStream(super.toByteArray(), size());
+    }
+
+    /**
+     * @return the number of bytes read, which is less than requested if the file ended prematurely
+     */
+    private synchronized int read(final ByteBuffer target, final long position) throws IOException {
+        if (file == null) {
+            throw new IOException("Spilled body was released");
+        }
+
+        int read = 0;
+
+        while (target.hasRemaining()) {
+            final int count = file.read(target, position + read);
+
+            if (count == -1) {
+                break;
+            }
+
+            read += count;
+        }
+
+        return read;
+    }
+
+    @Override
+    public synchronized int size() {
+        return super.size() + spilled;
+    }
+
+    @Override
+    public synchronized int remaining() {
+        return isReleased() ? 0 : limit - size();
+    }
+
+    @Override
+    public synchronized boolean isTruncated() {
+        return getLength() > readable();
+    }
+
+    /**
+     * Stops spilling, e.g. because writes must not block from now on. Bytes beyond the threshold (or beyond the bytes
+     * that were spilled already) are counted, but not held anymore.
+     */
+    synchronized void stopSpilling() {
+        limit = Math.min(limit, Math.max(threshold, size()));
+    }
+
+    boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Discards the bytes this stream holds, on heap and on disk.
+     */
+    @Override
+    @SneakyThrows
+    public synchronized void release() {
+        super.release();
+
+        if (file != null) {
+            file.close();
+            file = null;
+            spilled = 0;
+        }
+    }
+
+    private final class SpillInputStream extends InputStream {
+
+        private final byte[] heap;
+        private final int size;
+        private int position;
+
+        private SpillInputStream(final byte[] heap, final int size) {
+            this.heap = heap;
+            this.size = size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (position == size) {
+                return -1;
+            }
+
+            final int length = Math.min(len, size - position);
+
+            if (position < heap.length) {
+                final int chunk = Math.min(length, heap.length - position);
+                System.arraycopy(heap, position, b, off, chunk);
+                position += chunk;
+                return chunk;
+            }
+
+            final int read = SpillingOutputStream.this.read(
+                    ByteBuffer.wrap(b, off, length), position - heap.length);
+
+            if (read == 0) {
+                // the file ended prematurely
+                return -1;
+            }
+
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return size - position;
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.zalando.logbook.servlet;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.IOException;
+
+/**
+ * Copies a body while the application reads it, be it blocking or non-blocking. The given callback is run once the
+ * end of the body was reached.
+ */
+final class TeeServletInputStream extends ServletInputStream {
+
+    private final ServletInputStream original;
+    private final SpillingOutputStream copy;
+    private final Runnable callback;
+
+    private volatile boolean finished;
+
+    TeeServletInputStream(final ServletInputStream original, final SpillingOutputStream copy,
+            final Runnable callback) {
+        this.original = original;
+        this.copy = copy;
+        this.callback = callback;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = original.read();
+
+        if (b == -1) {
+            finish();
+        } else {
+            copy.write(b);
+        }
+
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int count = original.read(b, off, len);
+
+        if (count == -1) {
+            finish();
+        } else {
+            copy.write(b, off, count);
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return original.isFinished();
+    }
+
+    @Override
+    public boolean isReady() {
+        return original.isReady();
+    }
+
+    @Override
+    public void setReadListener(final ReadListener listener) {
+        original.setReadListener(new ReadListener() {
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                listener.onDataAvailable();
+            }
+
+            @Override
+            public void onAllDataRead() throws IOException {
+                finish();
+                listener.onAllDataRead();
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                listener.onError(throwable);
+            }
+
+        });
+    }
+
+    /**
+     * @return whether the end of the body was reached
+     */
+    boolean isDone() {
+        return finished;
+    }
+
+    SpillingOutputStream getCopy() {
+        return copy;
+    }
+
+    private void finish() {
+        if (!finished) {
+            finished = true;
+            callback.run();
+        }
+    }
+
+}
@@ -5,17 +5,51 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 final class ByteStreamsTest {
 
     @Test
-    void shouldCollectStreamToByteArray() throws IOException {
-        final byte[] bytes = ByteStreams.toByteArray(new ByteArrayInputStream("Hello World!".getBytes(UTF_8)));
+    void shouldBufferStream() throws IOException {
+        final SpillingOutputStream buffer = ByteStreams.buffer(
+                new ByteArrayInputStream("Hello World!".getBytes(UTF_8)), Integer.MAX_VALUE, Integer.MAX_VALUE);
 
-        assertThat(new String(bytes, UTF_8)).isEqualTo("Hello World!");
+        assertThat(new String(buffer.toByteArray(), UTF_8)).isEqualTo("Hello World!");
+        assertThat(buffer.isSpilled()).isFalse();
+    }
+
+    @Test
+    void shouldStopBufferingBeyondLimit() throws IOException {
+        final SpillingOutputStream buffer = ByteStreams.buffer(
+                new ByteArrayInputStream(new byte[10_000]), Integer.MAX_VALUE, 5);
+
+        assertThat(buffer.size()).isEqualTo(4096);
+    }
+
+    @Test
+    void shouldSpillBeyondThreshold() throws IOException {
+        final SpillingOutputStream buffer = ByteStreams.buffer(
+                new ByteArrayInputStream(new byte[10_000]), 100, Integer.MAX_VALUE);
+
+        assertThat(buffer.isSpilled()).isTrue();
+        assertThat(buffer.toByteArray()).hasSize(10_000);
+
+        buffer.release();
+    }
+
+    @Test
+    void shouldReleaseBufferOnFailure() throws IOException {
+        final InputStream in = mock(InputStream.class);
+        when(in.read(any())).thenReturn(4096).thenThrow(new IOException());
+
+        assertThrows(IOException.class, () -> ByteStreams.buffer(in, 100, Integer.MAX_VALUE));
     }
 
     @Test
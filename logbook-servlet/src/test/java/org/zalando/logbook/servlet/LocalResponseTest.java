@@ -10,11 +10,18 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -88,7 +95,7 @@ class LocalResponseTest {
         assertSame(writer1, writer2);
 
         verify(mock).getOutputStream();
-        verify(mock).getHeaderNames();
+        verify(mock).getHeaders("Content-Type");
         verify(mock).getCharacterEncoding();
         verifyNoMoreInteractions(mock);
     }
@@ -104,12 +111,222 @@ class LocalResponseTest {
         verifyNoMoreInteractions(mock);
     }
 
+    @Test
+    void shouldRetainBodyOnRelease() throws IOException {
+        unit.withBody();
+        unit.getOutputStream().write("Hello".getBytes(UTF_8));
+
+        unit.release();
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("Hello");
+        assertThat(unit.isBodyTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldNotCopyIgnoredBodyOnRelease() throws IOException {
+        unit.withBody();
+        unit.getOutputStream().write("Hello".getBytes(UTF_8));
+        unit.withoutBody();
+
+        unit.release();
+        unit.withBody();
+
+        assertThat(unit.getBody()).isEmpty();
+        assertThat(unit.isBodyTruncated()).isTrue();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDeleteSpilledBodyOnRelease() throws IOException {
+        unit.withBody();
+        final byte[] body = new byte[SpillingOutputStream.THRESHOLD + 1];
+        unit.getOutputStream().write(body);
+
+        assertThat(unit.getBody()).isEqualTo(body);
+
+        unit.release();
+
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(body.length);
+    }
+
+    @Test
+    void shouldReadSpilledBodyBackUpToReadLimitOnly() throws IOException {
+        unit.withBody();
+        final byte[] body = new byte[SpillingOutputStream.READ_LIMIT + 1];
+        unit.getOutputStream().write(body);
+
+        assertThat(unit.getBody()).hasSize(SpillingOutputStream.READ_LIMIT);
+        assertThat(unit.isBodyTruncated()).isTrue();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(body.length);
+
+        unit.release();
+    }
+
+    @Test
+    void shouldNotSpillNonBlockingWrites() throws IOException {
+        unit.withBody();
+        final ServletOutputStream stream = unit.getOutputStream();
+        stream.setWriteListener(mock(WriteListener.class));
+        stream.write(new byte[SpillingOutputStream.THRESHOLD + 1]);
+
+        assertThat(unit.getBody()).hasSize(SpillingOutputStream.THRESHOLD);
+        assertThat(unit.isBodyTruncated()).isTrue();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(SpillingOutputStream.THRESHOLD + 1);
+    }
+
+    @Test
+    void shouldPassFlushOfNonBlockingWritesOn() throws IOException {
+        final ServletOutputStream original = mock(ServletOutputStream.class);
+        when(mock.getOutputStream()).thenReturn(original);
+
+        unit.withBody();
+        final ServletOutputStream stream = unit.getOutputStream();
+        assertFalse(unit.isNonBlocking());
+
+        stream.setWriteListener(mock(WriteListener.class));
+        assertTrue(unit.isNonBlocking());
+
+        stream.flush();
+        unit.getWriter().flush();
+        verify(original, times(2)).flush();
+        verify(original, never()).isReady();
+    }
+
     @Test
     void shouldAllowWithBodyAfterWithoutBody() throws IOException {
         unit.withoutBody();
         unit.withBody();
     }
 
+    @Test
+    void shouldRecordBodyIfConditionHoldsOnCommit() throws IOException {
+        when(mock.getStatus()).thenReturn(500);
+        unit.withBodyIf(response -> response.getStatus() >= 400, 4);
+
+        final ServletOutputStream stream = unit.getOutputStream();
+        stream.write('a');
+        when(mock.isCommitted()).thenReturn(true);
+        stream.write("bcdef".getBytes(UTF_8));
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("abcdef");
+    }
+
+    @Test
+    void shouldDiscardBodyIfConditionDoesNotHoldOnCommit() throws IOException {
+        when(mock.getStatus()).thenReturn(200);
+        unit.withBodyIf(response -> response.getStatus() >= 400, 4);
+
+        final ServletOutputStream stream = unit.getOutputStream();
+        stream.write('a');
+        when(mock.isCommitted()).thenReturn(true);
+        stream.write('b');
+
+        assertThat(unit.getBody()).isEmpty();
+    }
+
+    @Test
+    void shouldDiscardBodyExceedingLimitBeforeCommit() throws IOException {
+        unit.withBodyIf(response -> true, 4);
+
+        final ServletOutputStream stream = unit.getOutputStream();
+        stream.write("abcde".getBytes(UTF_8));
+        stream.write('f');
+
+        assertThat(unit.getBody()).isEmpty();
+    }
+
+    @Test
+    void shouldDecideOnceBodyIsRequested() throws IOException {
+        unit.withBodyIf(response -> true, 4);
+
+        unit.getOutputStream().write("ab".getBytes(UTF_8));
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("ab");
+    }
+
+    @Test
+    void shouldBufferAtLeastUntilCommit() throws IOException {
+        when(mock.getBufferSize()).thenReturn(8);
+        unit.withBodyIf(response -> true, 4);
+
+        unit.getOutputStream().write("abcdef".getBytes(UTF_8));
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("abcdef");
+    }
+
+    @Test
+    void shouldBufferUntilCommitIfBufferSizeIsRaisedLater() throws IOException {
+        final AtomicInteger bufferSize = new AtomicInteger(8192);
+        when(mock.getBufferSize()).thenAnswer(invocation -> bufferSize.get());
+        doAnswer(invocation -> {
+            bufferSize.set(invocation.getArgument(0));
+            return null;
+        }).when(mock).setBufferSize(anyInt());
+        when(mock.getStatus()).thenReturn(500);
+
+        unit.withBodyIf(response -> response.getStatus() >= 400, 64 * 1024);
+        unit.setBufferSize(1024 * 1024);
+
+        final byte[] body = new byte[200 * 1024];
+        Arrays.fill(body, (byte) 'x');
+        unit.getOutputStream().write(body);
+        when(mock.isCommitted()).thenReturn(true);
+
+        assertThat(unit.getBody()).isEqualTo(body);
+    }
+
+    @Test
+    void shouldPreferUnconditionalBody() throws IOException {
+        unit.withBodyIf(response -> false, 4);
+        unit.withBody();
+
+        unit.getOutputStream().write("abcdef".getBytes(UTF_8));
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("abcdef");
+    }
+
+    @Test
+    void shouldPreferLatestConditionalBody() throws IOException {
+        unit.withBody();
+        unit.withBodyIf(response -> false, 4);
+
+        unit.getOutputStream().write("ab".getBytes(UTF_8));
+        unit.withBodyIf(response -> true, 4);
+
+        assertThat(unit.getBody()).isEmpty();
+    }
+
+    @Test
+    void shouldCaptureBodyUpToLimit() throws IOException {
+        unit.withBodyLimit(3).withBody();
+
+        assertThat(unit.isBodyTruncated()).isFalse();
+        unit.getOutputStream().write("abcdef".getBytes(UTF_8));
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("abc");
+        assertThat(unit.isBodyTruncated()).isTrue();
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldCaptureConditionalBodyUpToLimit() throws IOException {
+        when(mock.isCommitted()).thenReturn(true);
+        unit.withBodyLimit(3).withBodyIf(response -> true, 4);
+
+        unit.getOutputStream().write("abcdef".getBytes(UTF_8));
+
+        assertThat(new String(unit.getBody(), UTF_8)).isEqualTo("abc");
+        assertThat(unit.getOriginalBodyLength()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldNotCaptureWithoutBody() {
+        unit.withoutBody();
+
+        assertThat(unit.isBodyTruncated()).isFalse();
+        assertThat(unit.getOriginalBodyLength()).isZero();
+    }
+
     @Test
     void shouldReturnNullContentTypeWhenNoContentTypeHasBeenSpecified() {
         when(mock.getContentType()).thenReturn(null);
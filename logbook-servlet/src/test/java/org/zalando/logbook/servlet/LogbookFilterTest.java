@@ -3,6 +3,8 @@ package org.zalando.logbook.servlet;
 import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Test;
@@ -11,10 +13,13 @@ import org.zalando.logbook.Logbook;
 
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.emptyEnumeration;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -94,4 +99,89 @@ final class LogbookFilterTest {
         assertThat(captor.getValue()).contains("-Synchronization-");
     }
 
+    @Test
+    void shouldNotFlushNonBlockingResponseBeforeWriting() throws Exception {
+        Logbook logbook = mock(Logbook.class);
+        Logbook.RequestWritingStage requestWritingStage = mock(Logbook.RequestWritingStage.class);
+        Logbook.ResponseWritingStage responseWritingStage = mock(Logbook.ResponseWritingStage.class);
+        LogbookFilter filter = new LogbookFilter(logbook);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream original = mock(ServletOutputStream.class);
+        FilterChain chain = mock(FilterChain.class);
+
+        when(logbook.process(any())).thenReturn(requestWritingStage);
+        when(requestWritingStage.write()).thenReturn(requestWritingStage);
+        when(requestWritingStage.process(any())).thenReturn(responseWritingStage);
+        when(request.getHeaderNames()).thenReturn(emptyEnumeration());
+        when(request.getDispatcherType()).thenReturn(DispatcherType.REQUEST);
+        when(request.getAttribute(any())).thenReturn(new AtomicBoolean(false));
+        when(response.getOutputStream()).thenReturn(original);
+
+        doAnswer(invocation -> {
+            final LocalResponse local = invocation.getArgument(1);
+            local.withBody();
+            local.getOutputStream().setWriteListener(mock(WriteListener.class));
+            local.getOutputStream().write(new byte[]{'x'});
+            return null;
+        }).when(chain).doFilter(any(), any());
+
+        filter.doFilter(request, response, chain);
+
+        verify(responseWritingStage).write();
+        verify(response, never()).flushBuffer();
+        verify(original, never()).flush();
+        verify(original, never()).isReady();
+    }
+
+    @Test
+    void shouldLogStreamedRequestIfChainFails() throws Exception {
+        Logbook logbook = mock(Logbook.class);
+        Logbook.RequestWritingStage requestWritingStage = mock(Logbook.RequestWritingStage.class);
+        LogbookFilter filter = new LogbookFilter(logbook).withRequestCapture(RequestCapture.STREAMING);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+
+        when(logbook.process(any())).thenReturn(requestWritingStage);
+        when(request.getHeaderNames()).thenReturn(emptyEnumeration());
+        when(request.getDispatcherType()).thenReturn(DispatcherType.REQUEST);
+
+        doThrow(new IllegalStateException()).when(chain).doFilter(any(), any());
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response, chain));
+
+        verify(requestWritingStage).write();
+        verify(requestWritingStage, never()).process(any());
+    }
+
+    @Test
+    void shouldReleaseSpilledBodiesIfChainFails() throws Exception {
+        Logbook logbook = mock(Logbook.class);
+        Logbook.RequestWritingStage requestWritingStage = mock(Logbook.RequestWritingStage.class);
+        LogbookFilter filter = new LogbookFilter(logbook);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+        AtomicReference<LocalResponse> local = new AtomicReference<>();
+
+        when(logbook.process(any())).thenReturn(requestWritingStage);
+        when(requestWritingStage.write()).thenReturn(requestWritingStage);
+        when(request.getHeaderNames()).thenReturn(emptyEnumeration());
+        when(request.getDispatcherType()).thenReturn(DispatcherType.REQUEST);
+        when(response.getOutputStream()).thenReturn(mock(ServletOutputStream.class));
+
+        doAnswer(invocation -> {
+            local.set(invocation.getArgument(1));
+            local.get().withBody();
+            local.get().getOutputStream().write(new byte[SpillingOutputStream.THRESHOLD + 1]);
+            throw new IllegalStateException();
+        }).when(chain).doFilter(any(), any());
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response, chain));
+
+        // the spilled part of the body is gone, i.e. the temporary file was closed and deleted
+        assertThat(local.get().getBody()).isEmpty();
+    }
+
 }
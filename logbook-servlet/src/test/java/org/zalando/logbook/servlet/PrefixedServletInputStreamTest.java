@@ -0,0 +1,67 @@
+package org.zalando.logbook.servlet;
+
+import jakarta.servlet.ReadListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class PrefixedServletInputStreamTest {
+
+    @Test
+    void shouldReadPrefixBeforeStream() throws IOException {
+        final PrefixedServletInputStream unit = new PrefixedServletInputStream(
+                new ByteArrayInputStream("ab".getBytes(UTF_8)),
+                new ServletInputStreamAdapter(new ByteArrayInputStream("cdef".getBytes(UTF_8))));
+
+        assertThat(unit.isReady()).isTrue();
+        assertThat(unit.isFinished()).isFalse();
+        assertThat(unit.read()).isEqualTo('a');
+
+        final byte[] buffer = new byte[3];
+        assertThat(unit.read(buffer, 0, 3)).isEqualTo(1);
+        assertThat(unit.read()).isEqualTo('c');
+        assertThat(unit.read(buffer, 0, 3)).isEqualTo(3);
+        assertThat(new String(buffer, UTF_8)).isEqualTo("def");
+
+        assertThat(unit.isFinished()).isTrue();
+        assertThat(unit.isReady()).isTrue();
+        assertThat(unit.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldDelegateToStreamOnceDone() {
+        final jakarta.servlet.ServletInputStream stream = mock(jakarta.servlet.ServletInputStream.class);
+        final ReadListener listener = mock(ReadListener.class);
+        final PrefixedServletInputStream unit = new PrefixedServletInputStream(new ByteArrayInputStream(new byte[0]), stream);
+
+        when(stream.isReady()).thenReturn(false);
+        when(stream.isFinished()).thenReturn(false);
+
+        assertThat(unit.isReady()).isFalse();
+        assertThat(unit.isFinished()).isFalse();
+
+        unit.setReadListener(listener);
+        verify(stream).setReadListener(listener);
+    }
+
+    @Test
+    void shouldFailIfPrefixFails() throws IOException {
+        final InputStream prefix = mock(InputStream.class);
+        final PrefixedServletInputStream unit = new PrefixedServletInputStream(prefix,
+                mock(jakarta.servlet.ServletInputStream.class));
+
+        when(prefix.available()).thenThrow(new IOException());
+
+        assertThrows(IOException.class, unit::isReady);
+    }
+
+}
@@ -4,16 +4,27 @@ import jakarta.servlet.AsyncContext;
 import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static java.util.Collections.emptyEnumeration;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +87,234 @@ class RemoteRequestTest {
         assertEquals(17, remoteRequest.getBody().length);
     }
 
+    @Test
+    void withBodyLimit_buffersBeginningOfBodyOnly() throws Exception {
+        final byte[] bodyContent = "test body content".getBytes();
+        when(httpServletRequest.getInputStream())
+                .thenReturn(new ServletInputStreamAdapter(new ByteArrayInputStream(bodyContent)));
+        when(httpServletRequest.getContentType()).thenReturn("application/json");
+        when(httpServletRequest.getContentLengthLong()).thenReturn(17L);
+
+        remoteRequest.withBodyLimit(4).withBody();
+
+        assertEquals("test", new String(remoteRequest.getBody()));
+        assertTrue(remoteRequest.isBodyTruncated());
+        assertEquals(17, remoteRequest.getOriginalBodyLength());
+        assertArrayEquals(bodyContent, remoteRequest.getInputStream().readAllBytes());
+
+        remoteRequest.withoutBody();
+        assertEquals(0, remoteRequest.getBody().length);
+        assertFalse(remoteRequest.isBodyTruncated());
+
+        remoteRequest.withBody();
+        assertEquals("test", new String(remoteRequest.getBody()));
+    }
+
+    @Test
+    void withBodyLimit_buffersBodyWithinLimit() throws Exception {
+        when(httpServletRequest.getInputStream())
+                .thenReturn(new ServletInputStreamAdapter(new ByteArrayInputStream("test".getBytes())));
+        when(httpServletRequest.getContentType()).thenReturn("application/json");
+
+        remoteRequest.withBodyLimit(4).withBody();
+
+        assertEquals("test", new String(remoteRequest.getBody()));
+        assertFalse(remoteRequest.isBodyTruncated());
+        assertEquals(4, remoteRequest.getOriginalBodyLength());
+    }
+
+    @Test
+    void withBody_spillsLargeBody() throws Exception {
+        final byte[] bodyContent = body(SpillingOutputStream.THRESHOLD + 10_000);
+        when(httpServletRequest.getInputStream())
+                .thenReturn(new ServletInputStreamAdapter(new ByteArrayInputStream(bodyContent)));
+        when(httpServletRequest.getContentType()).thenReturn("application/octet-stream");
+
+        remoteRequest.withBody();
+
+        assertArrayEquals(bodyContent, remoteRequest.getBody());
+        assertFalse(remoteRequest.isBodyTruncated());
+        assertEquals(bodyContent.length, remoteRequest.getOriginalBodyLength());
+        assertArrayEquals(bodyContent, remoteRequest.getInputStream().readAllBytes());
+
+        remoteRequest.withoutBody();
+        assertEquals(0, remoteRequest.getBody().length);
+
+        remoteRequest.withBody();
+        remoteRequest.release();
+        assertEquals(0, remoteRequest.getBody().length);
+    }
+
+    @Test
+    void withBodyLimit_spillsBeginningOfLargeBodyOnly() throws Exception {
+        final int limit = SpillingOutputStream.THRESHOLD + 10_000;
+        final byte[] bodyContent = body(limit * 2);
+        when(httpServletRequest.getInputStream())
+                .thenReturn(new ServletInputStreamAdapter(new ByteArrayInputStream(bodyContent)));
+        when(httpServletRequest.getContentType()).thenReturn("application/octet-stream");
+        when(httpServletRequest.getContentLengthLong()).thenReturn((long) bodyContent.length);
+
+        remoteRequest.withBodyLimit(limit).withBody();
+
+        assertArrayEquals(Arrays.copyOf(bodyContent, limit), remoteRequest.getBody());
+        assertTrue(remoteRequest.isBodyTruncated());
+        assertEquals(bodyContent.length, remoteRequest.getOriginalBodyLength());
+        assertArrayEquals(bodyContent, remoteRequest.getInputStream().readAllBytes());
+
+        remoteRequest.withoutBody();
+        assertEquals(0, remoteRequest.getBody().length);
+        assertFalse(remoteRequest.isBodyTruncated());
+    }
+
+    @Test
+    void withBody_readsSpilledBodyBackUpToReadLimitOnly() throws Exception {
+        final byte[] bodyContent = body(SpillingOutputStream.READ_LIMIT + 10_000);
+        when(httpServletRequest.getInputStream())
+                .thenReturn(new ServletInputStreamAdapter(new ByteArrayInputStream(bodyContent)));
+        when(httpServletRequest.getContentType()).thenReturn("application/octet-stream");
+
+        remoteRequest.withBody();
+
+        assertArrayEquals(Arrays.copyOf(bodyContent, SpillingOutputStream.READ_LIMIT), remoteRequest.getBody());
+        assertTrue(remoteRequest.isBodyTruncated());
+        assertEquals(bodyContent.length, remoteRequest.getOriginalBodyLength());
+        assertArrayEquals(bodyContent, remoteRequest.getInputStream().readAllBytes());
+
+        remoteRequest.release();
+    }
+
+    @Test
+    void streaming_withBody_capturesBodyWhileItIsRead() throws Exception {
+        final Runnable listener = mock(Runnable.class);
+        final RemoteRequest unit = streaming("test body content");
+        unit.setEndOfStreamListener(listener);
+
+        unit.withBody();
+        verify(httpServletRequest, never()).getInputStream();
+
+        final var stream = unit.getInputStream();
+        assertEquals('t', stream.read());
+        assertEquals("t", new String(unit.getBody()));
+        assertTrue(unit.isBodyTruncated());
+        assertEquals(17, unit.getOriginalBodyLength());
+
+        stream.readAllBytes();
+        verify(listener).run();
+        assertEquals("test body content", new String(unit.getBody()));
+        assertFalse(unit.isBodyTruncated());
+        assertEquals(17, unit.getOriginalBodyLength());
+        assertSame(stream, unit.getInputStream());
+
+        unit.withoutBody();
+        assertEquals(0, unit.getBody().length);
+        assertFalse(unit.isBodyTruncated());
+
+        unit.withBody();
+        assertEquals("test body content", new String(unit.getBody()));
+
+        unit.release();
+        assertEquals(0, unit.getBody().length);
+    }
+
+    @Test
+    void streaming_withBodyLimit_capturesBeginningOfBodyOnly() throws Exception {
+        final RemoteRequest unit = streaming("test body content");
+        when(httpServletRequest.getContentLengthLong()).thenReturn(-1L);
+
+        unit.withBodyLimit(4).withBody();
+        final var stream = unit.getInputStream();
+
+        assertEquals(0, unit.getOriginalBodyLength());
+
+        assertArrayEquals("test body content".getBytes(), stream.readAllBytes());
+        assertEquals("test", new String(unit.getBody()));
+        assertTrue(unit.isBodyTruncated());
+        assertEquals(17, unit.getOriginalBodyLength());
+    }
+
+    @Test
+    void streaming_bodyReadUpToContentLength_isNotTruncated() throws Exception {
+        final byte[] content = "test body content".getBytes();
+        final RemoteRequest unit = streaming("");
+        final var original = mock(jakarta.servlet.ServletInputStream.class);
+        when(original.read(any(byte[].class), anyInt(), anyInt())).thenAnswer(invocation -> {
+            System.arraycopy(content, 0, invocation.getArgument(0), invocation.getArgument(1), content.length);
+            return content.length;
+        });
+        when(httpServletRequest.getInputStream()).thenReturn(original);
+        when(httpServletRequest.getContentLengthLong()).thenReturn((long) content.length);
+
+        unit.withBody();
+        final byte[] buffer = new byte[content.length];
+        assertEquals(content.length, unit.getInputStream().read(buffer, 0, buffer.length));
+
+        assertEquals("test body content", new String(unit.getBody()));
+        assertFalse(unit.isBodyTruncated());
+        assertEquals(17, unit.getOriginalBodyLength());
+    }
+
+    @Test
+    void streaming_finishedBody_isNotTruncated() throws Exception {
+        final RemoteRequest unit = streaming("test body content");
+        when(httpServletRequest.getContentLengthLong()).thenReturn(-1L);
+
+        unit.withBody();
+        final var stream = unit.getInputStream();
+        stream.read(new byte[17], 0, 17);
+
+        assertEquals("test body content", new String(unit.getBody()));
+        assertFalse(unit.isBodyTruncated());
+        assertEquals(17, unit.getOriginalBodyLength());
+    }
+
+    @Test
+    void streaming_getBody_buffersBodyThatWasNotReadYet() throws Exception {
+        final RemoteRequest unit = streaming("test body content");
+
+        unit.withBody();
+
+        assertEquals("test body content", new String(unit.getBody()));
+        assertEquals("test body content", new String(unit.getInputStream().readAllBytes()));
+    }
+
+    @Test
+    void streaming_withoutBody_passesStreamThrough() throws Exception {
+        final RemoteRequest unit = streaming("test body content");
+
+        unit.withoutBody();
+
+        assertEquals("test body content", new String(unit.getInputStream().readAllBytes()));
+        assertEquals(0, unit.getBody().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/x-www-form-urlencoded", "multipart/form-data"})
+    void streaming_handlesFormAndMultipartRequestsAsUsual(final String contentType) throws Exception {
+        final RemoteRequest unit = streaming("a=b");
+        when(httpServletRequest.getContentType()).thenReturn(contentType);
+
+        unit.withBody();
+
+        assertEquals("a=b", new String(unit.getInputStream().readAllBytes()));
+        assertEquals(0, unit.getBody().length);
+    }
+
+    private RemoteRequest streaming(final String body) throws Exception {
+        final RemoteRequest unit = new RemoteRequest(httpServletRequest, FormRequestMode.OFF,
+                RequestCapture.STREAMING);
+        when(httpServletRequest.getInputStream())
+                .thenReturn(new ServletInputStreamAdapter(new ByteArrayInputStream(body.getBytes())));
+        when(httpServletRequest.getContentType()).thenReturn("text/plain");
+        when(httpServletRequest.getContentLengthLong()).thenReturn((long) body.length());
+        return unit;
+    }
+
+    private static byte[] body(final int length) {
+        final byte[] body = new byte[length];
+        new Random(length).nextBytes(body);
+        return body;
+    }
+
     @Test
     void withoutBody() throws Exception {
         when(httpServletRequest.getInputStream()).thenReturn(mock(jakarta.servlet.ServletInputStream.class));
@@ -0,0 +1,30 @@
+package org.zalando.logbook.servlet;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.zalando.logbook.servlet.junit.RestoreSystemProperties;
+
+import static java.util.Locale.ROOT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.zalando.logbook.servlet.RequestCapture.EAGER;
+
+@NotThreadSafe
+@RestoreSystemProperties
+class RequestCaptureTest {
+
+    @ParameterizedTest
+    @CsvSource({"eager", "streaming"})
+    void test(final String value) {
+        System.setProperty("logbook.servlet.request-capture", value);
+        final RequestCapture unit = RequestCapture.fromProperties();
+        assertEquals(value, unit.name().toLowerCase(ROOT));
+    }
+
+    @Test
+    void defaultsToEager() {
+        assertEquals(EAGER, RequestCapture.fromProperties());
+    }
+
+}
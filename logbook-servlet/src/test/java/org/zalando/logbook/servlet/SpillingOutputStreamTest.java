@@ -0,0 +1,227 @@
+package org.zalando.logbook.servlet;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+final class SpillingOutputStreamTest {
+
+    private final SpillingOutputStream unit = new SpillingOutputStream(4, 10);
+
+    @Test
+    void shouldKeepBodyWithinThresholdOnHeap() {
+        unit.write("abc".getBytes(UTF_8), 0, 3);
+
+        assertThat(unit.isSpilled()).isFalse();
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abc");
+        assertThat(unit.size()).isEqualTo(3);
+        assertThat(unit.remaining()).isEqualTo(7);
+        assertThat(unit.isTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldSpillBodyBeyondThreshold() {
+        unit.write("abc".getBytes(UTF_8), 0, 3);
+        unit.write("defg".getBytes(UTF_8), 0, 4);
+        unit.write('h');
+
+        assertThat(unit.isSpilled()).isTrue();
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcdefgh");
+        assertThat(unit.size()).isEqualTo(8);
+        assertThat(unit.remaining()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotSpillSpeculativeBodiesBeyondReadLimit() {
+        final SpeculativeOutputStream unit =
+                new SpeculativeOutputStream(() -> true, () -> true, () -> Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        unit.write(new byte[SpillingOutputStream.READ_LIMIT + 1], 0, SpillingOutputStream.READ_LIMIT + 1);
+
+        assertThat(unit.size()).isEqualTo(SpillingOutputStream.READ_LIMIT);
+        assertThat(unit.getLength()).isEqualTo(SpillingOutputStream.READ_LIMIT + 1);
+        assertThat(unit.isTruncated()).isTrue();
+
+        unit.release();
+    }
+
+    @Test
+    void shouldStopSpillingAtLimit() {
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+        unit.write("ijkl".getBytes(UTF_8), 0, 4);
+        unit.write('m');
+
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcdefghij");
+        assertThat(unit.getLength()).isEqualTo(13);
+        assertThat(unit.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldReadSpilledBytesBackUpToReadLimit() throws IOException {
+        final SpillingOutputStream unit = new SpillingOutputStream(4, 10, 6, () ->
+                FileChannel.open(Files.createTempFile("logbook-", ".body"), READ, WRITE, DELETE_ON_CLOSE));
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcdef");
+        assertThat(unit.size()).isEqualTo(8);
+        assertThat(unit.getLength()).isEqualTo(8);
+        assertThat(unit.isTruncated()).isTrue();
+        assertThat(new String(unit.toInputStream().readAllBytes(), UTF_8)).isEqualTo("abcdefgh");
+    }
+
+    @Test
+    void shouldReadHeapBytesBeyondReadLimit() {
+        final SpillingOutputStream unit = new SpillingOutputStream(4, 10, 2, () -> {
+            throw new IOException();
+        });
+        unit.write("abc".getBytes(UTF_8), 0, 3);
+
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abc");
+        assertThat(unit.isTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldCaptureUpToThresholdOnceSpillingStopped() {
+        unit.stopSpilling();
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+
+        assertThat(unit.isSpilled()).isFalse();
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcd");
+        assertThat(unit.getLength()).isEqualTo(8);
+        assertThat(unit.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldKeepSpilledBytesOnceSpillingStopped() {
+        unit.write("abcdef".getBytes(UTF_8), 0, 6);
+        unit.stopSpilling();
+        unit.write("gh".getBytes(UTF_8), 0, 2);
+
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcdef");
+        assertThat(unit.remaining()).isZero();
+    }
+
+    @Test
+    void shouldStreamHeapAndSpilledBytes() throws IOException {
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+
+        final InputStream stream = unit.toInputStream();
+
+        assertThat(stream.available()).isEqualTo(8);
+        assertThat(stream.read()).isEqualTo('a');
+
+        final byte[] buffer = new byte[5];
+        assertThat(stream.read(buffer, 0, 5)).isEqualTo(3);
+        assertThat(new String(buffer, 0, 3, UTF_8)).isEqualTo("bcd");
+        assertThat(stream.read(buffer, 0, 5)).isEqualTo(4);
+        assertThat(new String(buffer, 0, 4, UTF_8)).isEqualTo("efgh");
+
+        assertThat(stream.available()).isZero();
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldDeleteSpilledBytesOnRelease() {
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+        unit.release();
+
+        assertThat(unit.isSpilled()).isFalse();
+        assertThat(unit.toByteArray()).isEmpty();
+        assertThat(unit.getLength()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldNotSpillBytesWrittenAfterRelease() {
+        unit.write("abc".getBytes(UTF_8), 0, 3);
+        unit.release();
+        unit.write("defgh".getBytes(UTF_8), 0, 5);
+
+        assertThat(unit.isSpilled()).isFalse();
+        assertThat(unit.toByteArray()).isEmpty();
+        assertThat(unit.remaining()).isZero();
+        assertThat(unit.getLength()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldReleaseWithoutSpilledBytes() {
+        unit.write("abc".getBytes(UTF_8), 0, 3);
+        unit.release();
+
+        assertThat(unit.toByteArray()).isEmpty();
+    }
+
+    @Test
+    void shouldFailIfFileCanNotBeCreated() {
+        final SpillingOutputStream unit = new SpillingOutputStream(4, 10, () -> {
+            throw new IOException();
+        });
+
+        assertThrows(IOException.class, () -> unit.write("abcdefgh".getBytes(UTF_8), 0, 8));
+    }
+
+    @Test
+    void shouldFailIfFileCanNotBeReadOrClosed() throws IOException {
+        final FileChannel file = mock(FileChannel.class);
+        when(file.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final int length = buffer.remaining();
+            buffer.position(buffer.limit());
+            return length;
+        });
+        when(file.read(any(ByteBuffer.class), anyLong())).thenThrow(new IOException());
+        doThrow(new IOException()).when(file).close();
+
+        final SpillingOutputStream unit = new SpillingOutputStream(4, 10, () -> file);
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+
+        assertThrows(IOException.class, unit::toByteArray);
+        assertThrows(IOException.class, unit::release);
+    }
+
+    @Test
+    void shouldStopReadingAtEndOfShortFile() throws IOException {
+        final FileChannel file = mock(FileChannel.class);
+        when(file.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final int length = buffer.remaining();
+            buffer.position(buffer.limit());
+            return length;
+        });
+        when(file.read(any(ByteBuffer.class), anyLong())).thenReturn(-1);
+
+        final SpillingOutputStream unit = new SpillingOutputStream(4, 10, () -> file);
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+
+        assertThat(new String(unit.toByteArray(), UTF_8)).isEqualTo("abcd");
+        assertThat(new String(unit.toInputStream().readAllBytes(), UTF_8)).isEqualTo("abcd");
+    }
+
+    @Test
+    void shouldFailToStreamSpilledBytesAfterRelease() throws IOException {
+        unit.write("abcdefgh".getBytes(UTF_8), 0, 8);
+
+        final InputStream stream = unit.toInputStream();
+        stream.skip(4);
+        unit.release();
+
+        final IOException exception = assertThrows(IOException.class, stream::read);
+        assertThat(exception).hasMessageContaining("released");
+    }
+
+}
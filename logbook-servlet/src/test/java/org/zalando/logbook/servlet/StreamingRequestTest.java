@@ -0,0 +1,84 @@
+package org.zalando.logbook.servlet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.core.DefaultHttpLogFormatter;
+import org.zalando.logbook.core.DefaultSink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that {@link LogbookFilter} logs requests that are {@link RequestCapture#STREAMING captured while they are
+ * streamed}.
+ */
+final class StreamingRequestTest {
+
+    private final HttpLogWriter writer = mock(HttpLogWriter.class);
+
+    private final MockMvc mvc = MockMvcBuilders
+            .standaloneSetup(new ExampleController())
+            .addFilter(new LogbookFilter(Logbook.builder()
+                    .sink(new DefaultSink(new DefaultHttpLogFormatter(), writer))
+                    .build()).withRequestCapture(RequestCapture.STREAMING))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(writer.isActive()).thenReturn(true);
+    }
+
+    @Test
+    void shouldLogRequestBodyOnceItWasRead() throws Exception {
+        mvc.perform(post("/api/echo")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("Hello, world!"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Hello, world!"));
+
+        assertThat(request())
+                .startsWith("Incoming Request:")
+                .endsWith("Hello, world!");
+
+        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(writer).write(any(Correlation.class), captor.capture());
+
+        assertThat(captor.getValue())
+                .startsWith("Outgoing Response:")
+                .endsWith("Hello, world!");
+    }
+
+    @Test
+    void shouldLogRequestBodyThatWasNotRead() throws Exception {
+        mvc.perform(get("/api/sync")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("Hello, world!"))
+                .andExpect(status().isOk());
+
+        assertThat(request())
+                .startsWith("Incoming Request:")
+                .endsWith("Hello, world!");
+    }
+
+    private String request() throws Exception {
+        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(writer).write(any(Precorrelation.class), captor.capture());
+        return captor.getValue();
+    }
+
+}
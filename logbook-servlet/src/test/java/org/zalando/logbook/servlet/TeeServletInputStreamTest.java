@@ -0,0 +1,93 @@
+package org.zalando.logbook.servlet;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class TeeServletInputStreamTest {
+
+    private final Runnable callback = mock(Runnable.class);
+
+    @Test
+    void shouldCopyBytesWhileTheyAreRead() throws IOException {
+        final TeeServletInputStream unit = tee("Hello World!", 100);
+
+        assertThat(unit.read()).isEqualTo('H');
+
+        final byte[] buffer = new byte[4];
+        assertThat(unit.read(buffer, 0, 4)).isEqualTo(4);
+        assertThat(new String(unit.getCopy().toByteArray(), UTF_8)).isEqualTo("Hello");
+        assertThat(unit.isDone()).isFalse();
+        assertThat(unit.isFinished()).isFalse();
+        assertThat(unit.isReady()).isTrue();
+
+        unit.readAllBytes();
+
+        assertThat(new String(unit.getCopy().toByteArray(), UTF_8)).isEqualTo("Hello World!");
+        assertThat(unit.isDone()).isTrue();
+        assertThat(unit.isFinished()).isTrue();
+        verify(callback).run();
+    }
+
+    @Test
+    void shouldRunCallbackOnceOnEndOfStream() throws IOException {
+        final TeeServletInputStream unit = tee("", 100);
+
+        assertThat(unit.read()).isEqualTo(-1);
+        assertThat(unit.read(new byte[1], 0, 1)).isEqualTo(-1);
+
+        verify(callback).run();
+    }
+
+    @Test
+    void shouldCopyUpToLimit() throws IOException {
+        final TeeServletInputStream unit = tee("Hello World!", 5);
+
+        unit.readAllBytes();
+
+        assertThat(new String(unit.getCopy().toByteArray(), UTF_8)).isEqualTo("Hello");
+        assertThat(unit.getCopy().getLength()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldRunCallbackOnceAllDataWasReadAsynchronously() throws IOException {
+        final ServletInputStream original = mock(ServletInputStream.class);
+        final ReadListener listener = mock(ReadListener.class);
+        final TeeServletInputStream unit = new TeeServletInputStream(original,
+                new SpillingOutputStream(100, 100), callback);
+
+        unit.setReadListener(listener);
+
+        final ArgumentCaptor<ReadListener> captor = ArgumentCaptor.forClass(ReadListener.class);
+        verify(original).setReadListener(captor.capture());
+        final ReadListener delegate = captor.getValue();
+
+        delegate.onDataAvailable();
+        verify(listener).onDataAvailable();
+
+        final Throwable error = new IOException();
+        delegate.onError(error);
+        verify(listener).onError(error);
+
+        delegate.onAllDataRead();
+        verify(callback).run();
+        verify(listener).onAllDataRead();
+        assertThat(unit.isDone()).isTrue();
+    }
+
+    private TeeServletInputStream tee(final String body, final int limit) {
+        final ServletInputStream original = new ServletInputStreamAdapter(new ByteArrayInputStream(body.getBytes(UTF_8)));
+        return new TeeServletInputStream(original, new SpillingOutputStream(100, limit), callback);
+    }
+
+}
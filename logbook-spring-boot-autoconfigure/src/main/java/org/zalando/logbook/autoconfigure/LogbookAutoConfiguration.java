@@ -40,9 +40,10 @@ import org.zalando.logbook.Strategy;
 import org.zalando.logbook.attributes.AttributeExtractor;
 import org.zalando.logbook.core.attributes.CompositeAttributeExtractor;
 import org.zalando.logbook.attributes.NoOpAttributeExtractor;
+import org.zalando.logbook.core.AsyncSink;
 import org.zalando.logbook.core.BodyOnlyIfStatusAtLeastStrategy;
+import org.zalando.logbook.core.CappedBodyStrategy;
 import org.zalando.logbook.core.ChunkingSink;
-import org.zalando.logbook.core.Conditions;
 import org.zalando.logbook.core.CurlHttpLogFormatter;
 import org.zalando.logbook.core.DefaultCorrelationId;
 import org.zalando.logbook.core.DefaultHttpLogFormatter;
@@ -52,6 +53,7 @@ import org.zalando.logbook.core.DefaultStrategy;
 import org.zalando.logbook.core.HeaderFilters;
 import org.zalando.logbook.core.PathFilters;
 import org.zalando.logbook.core.QueryFilters;
+import org.zalando.logbook.core.RequestPredicateIndex;
 import org.zalando.logbook.core.RequestFilters;
 import org.zalando.logbook.core.ResponseFilters;
 import org.zalando.logbook.core.SplunkHttpLogFormatter;
@@ -77,7 +79,6 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static jakarta.servlet.DispatcherType.ASYNC;
 import static jakarta.servlet.DispatcherType.REQUEST;
@@ -125,7 +126,7 @@ public class LogbookAutoConfiguration {
             final Sink sink) {
 
         return Logbook.builder()
-                .condition(mergeWithExcludes(mergeWithIncludes(condition)))
+                .condition(mergeWithIncludesAndExcludes(condition))
                 .correlationId(correlationId)
                 .headerFilters(headerFilters)
                 .queryFilters(queryFilters)
@@ -133,7 +134,7 @@ public class LogbookAutoConfiguration {
                 .bodyFilters(mergeWithTruncation(bodyFilters))
                 .requestFilters(requestFilters)
                 .responseFilters(responseFilters)
-                .strategy(strategy)
+                .strategy(mergeWithBoundedCapture(strategy))
                 .attributeExtractor(attributeExtractor)
                 .sink(sink)
                 .build();
@@ -153,52 +154,31 @@ public class LogbookAutoConfiguration {
         return filters;
     }
 
-    private Predicate<HttpRequest> mergeWithExcludes(final Predicate<HttpRequest> predicate) {
-        return Stream.concat(
-                        properties.getExclude() // backwards compatibility for deprecated config
-                                .stream()
-                                .map(Conditions::requestTo),
-                        properties.getPredicate().getExclude()
-                                .stream()
-                                .map(this::convertToPredicate)
-                )
-                .map(Predicate::negate)
-                .reduce(predicate, Predicate::and);
-    }
-
-    private Predicate<HttpRequest> mergeWithIncludes(final Predicate<HttpRequest> predicate) {
-        return Stream.concat(
-                        properties.getInclude() // backwards compatibility for deprecated config
-                                .stream()
-                                .map(Conditions::requestTo),
-                        properties.getPredicate().getInclude()
-                                .stream()
-                                .map(this::convertToPredicate)
-                )
-                .reduce(Predicate::or)
-                .map(predicate::and)
-                .orElse(predicate);
-    }
-
-    private Predicate<HttpRequest> convertToPredicate(final LogbookProperties.LogbookPredicate logbookPredicate) {
-        final String predicatePath = logbookPredicate.getPath();
-        final List<String> predicateMethods = logbookPredicate.getMethods();
-
-        if (predicateMethods.isEmpty()) {
-            return Conditions.requestTo(predicatePath);
+    private Strategy mergeWithBoundedCapture(final Strategy strategy) {
+        final LogbookProperties.Write write = properties.getWrite();
+        final int maxBodySize = write.getMaxBodySize();
+        if (maxBodySize < 0 || !write.isBoundedCapture()) {
+            return strategy;
         }
 
-        return predicateMethods.stream()
-                .map(Conditions::requestWithMethod)
-                .map(methodPredicate -> {
-                    if (predicatePath != null) {
-                        return Conditions.requestTo(predicatePath).and(methodPredicate);
-                    } else {
-                        return methodPredicate;
-                    }
-                })
-                .reduce(Predicate::or)
-                .orElse((x) -> false);
+        // A character takes up to 4 bytes and one more is needed to tell whether truncation will happen at all
+        final int limit = (int) Math.min(Integer.MAX_VALUE, 4L * (maxBodySize + 1));
+        return new CappedBodyStrategy(strategy, limit);
+    }
+
+    private Predicate<HttpRequest> mergeWithIncludesAndExcludes(final Predicate<HttpRequest> predicate) {
+        final RequestPredicateIndex.Builder builder = RequestPredicateIndex.builder();
+
+        // backwards compatibility for deprecated config
+        properties.getInclude().forEach(builder::include);
+        properties.getExclude().forEach(builder::exclude);
+
+        properties.getPredicate().getInclude().forEach(include ->
+                builder.include(include.getPath(), include.getMethods()));
+        properties.getPredicate().getExclude().forEach(exclude ->
+                builder.exclude(exclude.getPath(), exclude.getMethods()));
+
+        return predicate.and(builder.build());
     }
 
     @API(status = INTERNAL)
@@ -317,10 +297,32 @@ public class LogbookAutoConfiguration {
     @Primary
     @ConditionalOnBean(Sink.class)
     @ConditionalOnProperty("logbook.write.chunk-size")
+    @ConditionalOnProperty(name = "logbook.write.async.enabled", havingValue = "false", matchIfMissing = true)
     public Sink chunkingSink(final Sink sink) {
         return new ChunkingSink(sink, properties.getWrite().getChunkSize());
     }
 
+    @API(status = INTERNAL)
+    @Bean
+    @Primary
+    @ConditionalOnBean(Sink.class)
+    @ConditionalOnProperty(name = "logbook.write.async.enabled", havingValue = "true")
+    public AsyncSink asyncSink(final Sink sink) {
+        final LogbookProperties.Write write = properties.getWrite();
+        final LogbookProperties.Async async = write.getAsync();
+
+        // chunking, if enabled, has to happen before messages are handed over to the queue
+        final Sink delegate = write.getChunkSize() > 0 ? new ChunkingSink(sink, write.getChunkSize()) : sink;
+
+        return AsyncSink.builder()
+                .delegate(delegate)
+                .workers(async.getWorkers())
+                .queueCapacity(async.getQueueCapacity())
+                .overflowPolicy(async.getOverflowPolicy())
+                .blockTimeout(async.getBlockTimeout())
+                .build();
+    }
+
     @API(status = INTERNAL)
     @Bean
     @ConditionalOnMissingBean(HttpLogFormatter.class)
@@ -7,6 +7,7 @@ import lombok.Setter;
 import org.apiguardian.api.API;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.zalando.logbook.attributes.AttributeExtractor;
+import org.zalando.logbook.core.AsyncSink.OverflowPolicy;
 import org.zalando.logbook.core.attributes.JwtAllMatchingClaimsExtractor;
 import org.zalando.logbook.core.attributes.JwtAllMatchingClaimsExtractorJackson2;
 import org.zalando.logbook.core.attributes.JwtFirstMatchingClaimExtractor;
@@ -15,6 +16,7 @@ import org.zalando.logbook.servlet.FormRequestMode;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import tools.jackson.databind.json.JsonMapper;
@@ -49,6 +51,18 @@ public final class LogbookProperties {
     public static class Write {
         private int chunkSize;
         private int maxBodySize = -1;
+        private boolean boundedCapture;
+        private final Async async = new Async();
+    }
+
+    @Getter
+    @Setter
+    public static class Async {
+        private boolean enabled;
+        private int workers = 1;
+        private int queueCapacity = 1024;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+        private Duration blockTimeout = Duration.ofMillis(100);
     }
 
     @Getter
@@ -0,0 +1,58 @@
+package org.zalando.logbook.autoconfigure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.core.AsyncSink;
+import org.zalando.logbook.test.MockHttpRequest;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@LogbookTest(properties = {
+        "logbook.write.async.enabled = true",
+        "logbook.write.async.workers = 2",
+        "logbook.write.async.queue-capacity = 16",
+        "logbook.write.async.overflow-policy = block",
+        "logbook.write.async.block-timeout = 1s"
+})
+class WriteAsyncTest {
+
+    @Autowired
+    private Sink sink;
+
+    @Autowired
+    private Logbook logbook;
+
+    @MockitoBean
+    private HttpLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(true).when(writer).isActive();
+    }
+
+    @Test
+    void shouldUseAsyncSink() {
+        assertThat(sink).isInstanceOf(AsyncSink.class);
+    }
+
+    @Test
+    void shouldWriteAsynchronously() throws IOException {
+        logbook.process(MockHttpRequest.create()).write();
+
+        verify(writer, timeout(5000)).write(any(Precorrelation.class), anyString());
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.zalando.logbook.autoconfigure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.zalando.logbook.ForwardingHttpRequest;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.test.MockHttpRequest;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+@LogbookTest(properties = {
+        "logbook.write.max-body-size = 20",
+        "logbook.write.bounded-capture = true"
+})
+class WriteBoundedCaptureTest {
+
+    @Autowired
+    private Logbook logbook;
+
+    @MockitoBean
+    private HttpLogWriter writer;
+
+    @Test
+    void shouldLimitBodyWhileCapturing() throws IOException {
+        final AtomicInteger limit = new AtomicInteger(-1);
+        final HttpRequest request = new ForwardingHttpRequest() {
+
+            private final HttpRequest delegate = MockHttpRequest.create();
+
+            @Override
+            public HttpRequest delegate() {
+                return delegate;
+            }
+
+            @Override
+            public HttpRequest withBodyLimit(final int value) {
+                limit.set(value);
+                return this;
+            }
+
+        };
+
+        doReturn(true).when(writer).isActive();
+
+        logbook.process(request);
+
+        assertThat(limit).hasValue(84);
+    }
+
+}
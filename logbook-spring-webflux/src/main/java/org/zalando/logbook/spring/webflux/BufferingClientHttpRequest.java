@@ -22,7 +22,7 @@ final class BufferingClientHttpRequest extends ClientHttpRequestDecorator {
 
     private Publisher<? extends DataBuffer> bufferingWrap(Publisher<? extends DataBuffer> body) {
         if (clientRequest.shouldBuffer()) {
-            return DataBufferCopyUtils.wrapAndBuffer(body, clientRequest::buffer);
+            return DataBufferCopyUtils.wrapAndBuffer(body, clientRequest.getLimit(), clientRequest::buffer);
         } else {
             return body;
         }
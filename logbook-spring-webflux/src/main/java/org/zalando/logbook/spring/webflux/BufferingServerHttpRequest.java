@@ -40,8 +40,8 @@ final class BufferingServerHttpRequest extends ServerHttpRequestDecorator {
 
     private Publisher<? extends DataBuffer> bufferingWrap(Publisher<? extends DataBuffer> body) {
         if (serverRequest.shouldBuffer()) {
-            return Flux
-                .from(DataBufferCopyUtils.wrapAndBuffer(body, serverRequest::buffer))
+            return DataBufferCopyUtils
+                .wrapAndBuffer(body, serverRequest.getLimit(), serverRequest::buffer)
                 .doOnComplete(writeHook);
         } else {
             return Mono.fromRunnable(writeHook)
@@ -6,16 +6,23 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @SuppressWarnings({"NullableProblems"})
 class BufferingServerHttpResponse extends ServerHttpResponseDecorator {
     private final ServerResponse serverResponse;
+    private final Runnable writeHook;
+    private final AtomicBoolean streaming = new AtomicBoolean();
 
     BufferingServerHttpResponse(ServerHttpResponse delegate, ServerResponse serverResponse, Runnable writeHook) {
         super(delegate);
         this.serverResponse = serverResponse;
+        this.writeHook = writeHook;
         beforeCommit(() -> {
-            writeHook.run();
+            // a buffered body is still streaming by the time the response is committed
+            if (!streaming.get()) {
+                writeHook.run();
+            }
             return Mono.empty();
         });
     }
@@ -27,7 +34,10 @@ class BufferingServerHttpResponse extends ServerHttpResponseDecorator {
 
     private Publisher<? extends DataBuffer> bufferingWrap(Publisher<? extends DataBuffer> body) {
         if (serverResponse.shouldBuffer()) {
-            return DataBufferCopyUtils.wrapAndBuffer(body, serverResponse::buffer);
+            streaming.set(true);
+            return DataBufferCopyUtils
+                .wrapAndBuffer(body, serverResponse.getLimit(), serverResponse::buffer)
+                .doFinally(signal -> writeHook.run());
         } else {
             return body;
         }
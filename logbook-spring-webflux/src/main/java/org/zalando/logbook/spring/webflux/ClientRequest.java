@@ -11,10 +11,6 @@ import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -27,6 +23,8 @@ final class ClientRequest implements HttpRequest {
 
     private final AtomicReference<State> state = new AtomicReference<>(new State.Unbuffered());
 
+    private volatile int limit = Integer.MAX_VALUE;
+
     @Override
     public String getRemote() {
         return "localhost";
@@ -78,11 +76,7 @@ final class ClientRequest implements HttpRequest {
 
     @Override
     public HttpHeaders getHeaders() {
-        Map<String, List<String>> map = new LinkedHashMap<>();
-        request.headers().forEach((name, values) ->
-            map.put(name, new ArrayList<>(values))
-        );
-        return HttpHeaders.of(map);
+        return Headers.viewOf(request.headers());
     }
 
     @Nullable
@@ -112,12 +106,22 @@ final class ClientRequest implements HttpRequest {
         return this;
     }
 
+    @Override
+    public HttpRequest withBodyLimit(final int limit) {
+        this.limit = limit;
+        return this;
+    }
+
     boolean shouldBuffer() {
         return state.get() instanceof State.Offering;
     }
 
-    void buffer(byte[] message) {
-        state.updateAndGet(s -> s.buffer(message));
+    int getLimit() {
+        return limit;
+    }
+
+    void buffer(byte[] message, long length, boolean complete) {
+        state.updateAndGet(s -> s.buffer(message, length, complete));
     }
 
     @Override
@@ -125,6 +129,16 @@ final class ClientRequest implements HttpRequest {
         return state.get().getBody();
     }
 
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
+
     @Override
     public HttpAttributes getAttributes() {
         return new HttpAttributes(request.attributes());
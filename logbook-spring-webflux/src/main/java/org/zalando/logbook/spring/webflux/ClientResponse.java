@@ -1,6 +1,6 @@
 package org.zalando.logbook.spring.webflux;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.util.MimeType;
 import org.zalando.logbook.HttpHeaders;
 import org.zalando.logbook.HttpResponse;
@@ -9,21 +9,20 @@ import org.zalando.logbook.Origin;
 import jakarta.annotation.Nullable;
 import java.nio.charset.Charset;
 import java.util.Optional;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-@AllArgsConstructor
+@RequiredArgsConstructor
 final class ClientResponse implements HttpResponse {
 
     private final org.springframework.web.reactive.function.client.ClientResponse response;
 
     private final AtomicReference<State> state = new AtomicReference<>(new State.Unbuffered());
 
+    private volatile int limit = Integer.MAX_VALUE;
+
     @Override
     public int getStatus() {
         return response.statusCode().value();
@@ -36,11 +35,7 @@ final class ClientResponse implements HttpResponse {
 
     @Override
     public HttpHeaders getHeaders() {
-        Map<String, List<String>> map = new LinkedHashMap<>();
-        response.headers().asHttpHeaders().forEach((name, values) ->
-            map.put(name, new ArrayList<>(values))
-        );
-        return HttpHeaders.of(map);
+        return Headers.viewOf(response.headers().asHttpHeaders());
     }
 
     @Nullable
@@ -64,22 +59,47 @@ final class ClientResponse implements HttpResponse {
         return this;
     }
 
+    @Override
+    public HttpResponse withBodyIf(final Predicate<HttpResponse> condition, final int limit) {
+        return condition.test(this) ? withBody() : withoutBody();
+    }
+
     @Override
     public HttpResponse withoutBody() {
         state.updateAndGet(State::without);
         return this;
     }
 
+    @Override
+    public HttpResponse withBodyLimit(final int limit) {
+        this.limit = limit;
+        return this;
+    }
+
     boolean shouldBuffer() {
         return state.get() instanceof State.Offering;
     }
 
-    void buffer(byte[] message) {
-        state.updateAndGet(s -> s.buffer(message));
+    int getLimit() {
+        return limit;
+    }
+
+    void buffer(byte[] message, long length, boolean complete) {
+        state.updateAndGet(s -> s.buffer(message, length, complete));
     }
 
     @Override
     public byte[] getBody() {
         return state.get().getBody();
     }
+
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
 }
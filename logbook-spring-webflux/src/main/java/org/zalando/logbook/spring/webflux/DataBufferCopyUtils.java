@@ -3,26 +3,51 @@ package org.zalando.logbook.spring.webflux;
 import lombok.experimental.UtilityClass;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBuffer;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
-
-import java.util.function.Consumer;
+import org.zalando.logbook.CappedByteArrayOutputStream;
+import reactor.core.publisher.Flux;
 
 @UtilityClass
 class DataBufferCopyUtils {
 
-    Publisher<? extends DataBuffer> wrapAndBuffer(Publisher<? extends DataBuffer> body, Consumer<byte[]> copyConsumer) {
-        return DataBufferUtils
-                .join(body)
-                .defaultIfEmpty(DefaultDataBufferFactory.sharedInstance.wrap(new byte[0]))
-                .map(dataBuffer -> {
-                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(bytes);
-                    DataBufferUtils.release(dataBuffer);
-                    DefaultDataBuffer wrappedDataBuffer = DefaultDataBufferFactory.sharedInstance.wrap(bytes);
-                    copyConsumer.accept(bytes);
-                    return wrappedDataBuffer;
-                });
+    @FunctionalInterface
+    interface CopyConsumer {
+        void accept(byte[] copy, long length, boolean complete);
     }
+
+    /**
+     * Copies at most {@code limit} bytes of the given body while it streams through, and passes them, together with
+     * the length read so far, to the given consumer once the body completed, failed or was cancelled. Buffers are
+     * passed on as they arrive, i.e. their read positions are left untouched and nothing is held back.
+     */
+    Flux<DataBuffer> wrapAndBuffer(Publisher<? extends DataBuffer> body, int limit, CopyConsumer copyConsumer) {
+        return Flux.defer(() -> {
+            final CappedByteArrayOutputStream copy = new CappedByteArrayOutputStream(limit);
+            final byte[] chunk = new byte[4096];
+
+            return Flux.<DataBuffer>from(body)
+                    .doOnNext(dataBuffer -> copy(dataBuffer, copy, chunk))
+                    .doOnComplete(() -> copyConsumer.accept(copy.toByteArray(), copy.getLength(), true))
+                    // hands over before the signal reaches anyone downstream that might log the body
+                    .doOnError(e -> copyConsumer.accept(copy.toByteArray(), copy.getLength(), false))
+                    .doOnCancel(() -> copyConsumer.accept(copy.toByteArray(), copy.getLength(), false))
+                    .doFinally(signal -> copy.release());
+        });
+    }
+
+    private void copy(DataBuffer dataBuffer, CappedByteArrayOutputStream copy, byte[] chunk) {
+        final int length = dataBuffer.readableByteCount();
+        final int position = dataBuffer.readPosition();
+        int pending = Math.min(length, copy.remaining());
+        copy.skip(length - pending);
+
+        while (pending > 0) {
+            final int size = Math.min(pending, chunk.length);
+            dataBuffer.read(chunk, 0, size);
+            copy.write(chunk, 0, size);
+            pending -= size;
+        }
+
+        dataBuffer.readPosition(position);
+    }
+
 }
@@ -0,0 +1,19 @@
+package org.zalando.logbook.spring.webflux;
+
+import lombok.experimental.UtilityClass;
+import org.zalando.logbook.HttpHeaders;
+
+@UtilityClass
+final class Headers {
+
+    HttpHeaders viewOf(final org.springframework.http.HttpHeaders headers) {
+        return HttpHeaders.view(headers::get, () -> copyOf(headers));
+    }
+
+    private HttpHeaders copyOf(final org.springframework.http.HttpHeaders headers) {
+        final HttpHeaders.Builder builder = HttpHeaders.builder();
+        headers.forEach(builder::add);
+        return builder.build();
+    }
+
+}
@@ -2,14 +2,14 @@ package org.zalando.logbook.spring.webflux;
 
 import lombok.RequiredArgsConstructor;
 import org.apiguardian.api.API;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.zalando.logbook.Logbook;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.springframework.http.HttpHeaders.TRANSFER_ENCODING;
 import static org.zalando.fauxpas.FauxPas.throwingConsumer;
@@ -41,21 +41,25 @@ public class LogbookExchangeFilterFunction implements ExchangeFilterFunction {
                     ClientResponse clientResponse = new ClientResponse(response);
                     Logbook.ResponseWritingStage responseWritingStage = responseProcessingStage.process(clientResponse);
 
-                    return Mono
-                            .just(response)
-                            .flatMap(it -> {
-                                HttpHeaders springHeaders = response.headers().asHttpHeaders();
-                                if (clientResponse.shouldBuffer() && (springHeaders.getContentLength() > 0 || springHeaders.get(TRANSFER_ENCODING) != null)) {
-                                    return it
-                                            .bodyToMono(byte[].class)
-                                            .doOnNext(clientResponse::buffer)
-                                            .map(b -> response.mutate().body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(b))).build())
-                                            .switchIfEmpty(Mono.just(it));
-                                } else {
-                                    return Mono.just(it);
-                                }
-                            })
-                            .doOnNext(throwingConsumer(b -> responseWritingStage.write()));
+                    HttpHeaders springHeaders = response.headers().asHttpHeaders();
+                    if (clientResponse.shouldBuffer() && (springHeaders.getContentLength() > 0 || springHeaders.get(TRANSFER_ENCODING) != null)) {
+                        // the response is logged once its body was consumed, which is up to the caller and may
+                        // happen more than once, e.g. when an error status releases the body after reading it
+                        final AtomicBoolean written = new AtomicBoolean();
+                        return Mono.just(response
+                                .mutate()
+                                .body(body -> DataBufferCopyUtils
+                                        .wrapAndBuffer(body, clientResponse.getLimit(), clientResponse::buffer)
+                                        .doFinally(throwingConsumer(signal -> {
+                                            if (!written.getAndSet(true)) {
+                                                responseWritingStage.write();
+                                            }
+                                        })))
+                                .build());
+                    } else {
+                        responseWritingStage.write();
+                        return Mono.just(response);
+                    }
                 }));
     }
 }
@@ -14,10 +14,6 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.charset.Charset;
 import java.util.Optional;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -30,6 +26,8 @@ final class ServerRequest implements HttpRequest {
 
     private final AtomicReference<State> state = new AtomicReference<>(new State.Unbuffered());
 
+    private volatile int limit = Integer.MAX_VALUE;
+
     @Override
     public Origin getOrigin() {
         return Origin.REMOTE;
@@ -37,11 +35,7 @@ final class ServerRequest implements HttpRequest {
 
     @Override
     public HttpHeaders getHeaders() {
-        Map<String, List<String>> map = new LinkedHashMap<>();
-        request.getHeaders().forEach((name, values) ->
-            map.put(name, new ArrayList<>(values))
-        );
-        return HttpHeaders.of(map);
+        return Headers.viewOf(request.getHeaders());
     }
 
     @Override
@@ -112,16 +106,36 @@ final class ServerRequest implements HttpRequest {
         return this;
     }
 
+    @Override
+    public HttpRequest withBodyLimit(final int limit) {
+        this.limit = limit;
+        return this;
+    }
+
     boolean shouldBuffer() {
         return state.get() instanceof State.Offering;
     }
 
-    void buffer(byte[] message) {
-        state.updateAndGet(s -> s.buffer(message));
+    int getLimit() {
+        return limit;
+    }
+
+    void buffer(byte[] message, long length, boolean complete) {
+        state.updateAndGet(s -> s.buffer(message, length, complete));
     }
 
     @Override
     public byte[] getBody() throws IOException {
         return state.get().getBody();
     }
+
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
 }
@@ -11,11 +11,8 @@ import org.zalando.logbook.Origin;
 import jakarta.annotation.Nullable;
 import java.nio.charset.Charset;
 import java.util.Optional;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -26,6 +23,8 @@ final class ServerResponse implements HttpResponse {
 
     private final AtomicReference<State> state = new AtomicReference<>(new State.Unbuffered());
 
+    private volatile int limit = Integer.MAX_VALUE;
+
     @Override
     public Origin getOrigin() {
         return Origin.LOCAL;
@@ -33,11 +32,7 @@ final class ServerResponse implements HttpResponse {
 
     @Override
     public HttpHeaders getHeaders() {
-        Map<String, List<String>> map = new LinkedHashMap<>();
-        response.getHeaders().forEach((name, values) ->
-            map.put(name, new ArrayList<>(values))
-        );
-        return HttpHeaders.of(map);
+        return Headers.viewOf(response.getHeaders());
     }
 
     @Override
@@ -68,22 +63,48 @@ final class ServerResponse implements HttpResponse {
         return this;
     }
 
+    @Override
+    public HttpResponse withBodyIf(final Predicate<HttpResponse> condition, final int limit) {
+        state.updateAndGet(s -> s.with(() -> condition.test(this)));
+        return this;
+    }
+
     @Override
     public HttpResponse withoutBody() {
         state.updateAndGet(State::without);
         return this;
     }
 
+    @Override
+    public HttpResponse withBodyLimit(final int limit) {
+        this.limit = limit;
+        return this;
+    }
+
     boolean shouldBuffer() {
-        return state.get() instanceof State.Offering;
+        return state.updateAndGet(State::decide) instanceof State.Offering;
     }
 
-    void buffer(byte[] message) {
-        state.updateAndGet(s -> s.buffer(message));
+    int getLimit() {
+        return limit;
+    }
+
+    void buffer(byte[] message, long length, boolean complete) {
+        state.updateAndGet(s -> s.buffer(message, length, complete));
     }
 
     @Override
     public byte[] getBody() {
         return state.get().getBody();
     }
+
+    @Override
+    public boolean isBodyTruncated() {
+        return state.get().isTruncated();
+    }
+
+    @Override
+    public long getOriginalBodyLength() {
+        return state.get().getLength();
+    }
 }
@@ -2,6 +2,8 @@ package org.zalando.logbook.spring.webflux;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.function.BooleanSupplier;
+
 interface State {
 
     default State with() {
@@ -12,7 +14,18 @@ interface State {
         return this;
     }
 
-    default State buffer(final byte[] message) {
+    default State with(final BooleanSupplier condition) {
+        return with();
+    }
+
+    default State decide() {
+        return this;
+    }
+
+    /**
+     * @param complete whether the whole body was read, i.e. it wasn't cancelled or failed half-way
+     */
+    default State buffer(final byte[] message, final long length, final boolean complete) {
         return this;
     }
 
@@ -20,10 +33,20 @@ interface State {
         return new byte[0];
     }
 
+    default boolean isTruncated() {
+        return false;
+    }
+
+    default long getLength() {
+        return getBody().length;
+    }
+
 
     class Buffering implements State {
 
         private byte[] body;
+        private long length;
+        private boolean complete;
 
         @Override
         public State without() {
@@ -31,8 +54,10 @@ interface State {
         }
 
         @Override
-        public State buffer(byte[] message) {
-            body = message;
+        public State buffer(byte[] message, long length, boolean complete) {
+            this.body = message;
+            this.length = length;
+            this.complete = complete;
             return this;
         }
 
@@ -40,6 +65,16 @@ interface State {
         public byte[] getBody() {
             return body;
         }
+
+        @Override
+        public boolean isTruncated() {
+            return !complete || length > body.length;
+        }
+
+        @Override
+        public long getLength() {
+            return length;
+        }
     }
 
     class Unbuffered implements State {
@@ -47,6 +82,11 @@ interface State {
         public State with() {
             return new Offering();
         }
+
+        @Override
+        public State with(final BooleanSupplier condition) {
+            return new Speculating(condition);
+        }
     }
 
     class Offering implements State {
@@ -56,8 +96,43 @@ interface State {
         }
 
         @Override
-        public State buffer(byte[] message) {
-            return new Buffering().buffer(message);
+        public State with(final BooleanSupplier condition) {
+            return new Speculating(condition);
+        }
+
+        @Override
+        public State buffer(byte[] message, long length, boolean complete) {
+            return new Buffering().buffer(message, length, complete);
+        }
+    }
+
+    /**
+     * Defers the decision whether to buffer until the body is about to be written, i.e. until the status and headers
+     * are known.
+     */
+    @RequiredArgsConstructor
+    class Speculating implements State {
+
+        private final BooleanSupplier condition;
+
+        @Override
+        public State with() {
+            return new Offering();
+        }
+
+        @Override
+        public State without() {
+            return new Unbuffered();
+        }
+
+        @Override
+        public State with(final BooleanSupplier condition) {
+            return new Speculating(condition);
+        }
+
+        @Override
+        public State decide() {
+            return condition.getAsBoolean() ? new Offering() : new Unbuffered();
         }
     }
 
@@ -72,8 +147,8 @@ interface State {
         }
 
         @Override
-        public State buffer(byte[] message) {
-            return buffering.buffer(message);
+        public State buffer(byte[] message, long length, boolean complete) {
+            return buffering.buffer(message, length, complete);
         }
     }
 }
\ No newline at end of file
@@ -2,9 +2,22 @@ package org.zalando.logbook.spring.webflux;
 
 
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatNoException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -24,4 +37,117 @@ public class BufferingServerHttpResponseUnitTest {
         response.writeWith(Mono.empty()).block();
         assertThatNoException();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldBufferIfConditionHolds() {
+        ServerHttpResponse serverHttpResponse = mock(ServerHttpResponse.class);
+        ServerResponse serverResponse = new ServerResponse(serverHttpResponse);
+        when(serverHttpResponse.getStatusCode()).thenReturn(HttpStatus.INTERNAL_SERVER_ERROR);
+        when(serverHttpResponse.writeWith(any())).thenAnswer(invocation ->
+                Flux.from(invocation.<Publisher<DataBuffer>>getArgument(0)).then());
+        serverResponse.withBodyIf(response -> response.getStatus() >= 400, 1024);
+
+        BufferingServerHttpResponse response = new BufferingServerHttpResponse(serverHttpResponse, serverResponse, () -> {});
+        response.writeWith(Mono.just(DefaultDataBufferFactory.sharedInstance.wrap("Hello".getBytes(UTF_8)))).block();
+
+        assertThat(new String(serverResponse.getBody(), UTF_8)).isEqualTo("Hello");
+    }
+
+    @Test
+    void shouldBufferUpToLimit() throws IOException {
+        ServerHttpResponse serverHttpResponse = mock(ServerHttpResponse.class);
+        ServerResponse serverResponse = new ServerResponse(serverHttpResponse);
+        when(serverHttpResponse.writeWith(any())).thenAnswer(invocation ->
+                Flux.from(invocation.<Publisher<DataBuffer>>getArgument(0)).then());
+        serverResponse.withBodyLimit(2).withBody();
+
+        BufferingServerHttpResponse response = new BufferingServerHttpResponse(serverHttpResponse, serverResponse, () -> {});
+        response.writeWith(Mono.just(DefaultDataBufferFactory.sharedInstance.wrap("Hello".getBytes(UTF_8)))).block();
+
+        assertThat(new String(serverResponse.getBody(), UTF_8)).isEqualTo("He");
+        assertThat(serverResponse.isBodyTruncated()).isTrue();
+        assertThat(serverResponse.getOriginalBodyLength()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldPassBufferedBodyOnWhileStreaming() {
+        ServerHttpResponse serverHttpResponse = mock(ServerHttpResponse.class);
+        ServerResponse serverResponse = new ServerResponse(serverHttpResponse);
+        List<String> events = new ArrayList<>();
+        when(serverHttpResponse.writeWith(any())).thenAnswer(invocation ->
+                Flux.from(invocation.<Publisher<DataBuffer>>getArgument(0))
+                        .doOnNext(buffer -> events.add(buffer.toString(UTF_8)))
+                        .then());
+        serverResponse.withBody();
+
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        BufferingServerHttpResponse response = new BufferingServerHttpResponse(serverHttpResponse, serverResponse, () -> events.add("written"));
+        response.writeWith(body.asFlux()).subscribe();
+
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("Hello, ".getBytes(UTF_8)));
+        assertThat(events).containsExactly("Hello, ");
+
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("world!".getBytes(UTF_8)));
+        body.tryEmitComplete();
+        assertThat(events).containsExactly("Hello, ", "world!", "written");
+        assertThat(new String(serverResponse.getBody(), UTF_8)).isEqualTo("Hello, world!");
+    }
+
+    @Test
+    void shouldHandOverPartialBodyOnCancel() throws IOException {
+        ServerHttpResponse serverHttpResponse = mock(ServerHttpResponse.class);
+        ServerResponse serverResponse = new ServerResponse(serverHttpResponse);
+        when(serverHttpResponse.writeWith(any())).thenAnswer(invocation ->
+                Flux.from(invocation.<Publisher<DataBuffer>>getArgument(0)).take(1).then());
+        serverResponse.withBody();
+
+        List<String> logged = new ArrayList<>();
+        BufferingServerHttpResponse response = new BufferingServerHttpResponse(serverHttpResponse, serverResponse,
+                () -> logged.add(new String(serverResponse.getBody(), UTF_8)));
+        response.writeWith(Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap("Hello, ".getBytes(UTF_8)),
+                DefaultDataBufferFactory.sharedInstance.wrap("world!".getBytes(UTF_8)))).block();
+
+        assertThat(logged).containsExactly("Hello, ");
+        assertThat(serverResponse.isBodyTruncated()).isTrue();
+        assertThat(serverResponse.getOriginalBodyLength()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldBufferLargeChunksUpToLimit() throws IOException {
+        ServerHttpResponse serverHttpResponse = mock(ServerHttpResponse.class);
+        ServerResponse serverResponse = new ServerResponse(serverHttpResponse);
+        List<DataBuffer> written = new ArrayList<>();
+        when(serverHttpResponse.writeWith(any())).thenAnswer(invocation ->
+                Flux.from(invocation.<Publisher<DataBuffer>>getArgument(0)).doOnNext(written::add).then());
+        serverResponse.withBodyLimit(10_000).withBody();
+
+        byte[] chunk = new byte[6_000];
+        Arrays.fill(chunk, (byte) 'x');
+
+        BufferingServerHttpResponse response = new BufferingServerHttpResponse(serverHttpResponse, serverResponse, () -> {});
+        response.writeWith(Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(chunk),
+                DefaultDataBufferFactory.sharedInstance.wrap(chunk))).block();
+
+        assertThat(written).allSatisfy(buffer -> assertThat(buffer.readableByteCount()).isEqualTo(6_000));
+        assertThat(serverResponse.getBody()).hasSize(10_000);
+        assertThat(serverResponse.isBodyTruncated()).isTrue();
+        assertThat(serverResponse.getOriginalBodyLength()).isEqualTo(12_000);
+    }
+
+    @Test
+    void shouldNotBufferIfConditionDoesNotHold() {
+        ServerHttpResponse serverHttpResponse = mock(ServerHttpResponse.class);
+        ServerResponse serverResponse = new ServerResponse(serverHttpResponse);
+        when(serverHttpResponse.getStatusCode()).thenReturn(HttpStatus.OK);
+        when(serverHttpResponse.writeWith(any())).thenAnswer(invocation ->
+                Flux.from(invocation.<Publisher<DataBuffer>>getArgument(0)).then());
+        serverResponse.withBodyIf(response -> response.getStatus() >= 400, 1024);
+
+        BufferingServerHttpResponse response = new BufferingServerHttpResponse(serverHttpResponse, serverResponse, () -> {});
+        response.writeWith(Mono.just(DefaultDataBufferFactory.sharedInstance.wrap("Hello".getBytes(UTF_8)))).block();
+
+        assertThat(serverResponse.getBody()).isEmpty();
+    }
+}
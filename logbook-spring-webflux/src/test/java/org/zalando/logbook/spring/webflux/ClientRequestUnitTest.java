@@ -2,10 +2,12 @@ package org.zalando.logbook.spring.webflux;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -23,6 +25,17 @@ public class ClientRequestUnitTest {
         assertThat(request.getPort()).isEmpty();
     }
 
+    @Test
+    void shouldBufferUpToLimit() throws IOException {
+        ClientRequest request = new ClientRequest(mock(org.springframework.web.reactive.function.client.ClientRequest.class));
+        request.withBodyLimit(5).withBody();
+        request.buffer("Hello".getBytes(UTF_8), 13, true);
+
+        assertThat(request.getLimit()).isEqualTo(5);
+        assertThat(request.isBodyTruncated()).isTrue();
+        assertThat(request.getOriginalBodyLength()).isEqualTo(13);
+    }
+
     @Test
     void shouldReturnAttributesIfPresent() {
         Map<String, Object> expectedAttributes = new HashMap<>();
@@ -0,0 +1,70 @@
+package org.zalando.logbook.spring.webflux;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+public class ClientResponseUnitTest {
+
+    @Test
+    void shouldBufferIfConditionHolds() {
+        ClientResponse response = response(HttpStatus.INTERNAL_SERVER_ERROR);
+        response.withBodyIf(r -> r.getStatus() >= 400, 1024);
+
+        assertThat(response.shouldBuffer()).isTrue();
+    }
+
+    @Test
+    void shouldNotBufferIfConditionDoesNotHold() {
+        ClientResponse response = response(HttpStatus.OK);
+        response.withBodyIf(r -> r.getStatus() >= 400, 1024);
+
+        assertThat(response.shouldBuffer()).isFalse();
+    }
+
+    @Test
+    void shouldBufferUpToLimit() throws IOException {
+        ClientResponse response = response(HttpStatus.OK);
+        response.withBodyLimit(5).withBody();
+        response.buffer("Hello".getBytes(UTF_8), 13, true);
+
+        assertThat(response.getLimit()).isEqualTo(5);
+        assertThat(new String(response.getBody(), UTF_8)).isEqualTo("Hello");
+        assertThat(response.isBodyTruncated()).isTrue();
+        assertThat(response.getOriginalBodyLength()).isEqualTo(13);
+    }
+
+    @Test
+    void shouldBufferBodyWithinLimit() throws IOException {
+        ClientResponse response = response(HttpStatus.OK);
+        response.withBodyLimit(13).withBody();
+        response.buffer("Hello, world!".getBytes(UTF_8), 13, true);
+
+        assertThat(new String(response.getBody(), UTF_8)).isEqualTo("Hello, world!");
+        assertThat(response.isBodyTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldBeTruncatedIfBodyWasNotReadCompletely() throws IOException {
+        ClientResponse response = response(HttpStatus.OK);
+        response.withBody();
+        response.buffer("Hello".getBytes(UTF_8), 5, false);
+
+        assertThat(new String(response.getBody(), UTF_8)).isEqualTo("Hello");
+        assertThat(response.isBodyTruncated()).isTrue();
+        assertThat(response.getOriginalBodyLength()).isEqualTo(5);
+    }
+
+    private static ClientResponse response(final HttpStatus status) {
+        org.springframework.web.reactive.function.client.ClientResponse mock = mock(org.springframework.web.reactive.function.client.ClientResponse.class);
+        when(mock.statusCode()).thenReturn(status);
+        return new ClientResponse(mock);
+    }
+}
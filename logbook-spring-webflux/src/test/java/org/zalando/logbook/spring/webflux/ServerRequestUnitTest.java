@@ -3,10 +3,12 @@ package org.zalando.logbook.spring.webflux;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -36,6 +38,17 @@ class ServerRequestUnitTest {
         assertEquals(expectedAttributes, request.getAttributes());
     }
 
+    @Test
+    void shouldBufferUpToLimit() throws IOException {
+        ServerRequest request = new ServerRequest(mock(ServerHttpRequest.class));
+        request.withBodyLimit(5).withBody();
+        request.buffer("Hello".getBytes(UTF_8), 13, true);
+
+        assertThat(request.getLimit()).isEqualTo(5);
+        assertThat(request.isBodyTruncated()).isTrue();
+        assertThat(request.getOriginalBodyLength()).isEqualTo(13);
+    }
+
     @Test
     void shouldReturnEmptyAttributesIfNone() {
         ServerHttpRequest mock = mock(ServerHttpRequest.class);
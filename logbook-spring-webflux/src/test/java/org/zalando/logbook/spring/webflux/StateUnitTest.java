@@ -14,11 +14,33 @@ public class StateUnitTest {
     void shouldBufferWhenIgnoring() {
         AtomicReference<State> state = new AtomicReference<>(new State.Offering());
         state.updateAndGet(State::without);
-        state.updateAndGet(s -> s.buffer(new byte[0]));
+        state.updateAndGet(s -> s.buffer(new byte[0], 0, true));
         state.updateAndGet(State::with);
-        state.updateAndGet(s -> s.buffer(new byte[0]));
+        state.updateAndGet(s -> s.buffer(new byte[0], 0, true));
         state.updateAndGet(State::without);
-        state.updateAndGet(s -> s.buffer("Hello, world!".getBytes(StandardCharsets.UTF_8)));
+        state.updateAndGet(s -> s.buffer("Hello, world!".getBytes(StandardCharsets.UTF_8), 13, true));
         assertThat(new String(state.get().getBody(), StandardCharsets.UTF_8)).isEqualTo("Hello, world!");
+        assertThat(state.get().isTruncated()).isFalse();
+        assertThat(state.get().getLength()).isEqualTo(13);
+        state.updateAndGet(State::without);
+        assertThat(state.get().isTruncated()).isFalse();
+        assertThat(state.get().getLength()).isZero();
+    }
+
+    @Test
+    void shouldDecideWhetherToBufferOnceRequested() {
+        assertThat(new State.Unbuffered().with(() -> true).decide()).isInstanceOf(State.Offering.class);
+        assertThat(new State.Offering().with(() -> false).decide()).isInstanceOf(State.Unbuffered.class);
+        assertThat(new State.Offering().decide()).isInstanceOf(State.Offering.class);
+    }
+
+    @Test
+    void shouldOverrideSpeculation() {
+        final State speculating = new State.Unbuffered().with(() -> true);
+
+        assertThat(speculating.with()).isInstanceOf(State.Offering.class);
+        assertThat(speculating.without()).isInstanceOf(State.Unbuffered.class);
+        assertThat(speculating.with(() -> false).decide()).isInstanceOf(State.Unbuffered.class);
+        assertThat(new State.Buffering().with(() -> false)).isInstanceOf(State.Buffering.class);
     }
 }